@@ -54,6 +54,11 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
     private String internalCryptoProviderClassName;
     private String externalCryptoProviderClassName;
 
+    // The most suitable providers are resolved once and reused until the registered providers or the configured
+    // provider class names change.
+    private volatile InternalCryptoProvider mostSuitableInternalProvider;
+    private volatile ExternalCryptoProvider mostSuitableExternalProvider;
+
     public DefaultCryptoService() {
 
         init();
@@ -553,19 +558,20 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProvider
      */
-    public void registerInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
+    public synchronized void registerInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering internal crypto provider : " + internalCryptoProvider);
         }
 
         internalCryptoProviders.put(internalCryptoProvider.getClass().getName(), internalCryptoProvider);
+        mostSuitableInternalProvider = null;
     }
 
     /**
      * Unregisters all the registered providers.
      */
-    public void unregisterAllInternalCryptoProviders() {
+    public synchronized void unregisterAllInternalCryptoProviders() {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering all internal crypto providers.");
@@ -574,6 +580,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
         if (areInternalCryptoProvidersAvailable()) {
             internalCryptoProviders.clear();
         }
+        mostSuitableInternalProvider = null;
     }
 
     /**
@@ -581,13 +588,14 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProvider
      */
-    public void unregisterInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
+    public synchronized void unregisterInternalCryptoProvider(InternalCryptoProvider internalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering internal crypto provider : " + internalCryptoProvider);
         }
 
         internalCryptoProviders.remove(internalCryptoProvider.getClass().getCanonicalName());
+        mostSuitableInternalProvider = null;
     }
 
     /**
@@ -608,6 +616,19 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      */
     public InternalCryptoProvider getMostSuitableInternalProvider() throws CryptoException {
 
+        InternalCryptoProvider mostSuitableProvider = mostSuitableInternalProvider;
+        if (mostSuitableProvider == null) {
+            mostSuitableProvider = resolveMostSuitableInternalProvider();
+        }
+        return mostSuitableProvider;
+    }
+
+    private synchronized InternalCryptoProvider resolveMostSuitableInternalProvider() throws CryptoException {
+
+        if (mostSuitableInternalProvider != null) {
+            return mostSuitableInternalProvider;
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Looking for the most suitable internal crypto provider.");
         }
@@ -656,6 +677,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
             }
         }
 
+        mostSuitableInternalProvider = mostSuitableProvider;
         return mostSuitableProvider;
     }
 
@@ -666,13 +688,14 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param provider
      */
-    public void registerExternalCryptoProvider(ExternalCryptoProvider provider) {
+    public synchronized void registerExternalCryptoProvider(ExternalCryptoProvider provider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Registering external crypto provider : " + provider);
         }
 
         externalCryptoProviders.put(provider.getClass().getName(), provider);
+        mostSuitableExternalProvider = null;
     }
 
     /**
@@ -680,19 +703,20 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param externalCryptoProvider
      */
-    public void unregisterExternalCryptoProvider(ExternalCryptoProvider externalCryptoProvider) {
+    public synchronized void unregisterExternalCryptoProvider(ExternalCryptoProvider externalCryptoProvider) {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering external crypto provider : " + externalCryptoProvider);
         }
 
         externalCryptoProviders.remove(externalCryptoProvider.getClass().getCanonicalName());
+        mostSuitableExternalProvider = null;
     }
 
     /**
      * Unregisters all the registered external crypto providers.
      */
-    public void unregisterAllExternalCryptoProviders() {
+    public synchronized void unregisterAllExternalCryptoProviders() {
 
         if (log.isDebugEnabled()) {
             log.debug("Unregistering all external crypto providers.");
@@ -701,7 +725,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
         if (areExternalCryptoProvidersAvailable()) {
             externalCryptoProviders.clear();
         }
-
+        mostSuitableExternalProvider = null;
     }
 
     /**
@@ -721,6 +745,19 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      */
     public ExternalCryptoProvider getMostSuitableExternalProvider() throws CryptoException {
 
+        ExternalCryptoProvider mostSuitableProvider = mostSuitableExternalProvider;
+        if (mostSuitableProvider == null) {
+            mostSuitableProvider = resolveMostSuitableExternalProvider();
+        }
+        return mostSuitableProvider;
+    }
+
+    private synchronized ExternalCryptoProvider resolveMostSuitableExternalProvider() throws CryptoException {
+
+        if (this.mostSuitableExternalProvider != null) {
+            return this.mostSuitableExternalProvider;
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Looking for the most suitable external crypto provider.");
         }
@@ -769,6 +806,7 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
             }
         }
 
+        this.mostSuitableExternalProvider = mostSuitableExternalProvider;
         return mostSuitableExternalProvider;
     }
 
@@ -777,9 +815,10 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param internalCryptoProviderClassName The preferred internal crypto provider class name.
      */
-    public void setInternalCryptoProviderClassName(String internalCryptoProviderClassName) {
+    public synchronized void setInternalCryptoProviderClassName(String internalCryptoProviderClassName) {
 
         this.internalCryptoProviderClassName = internalCryptoProviderClassName;
+        mostSuitableInternalProvider = null;
     }
 
     /**
@@ -787,9 +826,10 @@ public class DefaultCryptoService implements CryptoService, PrivateKeyRetriever
      *
      * @param externalCryptoProviderClassName The preferred external crypto provider class name.
      */
-    public void setExternalCryptoProviderClassName(String externalCryptoProviderClassName) {
+    public synchronized void setExternalCryptoProviderClassName(String externalCryptoProviderClassName) {
 
         this.externalCryptoProviderClassName = externalCryptoProviderClassName;
+        mostSuitableExternalProvider = null;
     }
 
     /**
@@ -19,10 +19,12 @@
 package org.wso2.micro.integrator.crypto.impl;
 
 import org.testng.annotations.Test;
+import org.wso2.carbon.crypto.api.CryptoException;
 import org.wso2.carbon.crypto.api.InternalCryptoProvider;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class DefaultCryptoServiceTest {
@@ -43,4 +45,36 @@ public class DefaultCryptoServiceTest {
 
         assertFalse(defaultCryptoService.areInternalCryptoProvidersAvailable());
     }
+
+    @Test
+    public void testProviderSelectionFollowsRegistrationChanges() throws Exception {
+
+        DefaultCryptoService defaultCryptoService = new DefaultCryptoService();
+
+        InternalCryptoProvider firstProvider = new SimpleCryptoProvider();
+        defaultCryptoService.registerInternalCryptoProvider(firstProvider);
+
+        assertSame(defaultCryptoService.getMostSuitableInternalProvider(), firstProvider);
+        assertSame(defaultCryptoService.getMostSuitableInternalProvider(), firstProvider);
+
+        InternalCryptoProvider secondProvider = new AnotherCryptoProvider();
+        defaultCryptoService.registerInternalCryptoProvider(secondProvider);
+
+        try {
+            defaultCryptoService.getMostSuitableInternalProvider();
+            throw new AssertionError("Provider selection should fail when more than one provider is registered.");
+        } catch (CryptoException e) {
+            // Expected, since the preferred provider is not configured.
+        }
+
+        defaultCryptoService.setInternalCryptoProviderClassName(AnotherCryptoProvider.class.getName());
+        assertSame(defaultCryptoService.getMostSuitableInternalProvider(), secondProvider);
+
+        defaultCryptoService.setInternalCryptoProviderClassName(SimpleCryptoProvider.class.getName());
+        assertSame(defaultCryptoService.getMostSuitableInternalProvider(), firstProvider);
+    }
+
+    private static class AnotherCryptoProvider extends SimpleCryptoProvider {
+
+    }
 }
@@ -18,11 +18,11 @@
 
 package org.wso2.micro.integrator.crypto.provider;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.crypto.api.CryptoException;
 import org.wso2.carbon.crypto.api.InternalCryptoProvider;
+import org.wso2.micro.core.encryption.CryptoEngines;
 
 import java.security.InvalidKeyException;
 import java.security.Key;
@@ -49,6 +49,10 @@ public class KeyStoreBasedInternalCryptoProvider implements InternalCryptoProvid
     private String keyAlias;
     private String keyPassword;
 
+    // The key store of an internal provider is fixed for its lifetime, hence the key entries are read only once.
+    private volatile Certificate certificate;
+    private volatile PrivateKey privateKey;
+
     public KeyStoreBasedInternalCryptoProvider(KeyStore keyStore, String keyAlias, String keyPassword) {
 
         this.keyStore = keyStore;
@@ -69,13 +73,7 @@ public class KeyStoreBasedInternalCryptoProvider implements InternalCryptoProvid
     public byte[] encrypt(byte[] cleartext, String algorithm, String javaSecurityAPIProvider) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             Certificate certificate = getCertificateFromStore();
 
@@ -120,13 +118,7 @@ public class KeyStoreBasedInternalCryptoProvider implements InternalCryptoProvid
     public byte[] decrypt(byte[] ciphertext, String algorithm, String javaSecurityAPIProvider) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             cipher.init(Cipher.DECRYPT_MODE, getPrivateKeyFromKeyStore());
 
@@ -152,18 +144,25 @@ public class KeyStoreBasedInternalCryptoProvider implements InternalCryptoProvid
 
     private Certificate getCertificateFromStore() throws KeyStoreException {
 
-        return keyStore.getCertificate(keyAlias);
+        Certificate certificate = this.certificate;
+        if (certificate == null) {
+            certificate = keyStore.getCertificate(keyAlias);
+            this.certificate = certificate;
+        }
+        return certificate;
     }
 
     private PrivateKey getPrivateKeyFromKeyStore()
             throws UnrecoverableKeyException, NoSuchAlgorithmException, KeyStoreException {
 
-        Key key = keyStore.getKey(keyAlias, keyPassword.toCharArray());
-
-        if (key instanceof PrivateKey) {
-            return (PrivateKey) key;
-        } else {
-            return null;
+        PrivateKey privateKey = this.privateKey;
+        if (privateKey == null) {
+            Key key = keyStore.getKey(keyAlias, keyPassword.toCharArray());
+            if (key instanceof PrivateKey) {
+                privateKey = (PrivateKey) key;
+                this.privateKey = privateKey;
+            }
         }
+        return privateKey;
     }
 }
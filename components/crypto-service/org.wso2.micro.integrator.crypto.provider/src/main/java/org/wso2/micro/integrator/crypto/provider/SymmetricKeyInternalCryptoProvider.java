@@ -18,15 +18,17 @@
 
 package org.wso2.micro.integrator.crypto.provider;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.crypto.api.CryptoException;
 import org.wso2.carbon.crypto.api.InternalCryptoProvider;
+import org.wso2.micro.core.encryption.CryptoEngines;
 
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -40,6 +42,7 @@ public class SymmetricKeyInternalCryptoProvider implements InternalCryptoProvide
 
     private static Log log = LogFactory.getLog(SymmetricKeyInternalCryptoProvider.class);
     private String secretKey;
+    private final Map<String, SecretKeySpec> secretKeySpecs = new ConcurrentHashMap<>();
 
     public SymmetricKeyInternalCryptoProvider(String secretKey) {
 
@@ -59,13 +62,7 @@ public class SymmetricKeyInternalCryptoProvider implements InternalCryptoProvide
     public byte[] encrypt(byte[] cleartext, String algorithm, String javaSecurityAPIProvider) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(algorithm));
             return cipher.doFinal(cleartext);
@@ -94,13 +91,7 @@ public class SymmetricKeyInternalCryptoProvider implements InternalCryptoProvide
     public byte[] decrypt(byte[] ciphertext, String algorithm, String javaSecurityAPIProvider) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             cipher.init(Cipher.DECRYPT_MODE, getSecretKey(algorithm));
 
@@ -120,7 +111,13 @@ public class SymmetricKeyInternalCryptoProvider implements InternalCryptoProvide
 
     private SecretKeySpec getSecretKey(String algorithm) {
 
-        return new SecretKeySpec(secretKey.getBytes(), 0, secretKey.getBytes().length, algorithm);
+        SecretKeySpec secretKeySpec = secretKeySpecs.get(algorithm);
+        if (secretKeySpec == null) {
+            byte[] keyBytes = secretKey.getBytes();
+            secretKeySpec = new SecretKeySpec(keyBytes, 0, keyBytes.length, algorithm);
+            secretKeySpecs.putIfAbsent(algorithm, secretKeySpec);
+        }
+        return secretKeySpec;
     }
 
 }
@@ -82,9 +82,20 @@ public final class DBConstants {
     public static final String SECUREVAULT_NAMESPACE = "http://org.wso2.securevault/configuration";
     public static final String DATA_SERVICE_RESPONSE_WRAPPER_ELEMENT = "DATA_SERVICE_RESPONSE";
     public static final String DATA_SERVICE_REQUEST_BOX_RESPONSE_WRAPPER_ELEMENT = "DATA_SERVICE_REQUEST_BOX_RESPONSE";
+    /* Message context property holding the data source used to write a result natively as JSON */
+    public static final String DATA_SERVICE_JSON_DATA_SOURCE = "DATA_SERVICE_JSON_DATA_SOURCE";
+    /* Message context properties holding the IDs of the queries served from and missed in the result cache */
+    public static final String DATA_SERVICE_QUERY_CACHE_HITS = "DATA_SERVICE_QUERY_CACHE_HITS";
+    public static final String DATA_SERVICE_QUERY_CACHE_MISSES = "DATA_SERVICE_QUERY_CACHE_MISSES";
     public static final String SECURITY_MODULE_NAME = "rampart";
     public static final String TENANT_IN_ONLY_MESSAGE = "TENANT_IN_ONLY_MESSAGE";
     public static final String DISABLE_CURRENT_PARAMS_IN_LOG = "dss.disable.current.params";
+    /* System property to run data service requests on virtual threads instead of the transport worker threads */
+    public static final String DSS_VIRTUAL_THREADS_ENABLED = "dss.virtual.threads.enabled";
+    /* System property for the number of threads running the read requests of request boxes in parallel */
+    public static final String DSS_REQUEST_BOX_THREADS = "dss.request.box.threads";
+    /* System property for the number of prepared statements cached per SQL connection, 0 disables the cache */
+    public static final String DSS_STATEMENT_CACHE_SIZE = "dss.statement.cache.size";
         
     /**
      * Codes to be used as fault codes.
@@ -546,6 +557,8 @@ public final class DBConstants {
         public static final String DATASOURCE = "csv_datasource";
         public static final String COLUMN_SEPERATOR = "columnseperator";
         public static final String HEADER_ROW = "csv_headerrow";
+        public static final String SNAPSHOT = "csv_snapshot";
+        public static final String KEY_COLUMNS = "csv_keycolumns";
     }
     
     /**
@@ -838,6 +851,7 @@ public final class DBConstants {
         public static final String ENABLE_BOXCARRING = "enableBoxcarring";
         public static final String DISABLE_STREAMING = "disableStreaming";
         public static final String DISABLE_LEGACY_BOXCARRING_MODE = "disableLegacyBoxcarringMode";
+        public static final String ENABLE_PARALLEL_REQUEST_BOX = "enableParallelRequestBox";
         public static final String RETURN_REQUEST_STATUS = "returnRequestStatus";
         public static final String SERVICE_STATUS = "serviceStatus";
         public static final String BASE_URI = "baseURI";
@@ -897,6 +911,10 @@ public final class DBConstants {
         public static final String STRUCT_TYPE = "structType";
         public static final String SWAGGER_LOCATION = "publishSwagger";
         public static final String ENABLE_SETTING_EMPTY_DEFAULT_NAMESPACE = "enableSettingEmptyDefaultNamespace";
+        public static final String CACHE = "cache";
+        public static final String CACHE_TIME_TO_LIVE = "timeToLive";
+        public static final String CACHE_MAX_SIZE = "maxSize";
+        public static final String CACHE_TABLES = "tables";
     }
 
     /**
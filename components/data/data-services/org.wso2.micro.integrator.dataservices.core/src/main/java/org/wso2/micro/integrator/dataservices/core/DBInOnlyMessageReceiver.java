@@ -35,6 +35,38 @@ public class DBInOnlyMessageReceiver extends RawXMLINOnlyMessageReceiver {
 
 	private static final Log log = LogFactory.getLog(DBInOnlyMessageReceiver.class);
 
+	/**
+	 * Receives the request, when virtual thread execution is enabled, the request is processed in a
+	 * virtual thread, so the transport worker thread is released while the data service waits on
+	 * the database. Since there is no response, errors are only logged in that case.
+	 *
+	 * @param msgContext
+	 *            the incoming message context
+	 * @throws AxisFault
+	 *             on errors in processing the request in the current thread
+	 */
+	@Override
+	public void receive(final MessageContext msgContext) throws AxisFault {
+		if (!DBUtils.isVirtualThreadExecutionEnabled()) {
+			super.receive(msgContext);
+			return;
+		}
+		/* read the request before the transport worker thread returns */
+		msgContext.getEnvelope().build();
+		DBUtils.executeInVirtualThread(() -> this.receiveInVirtualThread(msgContext));
+	}
+
+	private void receiveInVirtualThread(MessageContext msgContext) {
+		try {
+			super.receive(msgContext);
+		} catch (AxisFault e) {
+			/* already logged in invokeBusinessLogic */
+			if (log.isDebugEnabled()) {
+				log.debug("In-only data service request failed in virtual thread", e);
+			}
+		}
+	}
+
 	/**
 	 * Invokes the business logic invocation on the service implementation
 	 * class
@@ -17,18 +17,27 @@
  */
 package org.wso2.micro.integrator.dataservices.core;
 
+import org.apache.axiom.om.OMDataSource;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMSourcedElement;
 import org.apache.axiom.soap.SOAPEnvelope;
 import org.apache.axiom.soap.SOAPFactory;
 import org.apache.axis2.AxisFault;
 import org.apache.axis2.Constants;
 import org.apache.axis2.context.MessageContext;
 import org.apache.axis2.engine.AxisConfiguration;
+import org.apache.axis2.engine.AxisEngine;
 import org.apache.axis2.receivers.RawXMLINOutMessageReceiver;
 import org.apache.axis2.transport.http.HTTPConstants;
+import org.apache.axis2.util.MessageContextBuilder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.engine.CallableRequest;
+import org.wso2.micro.integrator.dataservices.core.engine.DSJSONDataSource;
+import org.wso2.micro.integrator.dataservices.core.engine.DSOMDataSource;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
+import org.wso2.micro.integrator.dataservices.core.engine.Result;
 import org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingCollector;
 
 import java.util.Map;
@@ -43,6 +52,54 @@ public class DBInOutMessageReceiver extends RawXMLINOutMessageReceiver {
 	private static final Log log = LogFactory.getLog(DBInOutMessageReceiver.class);
 
 	private static final String DATA_SERVICE_LATENCY_TIMER = "DATA_SERVICE_LATENCY_TIMER";
+
+	/**
+	 * Receives the request, when virtual thread execution is enabled, the request is processed and
+	 * its response is sent in a virtual thread, so the transport worker thread is released while
+	 * the data service waits on the database.
+	 *
+	 * @param msgContext
+	 *            the incoming message context
+	 * @throws AxisFault
+	 *             on errors in processing the request in the current thread
+	 */
+	@Override
+	public void receive(final MessageContext msgContext) throws AxisFault {
+		if (!DBUtils.isVirtualThreadExecutionEnabled()) {
+			super.receive(msgContext);
+			return;
+		}
+		/* read the request before the transport worker thread returns */
+		msgContext.getEnvelope().build();
+		/* the response is sent later, so the transport must not acknowledge the request */
+		if (msgContext.getOperationContext() != null) {
+			msgContext.getOperationContext().setProperty(Constants.RESPONSE_WRITTEN, "SKIP");
+		}
+		DBUtils.executeInVirtualThread(() -> this.receiveInVirtualThread(msgContext));
+	}
+
+	/**
+	 * Processes the request and sends its response, in the current thread. The transport does not
+	 * acknowledge the request, so any failure is sent back as a fault.
+	 *
+	 * @param msgContext
+	 *            the incoming message context
+	 */
+	protected void receiveInVirtualThread(MessageContext msgContext) {
+		try {
+			super.receive(msgContext);
+		} catch (Throwable e) {
+			if (!(e instanceof AxisFault)) {
+				log.error("Error in processing the data service request", e);
+			}
+			try {
+				MessageContext faultContext = MessageContextBuilder.createFaultMessageContext(msgContext, e);
+				AxisEngine.sendFault(faultContext);
+			} catch (Throwable faultError) {
+				log.error("Error in sending the fault response of the data service request", faultError);
+			}
+		}
+	}
 	
 	/**
 	 * Invokes the business logic invocation on the service implementation class
@@ -84,6 +141,7 @@ public class DBInOutMessageReceiver extends RawXMLINOutMessageReceiver {
 					}
 				}
 			}
+			QueryResultCache.startStatistics();
 			OMElement result = DataServiceProcessor.dispatch(msgContext);
 			SOAPFactory fac = getSOAPFactory(msgContext);
 			SOAPEnvelope envelope = fac.getDefaultEnvelope();
@@ -94,6 +152,10 @@ public class DBInOutMessageReceiver extends RawXMLINOutMessageReceiver {
 			if (isAcceptJson) {
 				newMsgContext.setProperty(Constants.Configuration.MESSAGE_TYPE,
 						HTTPConstants.MEDIA_TYPE_APPLICATION_JSON);
+				OMDataSource jsonDataSource = getJSONDataSource(result);
+				if (jsonDataSource != null) {
+					newMsgContext.setProperty(DBConstants.DATA_SERVICE_JSON_DATA_SOURCE, jsonDataSource);
+				}
 			}
             DataServicesTracingCollector.closeEntryEvent(msgContext, result);
 		} catch (Exception e) {
@@ -106,6 +168,16 @@ public class DBInOutMessageReceiver extends RawXMLINOutMessageReceiver {
 				newMsgContext.setProperty(DATA_SERVICE_LATENCY_TIMER,
 						msgContext.getProperty(DATA_SERVICE_LATENCY_TIMER));
 			}
+			QueryResultCache.Statistics cacheStatistics = QueryResultCache.stopStatistics();
+			if (cacheStatistics != null) {
+				if (!cacheStatistics.getHits().isEmpty()) {
+					newMsgContext.setProperty(DBConstants.DATA_SERVICE_QUERY_CACHE_HITS, cacheStatistics.getHits());
+				}
+				if (!cacheStatistics.getMisses().isEmpty()) {
+					newMsgContext.setProperty(DBConstants.DATA_SERVICE_QUERY_CACHE_MISSES,
+							cacheStatistics.getMisses());
+				}
+			}
 			if (log.isDebugEnabled()) {
 				String response;
 				if (msgContext.getProperty(Constants.FAULT_NAME) != null &&
@@ -120,5 +192,32 @@ public class DBInOutMessageReceiver extends RawXMLINOutMessageReceiver {
 			}
 		}
 	}
+
+	/**
+	 * Returns a data source which writes the given result directly as JSON, if the result has not
+	 * been built yet and its mapping can be represented natively in JSON.
+	 *
+	 * @param result the result element of the data service request
+	 * @return the JSON data source, or null if the result has to be converted from XML
+	 */
+	private static OMDataSource getJSONDataSource(OMElement result) {
+		if (!(result instanceof OMSourcedElement) || ((OMSourcedElement) result).isExpanded()) {
+			return null;
+		}
+		OMDataSource dataSource = ((OMSourcedElement) result).getDataSource();
+		if (!(dataSource instanceof DSOMDataSource)) {
+			return null;
+		}
+		DSOMDataSource dsomDS = (DSOMDataSource) dataSource;
+		CallableRequest request = dsomDS.getDataService().getCallableRequest(dsomDS.getOpName());
+		if (request == null || request.getCallQuery() == null) {
+			return null;
+		}
+		Result dsResult = request.getCallQuery().getQuery().getResult();
+		if (dsResult == null || !dsResult.isNativeJSONCompatible()) {
+			return null;
+		}
+		return new DSJSONDataSource(dsomDS);
+	}
     
 }
@@ -101,10 +101,13 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.naming.InitialContext;
@@ -126,6 +129,9 @@ public class DBUtils {
     private static ScheduledExecutorService globalExecutorService = Executors
             .newSingleThreadScheduledExecutor();
 
+    private static final boolean virtualThreadExecutionEnabled =
+            Boolean.getBoolean(DBConstants.DSS_VIRTUAL_THREADS_ENABLED);
+
     private static HashMap<String, String> conversionTypes = null;
 
     private static HashMap<String, String> xsdSqlTypeMap = null;
@@ -881,6 +887,67 @@ public class DBUtils {
         globalExecutorService.schedule(task, delay, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Checks whether data service requests are run on virtual threads, instead of the transport
+     * worker threads, this is enabled with the "dss.virtual.threads.enabled" system property.
+     *
+     * @return true if the requests are run on virtual threads
+     */
+    public static boolean isVirtualThreadExecutionEnabled() {
+        return virtualThreadExecutionEnabled;
+    }
+
+    /**
+     * Executes the given task in a new virtual thread. A task blocked on a database call only
+     * holds its virtual thread, and not a platform thread, unless the call is made while holding
+     * a monitor, e.g. inside a synchronized block of a JDBC driver.
+     *
+     * @param task The task to be executed
+     */
+    public static void executeInVirtualThread(Runnable task) {
+        VirtualThreadExecutorHolder.EXECUTOR.execute(task);
+    }
+
+    /**
+     * Returns the executor used to run the independent read requests of request boxes in parallel,
+     * its number of threads is set with the "dss.request.box.threads" system property.
+     *
+     * @return the request box executor
+     */
+    public static ExecutorService getRequestBoxExecutor() {
+        return RequestBoxExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * Lazily creates the bounded executor used to run request box requests in parallel.
+     */
+    private static class RequestBoxExecutorHolder {
+
+        private static final int DEFAULT_REQUEST_BOX_THREADS = 16;
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Integer.getInteger(DBConstants.DSS_REQUEST_BOX_THREADS, DEFAULT_REQUEST_BOX_THREADS),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "dss-request-box-worker-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    /**
+     * Lazily creates the executor used to run data service requests on virtual threads.
+     */
+    private static class VirtualThreadExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("dss-virtual-worker-", 0).factory());
+    }
+
     /**
      * Check the given text is empty or not.
      *
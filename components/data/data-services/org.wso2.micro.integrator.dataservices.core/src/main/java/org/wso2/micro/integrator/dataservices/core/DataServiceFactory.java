@@ -34,6 +34,7 @@ import org.wso2.micro.integrator.dataservices.core.description.config.ConfigFact
 import org.wso2.micro.integrator.dataservices.core.description.event.EventTriggerFactory;
 import org.wso2.micro.integrator.dataservices.core.description.operation.Operation;
 import org.wso2.micro.integrator.dataservices.core.description.operation.OperationFactory;
+import org.wso2.micro.integrator.dataservices.core.description.query.Query;
 import org.wso2.micro.integrator.dataservices.core.description.query.QueryFactory;
 import org.wso2.micro.integrator.dataservices.core.description.query.SQLQuery;
 import org.wso2.micro.integrator.dataservices.core.description.resource.Resource;
@@ -147,6 +148,13 @@ public class DataServiceFactory {
                 disableLegacyBoxcarringMode = Boolean.parseBoolean(disableLegacyBoxcarringModeStr);
             }
 
+            boolean parallelRequestBoxEnabled = false;
+            String parallelRequestBoxEnabledStr =
+                    dbsElement.getAttributeValue(new QName(DBSFields.ENABLE_PARALLEL_REQUEST_BOX));
+            if (parallelRequestBoxEnabledStr != null) {
+                parallelRequestBoxEnabled = Boolean.parseBoolean(parallelRequestBoxEnabledStr);
+            }
+
             /* txManagerName property */
             String userTxJNDIName = dbsElement.getAttributeValue(
                     new QName(DBSFields.TRANSACTION_MANAGER_JNDI_NAME));
@@ -175,6 +183,7 @@ public class DataServiceFactory {
 
             /* set disable legacy boxcarring mode */
             dataService.setDisableLegacyBoxcarringMode(disableLegacyBoxcarringMode);
+            dataService.setParallelRequestBoxEnabled(parallelRequestBoxEnabled);
 
             /* set transports */
             String transports = dbsElement.getAttributeValue(new QName(DBSFields.TRANSPORTS));
@@ -210,6 +219,17 @@ public class DataServiceFactory {
                 dataService.addQuery(QueryFactory.createQuery(dataService, itr.next()));
             }
 
+            /* register the result caches of the queries which declare one */
+            for (Query query : dataService.getQueries().values()) {
+                if (query.getCacheConfig() != null) {
+                    if (!query.hasResult()) {
+                        throw new DataServiceFault("A cache is declared in query '" + query.getQueryId() +
+                                "', which does not have a result");
+                    }
+                    dataService.getQueryResultCache().register(query.getQueryId(), query.getCacheConfig());
+                }
+            }
+
             /* add the operations */
             for (Iterator<OMElement> itr = dbsElement
                     .getChildrenWithName(new QName(DBSFields.OPERATION)); itr.hasNext();) {
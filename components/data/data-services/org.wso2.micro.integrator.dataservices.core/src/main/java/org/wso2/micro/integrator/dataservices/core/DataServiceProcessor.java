@@ -24,7 +24,7 @@ import org.apache.axiom.om.OMFactory;
 import org.apache.axis2.context.MessageContext;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
 import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceRequest;
-import org.wso2.micro.integrator.dataservices.core.dispatch.DispatchStatus;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
 import org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingCollector;
 
@@ -36,10 +36,11 @@ import javax.xml.namespace.QName;
 public class DataServiceProcessor {
 
 	public static OMElement dispatch(MessageContext msgContext) throws DataServiceFault {
-	    DispatchStatus.clearRequestStatus();
+		/* each request is executed with its own context, instead of the state of the current thread */
+		DataServiceExecutionContext executionContext = new DataServiceExecutionContext();
 		DataServiceRequest request = DataServiceRequest.createDataServiceRequest(msgContext);
         DataServicesTracingCollector.reportQueryExecutionEvent(msgContext, request);
-        OMElement result = request.dispatch(msgContext);
+        OMElement result = request.dispatch(msgContext, executionContext);
 		if (result == null) {
 			DataService ds = request.getDataService();
 			String requestName = request.getRequestName();			
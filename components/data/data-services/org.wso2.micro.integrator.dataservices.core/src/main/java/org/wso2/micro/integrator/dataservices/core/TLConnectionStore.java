@@ -19,23 +19,21 @@ package org.wso2.micro.integrator.dataservices.core;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
- * This class represents a thread local connection repository.
+ * This class represents the connection repository of the data service request being executed,
+ * the connections are kept in the {@link DataServiceExecutionContext} of the request.
  */
 public class TLConnectionStore {
 	
 	private static final Log log = LogFactory.getLog(TLConnectionStore.class);
 	
-	private static ThreadLocal<Map<String, DataServiceConnection>> tlCons = new ThreadLocal<Map<String, DataServiceConnection>>() {
-		@Override
-		protected synchronized Map<String, DataServiceConnection> initialValue() {
-			return new HashMap<String, DataServiceConnection>();
-		}
-	};
+	private static Map<String, DataServiceConnection> getConnections() {
+		return DataServiceExecutionContext.getCurrent().getConnections();
+	}
 	
 	private static String generateDataServiceConnectionMapId(String confidId, String user, int queryLevel) {
 		String userSuffix;
@@ -48,17 +46,17 @@ public class TLConnectionStore {
 	}
 	
 	public static void addConnection(String configId, String user, int queryLevel, DataServiceConnection connection) {
-		Map<String, DataServiceConnection> conns = tlCons.get();
+		Map<String, DataServiceConnection> conns = getConnections();
 		conns.put(generateDataServiceConnectionMapId(configId, user, queryLevel), connection);
 	}
 	
 	public static DataServiceConnection getConnection(String configId, String user, int queryLevel) {
-		Map<String, DataServiceConnection> conns = tlCons.get();
+		Map<String, DataServiceConnection> conns = getConnections();
 		return conns.get(generateDataServiceConnectionMapId(configId, user, queryLevel));
 	}
 	
 	public static void commitAll() {
-		Map<String, DataServiceConnection> conns = tlCons.get();
+		Map<String, DataServiceConnection> conns = getConnections();
 		for (DataServiceConnection conn : conns.values()) {
 		    try {
 		        conn.commit();
@@ -73,7 +71,7 @@ public class TLConnectionStore {
 	}
 	
 	public static void commitNonXAConns() {
-        Map<String, DataServiceConnection> conns = tlCons.get();
+        Map<String, DataServiceConnection> conns = getConnections();
         for (DataServiceConnection conn : conns.values()) {
             if (!conn.isXA()) {
                 try {
@@ -90,7 +88,7 @@ public class TLConnectionStore {
     }
 	
 	public static void rollbackAll() {
-        Map<String, DataServiceConnection> conns = tlCons.get();
+        Map<String, DataServiceConnection> conns = getConnections();
         for (DataServiceConnection conn : conns.values()) {
             try {
                 conn.rollback();
@@ -105,7 +103,7 @@ public class TLConnectionStore {
     }
     
     public static void rollbackNonXAConns() {
-        Map<String, DataServiceConnection> conns = tlCons.get();
+        Map<String, DataServiceConnection> conns = getConnections();
         for (DataServiceConnection conn : conns.values()) {
             if (!conn.isXA()) {
                 try {
@@ -122,7 +120,7 @@ public class TLConnectionStore {
     }
 	
 	public static void closeAll() {
-        Map<String, DataServiceConnection> conns = tlCons.get();
+        Map<String, DataServiceConnection> conns = getConnections();
         for (DataServiceConnection conn : conns.values()) {
             try {
                 conn.close();
@@ -18,7 +18,12 @@
 package org.wso2.micro.integrator.dataservices.core.boxcarring;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -27,7 +32,15 @@ import org.apache.axis2.context.MessageContext;
 import org.apache.commons.io.output.NullOutputStream;
 import org.wso2.micro.integrator.dataservices.core.DBUtils;
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.core.description.query.Query;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceRequest;
+import org.wso2.micro.integrator.dataservices.core.dispatch.SingleDataServiceRequest;
+import org.wso2.micro.integrator.dataservices.core.engine.CallQuery;
+import org.wso2.micro.integrator.dataservices.core.engine.CallableRequest;
+import org.wso2.micro.integrator.dataservices.core.engine.OutputElementGroup;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
+import org.wso2.micro.integrator.dataservices.core.engine.StaticOutputElement;
 import org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingCollector;
 
 import static org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingConstants.MULTI_REQUEST_LAST_INDEX_PROPERTY;
@@ -61,38 +74,252 @@ public class RequestBox {
 	 * the result of the last operation is returned.
 	 */
     public synchronized OMElement execute(MessageContext messageContext) throws DataServiceFault {
-		OMElement result;
 		List<DataServiceRequest> reqList = this.getRequests();
 		int n = reqList.size();
+		if (n == 0) {
+			return null;
+		}
+		boolean parallel = reqList.get(0).getDataService().isParallelRequestBoxEnabled();
+		/* once data is modified, the following requests must see the changes in the transaction */
+		boolean modified = false;
 		OMElement resultElement = null;
-		for (int i = 0; i < n; i++) {
+		int i = 0;
+		while (i < n) {
+			if (parallel && !modified) {
+				int end = i;
+				while (end < n && isIndependentRead(reqList.get(end))) {
+					end++;
+				}
+				if (end - i > 1) {
+					resultElement = this.executeInParallel(messageContext, reqList, i, end);
+					i = end;
+					continue;
+				}
+				modified = !isReadOnly(reqList.get(i));
+			}
             DataServicesTracingCollector.reportMultiEvent(messageContext, i, reqList.get(i));
             if (messageContext != null){
                 messageContext.setProperty(MULTI_REQUEST_LAST_INDEX_PROPERTY, i);
             }
-            result = reqList.get(i).dispatch(messageContext);
+            OMElement result = reqList.get(i).dispatch(messageContext);
             DataServicesTracingCollector.closeMultiEvent(messageContext, i, result);
+			resultElement = processResult(result, i == (n - 1));
+			i++;
+		}
+		return DBUtils.wrapBoxCarringResponse(resultElement);
+	}
+
+	/**
+	 * Executes the result of a request, the result of the last request is built and returned, while
+	 * the results of other requests are only processed, no need to cache the data.
+	 */
+	private static OMElement processResult(OMElement result, boolean last) throws DataServiceFault {
+		if (result == null) {
+			return null;
+		}
+		try {
+			if (last) {
+				/* getXMLStreamReader() method will execute the actual request */
+				return DBUtils.cloneAndReturnBuiltElement(result);
+			} else {
+				result.serializeAndConsume(new NullOutputStream());
+				return null;
+			}
+		} catch (XMLStreamException e) {
+			throw new DataServiceFault(e, "Error in request box result serializing");
+		}
+	}
+
+	/**
+	 * Executes the given range of independent read requests in parallel, each of them with its own
+	 * execution context, and therefore with its own connections, which are committed and closed
+	 * when the request is done. The results are collected in the original order of the requests.
+	 *
+	 * @return the built result of the last request of the box, if it is in the range
+	 */
+	private OMElement executeInParallel(MessageContext messageContext, List<DataServiceRequest> reqList,
+	                                    int start, int end) throws DataServiceFault {
+		DataServiceExecutionContext parentContext = DataServiceExecutionContext.getCurrent();
+		QueryResultCache.Statistics parentStatistics = QueryResultCache.getStatistics();
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		/* the user name and roles of the request are read from the current message context */
+		MessageContext currentMessageContext = MessageContext.getCurrentMessageContext();
+		List<Future<ParallelResult>> futures = new ArrayList<Future<ParallelResult>>(end - start);
+		for (int i = start; i < end; i++) {
+			DataServicesTracingCollector.reportMultiEvent(messageContext, i, reqList.get(i));
+			ParallelRequest task = new ParallelRequest(reqList.get(i), messageContext, currentMessageContext,
+					parentContext, parentStatistics != null, classLoader, i == reqList.size() - 1);
+			futures.add(DBUtils.getRequestBoxExecutor().submit(task));
+		}
+		OMElement resultElement = null;
+		for (int i = start; i < end; i++) {
+			ParallelResult result;
+			try {
+				result = futures.get(i - start).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelRemaining(futures, i - start);
+				throw new DataServiceFault(e, "Interrupted while executing request box requests");
+			} catch (ExecutionException e) {
+				cancelRemaining(futures, i - start + 1);
+				if (messageContext != null) {
+					messageContext.setProperty(MULTI_REQUEST_LAST_INDEX_PROPERTY, i);
+				}
+				throw e.getCause() instanceof DataServiceFault ? (DataServiceFault) e.getCause() :
+						new DataServiceFault(e.getCause(), "Error in executing request box request");
+			}
 			if (result != null) {
-				try {
-					/* if it's the last request, return the result,
-					 * getXMLStreamReader() method will execute the actual request */
-					if (i == (n - 1)) {
-						resultElement = DBUtils.cloneAndReturnBuiltElement(result);
-						return DBUtils.wrapBoxCarringResponse(resultElement);
-					} else {
-					    /* process the result of the request, no need to cache the data */
-					    result.serializeAndConsume(new NullOutputStream());
-					}
-				} catch (XMLStreamException e) {
-					throw new DataServiceFault(e, "Error in request box result serializing");
+				if (parentStatistics != null && result.statistics != null) {
+					parentStatistics.add(result.statistics);
 				}
-			} else {
-				if (i == (n - 1)) {
-					return DBUtils.wrapBoxCarringResponse(resultElement);
+				DataServicesTracingCollector.closeMultiEvent(messageContext, i, result.result);
+				resultElement = result.result;
+			}
+		}
+		return resultElement;
+	}
+
+	/**
+	 * Cancels the parallel requests from the given index onwards, once the box has failed and their results are not
+	 * needed anymore.
+	 */
+	private static void cancelRemaining(List<Future<ParallelResult>> futures, int from) {
+		for (int i = from; i < futures.size(); i++) {
+			futures.get(i).cancel(true);
+		}
+	}
+
+	/**
+	 * Checks if the given request only reads data, and it does not export values to the other
+	 * requests of the box, so it can be executed in parallel with other such requests.
+	 */
+	private static boolean isIndependentRead(DataServiceRequest request) {
+		Query query = getQuery(request);
+		return query != null && isIndependentRead(query, new HashSet<Query>());
+	}
+
+	private static boolean isReadOnly(DataServiceRequest request) {
+		Query query = getQuery(request);
+		return query != null && query.isReadOnly();
+	}
+
+	private static Query getQuery(DataServiceRequest request) {
+		if (!(request instanceof SingleDataServiceRequest)) {
+			return null;
+		}
+		CallableRequest callableRequest = request.getDataService().getCallableRequest(request.getRequestName());
+		if (callableRequest == null || callableRequest.getCallQuery() == null) {
+			return null;
+		}
+		return callableRequest.getCallQuery().getQuery();
+	}
+
+	private static boolean isIndependentRead(Query query, Set<Query> visited) {
+		if (!visited.add(query)) {
+			return true;
+		}
+		if (!query.isReadOnly()) {
+			return false;
+		}
+		return !query.hasResult() || isIndependentRead(query.getResult().getDefaultElementGroup(), visited);
+	}
+
+	private static boolean isIndependentRead(OutputElementGroup group, Set<Query> visited) {
+		for (StaticOutputElement element : group.getAttributeEntries()) {
+			if (element.getExport() != null) {
+				return false;
+			}
+		}
+		for (StaticOutputElement element : group.getElementEntries()) {
+			if (element.getExport() != null) {
+				return false;
+			}
+		}
+		for (CallQuery callQuery : group.getCallQueryEntries()) {
+			if (!isIndependentRead(callQuery.getQuery(), visited)) {
+				return false;
+			}
+		}
+		for (OutputElementGroup childGroup : group.getOutputElementGroupEntries()) {
+			if (!isIndependentRead(childGroup, visited)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A request of the box, which is executed in parallel with its own execution context.
+	 */
+	private static class ParallelRequest implements Callable<ParallelResult> {
+
+		private final DataServiceRequest request;
+
+		private final MessageContext messageContext;
+
+		private final MessageContext currentMessageContext;
+
+		private final DataServiceExecutionContext parentContext;
+
+		private final boolean recordStatistics;
+
+		private final ClassLoader classLoader;
+
+		private final boolean last;
+
+		private ParallelRequest(DataServiceRequest request, MessageContext messageContext,
+		                        MessageContext currentMessageContext, DataServiceExecutionContext parentContext,
+		                        boolean recordStatistics, ClassLoader classLoader, boolean last) {
+			this.request = request;
+			this.messageContext = messageContext;
+			this.currentMessageContext = currentMessageContext;
+			this.parentContext = parentContext;
+			this.recordStatistics = recordStatistics;
+			this.classLoader = classLoader;
+			this.last = last;
+		}
+
+		@Override
+		public ParallelResult call() throws DataServiceFault {
+			DataServiceExecutionContext context = new DataServiceExecutionContext();
+			context.setCurrentUser(this.parentContext.getCurrentUser());
+			context.getExportedParams().putAll(this.parentContext.getExportedParams());
+			Thread thread = Thread.currentThread();
+			ClassLoader previousClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(this.classLoader);
+			MessageContext previousMessageContext = MessageContext.getCurrentMessageContext();
+			MessageContext.setCurrentMessageContext(this.currentMessageContext);
+			if (this.recordStatistics) {
+				QueryResultCache.startStatistics();
+			}
+			try {
+				OMElement result = this.request.dispatch(this.messageContext, context);
+				/* the streamed result is executed with the context of the request */
+				return new ParallelResult(processResult(result, this.last),
+						this.recordStatistics ? QueryResultCache.getStatistics() : null);
+			} finally {
+				if (this.recordStatistics) {
+					QueryResultCache.stopStatistics();
 				}
+				MessageContext.setCurrentMessageContext(previousMessageContext);
+				thread.setContextClassLoader(previousClassLoader);
 			}
 		}
-		return null;
+	}
+
+	/**
+	 * The result of a request executed in parallel.
+	 */
+	private static class ParallelResult {
+
+		private final OMElement result;
+
+		private final QueryResultCache.Statistics statistics;
+
+		private ParallelResult(OMElement result, QueryResultCache.Statistics statistics) {
+			this.result = result;
+			this.statistics = statistics;
+		}
 	}
 	
 }
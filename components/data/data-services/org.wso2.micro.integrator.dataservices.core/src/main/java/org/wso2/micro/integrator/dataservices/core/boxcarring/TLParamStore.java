@@ -17,38 +17,31 @@
  */
 package org.wso2.micro.integrator.dataservices.core.boxcarring;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
 
 /**
- * This class represents a thread local storage for parameters,
- * results from queries etc..
+ * This class represents the storage for parameters, results from queries etc.. of
+ * the data service request being executed.
  */
 public class TLParamStore {
 
-	private static ThreadLocal<Map<String, ParamValue>> tlParams = new ThreadLocal<Map<String, ParamValue>>() {
-		@Override
-		protected synchronized Map<String, ParamValue> initialValue() {
-			return new HashMap<String, ParamValue>();
-		}
-	};
-	
 	public static void addParam(String name, ParamValue value) {
-		tlParams.get().put(name, value);
+		getParameterMap().put(name, value);
 	}
 	
 	public static ParamValue getParam(String name) {
-		return tlParams.get().get(name);
+		return getParameterMap().get(name);
 	}
 	
 	public static Map<String, ParamValue> getParameterMap() {
-		return tlParams.get();
+		return DataServiceExecutionContext.getCurrent().getExportedParams();
 	}
 	
 	public static void clear() {
-		tlParams.remove();
+		getParameterMap().clear();
 	}
 	
 }
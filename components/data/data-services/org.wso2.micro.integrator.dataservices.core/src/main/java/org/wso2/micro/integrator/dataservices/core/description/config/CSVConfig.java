@@ -28,9 +28,13 @@ import org.wso2.micro.integrator.dataservices.core.engine.DataService;
 import org.wso2.micro.integrator.dataservices.core.odata.ODataDataHandler;
 import org.wso2.micro.integrator.dataservices.core.odata.ODataServiceFault;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -58,6 +62,13 @@ public class CSVConfig extends Config {
 
     private Map<Integer, String> columnMappings;
 
+    /* key column name -> 0-based column index */
+    private Map<String, Integer> keyColumns;
+
+    private boolean snapshotEnabled;
+
+    private volatile CSVSnapshot snapshot;
+
     public CSVConfig(DataService dataService, String configId, Map<String, String> properties, boolean odataEnable)
             throws DataServiceFault {
         super(dataService, configId, DataSourceTypes.CSV, properties, odataEnable);
@@ -99,6 +110,54 @@ public class CSVConfig extends Config {
         } catch (IOException e) {
             throw new DataServiceFault("Error in creating CSV column mappings.");
         }
+        this.keyColumns = this.extractKeyColumns(this.getProperty(DBConstants.CSV.KEY_COLUMNS));
+
+        if (Boolean.parseBoolean(this.getProperty(DBConstants.CSV.SNAPSHOT))) {
+            if (this.getCsvDataSourcePath().startsWith("http://") ||
+                    DBUtils.isRegistryPath(this.getCsvDataSourcePath())) {
+                log.warn("CSV snapshots are only supported for local files, the data source of config '" +
+                        configId + "' will be read on each query");
+            } else {
+                this.snapshotEnabled = true;
+            }
+        }
+    }
+
+    /**
+     * Resolves the comma separated key columns, given as column names if the CSV has a header
+     * and as 1-based column numbers otherwise.
+     */
+    private Map<String, Integer> extractKeyColumns(String value) throws DataServiceFault {
+        Map<String, Integer> result = new LinkedHashMap<String, Integer>();
+        if (DBUtils.isEmptyString(value)) {
+            return result;
+        }
+        for (String column : value.split(",")) {
+            column = column.trim();
+            if (column.length() == 0) {
+                continue;
+            }
+            int index = -1;
+            if (this.isHasHeader()) {
+                for (Map.Entry<Integer, String> entry : this.getColumnMappings().entrySet()) {
+                    if (column.equals(entry.getValue())) {
+                        index = entry.getKey();
+                    }
+                }
+            } else {
+                try {
+                    index = Integer.parseInt(column);
+                } catch (NumberFormatException ignore) {
+                    // reported below
+                }
+            }
+            if (index < 1) {
+                throw new DataServiceFault("Invalid CSV key column '" + column + "' in config '" +
+                        this.getConfigId() + "'");
+            }
+            result.put(column, index - 1);
+        }
+        return result;
     }
 
     private char extractColumnSeparator(String value) {
@@ -188,6 +247,54 @@ public class CSVConfig extends Config {
         return columnMappings;
     }
 
+    public Map<String, Integer> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    /**
+     * Returns the snapshot of the CSV records, building it on first use and rebuilding it when
+     * the modification time or the size of the file changes.
+     *
+     * @return Current snapshot of the data source
+     * @throws IOException      If the file cannot be read
+     * @throws DataServiceFault DataServiceFault
+     */
+    public CSVSnapshot getSnapshot() throws IOException, DataServiceFault {
+        File file = new File(this.getCsvDataSourcePath());
+        long lastModified = file.lastModified();
+        long length = file.length();
+        CSVSnapshot current = this.snapshot;
+        if (current != null && current.isCurrent(lastModified, length)) {
+            return current;
+        }
+        synchronized (this) {
+            current = this.snapshot;
+            if (current == null || !current.isCurrent(lastModified, length)) {
+                List<String[]> rows = new ArrayList<String[]>();
+                CSVReader reader = this.createCSVReader();
+                try {
+                    String[] record;
+                    while ((record = reader.readNext()) != null) {
+                        rows.add(record);
+                    }
+                } finally {
+                    reader.close();
+                }
+                current = new CSVSnapshot(rows, this.getKeyColumns().values(), lastModified, length);
+                this.snapshot = current;
+                if (log.isDebugEnabled()) {
+                    log.debug("Created a snapshot of " + rows.size() + " CSV records for config '" +
+                            this.getConfigId() + "'");
+                }
+            }
+            return current;
+        }
+    }
+
     @Override
     public boolean isActive() {
         try {
@@ -201,7 +308,7 @@ public class CSVConfig extends Config {
     }
 
     public void close() {
-        /* nothing to close */
+        this.snapshot = null;
     }
 
     @Override
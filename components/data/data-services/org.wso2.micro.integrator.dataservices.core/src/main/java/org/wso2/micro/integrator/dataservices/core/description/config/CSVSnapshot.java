@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.description.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory snapshot of the records of a CSV data source, with hash indexes on the
+ * configured key columns. A snapshot is shared by all concurrent queries of its config and is
+ * replaced as a whole when the underlying file changes.
+ */
+public class CSVSnapshot {
+
+    private final long lastModified;
+
+    private final long length;
+
+    private final List<String[]> rows;
+
+    /* column index -> column value -> matching rows, in file order */
+    private final Map<Integer, Map<String, List<String[]>>> indexes;
+
+    public CSVSnapshot(List<String[]> rows, Collection<Integer> keyColumns, long lastModified,
+                       long length) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.lastModified = lastModified;
+        this.length = length;
+        this.indexes = new HashMap<Integer, Map<String, List<String[]>>>();
+        for (Integer column : keyColumns) {
+            Map<String, List<String[]>> index = new HashMap<String, List<String[]>>();
+            for (String[] row : rows) {
+                if (column < row.length) {
+                    List<String[]> matches = index.get(row[column]);
+                    if (matches == null) {
+                        matches = new ArrayList<String[]>(1);
+                        index.put(row[column], matches);
+                    }
+                    matches.add(row);
+                }
+            }
+            this.indexes.put(column, index);
+        }
+    }
+
+    /**
+     * Checks whether this snapshot was built from the file in its current state.
+     */
+    public boolean isCurrent(long lastModified, long length) {
+        return this.lastModified == lastModified && this.length == length;
+    }
+
+    public List<String[]> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the rows whose value in the given column equals the given value.
+     *
+     * @param column 0-based index of a key column
+     * @param value  Column value
+     * @return Matching rows in file order, or null if the column is not indexed
+     */
+    public List<String[]> lookup(int column, String value) {
+        Map<String, List<String[]>> index = this.indexes.get(column);
+        if (index == null) {
+            return null;
+        }
+        List<String[]> matches = index.get(value);
+        return matches != null ? matches : Collections.<String[]>emptyList();
+    }
+
+}
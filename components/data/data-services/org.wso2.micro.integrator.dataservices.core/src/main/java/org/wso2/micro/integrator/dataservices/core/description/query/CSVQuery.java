@@ -22,15 +22,21 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 import org.wso2.micro.integrator.dataservices.core.description.config.CSVConfig;
+import org.wso2.micro.integrator.dataservices.core.description.config.CSVSnapshot;
 import org.wso2.micro.integrator.dataservices.core.description.event.EventTrigger;
 import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
+import org.wso2.micro.integrator.dataservices.core.engine.InternalParam;
 import org.wso2.micro.integrator.dataservices.core.engine.InternalParamCollection;
 import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
 import org.wso2.micro.integrator.dataservices.core.engine.QueryParam;
 import org.wso2.micro.integrator.dataservices.core.engine.Result;
 
 import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -62,11 +68,19 @@ public class CSVQuery extends Query {
 		return config;
 	}
 	
+	@Override
+	public boolean isReadOnly() {
+		return true;
+	}
+
 	public Object runPreQuery(InternalParamCollection params, int queryLevel)
             throws DataServiceFault {
 		CSVReader reader = null;
 		boolean isError = false;
 		try {
+		    if (this.getConfig().isSnapshotEnabled()) {
+		        return this.selectFromSnapshot(this.extractKeyFilters(params));
+		    }
             reader = this.getConfig().createCSVReader();
             return reader;
 		} catch (Exception e) {
@@ -83,23 +97,82 @@ public class CSVQuery extends Query {
 		}
 	}
 
+    /**
+     * Query parameters named after a key column of the config select the records whose value in
+     * that column equals the parameter value.
+     *
+     * @param params Query parameters
+     * @return 0-based key column index -> required value
+     */
+    private Map<Integer, String> extractKeyFilters(InternalParamCollection params) {
+        Map<String, Integer> keyColumns = this.getConfig().getKeyColumns();
+        if (keyColumns.isEmpty() || params == null) {
+            return Collections.emptyMap();
+        }
+        Map<Integer, String> keyFilters = new HashMap<Integer, String>();
+        for (InternalParam param : params.getParams()) {
+            Integer column = keyColumns.get(param.getName());
+            if (column != null && param.getValue() != null &&
+                    param.getValue().getScalarValue() != null) {
+                keyFilters.put(column, param.getValue().getScalarValue());
+            }
+        }
+        return keyFilters;
+    }
+
+    private boolean matchesKeyFilters(String[] record, Map<Integer, String> keyFilters) {
+        for (Map.Entry<Integer, String> filter : keyFilters.entrySet()) {
+            if (filter.getKey() >= record.length || !filter.getValue().equals(record[filter.getKey()])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Narrows down the snapshot records using the index of one of the filtered key columns, the
+     * remaining filters are applied while the records are written.
+     */
+    private List<String[]> selectFromSnapshot(Map<Integer, String> keyFilters)
+            throws IOException, DataServiceFault {
+        CSVSnapshot snapshot = this.getConfig().getSnapshot();
+        for (Map.Entry<Integer, String> filter : keyFilters.entrySet()) {
+            List<String[]> rows = snapshot.lookup(filter.getKey(), filter.getValue());
+            if (rows != null) {
+                return rows;
+            }
+        }
+        return snapshot.getRows();
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public void runPostQuery(Object result, XMLStreamWriter xmlWriter,
                              InternalParamCollection params, int queryLevel) throws DataServiceFault {
         CSVReader reader = null;
+        Iterator<String[]> snapshotRows = null;
         boolean isError = false;
         try {
-            reader = (CSVReader) result;
+            if (result instanceof CSVReader) {
+                reader = (CSVReader) result;
+            } else {
+                snapshotRows = ((List<String[]>) result).iterator();
+            }
             String[] record;
             int maxCount = this.getConfig().getMaxRowCount();
             int i = 0;
             DataEntry dataEntry;
             Map<Integer, String> columnsMap = this.getConfig().getColumnMappings();
+            Map<Integer, String> keyFilters = this.extractKeyFilters(params);
             boolean useColumnNumbers = this.isUsingColumnNumbers();
-            while ((record = reader.readNext()) != null) {
+            while ((record = (reader != null ? reader.readNext() :
+                    (snapshotRows.hasNext() ? snapshotRows.next() : null))) != null) {
                 if (maxCount != -1 && i >= maxCount) {
                     break;
                 }
+                if (!this.matchesKeyFilters(record, keyFilters)) {
+                    continue;
+                }
                 dataEntry = new DataEntry();
                 for (int j = 0; j < record.length; j++) {
                     dataEntry.addValue(useColumnNumbers ? Integer.toString(j + 1) :
@@ -112,7 +185,7 @@ public class CSVQuery extends Query {
             isError = true;
             throw new DataServiceFault(e, "Error in CSVQuery.runQuery.");
         } finally {
-            if (reader != null || isError) {
+            if (reader != null) {
                 try {
                     reader.close();
                 } catch (Exception e) {
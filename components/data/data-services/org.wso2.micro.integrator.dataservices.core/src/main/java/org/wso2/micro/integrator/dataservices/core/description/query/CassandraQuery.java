@@ -29,7 +29,7 @@ import org.apache.axis2.databinding.utils.ConverterUtil;
 import org.apache.commons.codec.binary.Base64;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
 import org.wso2.micro.integrator.dataservices.common.DBConstants.DataTypes;
-import org.wso2.micro.integrator.dataservices.core.DBUtils;import org.wso2.micro.integrator.dataservices.core.DataServiceFault;import org.wso2.micro.integrator.dataservices.core.description.config.CassandraConfig;import org.wso2.micro.integrator.dataservices.core.description.event.EventTrigger;import org.wso2.micro.integrator.dataservices.core.dispatch.DispatchStatus;import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;import org.wso2.micro.integrator.dataservices.core.engine.DataService;import org.wso2.micro.integrator.dataservices.core.engine.InternalParam;import org.wso2.micro.integrator.dataservices.core.engine.InternalParamCollection;import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;import org.wso2.micro.integrator.dataservices.core.engine.QueryParam;import org.wso2.micro.integrator.dataservices.core.engine.Result;
+import org.wso2.micro.integrator.dataservices.core.DBUtils;import org.wso2.micro.integrator.dataservices.core.DataServiceFault;import org.wso2.micro.integrator.dataservices.core.description.config.CassandraConfig;import org.wso2.micro.integrator.dataservices.core.description.event.EventTrigger;import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;import org.wso2.micro.integrator.dataservices.core.dispatch.DispatchStatus;import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;import org.wso2.micro.integrator.dataservices.core.engine.DataService;import org.wso2.micro.integrator.dataservices.core.engine.InternalParam;import org.wso2.micro.integrator.dataservices.core.engine.InternalParamCollection;import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;import org.wso2.micro.integrator.dataservices.core.engine.QueryParam;import org.wso2.micro.integrator.dataservices.core.engine.Result;
 
 import javax.xml.stream.XMLStreamWriter;
 import java.io.UnsupportedEncodingException;
@@ -55,13 +55,9 @@ public class CassandraQuery extends ExpressionQuery {
     private PreparedStatement statement;
 
     /**
-     * thread local variable to keep a batch statement in batch processing
+     * key of the batch statement kept in batch processing, in the execution context of the request
      */
-    private ThreadLocal<BatchStatement> batchStatement = new ThreadLocal<BatchStatement>() {
-        protected synchronized BatchStatement initialValue() {
-            return null;
-        }
-    };
+    private final Object batchStatementKey = new Object();
 
     public CassandraQuery(DataService dataService, String queryId, String query, List<QueryParam> queryParams,
                           Result result, String configId, EventTrigger inputEventTrigger,
@@ -89,6 +85,14 @@ public class CassandraQuery extends ExpressionQuery {
         return this.config.isNativeBatchRequestsSupported();
     }
 
+    private BatchStatement getBatchStatement() {
+        return (BatchStatement) DataServiceExecutionContext.getCurrent().getAttribute(this.batchStatementKey);
+    }
+
+    private void setBatchStatement(BatchStatement batchStatement) {
+        DataServiceExecutionContext.getCurrent().setAttribute(this.batchStatementKey, batchStatement);
+    }
+
     private Object[] bindParams(InternalParamCollection params) throws DataServiceFault {
         int count = params.getSize();
         List<Object> values = new ArrayList<>(count);
@@ -227,12 +231,12 @@ public class CassandraQuery extends ExpressionQuery {
             if (DispatchStatus.isBatchRequest() && this.isNativeBatchRequestsSupported()) {
                 /* handle batch requests */
                 if (DispatchStatus.isFirstBatchRequest()) {
-                    this.batchStatement.set(new BatchStatement());
+                    this.setBatchStatement(new BatchStatement());
                 }
                 SimpleStatement simpleStatement = new SimpleStatement(processedSQL);
-                this.batchStatement.get().add(simpleStatement);
+                this.getBatchStatement().add(simpleStatement);
                 if (DispatchStatus.isLastBatchRequest()) {
-                    this.getSession().execute(this.batchStatement.get());
+                    this.getSession().execute(this.getBatchStatement());
                 }
             } else {
                 SimpleStatement statement = new SimpleStatement(processedSQL, this.bindParams(params));
@@ -243,11 +247,11 @@ public class CassandraQuery extends ExpressionQuery {
             if (DispatchStatus.isBatchRequest() && this.isNativeBatchRequestsSupported()) {
                 /* handle batch requests */
                 if (DispatchStatus.isFirstBatchRequest()) {
-                    this.batchStatement.set(new BatchStatement());
+                    this.setBatchStatement(new BatchStatement());
                 }
-                this.batchStatement.get().add(this.getStatement().bind(this.bindParams(params)));
+                this.getBatchStatement().add(this.getStatement().bind(this.bindParams(params)));
                 if (DispatchStatus.isLastBatchRequest()) {
-                    this.getSession().execute(this.batchStatement.get());
+                    this.getSession().execute(this.getBatchStatement());
                 }
             } else {
                 rs = this.getSession().execute(this.getStatement().bind(this.bindParams(params)));
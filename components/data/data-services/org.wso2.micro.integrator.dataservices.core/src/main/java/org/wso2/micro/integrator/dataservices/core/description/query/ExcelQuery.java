@@ -162,6 +162,11 @@ public class ExcelQuery extends Query {
         return workbookName;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     public Object runPreQuery(InternalParamCollection params, int queryLevel)
             throws DataServiceFault {
         try {
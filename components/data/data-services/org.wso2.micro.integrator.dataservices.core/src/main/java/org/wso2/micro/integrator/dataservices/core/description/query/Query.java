@@ -29,6 +29,7 @@ import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 import org.wso2.micro.integrator.dataservices.core.TLConnectionStore;
 import org.wso2.micro.integrator.dataservices.core.boxcarring.TLParamStore;
 import org.wso2.micro.integrator.dataservices.core.description.event.EventTrigger;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.micro.integrator.dataservices.core.dispatch.DispatchStatus;
 import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
@@ -38,6 +39,7 @@ import org.wso2.micro.integrator.dataservices.core.engine.InternalParam;
 import org.wso2.micro.integrator.dataservices.core.engine.InternalParamCollection;
 import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
 import org.wso2.micro.integrator.dataservices.core.engine.QueryParam;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
 import org.wso2.micro.integrator.dataservices.core.engine.Result;
 import org.wso2.micro.integrator.dataservices.core.engine.XMLWriterHelper;
 import org.wso2.micro.integrator.dataservices.core.validation.ValidationContext;
@@ -47,9 +49,13 @@ import org.wso2.micro.integrator.dataservices.core.validation.Validator;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents a query in a data service.
@@ -82,33 +88,11 @@ public abstract class Query extends XMLWriterHelper {
 	
 	private boolean useColumnNumbers;
 
-	private static ThreadLocal<Object> queryPreprocessObjects = new ThreadLocal<Object>() {
-	    @Override
-	    public Object initialValue() {
-	        return new Object();
-	    }
-	};
+	/* the result cache definition of the query, null if the result is not cached */
+	private QueryResultCache.CacheConfig cacheConfig;
 
-        private static ThreadLocal<InternalParamCollection> currentInternalParams = new ThreadLocal<InternalParamCollection>() {
-            @Override
-            public InternalParamCollection initialValue() {
-                return null;
-            }
-        };
-
-        private static ThreadLocal<Boolean> queryPreprocessInitial = new ThreadLocal<Boolean>() {
-	    @Override
-        public Boolean initialValue() {
-            return false;
-        }
-	};
-
-	private static ThreadLocal<Boolean> queryPreprocessSecondary = new ThreadLocal<Boolean>() {
-        @Override
-        public Boolean initialValue() {
-            return false;
-        }
-    };
+	/* the key of the results being recorded for caching, by the queries executing in the current request */
+	private static final Object RESULT_RECORDINGS_KEY = new Object();
 
 	public Query(DataService dataService, String queryId,
                  List<QueryParam> queryParams, Result result, String configId,
@@ -190,6 +174,35 @@ public abstract class Query extends XMLWriterHelper {
 		return useColumnNumbers;
 	}
 
+	public QueryResultCache.CacheConfig getCacheConfig() {
+		return cacheConfig;
+	}
+
+	public void setCacheConfig(QueryResultCache.CacheConfig cacheConfig) {
+		this.cacheConfig = cacheConfig;
+	}
+
+	/**
+	 * Returns the tables modified by this query, used to invalidate the cached query results of
+	 * the data service. Queries which return a result are considered to be read only, while the
+	 * tables modified by other queries are not known by default.
+	 *
+	 * @return the modified tables, or null if they cannot be determined
+	 */
+	public Set<String> getModifiedTables() {
+		return this.hasResult() ? Collections.<String>emptySet() : null;
+	}
+
+	/**
+	 * Checks whether this query only reads data, so that it can be executed in parallel with other
+	 * read requests of a request box. Queries are not considered to be read only by default.
+	 *
+	 * @return true if the query never modifies data
+	 */
+	public boolean isReadOnly() {
+		return false;
+	}
+
 	/**
 	 * Converts the parameter map passed into the query, to InternalParam objects,
 	 * where they are created by taking in information also that is mentioned in
@@ -298,7 +311,7 @@ public abstract class Query extends XMLWriterHelper {
                 this.processContentFiltering();
                 /* process input events */
                 this.processInputEvents(internalParams);
-                result = this.runPreQuery(internalParams, queryLevel);
+                result = this.runCachedPreQuery(internalParams, queryLevel);
                 Query.addQueryPreprocessedObject(result);
             }
             if (secondary) {
@@ -307,7 +320,7 @@ public abstract class Query extends XMLWriterHelper {
                 Query.resetCurrentInternalParams();
                 Query.setQueryPreprocessingInitial(true);
                 result = Query.getAndRemoveQueryPreprocessObject();
-                this.runPostQuery(result, xmlWriter, internalParams, queryLevel);
+                this.runCachedPostQuery(result, xmlWriter, internalParams, queryLevel);
             }
             error = false;
         } finally {
@@ -320,6 +333,65 @@ public abstract class Query extends XMLWriterHelper {
         }
 	}
 
+    /**
+     * Runs the first phase of the query, unless its result is found in the result cache.
+     */
+    private Object runCachedPreQuery(InternalParamCollection internalParams, int queryLevel)
+            throws DataServiceFault {
+        QueryResultCache cache = this.getDataService().getQueryResultCache();
+        if (this.getCacheConfig() != null && this.hasResult()) {
+            long generation = cache.getGeneration(this.getQueryId());
+            List<DataEntry> entries = cache.get(this.getQueryId(), internalParams);
+            if (entries != null) {
+                return new CachedQueryResult(entries);
+            }
+            return new UncachedQueryResult(this.runPreQuery(internalParams, queryLevel), generation);
+        }
+        Object result = this.runPreQuery(internalParams, queryLevel);
+        if (cache.isEnabled()) {
+            Set<String> modifiedTables = this.getModifiedTables();
+            if (modifiedTables == null || !modifiedTables.isEmpty()) {
+                cache.invalidate(modifiedTables);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the result of the query, from the result cache if the first phase found it there, or
+     * else by running the second phase of the query, while recording the result to be cached.
+     */
+    private void runCachedPostQuery(Object result, XMLStreamWriter xmlWriter,
+                                    InternalParamCollection internalParams, int queryLevel)
+            throws DataServiceFault {
+        if (result instanceof CachedQueryResult) {
+            /* a nested call of the same query must not be recorded into an outer recording */
+            getResultRecordings().push(new ResultRecording(this, false));
+            try {
+                for (DataEntry dataEntry : ((CachedQueryResult) result).entries) {
+                    this.writeResultEntry(xmlWriter, dataEntry, internalParams, queryLevel);
+                }
+            } finally {
+                getResultRecordings().pop();
+            }
+        } else if (result instanceof UncachedQueryResult) {
+            UncachedQueryResult uncachedResult = (UncachedQueryResult) result;
+            ResultRecording recording = new ResultRecording(this, true);
+            getResultRecordings().push(recording);
+            try {
+                this.runPostQuery(uncachedResult.result, xmlWriter, internalParams, queryLevel);
+            } finally {
+                getResultRecordings().pop();
+            }
+            if (recording.entries != null) {
+                this.getDataService().getQueryResultCache().put(this.getQueryId(), internalParams,
+                        recording.entries, uncachedResult.generation);
+            }
+        } else {
+            this.runPostQuery(result, xmlWriter, internalParams, queryLevel);
+        }
+    }
+
     private void processContentFiltering() throws DataServiceFault {
         if (this.hasResult()) {
 			/* set required roles in result */
@@ -351,6 +423,7 @@ public abstract class Query extends XMLWriterHelper {
 	        }
 	        TLConnectionStore.closeAll();
         }
+        QueryResultCache.completeTransaction();
 	}
 	
 	private OMElement createOMElementFromInputParams(InternalParamCollection params) {
@@ -427,6 +500,12 @@ public abstract class Query extends XMLWriterHelper {
 		 * to be outputted. Output elements include, static elements and other call-query
 		 * object itself, where call-queries are used for nested queries. */
 		ExternalParamCollection params = this.createExternalParamCollection(dataEntry, ipc);
+
+		/* record the entry, if the result of this query is being cached */
+		ResultRecording recording = getResultRecordings().peek();
+		if (recording != null && recording.query == this) {
+			recording.add(dataEntry);
+		}
 		
 		/* write result wrapper */
 		if (this.isWriteRow()) {
@@ -480,47 +559,116 @@ public abstract class Query extends XMLWriterHelper {
 		return pc;
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Deque<ResultRecording> getResultRecordings() {
+	    DataServiceExecutionContext context = DataServiceExecutionContext.getCurrent();
+	    Deque<ResultRecording> recordings = (Deque<ResultRecording>) context.getAttribute(RESULT_RECORDINGS_KEY);
+	    if (recordings == null) {
+	        recordings = new ArrayDeque<ResultRecording>();
+	        context.setAttribute(RESULT_RECORDINGS_KEY, recordings);
+	    }
+	    return recordings;
+	}
+
 	public static void setQueryPreprocessingInitial(boolean state) {
-	    queryPreprocessInitial.set(state);
+	    DataServiceExecutionContext.getCurrent().setQueryPreprocessInitial(state);
 	}
 
 	public static void setQueryPreprocessingSecondary(boolean state) {
-        queryPreprocessSecondary.set(state);
+        DataServiceExecutionContext.getCurrent().setQueryPreprocessSecondary(state);
     }
 
 	public static boolean isQueryPreprocessInitial() {
-	    return queryPreprocessInitial.get();
+	    return DataServiceExecutionContext.getCurrent().isQueryPreprocessInitial();
 	}
 
 	public static boolean isQueryPreprocessSecondary() {
-        return queryPreprocessSecondary.get();
+        return DataServiceExecutionContext.getCurrent().isQueryPreprocessSecondary();
     }
 
 	public static Object getAndRemoveQueryPreprocessObject() {
-        return queryPreprocessObjects.get();
+        return DataServiceExecutionContext.getCurrent().getQueryPreprocessObject();
 	}
 
 	public static void addQueryPreprocessedObject(Object value) {
-	    queryPreprocessObjects.set(value);
+	    DataServiceExecutionContext.getCurrent().setQueryPreprocessObject(value);
 	}
 
 	public static void resetQueryPreprocessing() {
-            currentInternalParams.set(null);
-	    queryPreprocessObjects.set(new Object());
+            resetCurrentInternalParams();
+	    addQueryPreprocessedObject(new Object());
 	    setQueryPreprocessingInitial(false);
 	    setQueryPreprocessingSecondary(false);
 	}
 
         public static InternalParamCollection getCurrentInternalParams() {
-             return currentInternalParams.get();
+             return DataServiceExecutionContext.getCurrent().getCurrentInternalParams();
         }
 
         public static void resetCurrentInternalParams() {
-             currentInternalParams.set(null);
+             setCurrentInternalParams(null);
         }
 
         public static void setCurrentInternalParams(InternalParamCollection params) {
-             currentInternalParams.set(params);
+             DataServiceExecutionContext.getCurrent().setCurrentInternalParams(params);
+        }
+
+    /**
+     * The result of the first phase of a query, which was found in the result cache.
+     */
+    private static class CachedQueryResult {
+
+        private final List<DataEntry> entries;
+
+        private CachedQueryResult(List<DataEntry> entries) {
+            this.entries = entries;
         }
+    }
+
+    /**
+     * The result of the first phase of a cached query, which was not found in the result cache.
+     */
+    private static class UncachedQueryResult {
+
+        private final Object result;
+
+        private final long generation;
+
+        private UncachedQueryResult(Object result, long generation) {
+            this.result = result;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The data entries written by a query, while its result is being recorded for caching.
+     */
+    private static class ResultRecording {
+
+        private final Query query;
+
+        private List<DataEntry> entries;
+
+        private long size;
+
+        private ResultRecording(Query query, boolean active) {
+            this.query = query;
+            this.entries = active ? new ArrayList<DataEntry>() : null;
+        }
+
+        private void add(DataEntry dataEntry) {
+            if (this.entries == null) {
+                return;
+            }
+            long entrySize = QueryResultCache.estimateSize(dataEntry);
+            this.size += entrySize;
+            if (entrySize < 0 || this.size > this.query.getCacheConfig().getMaxSize()) {
+                /* the result cannot be cached, stop recording it */
+                this.entries = null;
+                return;
+            }
+            this.entries.add(dataEntry);
+        }
+    }
 
 }
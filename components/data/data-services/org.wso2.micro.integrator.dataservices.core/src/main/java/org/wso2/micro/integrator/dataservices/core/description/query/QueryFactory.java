@@ -45,6 +45,7 @@ import org.wso2.micro.integrator.dataservices.core.engine.DataService;
 import org.wso2.micro.integrator.dataservices.core.engine.OutputElementGroup;
 import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
 import org.wso2.micro.integrator.dataservices.core.engine.QueryParam;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
 import org.wso2.micro.integrator.dataservices.core.engine.Result;
 import org.wso2.micro.integrator.dataservices.core.engine.SQLDialect;
 import org.wso2.micro.integrator.dataservices.core.engine.StaticOutputElement;
@@ -70,6 +71,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A factory class to create queries in a data service.
@@ -114,9 +116,45 @@ public class QueryFactory {
 			throw new DataServiceFault("Invalid configType: " +
 					sourceType + " in :- \n" + queryEl);
 		}
+		query.setCacheConfig(getCacheConfig(queryEl));
 		return query;
 	}
 
+	private static QueryResultCache.CacheConfig getCacheConfig(OMElement queryEl) throws DataServiceFault {
+		OMElement cacheEl = queryEl.getFirstChildWithName(new QName(DBSFields.CACHE));
+		if (cacheEl == null) {
+			return null;
+		}
+		long timeToLive = QueryResultCache.DEFAULT_TIME_TO_LIVE_SECONDS;
+		long maxSize = QueryResultCache.DEFAULT_MAX_SIZE;
+		String timeToLiveStr = cacheEl.getAttributeValue(new QName(DBSFields.CACHE_TIME_TO_LIVE));
+		String maxSizeStr = cacheEl.getAttributeValue(new QName(DBSFields.CACHE_MAX_SIZE));
+		try {
+			if (!DBUtils.isEmptyString(timeToLiveStr)) {
+				timeToLive = Long.parseLong(timeToLiveStr.trim());
+			}
+			if (!DBUtils.isEmptyString(maxSizeStr)) {
+				maxSize = Long.parseLong(maxSizeStr.trim());
+			}
+		} catch (NumberFormatException e) {
+			throw new DataServiceFault(e, "Invalid cache definition in query: " + getQueryId(queryEl));
+		}
+		if (timeToLive <= 0 || maxSize <= 0) {
+			throw new DataServiceFault("The cache time to live and size must be positive in query: " +
+					getQueryId(queryEl));
+		}
+		Set<String> tables = new HashSet<String>();
+		String tablesStr = cacheEl.getAttributeValue(new QName(DBSFields.CACHE_TABLES));
+		if (!DBUtils.isEmptyString(tablesStr)) {
+			for (String table : tablesStr.split(",")) {
+				if (table.trim().length() > 0) {
+					tables.add(table.trim());
+				}
+			}
+		}
+		return new QueryResultCache.CacheConfig(TimeUnit.SECONDS.toMillis(timeToLive), maxSize, tables);
+	}
+
 	private static String getConfigId(OMElement queryEl) {
 		String configId = queryEl.getAttributeValue(new QName(DBSFields.USE_CONFIG));
 		if (configId == null) {
@@ -1003,6 +1041,7 @@ public class QueryFactory {
 	    /* create the XML mapping from the JSON mapping */
 		resultEl = getJSONResultFromText(resultEl.getText());
 		result.setResultType(ResultTypes.XML);
+		result.setJsonMapping(true);
 		/* process the XML mapping */
 		populateXMLResult(result, dataService, resultEl, namespace, isCaseSensitive);
 	}
@@ -17,24 +17,130 @@
  */
 package org.wso2.micro.integrator.dataservices.core.description.query;
 
-import org.wso2.micro.integrator.dataservices.core.DataServiceConnection;import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.DataServiceConnection;
+import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * This class represents a SQL data services connection.
  */
 public class SQLDataServicesConnection implements DataServiceConnection {
 
+    private static final int STATEMENT_CACHE_SIZE = Integer.getInteger(DBConstants.DSS_STATEMENT_CACHE_SIZE, 32);
+
     private Connection jdbcConn;
     private boolean isXA;
 
+    /* idle prepared statements of this connection, keyed by their statement type and processed SQL */
+    private Map<String, PreparedStatement> statementCache;
+
+    /* cacheable statements which are currently in use -> their keys */
+    private Map<PreparedStatement, String> statementsInUse;
+
     public SQLDataServicesConnection(Connection jdbcConn, boolean isXA) {
         this.jdbcConn = jdbcConn;
         this.isXA = isXA;
     }
 
+    /**
+     * Takes an idle prepared statement out of the statement cache, a statement is never shared by
+     * two executions which are in progress at the same time, e.g. an outer query and its nested query.
+     *
+     * @param key Statement key
+     * @return The cached statement, or null if there is none
+     */
+    public synchronized PreparedStatement takeCachedStatement(String key) {
+        if (this.statementCache == null) {
+            return null;
+        }
+        PreparedStatement stmt = this.statementCache.remove(key);
+        if (stmt != null) {
+            this.trackStatement(key, stmt);
+        }
+        return stmt;
+    }
+
+    /**
+     * Marks a newly prepared statement as cacheable under the given key once its execution has finished.
+     *
+     * @param key  Statement key
+     * @param stmt Prepared statement
+     */
+    public synchronized void trackStatement(String key, PreparedStatement stmt) {
+        if (STATEMENT_CACHE_SIZE > 0) {
+            if (this.statementsInUse == null) {
+                this.statementsInUse = new IdentityHashMap<PreparedStatement, String>();
+            }
+            this.statementsInUse.put(stmt, key);
+        }
+    }
+
+    /**
+     * Returns a statement whose execution has finished to the statement cache. The statement is
+     * closed instead if it is not cacheable, if it is not reusable or if the cache already holds a
+     * statement with the same key.
+     *
+     * @param stmt     Statement whose execution has finished
+     * @param reusable Whether the execution completed normally
+     */
+    public synchronized void releaseStatement(PreparedStatement stmt, boolean reusable) {
+        String key = this.statementsInUse != null ? this.statementsInUse.remove(stmt) : null;
+        if (key != null && reusable) {
+            if (this.statementCache == null) {
+                this.statementCache = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                        if (size() > STATEMENT_CACHE_SIZE) {
+                            closeStatement(eldest.getValue());
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+            }
+            try {
+                stmt.clearParameters();
+                if (!this.statementCache.containsKey(key)) {
+                    this.statementCache.put(key, stmt);
+                    return;
+                }
+            } catch (SQLException ignore) {
+                // the statement is not reusable
+            }
+        }
+        closeStatement(stmt);
+    }
+
+    private synchronized void closeCachedStatements() {
+        if (this.statementCache != null) {
+            List<PreparedStatement> statements = new ArrayList<PreparedStatement>(this.statementCache.values());
+            this.statementCache.clear();
+            for (PreparedStatement stmt : statements) {
+                closeStatement(stmt);
+            }
+        }
+        if (this.statementsInUse != null) {
+            this.statementsInUse.clear();
+        }
+    }
+
+    private static void closeStatement(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (Exception ignore) {
+            // ignore
+        }
+    }
+
     @Override
     public void commit() throws DataServiceFault {
         try {
@@ -59,6 +165,7 @@ public class SQLDataServicesConnection implements DataServiceConnection {
 
     @Override
     public void close() throws DataServiceFault {
+        this.closeCachedStatements();
         try {
             if (!this.jdbcConn.isClosed()) {
                 this.jdbcConn.close();
@@ -37,6 +37,7 @@ import org.wso2.micro.integrator.dataservices.core.description.config.SQLConfig;
 import org.wso2.micro.integrator.dataservices.core.description.event.EventTrigger;
 import org.wso2.micro.integrator.dataservices.core.dispatch.BatchDataServiceRequest;
 import org.wso2.micro.integrator.dataservices.core.dispatch.BatchRequestParticipant;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.micro.integrator.dataservices.core.dispatch.DispatchStatus;
 import org.wso2.micro.integrator.dataservices.core.engine.DataEntry;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
@@ -81,10 +82,15 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.wso2.micro.integrator.dataservices.core.DBUtils.unwrap;
 
@@ -101,6 +107,11 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
 
     public static final int ORACLE_REF_CURSOR_TYPE = -10;
 
+    /* matches the table modified by an insert, update, delete, merge or truncate statement */
+    private static final Pattern MODIFIED_TABLE_PATTERN = Pattern.compile(
+            "^\\s*(?:INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO|MERGE\\s+INTO|UPDATE|DELETE\\s+FROM|DELETE|"
+                    + "TRUNCATE\\s+TABLE)\\s+([^\\s(,;]+)", Pattern.CASE_INSENSITIVE);
+
     private SQLConfig config;
 
     private int queryType;
@@ -157,20 +168,30 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
 
     private QueryType sqlQueryType;
 
+    private Set<String> modifiedTables;
+
+    private boolean hasOptionalParams;
+
+    /* processed SQL of queries with array parameters, keyed by the query and the sizes of the array values */
+    private final Map<String, String> processedQueryCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > PROCESSED_QUERY_CACHE_SIZE;
+                }
+            });
+
+    private static final int PROCESSED_QUERY_CACHE_SIZE = 64;
+
     /**
-     * thread local variable to keep the ordinal of the ref cursor if there is any
+     * key of the ordinal of the ref cursor if there is any, in the execution context of the request
      */
-
-    private static ThreadLocal<Integer> currentRefCursorOrdinal = new ThreadLocal<Integer>();
+    private static final Object CURRENT_REF_CURSOR_ORDINAL_KEY = new Object();
 
     /**
-     * thread local variable to keep a PreparedStatement in batch processing
+     * key of the PreparedStatement kept in batch processing, in the execution context of the request
      */
-    private ThreadLocal<PreparedStatement> batchPreparedStatement = new ThreadLocal<PreparedStatement>() {
-        protected synchronized PreparedStatement initialValue() {
-            return null;
-        }
-    };
+    private final Object batchPreparedStatementKey = new Object();
 
     public SQLQuery(DataService dataService, String queryId, String configId, boolean returnGeneratedKeys,
                     boolean returnUpdatedRowCount, String[] keyColumns, String query, List<QueryParam> queryParams,
@@ -188,15 +209,21 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
             throw new DataServiceFault(e, "Configuration is not an SQL config:"
                     + this.getConfigId());
         }
+        for (QueryParam queryParam : this.getQueryParams()) {
+            if (queryParam.isOptional()) {
+                this.hasOptionalParams = true;
+                break;
+            }
+        }
         this.init(query);
     }
 
     public static int getCurrentRefCursorOrdinal() {
-        return currentRefCursorOrdinal.get();
+        return (Integer) DataServiceExecutionContext.getCurrent().getAttribute(CURRENT_REF_CURSOR_ORDINAL_KEY);
     }
 
     public static void setCurrentRefCursorOrdinal(int ordinal) {
-        currentRefCursorOrdinal.set(ordinal);
+        DataServiceExecutionContext.getCurrent().setAttribute(CURRENT_REF_CURSOR_ORDINAL_KEY, ordinal);
     }
 
     @Override
@@ -212,6 +239,7 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         this.checkRefCursor(this.getQueryParams());
         /* check for existence of any SQL Arrays */
         this.hasOutParams = this.getOutQueryParams().size() > 0;
+        this.modifiedTables = this.extractModifiedTables(this.getQuery());
         /*
          * Create Calendar instance with "UTC" time zone
          * to use when setting timestamp for prepared statements
@@ -393,11 +421,12 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
     }
 
     private PreparedStatement getBatchPreparedStatement() {
-        return batchPreparedStatement.get();
+        return (PreparedStatement) DataServiceExecutionContext.getCurrent().getAttribute(
+                this.batchPreparedStatementKey);
     }
 
     private void setBatchPreparedStatement(PreparedStatement val) {
-        batchPreparedStatement.set(val);
+        DataServiceExecutionContext.getCurrent().setAttribute(this.batchPreparedStatementKey, val);
     }
 
     public String[] getKeyColumns() {
@@ -666,6 +695,10 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
      * @see Connection
      */
     private Connection createConnection(int queryLevel) throws DataServiceFault {
+        return this.createDataServicesConnection(queryLevel).getJDBCConnection();
+    }
+
+    private SQLDataServicesConnection createDataServicesConnection(int queryLevel) throws DataServiceFault {
         try {
             String[] creds = this.lookupConnectionCredentials();
             Connection connection;
@@ -695,7 +728,7 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                     break;
                 }
             }
-            return connection;
+            return (SQLDataServicesConnection) dsCon;
         } catch (SQLException e) {
             throw new DataServiceFault(e, FaultCodes.DATABASE_ERROR, "Error in opening DBMS connection.");
         }
@@ -776,11 +809,12 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                                          int queryLevel) throws DataServiceFault {
         PreparedStatement stmt = null;
         ResultSet rs = null;
+        SQLDataServicesConnection dsCon = null;
         boolean isError = false;
         try {
-            Connection conn = this.createConnection(queryLevel);
+            dsCon = this.createDataServicesConnection(queryLevel);
             stmt = this.createProcessedPreparedStatement(
-                    SQLQuery.DS_QUERY_TYPE_NORMAL, params, conn);
+                    SQLQuery.DS_QUERY_TYPE_NORMAL, params, dsCon.getJDBCConnection(), dsCon);
             /* check if this is a batch request */
             if (this.isJDBCFirstBatchRequest()) {
                 this.setBatchPreparedStatement(stmt);
@@ -803,7 +837,7 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
             } else {
                 rs = stmt.executeQuery();
             }
-            return new QueryResultInfo(stmt, rs);
+            return new QueryResultInfo(stmt, rs, dsCon);
         } catch (NumberFormatException e) {
             isError = true;
             throw new DataServiceFault(e, FaultCodes.INCOMPATIBLE_PARAMETERS_ERROR,
@@ -818,7 +852,7 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                 log.debug("Stopping DB calls: ThreadID - " + Thread.currentThread().getId());
             }
             if (isError) {
-                this.releaseResources(rs, this.isStatementClosable(isError) ? stmt : null);
+                this.releaseResources(rs, this.isStatementClosable(isError) ? stmt : null, dsCon, isError);
             }
         }
     }
@@ -861,7 +895,8 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
             throw new DataServiceFault(e, FaultCodes.DATABASE_ERROR,
                                        "Error in 'SQLQuery.processPostNormalQuery': " + e.getMessage());
         } finally {
-            this.releaseResources(rs, this.isStatementClosable(isError) ? stmt : null);
+            this.releaseResources(rs, this.isStatementClosable(isError) ? stmt : null,
+                                  resultInfo.getConnection(), isError);
         }
     }
 
@@ -893,9 +928,17 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
 
         private ResultSet resultSet;
 
+        private SQLDataServicesConnection connection;
+
         public QueryResultInfo(PreparedStatement statement, ResultSet resultSet) {
+            this(statement, resultSet, null);
+        }
+
+        public QueryResultInfo(PreparedStatement statement, ResultSet resultSet,
+                               SQLDataServicesConnection connection) {
             this.statement = statement;
             this.resultSet = resultSet;
+            this.connection = connection;
         }
 
         public Statement getStatement() {
@@ -906,6 +949,14 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
             return resultSet;
         }
 
+        /**
+         * The connection whose statement cache the statement is returned to, null for statements which
+         * are not cached.
+         */
+        public SQLDataServicesConnection getConnection() {
+            return connection;
+        }
+
     }
 
     private boolean isRSClosed(ResultSet rs) throws SQLException {
@@ -930,7 +981,7 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         try {
             Connection conn = this.createConnection(queryLevel);
             stmt = (CallableStatement) this.createProcessedPreparedStatement(
-                    SQLQuery.DS_QUERY_TYPE_STORED_PROC, params, conn);
+                    SQLQuery.DS_QUERY_TYPE_STORED_PROC, params, conn, null);
             /* check if this is a batch request */
             if (this.isJDBCFirstBatchRequest()) {
                 this.setBatchPreparedStatement(stmt);
@@ -1046,6 +1097,20 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         return (isError || !this.isJDBCBatchRequest() || this.isJDBCLastBatchRequest());
     }
 
+    /**
+     * Releases the resources of a normal query execution, a statement taken from or tracked by the statement
+     * cache of the connection is returned to the cache for reuse within the same connection.
+     */
+    private void releaseResources(ResultSet rs, PreparedStatement stmt, SQLDataServicesConnection dsCon,
+                                  boolean isError) {
+        if (dsCon == null || stmt == null) {
+            this.releaseResources(rs, stmt);
+            return;
+        }
+        this.releaseResources(rs, null);
+        dsCon.releaseStatement(stmt, !isError);
+    }
+
     private void releaseResources(ResultSet rs, Statement stmt) {
         /* close the result set */
         if (rs != null) {
@@ -1393,30 +1458,24 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         return result.toArray(new Integer[result.size()]);
     }
 
-    private PreparedStatement createProcessedPreparedStatement(int queryType,
-                                                               InternalParamCollection params, Connection conn) throws
-                                                                                                                DataServiceFault {
+    /**
+     * Creates the prepared statement of this query for the given parameters.
+     *
+     * @param dsCon The connection whose statement cache is used for normal queries, or null to always prepare a
+     *              new statement
+     */
+    private PreparedStatement createProcessedPreparedStatement(int queryType, InternalParamCollection params,
+                                                               Connection conn, SQLDataServicesConnection dsCon)
+            throws DataServiceFault {
         try {
             /*Creating a new update query based on the parameters passed in the payload, checking whether the missing
              parameters are optional*/
             String query = this.getQuery();
 
-            boolean hasOptional = false;
-            for (QueryParam queryParam : this.getQueryParams()) {
-                if (queryParam.isOptional()) {
-                    hasOptional = true;
-                    break;
-                }
-            }
-
-            if (getSqlQueryType() == QueryType.UPDATE && hasOptional) {
+            if (getSqlQueryType() == QueryType.UPDATE && this.hasOptionalParams()) {
                 query = generateSQLupdateQuery(params, query);
             }
 
-            String paramsStr1 = "";
-            for (int i = 1; i <= this.getParamCount(); i++) {
-                paramsStr1 = paramsStr1 + params.getParam(i) + ",";
-            }
             /*
              * lets see first if there's already a batch prepared statement
              * created
@@ -1431,16 +1490,25 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                 Object[] result = this.processDynamicQuery(query, params);
                 String dynamicSQL = (String) result[0];
                 currentParamCount = (Integer) result[1];
-                String processedSQL = this.createProcessedQuery(dynamicSQL, params, currentParamCount);
+                String processedSQL = this.getProcessedQuery(dynamicSQL, params, currentParamCount);
                 if (log.isDebugEnabled()) {
-                    String paramsStr = "";
+                    StringBuilder paramsStr = new StringBuilder();
                     for (int i = 1; i <= this.getParamCount(); i++) {
-                        paramsStr = paramsStr + params.getParam(i) + ",";
+                        paramsStr.append(params.getParam(i)).append(',');
                     }
                     log.debug("Starting DB calls: for \"" + processedSQL + "\" with params - " + paramsStr +
                               ", ThreadID - " + Thread.currentThread().getId());
                 }
-                if (queryType == SQLQuery.DS_QUERY_TYPE_NORMAL) {
+                String statementKey = null;
+                if (dsCon != null && queryType == SQLQuery.DS_QUERY_TYPE_NORMAL && !this.isJDBCBatchRequest()) {
+                    statementKey = this.getStatementKey(processedSQL);
+                    stmt = dsCon.takeCachedStatement(statementKey);
+                }
+                if (stmt != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Reusing the cached prepared statement for \"" + processedSQL + "\"");
+                    }
+                } else if (queryType == SQLQuery.DS_QUERY_TYPE_NORMAL) {
                     if (this.isReturnGeneratedKeys()) {
                         if (this.getKeyColumns() != null) {
                             stmt = conn.prepareStatement(processedSQL, this.getKeyColumns());
@@ -1451,6 +1519,9 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
                     } else {
                         stmt = conn.prepareStatement(processedSQL);
                     }
+                    if (statementKey != null) {
+                        dsCon.trackStatement(statementKey, stmt);
+                    }
                 } else if (queryType == SQLQuery.DS_QUERY_TYPE_STORED_PROC) {
                     stmt = conn.prepareCall(processedSQL);
                 } else {
@@ -1538,6 +1609,40 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         }
     }
 
+    private boolean hasOptionalParams() {
+        return hasOptionalParams;
+    }
+
+    /**
+     * Returns the query expanded for the array parameters as done by createProcessedQuery. The expansion only
+     * depends on the sizes of the array values, so it is cached by those, and queries without array values are
+     * used as they are.
+     */
+    private String getProcessedQuery(String query, InternalParamCollection params, int paramCount) {
+        StringBuilder shape = null;
+        InternalParam param;
+        for (int i = 1; i <= paramCount; i++) {
+            param = params.getParam(i);
+            if (param != null && param.getValue() != null &&
+                    param.getValue().getValueType() == ParamValue.PARAM_VALUE_ARRAY) {
+                if (shape == null) {
+                    shape = new StringBuilder(query).append('\u0000');
+                }
+                shape.append(i).append('=').append(param.getValue().getArrayValue().size()).append(',');
+            }
+        }
+        if (shape == null) {
+            return query;
+        }
+        String key = shape.toString();
+        String processedQuery = this.processedQueryCache.get(key);
+        if (processedQuery == null) {
+            processedQuery = this.createProcessedQuery(query, params, paramCount);
+            this.processedQueryCache.put(key, processedQuery);
+        }
+        return processedQuery;
+    }
+
     private String generateSQLupdateQuery(InternalParamCollection params, String query) {
 
         String referenceName = "";
@@ -2405,8 +2510,8 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
 
     @Override
     public void releaseBatchRequestResources() {
-        /* clear the TL batch prepared statement */
-        this.batchPreparedStatement.set(null);
+        /* clear the batch prepared statement of the request */
+        this.setBatchPreparedStatement(null);
     }
 
     private void setAutoCommit(Connection conn, boolean autoCommit) throws SQLException {
@@ -2567,6 +2672,54 @@ public class SQLQuery extends ExpressionQuery implements BatchRequestParticipant
         }
     }
 
+    /**
+     * Returns the key of the prepared statements of the given SQL in the statement cache of the
+     * connection. The settings applied to a new statement are part of the key, so a cached
+     * statement is only reused by queries that apply the same settings to it.
+     *
+     * @param processedSQL The processed SQL of the statement
+     * @return The statement cache key
+     */
+    private String getStatementKey(String processedSQL) {
+        int fetchSize = -1;
+        if (this.isHasFetchSize()) {
+            fetchSize = this.getFetchSize();
+        } else if (!this.hasOutParams() && this.getFetchSizeProperty().isChangeFetchSize()) {
+            fetchSize = this.getFetchSizeProperty().getFetchSize();
+        }
+        StringBuilder key = new StringBuilder();
+        key.append(this.isReturnGeneratedKeys() ? "K" + Arrays.toString(this.getKeyColumns()) : "N");
+        key.append(':').append(this.isHasQueryTimeout() ? this.getQueryTimeout() : -1);
+        key.append(':').append(this.isHasFetchDirection() ? this.getFetchDirection() : -1);
+        key.append(':').append(fetchSize);
+        key.append(':').append(this.isHasMaxFieldSize() ? this.getMaxFieldSize() : -1);
+        key.append(':').append(this.isHasMaxRows() ? this.getMaxRows() : -1);
+        return key.append(':').append(processedSQL).toString();
+    }
+
+    private Set<String> extractModifiedTables(String query) {
+        Matcher matcher = MODIFIED_TABLE_PATTERN.matcher(query);
+        if (matcher.find()) {
+            return Collections.singleton(matcher.group(1));
+        }
+        if (this.getQueryType() == DS_QUERY_TYPE_NORMAL && this.getSqlQueryType() == QueryType.SELECT) {
+            return Collections.emptySet();
+        }
+        /* stored procedures and other statements may modify any table, even when they return a result */
+        return null;
+    }
+
+    @Override
+    public Set<String> getModifiedTables() {
+        return modifiedTables;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return this.getQueryType() == DS_QUERY_TYPE_NORMAL && this.getSqlQueryType() == QueryType.SELECT
+                && this.modifiedTables.isEmpty();
+    }
+
     public QueryType getSqlQueryType() {
 
         return sqlQueryType;
@@ -27,6 +27,7 @@ import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 import org.wso2.micro.integrator.dataservices.core.TLConnectionStore;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
 import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
 import org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingCollector;
 
 import static org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingConstants.MULTI_REQUEST_LAST_INDEX_PROPERTY;
@@ -41,16 +42,6 @@ public class BatchDataServiceRequest extends DataServiceRequest {
 	 */
 	private List<SingleDataServiceRequest> dsRequests;
 
-	/**
-	 * This is used to keep the dependent entities, whose cleanup methods must be called after a batch
-	 * request is done.
-	 */
-	private static ThreadLocal<List<BatchRequestParticipant>> batchRequestParticipant = new ThreadLocal<List<BatchRequestParticipant>>() {
-		protected synchronized List<BatchRequestParticipant> initialValue() {
-			return new ArrayList<BatchRequestParticipant>();
-		}
-	};
-
 	public BatchDataServiceRequest(DataService dataService, String requestName,
                                    List<Map<String, ParamValue>> batchParams) throws DataServiceFault {
 		super(dataService, requestName);
@@ -61,12 +52,15 @@ public class BatchDataServiceRequest extends DataServiceRequest {
 		}
 	}
 
+	/**
+	 * Adds a dependent entity, whose cleanup method must be called after the current batch request is done.
+	 */
 	public static void addParticipant(BatchRequestParticipant participant) {
-		batchRequestParticipant.get().add(participant);
+		getParticipants().add(participant);
 	}
 
 	private static List<BatchRequestParticipant> getParticipants() {
-		return batchRequestParticipant.get();
+		return DataServiceExecutionContext.getCurrent().getBatchRequestParticipants();
 	}
 
 	private static void releaseParticipantResources() {
@@ -99,19 +93,19 @@ public class BatchDataServiceRequest extends DataServiceRequest {
 			DispatchStatus.setBatchRequest();
 			List<SingleDataServiceRequest> requests = this.getDSRequests();
 			int count = requests.size();
-			/* set the batch request count in TL */
+			/* set the batch request count in the request context */
 			DispatchStatus.setBatchRequestCount(count);
 			/* dispatch individual requests */
 			OMElement result = null;
 			for (int i = 0; i < count; i++) {
-				/* set the current batch request number in TL */
+				/* set the current batch request number in the request context */
 			    DispatchStatus.setBatchRequestNumber(i);
 				/* execute/enqueue request */
                 DataServicesTracingCollector.reportMultiEvent(messageContext, i, requests.get(i));
                 if (messageContext != null){
                     messageContext.setProperty(MULTI_REQUEST_LAST_INDEX_PROPERTY, i);
                 }
-                OMElement element = requests.get(i).dispatch(messageContext);
+                OMElement element = requests.get(i).dispatch(messageContext, this.getExecutionContext());
                 DataServicesTracingCollector.closeMultiEvent(messageContext, i, element);
 				if (element != null && element.getFirstOMChild() != null) {
 					result = element;
@@ -151,6 +145,7 @@ public class BatchDataServiceRequest extends DataServiceRequest {
             }
             TLConnectionStore.closeAll();
         }
+        QueryResultCache.completeTransaction();
 	}
 
 }
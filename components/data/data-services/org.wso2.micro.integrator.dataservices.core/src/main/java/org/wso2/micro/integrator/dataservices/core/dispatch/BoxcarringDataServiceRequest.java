@@ -27,6 +27,7 @@ import org.wso2.micro.integrator.dataservices.core.DBUtils;
 import org.wso2.micro.integrator.dataservices.core.DSSessionManager;
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
 import org.wso2.micro.integrator.dataservices.core.TLConnectionStore;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
 import org.wso2.micro.integrator.dataservices.core.boxcarring.TLParamStore;
 
 /**
@@ -111,6 +112,7 @@ public class BoxcarringDataServiceRequest extends DataServiceRequest {
                 this.getDataService().getDSSTxManager().commit();
             }
         }
+        QueryResultCache.completeTransaction();
     }
 	
 	private OMElement createBoxcarringRequestResultWrapper() {
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.dispatch;
+
+import org.wso2.micro.integrator.dataservices.core.DataServiceConnection;
+import org.wso2.micro.integrator.dataservices.core.DataServiceUser;
+import org.wso2.micro.integrator.dataservices.core.engine.InternalParamCollection;
+import org.wso2.micro.integrator.dataservices.core.engine.ParamValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds the state of a data service request while it is executed, such as the open
+ * connections, the exported parameters, the batch/boxcarring status and the state of the queries
+ * between the phases of their execution. A context is created for each request and carried through
+ * {@link DataServiceRequest#dispatch(org.apache.axis2.context.MessageContext, DataServiceExecutionContext)},
+ * and it is bound to the thread which is running the request only for the duration of a call, so a
+ * request can be continued in a different thread, e.g. when a streamed result is serialized later.
+ * <p>
+ * A context is not thread safe, it must only be used by one thread at a time.
+ */
+public class DataServiceExecutionContext {
+
+    /* the context of the request the current thread is working on */
+    private static final ThreadLocal<DataServiceExecutionContext> boundContext =
+            new ThreadLocal<DataServiceExecutionContext>();
+
+    /* the context used when the engine is called without binding a context, e.g. by tools which
+     * call data services directly, this keeps the earlier per thread behavior for such callers */
+    private static final ThreadLocal<DataServiceExecutionContext> defaultContext =
+            new ThreadLocal<DataServiceExecutionContext>() {
+        @Override
+        protected DataServiceExecutionContext initialValue() {
+            return new DataServiceExecutionContext();
+        }
+    };
+
+    private final Map<String, DataServiceConnection> connections = new HashMap<String, DataServiceConnection>();
+
+    private final Map<String, ParamValue> exportedParams = new HashMap<String, ParamValue>();
+
+    private final List<BatchRequestParticipant> batchRequestParticipants = new ArrayList<BatchRequestParticipant>();
+
+    /* state kept by individual engine components, keyed by an object owned by the component */
+    private final Map<Object, Object> attributes = new IdentityHashMap<Object, Object>();
+
+    private DataServiceUser currentUser;
+
+    private boolean batchRequest;
+
+    private boolean boxcarringRequest;
+
+    private int batchRequestCount;
+
+    private int batchRequestNumber;
+
+    private boolean queryPreprocessInitial;
+
+    private boolean queryPreprocessSecondary;
+
+    private Object queryPreprocessObject = new Object();
+
+    private InternalParamCollection currentInternalParams;
+
+    /**
+     * Returns the context of the request the current thread is working on.
+     *
+     * @return the bound context, or the default context of the current thread if none is bound
+     */
+    public static DataServiceExecutionContext getCurrent() {
+        DataServiceExecutionContext context = boundContext.get();
+        if (context == null) {
+            context = defaultContext.get();
+        }
+        return context;
+    }
+
+    /**
+     * Returns the context bound to the current thread.
+     *
+     * @return the bound context, or null if none is bound
+     */
+    public static DataServiceExecutionContext getBound() {
+        return boundContext.get();
+    }
+
+    /**
+     * Binds this context to the current thread. The returned context must be given to
+     * {@link #unbind(DataServiceExecutionContext)} once the call is done.
+     *
+     * @return the context which was bound earlier, or null if none was bound
+     */
+    public DataServiceExecutionContext bind() {
+        DataServiceExecutionContext previous = boundContext.get();
+        boundContext.set(this);
+        return previous;
+    }
+
+    /**
+     * Restores the binding of the current thread, after a call done with {@link #bind()}.
+     *
+     * @param previous the context returned by {@link #bind()}
+     */
+    public static void unbind(DataServiceExecutionContext previous) {
+        if (previous == null) {
+            boundContext.remove();
+        } else {
+            boundContext.set(previous);
+        }
+    }
+
+    public Map<String, DataServiceConnection> getConnections() {
+        return connections;
+    }
+
+    public Map<String, ParamValue> getExportedParams() {
+        return exportedParams;
+    }
+
+    public List<BatchRequestParticipant> getBatchRequestParticipants() {
+        return batchRequestParticipants;
+    }
+
+    public Object getAttribute(Object key) {
+        return attributes.get(key);
+    }
+
+    public void setAttribute(Object key, Object value) {
+        if (value == null) {
+            attributes.remove(key);
+        } else {
+            attributes.put(key, value);
+        }
+    }
+
+    public DataServiceUser getCurrentUser() {
+        return currentUser;
+    }
+
+    public void setCurrentUser(DataServiceUser currentUser) {
+        this.currentUser = currentUser;
+    }
+
+    public boolean isBatchRequest() {
+        return batchRequest;
+    }
+
+    public void setBatchRequest(boolean batchRequest) {
+        this.batchRequest = batchRequest;
+    }
+
+    public boolean isBoxcarringRequest() {
+        return boxcarringRequest;
+    }
+
+    public void setBoxcarringRequest(boolean boxcarringRequest) {
+        this.boxcarringRequest = boxcarringRequest;
+    }
+
+    public int getBatchRequestCount() {
+        return batchRequestCount;
+    }
+
+    public void setBatchRequestCount(int batchRequestCount) {
+        this.batchRequestCount = batchRequestCount;
+    }
+
+    public int getBatchRequestNumber() {
+        return batchRequestNumber;
+    }
+
+    public void setBatchRequestNumber(int batchRequestNumber) {
+        this.batchRequestNumber = batchRequestNumber;
+    }
+
+    public boolean isQueryPreprocessInitial() {
+        return queryPreprocessInitial;
+    }
+
+    public void setQueryPreprocessInitial(boolean queryPreprocessInitial) {
+        this.queryPreprocessInitial = queryPreprocessInitial;
+    }
+
+    public boolean isQueryPreprocessSecondary() {
+        return queryPreprocessSecondary;
+    }
+
+    public void setQueryPreprocessSecondary(boolean queryPreprocessSecondary) {
+        this.queryPreprocessSecondary = queryPreprocessSecondary;
+    }
+
+    public Object getQueryPreprocessObject() {
+        return queryPreprocessObject;
+    }
+
+    public void setQueryPreprocessObject(Object queryPreprocessObject) {
+        this.queryPreprocessObject = queryPreprocessObject;
+    }
+
+    public InternalParamCollection getCurrentInternalParams() {
+        return currentInternalParams;
+    }
+
+    public void setCurrentInternalParams(InternalParamCollection currentInternalParams) {
+        this.currentInternalParams = currentInternalParams;
+    }
+
+}
@@ -75,6 +75,11 @@ public abstract class DataServiceRequest {
 	 * Disable streaming flag
 	 */
 	private boolean disableStreaming;
+
+	/**
+	 * The execution context the request is dispatched with
+	 */
+	private DataServiceExecutionContext executionContext;
 	
 	protected DataServiceRequest(DataService dataService, String requestName)
             throws DataServiceFault {
@@ -351,31 +356,56 @@ public abstract class DataServiceRequest {
     	return userRoles;
     }
     
+	public DataServiceExecutionContext getExecutionContext() {
+		return executionContext;
+	}
+
+	/**
+	 * Dispatches the current request with the execution context of the request the current thread
+	 * is working on, see {@link #dispatch(MessageContext, DataServiceExecutionContext)}.
+	 * @return The result of the request invocation
+	 * @throws DataServiceFault
+	 */
+    public OMElement dispatch(MessageContext messageContext) throws DataServiceFault {
+        return dispatch(messageContext, DataServiceExecutionContext.getCurrent());
+    }
+
 	/**
 	 * Dispatches the current request. This method does common dispatching logic and call the 
      * request type specific {@link DataServiceRequest}{@link #processRequest(MessageContext messageContext)} method.
+     * The given execution context holds the state of the request, and it is bound to the current
+     * thread while the request is processed.
+     * @param messageContext Axis2 message context of the request
+     * @param executionContext The execution context of the request
 	 * @return The result of the request invocation
 	 * @throws DataServiceFault
 	 */
-    public OMElement dispatch(MessageContext messageContext) throws DataServiceFault {
-		/* set user */
-		if (this.getUserRoles() != null) {
-			DataServiceUser currentUser = new DataServiceUser(this.getUser(),
-                                                              new HashSet<String>(Arrays.asList(this.getUserRoles())));
-			DataService.setCurrentUser(currentUser);
-		}		
-		
-		/* request specific processing */
-        OMElement result = this.processRequest(messageContext);
-		/* check disable streaming */
-		if (this.isDisableStreaming()) {
-			/* if result is of type OMSourcedElementImpl, that means,
-			 * it is still in streaming mode, result.isComplete does not work */
-			if (result instanceof OMSourcedElementImpl) {
-				result = DBUtils.cloneAndReturnBuiltElement(result);
+    public OMElement dispatch(MessageContext messageContext, DataServiceExecutionContext executionContext)
+            throws DataServiceFault {
+		this.executionContext = executionContext;
+		DataServiceExecutionContext previousContext = executionContext.bind();
+		try {
+			/* set user */
+			if (this.getUserRoles() != null) {
+				DataServiceUser currentUser = new DataServiceUser(this.getUser(),
+						new HashSet<String>(Arrays.asList(this.getUserRoles())));
+				executionContext.setCurrentUser(currentUser);
+			}
+
+			/* request specific processing */
+			OMElement result = this.processRequest(messageContext);
+			/* check disable streaming */
+			if (this.isDisableStreaming()) {
+				/* if result is of type OMSourcedElementImpl, that means,
+				 * it is still in streaming mode, result.isComplete does not work */
+				if (result instanceof OMSourcedElementImpl) {
+					result = DBUtils.cloneAndReturnBuiltElement(result);
+				}
 			}
+			return result;
+		} finally {
+			DataServiceExecutionContext.unbind(previousContext);
 		}
-		return result;
 	}
 
     /**
@@ -18,85 +18,60 @@
 package org.wso2.micro.integrator.dataservices.core.dispatch;
 
 /**
- * This class contains operations to find out the current dispatch status.
+ * This class contains operations to find out the current dispatch status, the status is kept in
+ * the {@link DataServiceExecutionContext} of the request being executed.
  */
 public class DispatchStatus {
 
-    private static ThreadLocal<Boolean> batchRequest = new ThreadLocal<Boolean>() {
-        @Override
-        protected synchronized Boolean initialValue() {
-            return false;
-        }
-    };
-
-    private static ThreadLocal<Boolean> boxcarringRequest = new ThreadLocal<Boolean>() {
-        @Override
-        protected synchronized Boolean initialValue() {
-            return false;
-        }
-    };
-
-    /**
-     * thread local variable to keep the current batch request size
-     */
-    private static ThreadLocal<Integer> batchRequestCount = new ThreadLocal<Integer>() {
-        protected synchronized Integer initialValue() {
-            return 0;
-        }
-    };
-
-    /**
-     * thread local variable to keep the current batch request number, 0 based
-     */
-    private static ThreadLocal<Integer> batchRequestNumber = new ThreadLocal<Integer>() {
-        protected synchronized Integer initialValue() {
-            return 0;
-        }
-    };
+    private static DataServiceExecutionContext getContext() {
+        return DataServiceExecutionContext.getCurrent();
+    }
 
     public static void clearRequestStatus() {
-        batchRequest.set(false);
-        boxcarringRequest.set(false);
-        batchRequestCount.set(0);
-        batchRequestNumber.set(0);
+        DataServiceExecutionContext context = getContext();
+        context.setBatchRequest(false);
+        context.setBoxcarringRequest(false);
+        context.setBatchRequestCount(0);
+        context.setBatchRequestNumber(0);
     }
 
     public static void clearBatchRequestStatus() {
-        batchRequest.set(false);
-        batchRequestCount.set(0);
-        batchRequestNumber.set(0);
+        DataServiceExecutionContext context = getContext();
+        context.setBatchRequest(false);
+        context.setBatchRequestCount(0);
+        context.setBatchRequestNumber(0);
     }
 
     public static void setBatchRequest() {
-        batchRequest.set(true);
+        getContext().setBatchRequest(true);
     }
     
     public static void setBoxcarringRequest() {
-        boxcarringRequest.set(true);
+        getContext().setBoxcarringRequest(true);
     }
     
     public static boolean isBatchRequest() {
-        return batchRequest.get();
+        return getContext().isBatchRequest();
     }
 
     public static int getBatchRequestCount() {
-        return batchRequestCount.get();
+        return getContext().getBatchRequestCount();
     }
 
     public static void setBatchRequestCount(int val) {
-        batchRequestCount.set(val);
+        getContext().setBatchRequestCount(val);
     }
 
     public static int getBatchRequestNumber() {
-        return batchRequestNumber.get();
+        return getContext().getBatchRequestNumber();
     }
 
     public static void setBatchRequestNumber(int val) {
-        batchRequestNumber.set(val);
+        getContext().setBatchRequestNumber(val);
     }
 
     public static boolean isBoxcarringRequest() {
-        return boxcarringRequest.get();
+        return getContext().isBoxcarringRequest();
     }
     
     public static boolean isInBatchBoxcarring() {
@@ -104,11 +79,11 @@ public class DispatchStatus {
     }
     
     public static boolean isFirstBatchRequest() {
-        return batchRequestNumber.get() == 0;
+        return getBatchRequestNumber() == 0;
     }
     
     public static boolean isLastBatchRequest() {
-        return batchRequestNumber.get() + 1 >= batchRequestCount.get();
+        return getBatchRequestNumber() + 1 >= getBatchRequestCount();
     }
     
 }
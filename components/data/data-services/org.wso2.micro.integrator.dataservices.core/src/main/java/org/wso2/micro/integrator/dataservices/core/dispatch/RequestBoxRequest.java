@@ -24,6 +24,7 @@ import org.wso2.micro.integrator.dataservices.core.TLConnectionStore;
 import org.wso2.micro.integrator.dataservices.core.boxcarring.RequestBox;
 import org.wso2.micro.integrator.dataservices.core.boxcarring.TLParamStore;
 import org.wso2.micro.integrator.dataservices.core.engine.DataService;
+import org.wso2.micro.integrator.dataservices.core.engine.QueryResultCache;
 import org.wso2.micro.integrator.dataservices.core.opentelemetry.DataServicesTracingCollector;
 
 /**
@@ -106,6 +107,7 @@ public class RequestBoxRequest extends DataServiceRequest {
                 this.getDataService().getDSSTxManager().commit();
             }
         }
+        QueryResultCache.completeTransaction();
     }
 }
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.engine;
+
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMOutputFormat;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * This class represents the JSON data source of a data service result. When serialized to a
+ * stream, the result is written directly as JSON using a {@link DSJSONStreamWriter}, while
+ * serializing to an XMLStreamWriter or reading it falls back to the wrapped XML data source.
+ */
+public class DSJSONDataSource implements OMDataSource {
+
+    private final DSOMDataSource dsomDataSource;
+
+    public DSJSONDataSource(DSOMDataSource dsomDataSource) {
+        this.dsomDataSource = dsomDataSource;
+    }
+
+    public DSOMDataSource getDSOMDataSource() {
+        return dsomDataSource;
+    }
+
+    public void serialize(OutputStream output, OMOutputFormat format) throws XMLStreamException {
+        String charSet = format != null && format.getCharSetEncoding() != null ? format.getCharSetEncoding() :
+                DBConstants.DEFAULT_CHAR_SET_TYPE;
+        try {
+            this.serialize(new BufferedWriter(new OutputStreamWriter(output, charSet)), format);
+        } catch (UnsupportedEncodingException e) {
+            throw new XMLStreamException("Unsupported character set: " + charSet, e);
+        }
+    }
+
+    public void serialize(Writer writer, OMOutputFormat format) throws XMLStreamException {
+        DSJSONStreamWriter jsonWriter = new DSJSONStreamWriter(writer);
+        this.dsomDataSource.execute(jsonWriter);
+        jsonWriter.writeEndDocument();
+        jsonWriter.flush();
+    }
+
+    public void serialize(XMLStreamWriter xmlWriter) throws XMLStreamException {
+        this.dsomDataSource.serialize(xmlWriter);
+    }
+
+    public XMLStreamReader getReader() throws XMLStreamException {
+        return this.dsomDataSource.getReader();
+    }
+
+}
@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.engine;
+
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * An {@link XMLStreamWriter} which writes data service results directly as JSON, without building
+ * an intermediate XML representation. Row elements are written as JSON arrays, wrapper elements
+ * as JSON objects and typed result elements as JSON values, where numeric and boolean XSD types
+ * are written unquoted. Namespaces, prefixes and attributes other than xsi:nil are ignored, since
+ * they do not have a JSON representation.
+ */
+public class DSJSONStreamWriter implements XMLStreamWriter {
+
+    private final Writer writer;
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private final Frame root = new Frame(null, null);
+
+    private boolean documentEnded;
+
+    public DSJSONStreamWriter(Writer writer) {
+        this.writer = writer;
+        this.frames.push(this.root);
+    }
+
+    /**
+     * Starts a JSON object member for a wrapper element. Unlike a generic element, a wrapper is
+     * always written as an object, even when the result does not contain any rows.
+     */
+    public void writeStartObject(String name) throws XMLStreamException {
+        Frame parent = this.current();
+        this.open(parent);
+        this.beginMember(parent, name);
+        this.write('{');
+        Frame frame = new Frame(name, parent);
+        frame.opened = true;
+        this.frames.push(frame);
+    }
+
+    /**
+     * Starts a row object, consecutive rows with the same name are written into a single
+     * JSON array in the enclosing object.
+     */
+    public void writeStartRow(String name) throws XMLStreamException {
+        Frame parent = this.current();
+        this.open(parent);
+        if (name.equals(parent.openArray)) {
+            this.write(',');
+        } else {
+            this.closeArray(parent);
+            if (parent.hasMembers) {
+                this.write(',');
+            }
+            this.writeString(name);
+            this.write(":[");
+            parent.hasMembers = true;
+            parent.openArray = name;
+        }
+        this.write('{');
+        Frame frame = new Frame(name, parent);
+        frame.opened = true;
+        this.frames.push(frame);
+    }
+
+    /**
+     * Writes a typed result value as a member of the current object.
+     */
+    public void writeValue(String name, ParamValue value, QName xsdType) throws XMLStreamException {
+        Frame parent = this.current();
+        this.open(parent);
+        this.beginMember(parent, name);
+        if (value == null || (value.getArrayValue() == null && value.getScalarValue() == null &&
+                value.getUdt() == null)) {
+            this.write("null");
+        } else if (value.getValueType() == ParamValue.PARAM_VALUE_ARRAY) {
+            this.write('[');
+            boolean first = true;
+            for (ParamValue val : value.getArrayValue()) {
+                if (!first) {
+                    this.write(',');
+                }
+                this.writeTypedValue(val.toString(), xsdType);
+                first = false;
+            }
+            this.write(']');
+        } else {
+            this.writeTypedValue(value.toString(), xsdType);
+        }
+    }
+
+    private void writeTypedValue(String value, QName xsdType) throws XMLStreamException {
+        if (value == null) {
+            this.write("null");
+            return;
+        }
+        String type = xsdType == null ? null : xsdType.getLocalPart();
+        if (type != null && DBConstants.XSD_NAMESPACE.equals(xsdType.getNamespaceURI())) {
+            switch (type) {
+            case "boolean":
+                String trimmed = value.trim();
+                if ("true".equalsIgnoreCase(trimmed) || "1".equals(trimmed)) {
+                    this.write("true");
+                    return;
+                } else if ("false".equalsIgnoreCase(trimmed) || "0".equals(trimmed)) {
+                    this.write("false");
+                    return;
+                }
+                break;
+            case "integer":
+            case "int":
+            case "long":
+            case "short":
+            case "byte":
+            case "decimal":
+            case "double":
+            case "float":
+                if (isJSONNumber(value)) {
+                    this.write(value.trim());
+                    return;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        this.writeString(value);
+    }
+
+    private static boolean isJSONNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty() || trimmed.charAt(0) == '+' || trimmed.charAt(trimmed.length() - 1) == '.') {
+            return false;
+        }
+        try {
+            new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        /* BigDecimal accepts forms such as ".5" and "01" which are not valid JSON numbers */
+        int start = trimmed.charAt(0) == '-' ? 1 : 0;
+        if (start >= trimmed.length() || !Character.isDigit(trimmed.charAt(start))) {
+            return false;
+        }
+        return !(trimmed.length() > start + 1 && trimmed.charAt(start) == '0' &&
+                Character.isDigit(trimmed.charAt(start + 1)));
+    }
+
+    private Frame current() {
+        return this.frames.peek();
+    }
+
+    /**
+     * Writes the opening brace of the given element's object, when it has not been opened yet.
+     * Elements are opened lazily, so that text only elements can be written as JSON strings.
+     */
+    private void open(Frame frame) throws XMLStreamException {
+        if (frame.opened) {
+            return;
+        }
+        if (frame.parent != null) {
+            this.open(frame.parent);
+            this.beginMember(frame.parent, frame.name);
+        }
+        this.write('{');
+        frame.opened = true;
+        frame.text = null;
+    }
+
+    private void beginMember(Frame parent, String name) throws XMLStreamException {
+        this.closeArray(parent);
+        if (parent.hasMembers) {
+            this.write(',');
+        }
+        this.writeString(name);
+        this.write(':');
+        parent.hasMembers = true;
+    }
+
+    private void closeArray(Frame frame) throws XMLStreamException {
+        if (frame.openArray != null) {
+            this.write(']');
+            frame.openArray = null;
+        }
+    }
+
+    private void writeString(String value) throws XMLStreamException {
+        this.write('"');
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c == '"') {
+                replacement = "\\\"";
+            } else if (c == '\\') {
+                replacement = "\\\\";
+            } else if (c == '\n') {
+                replacement = "\\n";
+            } else if (c == '\r') {
+                replacement = "\\r";
+            } else if (c == '\t') {
+                replacement = "\\t";
+            } else if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                replacement = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            if (start < i) {
+                this.write(value, start, i - start);
+            }
+            this.write(replacement);
+            start = i + 1;
+        }
+        if (start < length) {
+            this.write(value, start, length - start);
+        }
+        this.write('"');
+    }
+
+    private void write(char c) throws XMLStreamException {
+        try {
+            this.writer.write(c);
+        } catch (IOException e) {
+            throw new XMLStreamException("Error in writing JSON output", e);
+        }
+    }
+
+    private void write(String value) throws XMLStreamException {
+        this.write(value, 0, value.length());
+    }
+
+    private void write(String value, int offset, int length) throws XMLStreamException {
+        try {
+            this.writer.write(value, offset, length);
+        } catch (IOException e) {
+            throw new XMLStreamException("Error in writing JSON output", e);
+        }
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        this.open(this.current());
+        this.frames.push(new Frame(localName, this.current()));
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        this.writeStartElement(localName);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI)
+            throws XMLStreamException {
+        this.writeStartElement(localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        this.writeStartElement(localName);
+        this.writeEndElement();
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        this.writeEmptyElement(localName);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI)
+            throws XMLStreamException {
+        this.writeEmptyElement(localName);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        Frame frame = this.current();
+        if (frame == this.root) {
+            throw new XMLStreamException("No open element to end");
+        }
+        this.frames.pop();
+        if (frame.opened) {
+            this.closeArray(frame);
+            this.write('}');
+        } else {
+            this.open(frame.parent);
+            this.beginMember(frame.parent, frame.name);
+            if (frame.nil) {
+                this.write("null");
+            } else {
+                this.writeString(frame.text == null ? "" : frame.text.toString());
+            }
+        }
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        if (this.documentEnded) {
+            return;
+        }
+        while (this.current() != this.root) {
+            this.writeEndElement();
+        }
+        this.open(this.root);
+        this.closeArray(this.root);
+        this.write('}');
+        this.documentEnded = true;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        this.flush();
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        try {
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException("Error in flushing JSON output", e);
+        }
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) {
+        /* attributes do not have a JSON representation */
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value) {
+        this.writeAttribute(namespaceURI, localName, value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) {
+        Frame frame = this.current();
+        if (DBConstants.XSI_NAMESPACE.equals(namespaceURI) && DBConstants.NIL.equals(localName) && !frame.opened) {
+            frame.nil = Boolean.parseBoolean(value);
+        }
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) {
+        /* namespaces do not have a JSON representation */
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) {
+        /* namespaces do not have a JSON representation */
+    }
+
+    @Override
+    public void writeComment(String data) {
+        /* comments do not have a JSON representation */
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) {
+        /* processing instructions do not have a JSON representation */
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) {
+        /* processing instructions do not have a JSON representation */
+    }
+
+    @Override
+    public void writeCData(String data) {
+        this.writeCharacters(data);
+    }
+
+    @Override
+    public void writeDTD(String dtd) {
+        /* DTDs do not have a JSON representation */
+    }
+
+    @Override
+    public void writeEntityRef(String name) {
+        /* entity references do not have a JSON representation */
+    }
+
+    @Override
+    public void writeStartDocument() {
+        /* the document object is opened with the first member */
+    }
+
+    @Override
+    public void writeStartDocument(String version) {
+        this.writeStartDocument();
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) {
+        this.writeStartDocument();
+    }
+
+    @Override
+    public void writeCharacters(String text) {
+        Frame frame = this.current();
+        /* mixed content is not representable, text is only kept for elements without children */
+        if (text == null || frame.opened) {
+            return;
+        }
+        if (frame.text == null) {
+            frame.text = new StringBuilder(text);
+        } else {
+            frame.text.append(text);
+        }
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) {
+        this.writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public String getPrefix(String uri) {
+        return null;
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) {
+        /* namespaces do not have a JSON representation */
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) {
+        /* namespaces do not have a JSON representation */
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) {
+        /* namespaces do not have a JSON representation */
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return EmptyNamespaceContext.INSTANCE;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException("Property '" + name + "' is not supported");
+    }
+
+    /**
+     * An element which is currently open in the writer.
+     */
+    private static final class Frame {
+
+        private final String name;
+
+        private final Frame parent;
+
+        /* whether the opening brace of the element's object has been written */
+        private boolean opened;
+
+        /* whether a member has already been written to the element's object */
+        private boolean hasMembers;
+
+        /* the name of the row array which is currently open in the element's object */
+        private String openArray;
+
+        private StringBuilder text;
+
+        private boolean nil;
+
+        private Frame(String name, Frame parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+    }
+
+    private static final class EmptyNamespaceContext implements NamespaceContext {
+
+        private static final EmptyNamespaceContext INSTANCE = new EmptyNamespaceContext();
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return null;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.emptyIterator();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import org.apache.axiom.om.OMDataSource;
 import org.apache.axiom.om.OMOutputFormat;
 import org.apache.commons.io.output.NullOutputStream;
 import org.wso2.micro.integrator.dataservices.core.DBUtils;import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 
 /**
  * This class represents the data source for an OMElement,
@@ -47,12 +48,19 @@ public class DSOMDataSource implements OMDataSource {
 	private String opName;
 	
 	private Map<String, ParamValue> params;
+
+	/**
+	 * The execution context of the request which created this data source, the result may be
+	 * serialized later by a different thread, so the context is bound again when executing.
+	 */
+	private DataServiceExecutionContext executionContext;
 			
 	public DSOMDataSource(DataService dataService, String opName,
 			Map<String, ParamValue> params) {
 		this.dataService = dataService;
 		this.opName = opName;
 		this.params = params;
+		this.executionContext = DataServiceExecutionContext.getCurrent();
 	}
 	
 	public DataService getDataService() {
@@ -90,6 +98,7 @@ public class DSOMDataSource implements OMDataSource {
 	
 	public void execute(XMLStreamWriter xmlWriter)
 			throws XMLStreamException {
+		DataServiceExecutionContext previousContext = this.executionContext.bind();
 		try {
 			this.getDataService().invoke(xmlWriter, this.getOpName(), this.getParams());
 			/* flush the stream, if there's a result */
@@ -98,6 +107,8 @@ public class DSOMDataSource implements OMDataSource {
 			}
 		} catch (DataServiceFault e) {
 			throw new XMLStreamException(e.getMessage(), e);
+		} finally {
+			DataServiceExecutionContext.unbind(previousContext);
 		}
 	}
 	
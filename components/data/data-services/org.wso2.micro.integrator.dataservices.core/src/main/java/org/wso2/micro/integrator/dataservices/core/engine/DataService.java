@@ -38,6 +38,7 @@ import org.wso2.micro.integrator.dataservices.core.description.operation.Operati
 import org.wso2.micro.integrator.dataservices.core.description.query.Query;
 import org.wso2.micro.integrator.dataservices.core.description.resource.Resource;
 import org.wso2.micro.integrator.dataservices.core.description.xa.DSSXATransactionManager;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 import org.wso2.securevault.SecretResolver;
 
 import javax.transaction.TransactionManager;
@@ -145,11 +146,6 @@ public class DataService implements AxisResources {
      */
     private boolean boxcarringEnabled;
 
-    /**
-     * The current user who is sending requests
-     */
-    private static ThreadLocal<DataServiceUser> currentUser = new ThreadLocal<DataServiceUser>();
-
     /**
      * the JNDI name of the app server transaction manager
      */
@@ -170,6 +166,11 @@ public class DataService implements AxisResources {
      */
     private boolean disableLegacyBoxcarringMode;
 
+    /**
+     * flag to check if the independent read requests of a request box are executed in parallel
+     */
+    private boolean parallelRequestBoxEnabled;
+
     /**
      * The tenant to which this service belongs to.
      */
@@ -191,6 +192,11 @@ public class DataService implements AxisResources {
      */
     private String swaggerResourcePath;
 
+    /**
+     * Cached results of the queries which declare a cache.
+     */
+    private final QueryResultCache queryResultCache = new QueryResultCache();
+
 	public DataService(String name, String description,
                        String defaultNamespace, String dsLocation, String serviceStatus,
                        boolean batchRequestsEnabled, boolean boxcarringEnabled,
@@ -369,6 +375,14 @@ public class DataService implements AxisResources {
         this.disableLegacyBoxcarringMode = disableLegacyBoxcarringMode;
     }
 
+    public boolean isParallelRequestBoxEnabled() {
+        return parallelRequestBoxEnabled;
+    }
+
+    public void setParallelRequestBoxEnabled(boolean parallelRequestBoxEnabled) {
+        this.parallelRequestBoxEnabled = parallelRequestBoxEnabled;
+    }
+
     public DSSXATransactionManager getDSSTxManager() {
         return txManager;
     }
@@ -442,12 +456,15 @@ public class DataService implements AxisResources {
         return boxcarringEnabled;
     }
 
+    /**
+     * Returns the user who is sending the request being executed.
+     */
     public static DataServiceUser getCurrentUser() {
-        return currentUser.get();
+        return DataServiceExecutionContext.getCurrent().getCurrentUser();
     }
 
     public static void setCurrentUser(DataServiceUser user) {
-        currentUser.set(user);
+        DataServiceExecutionContext.getCurrent().setCurrentUser(user);
     }
 
     public String getDsLocation() {
@@ -536,6 +553,10 @@ public class DataService implements AxisResources {
         this.getQueries().put(query.getQueryId(), query);
     }
 
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
     public SecretResolver getSecretResolver() {
         return secretResolver;
     }
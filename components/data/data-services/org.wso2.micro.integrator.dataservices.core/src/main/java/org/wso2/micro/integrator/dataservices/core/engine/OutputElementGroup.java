@@ -18,6 +18,7 @@
 package org.wso2.micro.integrator.dataservices.core.engine;
 
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
 
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -41,17 +42,16 @@ public class OutputElementGroup extends OutputElement {
     private Result parentResult;
 
     /**
-     * Thread local variables are kept to manage content filtering,
+     * Request scoped values are kept to manage content filtering,
      * where certain attributes and elements are only visible to the current user,
-     * so when a request is coming in, these TL values are populated accordingly.
+     * so when a request is coming in, these values are populated accordingly in the
+     * execution context of the request, using the following keys.
      * These values cannot be stored in a session, since we cannot be certain,
      * that session management is supported.
      */
-    private ThreadLocal<List<StaticOutputElement>> roleAttributeEntries =
-            new ThreadLocal<List<StaticOutputElement>>();
+    private final Object roleAttributeEntriesKey = new Object();
 
-    private ThreadLocal<List<OutputElement>> roleAllElements =
-            new ThreadLocal<List<OutputElement>>();
+    private final Object roleAllElementsKey = new Object();
 
     public OutputElementGroup(String name, String namespace, Set<String> requiredRoles,
     		String arrayName) {
@@ -114,7 +114,7 @@ public class OutputElementGroup extends OutputElement {
     }
 
     /**
-     * This populated the thread local variables that, track the allowed
+     * This populates the request scoped values that, track the allowed
      * attributes and elements for the given user roles.
      */
     public void applyUserRoles(Set<String> userRoles) {
@@ -131,7 +131,7 @@ public class OutputElementGroup extends OutputElement {
                 }
             }
         }
-        this.roleAttributeEntries.set(attrs);
+        DataServiceExecutionContext.getCurrent().setAttribute(this.roleAttributeEntriesKey, attrs);
         /* process elements */
         List<OutputElement> els = new ArrayList<OutputElement>(this.getAllElements());
         Iterator<OutputElement> elItr = els.iterator();
@@ -144,7 +144,7 @@ public class OutputElementGroup extends OutputElement {
                 }
             }
         }
-        this.roleAllElements.set(els);
+        DataServiceExecutionContext.getCurrent().setAttribute(this.roleAllElementsKey, els);
     }
 
     private boolean rolesCompatible(Set<String> userRoles, Set<String> requiredRoles) {
@@ -204,12 +204,16 @@ public class OutputElementGroup extends OutputElement {
         return allElements;
     }
 
+    @SuppressWarnings("unchecked")
     public List<StaticOutputElement> getAttributeEntriesForCurrentRole() {
-        return roleAttributeEntries.get();
+        return (List<StaticOutputElement>) DataServiceExecutionContext.getCurrent().getAttribute(
+                this.roleAttributeEntriesKey);
     }
 
+    @SuppressWarnings("unchecked")
     public List<OutputElement> getAllElementsForCurrentRole() {
-        return roleAllElements.get();
+        return (List<OutputElement>) DataServiceExecutionContext.getCurrent().getAttribute(
+                this.roleAllElementsKey);
     }
 
 }
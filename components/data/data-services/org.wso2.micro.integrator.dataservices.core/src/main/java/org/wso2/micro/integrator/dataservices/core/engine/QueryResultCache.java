@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.engine;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.dataservices.core.dispatch.DataServiceExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class holds the cached results of the queries of a data service, which declare a cache in
+ * their definition. A result is kept as the data entries written by the query, keyed by the query
+ * ID and the bound parameter values, and it is invalidated when a query in the same data service
+ * modifies one of the tables the cached query declares.
+ */
+public class QueryResultCache {
+
+    private static final Log log = LogFactory.getLog(QueryResultCache.class);
+
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 300;
+
+    public static final long DEFAULT_MAX_SIZE = 1024 * 1024;
+
+    /* rough per object overhead used when estimating the memory used by a cached result */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    /* the cache hits and misses of the current request, used for metrics */
+    private static final ThreadLocal<Statistics> statistics = new ThreadLocal<Statistics>();
+
+    /* key of the tables modified in the current transaction, in the execution context of the
+     * request, they are kept by the data service cache, where a null value means that the modified
+     * tables are not known */
+    private static final Object PENDING_INVALIDATIONS_KEY = new Object();
+
+    private final Map<String, QueryCache> queryCaches = new ConcurrentHashMap<String, QueryCache>();
+
+    private final Map<String, Set<String>> tableIndex = new ConcurrentHashMap<String, Set<String>>();
+
+    /**
+     * Registers a cache for the given query.
+     *
+     * @param queryId The query ID
+     * @param config  The cache definition of the query
+     */
+    public void register(String queryId, CacheConfig config) {
+        this.queryCaches.put(queryId, new QueryCache(config));
+        for (String table : config.getTables()) {
+            this.tableIndex.computeIfAbsent(table, k -> ConcurrentHashMap.newKeySet()).add(queryId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return !this.queryCaches.isEmpty();
+    }
+
+    public boolean isCached(String queryId) {
+        return this.queryCaches.containsKey(queryId);
+    }
+
+    /**
+     * Returns the cached result of the given query for the given parameters, and records the
+     * lookup as a hit or a miss of the current request.
+     *
+     * @return a copy of the cached data entries, or null if there is no valid cached result
+     */
+    public List<DataEntry> get(String queryId, InternalParamCollection params) {
+        QueryCache queryCache = this.queryCaches.get(queryId);
+        if (queryCache == null) {
+            return null;
+        }
+        List<DataEntry> entries = queryCache.get(createKey(params));
+        Statistics stats = statistics.get();
+        if (stats != null) {
+            (entries != null ? stats.hits : stats.misses).add(queryId);
+        }
+        if (entries == null) {
+            return null;
+        }
+        List<DataEntry> result = new ArrayList<DataEntry>(entries.size());
+        for (DataEntry entry : entries) {
+            result.add(copyOf(entry));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current generation of the cache of the given query, which changes whenever the
+     * cache is invalidated. It is read before executing a query, so that a result read before a
+     * concurrent invalidation is not cached afterwards.
+     */
+    public long getGeneration(String queryId) {
+        QueryCache queryCache = this.queryCaches.get(queryId);
+        return queryCache == null ? -1 : queryCache.getGeneration();
+    }
+
+    /**
+     * Caches the result of the given query for the given parameters. The result is not cached
+     * when the current transaction has modified data of this data service, since it may not have
+     * been committed yet.
+     *
+     * @param generation The generation of the query cache when the query was executed
+     */
+    public void put(String queryId, InternalParamCollection params, List<DataEntry> entries,
+                    long generation) {
+        QueryCache queryCache = this.queryCaches.get(queryId);
+        if (queryCache == null) {
+            return;
+        }
+        Map<QueryResultCache, Set<String>> pending = getPendingInvalidations();
+        if (pending != null && pending.containsKey(this)) {
+            return;
+        }
+        long size = ENTRY_OVERHEAD;
+        List<DataEntry> copies = new ArrayList<DataEntry>(entries.size());
+        for (DataEntry entry : entries) {
+            long entrySize = estimateSize(entry);
+            if (entrySize < 0) {
+                /* the result contains values which cannot be safely cached */
+                return;
+            }
+            size += entrySize;
+            if (size > queryCache.config.getMaxSize()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Result of query '" + queryId + "' exceeds the cache size, it is not cached");
+                }
+                return;
+            }
+            copies.add(copyOf(entry));
+        }
+        queryCache.put(createKey(params), Collections.unmodifiableList(copies), size, generation);
+    }
+
+    /**
+     * Invalidates the cached results of the queries which depend on any of the given tables, and
+     * remembers the invalidation to be repeated once the current transaction completes.
+     *
+     * @param tables The modified tables, or null if they are not known, which invalidates all the
+     *               cached results of the data service
+     */
+    public void invalidate(Set<String> tables) {
+        if (!this.isEnabled()) {
+            return;
+        }
+        this.invalidateNow(tables);
+        Map<QueryResultCache, Set<String>> pending = getPendingInvalidations();
+        if (pending == null) {
+            pending = new HashMap<QueryResultCache, Set<String>>();
+            DataServiceExecutionContext.getCurrent().setAttribute(PENDING_INVALIDATIONS_KEY, pending);
+        }
+        if (tables == null) {
+            pending.put(this, null);
+        } else if (!pending.containsKey(this)) {
+            pending.put(this, new HashSet<String>(tables));
+        } else if (pending.get(this) != null) {
+            pending.get(this).addAll(tables);
+        }
+    }
+
+    private void invalidateNow(Set<String> tables) {
+        if (tables == null) {
+            this.clear();
+            return;
+        }
+        for (String table : tables) {
+            Set<String> queryIds = this.tableIndex.get(normalizeTableName(table));
+            if (queryIds != null) {
+                for (String queryId : queryIds) {
+                    QueryCache queryCache = this.queryCaches.get(queryId);
+                    if (queryCache != null) {
+                        queryCache.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears all the cached results of the data service.
+     */
+    public void clear() {
+        for (QueryCache queryCache : this.queryCaches.values()) {
+            queryCache.clear();
+        }
+    }
+
+    /**
+     * Repeats the invalidations done in the current transaction, this is called once the
+     * transaction is committed or rolled back, so that results read by other requests while the
+     * transaction was in progress are not kept.
+     */
+    public static void completeTransaction() {
+        Map<QueryResultCache, Set<String>> pending = getPendingInvalidations();
+        if (pending == null) {
+            return;
+        }
+        DataServiceExecutionContext.getCurrent().setAttribute(PENDING_INVALIDATIONS_KEY, null);
+        for (Map.Entry<QueryResultCache, Set<String>> entry : pending.entrySet()) {
+            entry.getKey().invalidateNow(entry.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<QueryResultCache, Set<String>> getPendingInvalidations() {
+        return (Map<QueryResultCache, Set<String>>) DataServiceExecutionContext.getCurrent().getAttribute(
+                PENDING_INVALIDATIONS_KEY);
+    }
+
+    /**
+     * Starts recording the cache hits and misses of the current request.
+     */
+    public static void startStatistics() {
+        statistics.set(new Statistics());
+    }
+
+    /**
+     * Stops recording the cache hits and misses of the current request.
+     *
+     * @return the recorded statistics, or null if recording was not started
+     */
+    public static Statistics stopStatistics() {
+        Statistics stats = statistics.get();
+        statistics.remove();
+        return stats;
+    }
+
+    /**
+     * Returns the cache hits and misses recorded so far in the current thread.
+     *
+     * @return the recorded statistics, or null if recording was not started
+     */
+    public static Statistics getStatistics() {
+        return statistics.get();
+    }
+
+    /**
+     * Normalizes a table name, so that the names used in the cache definitions and the names
+     * found in the queries can be compared, i.e. the schema and the quotes are removed.
+     */
+    public static String normalizeTableName(String table) {
+        String name = table.trim();
+        int index = name.lastIndexOf('.');
+        if (index >= 0) {
+            name = name.substring(index + 1);
+        }
+        if (name.length() > 1 && (name.charAt(0) == '"' || name.charAt(0) == '`' || name.charAt(0) == '[')) {
+            name = name.substring(1, name.length() - 1);
+        }
+        return name.toUpperCase(Locale.ENGLISH);
+    }
+
+    private static String createKey(InternalParamCollection params) {
+        StringBuilder key = new StringBuilder();
+        for (InternalParam param : params.getParams()) {
+            key.append(param.getOrdinal()).append('=');
+            String value = param.getValue() == null ? null : param.getValue().getValueAsString();
+            if (value == null) {
+                key.append('-');
+            } else {
+                /* the length prefix keeps the key unambiguous for any value */
+                key.append(value.length()).append(':').append(value);
+            }
+            key.append(';');
+        }
+        return key.toString();
+    }
+
+    /**
+     * Estimates the memory used by the given data entry when cached.
+     *
+     * @return the estimated size in bytes, or -1 if the entry cannot be cached
+     */
+    public static long estimateSize(DataEntry entry) {
+        long size = ENTRY_OVERHEAD;
+        for (Map.Entry<String, ParamValue> value : entry.getData().entrySet()) {
+            long valueSize = estimateSize(value.getValue());
+            if (valueSize < 0) {
+                return -1;
+            }
+            size += ENTRY_OVERHEAD + 2L * value.getKey().length() + valueSize;
+        }
+        return size;
+    }
+
+    private static long estimateSize(ParamValue value) {
+        if (value == null) {
+            return 0;
+        }
+        switch (value.getValueType()) {
+        case ParamValue.PARAM_VALUE_SCALAR:
+            return ENTRY_OVERHEAD + (value.getScalarValue() == null ? 0 : 2L * value.getScalarValue().length());
+        case ParamValue.PARAM_VALUE_ARRAY:
+            long size = ENTRY_OVERHEAD;
+            for (ParamValue element : value.getArrayValue()) {
+                long elementSize = estimateSize(element);
+                if (elementSize < 0) {
+                    return -1;
+                }
+                size += elementSize;
+            }
+            return size;
+        default:
+            /* UDT values are backed by the driver and may not outlive the connection */
+            return -1;
+        }
+    }
+
+    private static DataEntry copyOf(DataEntry entry) {
+        DataEntry copy = new DataEntry();
+        for (Map.Entry<String, ParamValue> value : entry.getData().entrySet()) {
+            copy.addValue(value.getKey(), copyOf(value.getValue()));
+        }
+        return copy;
+    }
+
+    private static ParamValue copyOf(ParamValue value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getValueType() == ParamValue.PARAM_VALUE_ARRAY) {
+            ParamValue copy = new ParamValue(ParamValue.PARAM_VALUE_ARRAY);
+            for (ParamValue element : value.getArrayValue()) {
+                copy.addArrayValue(copyOf(element));
+            }
+            return copy;
+        }
+        ParamValue copy = new ParamValue(value.getValueType());
+        copy.setScalarValue(value.getScalarValue());
+        return copy;
+    }
+
+    /**
+     * The cache definition of a query.
+     */
+    public static class CacheConfig {
+
+        private final long timeToLiveMillis;
+
+        private final long maxSize;
+
+        private final Set<String> tables;
+
+        public CacheConfig(long timeToLiveMillis, long maxSize, Set<String> tables) {
+            this.timeToLiveMillis = timeToLiveMillis;
+            this.maxSize = maxSize;
+            Set<String> normalizedTables = new HashSet<String>();
+            for (String table : tables) {
+                normalizedTables.add(normalizeTableName(table));
+            }
+            this.tables = Collections.unmodifiableSet(normalizedTables);
+        }
+
+        public long getTimeToLiveMillis() {
+            return timeToLiveMillis;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public Set<String> getTables() {
+            return tables;
+        }
+    }
+
+    /**
+     * The IDs of the queries served from the cache and missed in the cache in a request.
+     */
+    public static class Statistics {
+
+        private final List<String> hits = new ArrayList<String>();
+
+        private final List<String> misses = new ArrayList<String>();
+
+        public List<String> getHits() {
+            return hits;
+        }
+
+        public List<String> getMisses() {
+            return misses;
+        }
+
+        /**
+         * Adds the hits and misses recorded in another thread working on the same request.
+         */
+        public void add(Statistics other) {
+            this.hits.addAll(other.hits);
+            this.misses.addAll(other.misses);
+        }
+    }
+
+    /**
+     * The cached results of a single query, evicted in least recently used order when they
+     * exceed the size of the query cache.
+     */
+    private static class QueryCache {
+
+        private final CacheConfig config;
+
+        private final LinkedHashMap<String, CachedResult> results =
+                new LinkedHashMap<String, CachedResult>(16, 0.75f, true);
+
+        private long size;
+
+        private long generation;
+
+        private QueryCache(CacheConfig config) {
+            this.config = config;
+        }
+
+        private synchronized List<DataEntry> get(String key) {
+            CachedResult result = this.results.get(key);
+            if (result == null) {
+                return null;
+            }
+            if (result.expiresAt - System.nanoTime() <= 0) {
+                this.results.remove(key);
+                this.size -= result.size;
+                return null;
+            }
+            return result.entries;
+        }
+
+        private synchronized long getGeneration() {
+            return this.generation;
+        }
+
+        private synchronized void put(String key, List<DataEntry> entries, long entriesSize, long generation) {
+            if (generation != this.generation) {
+                return;
+            }
+            CachedResult previous = this.results.put(key, new CachedResult(entries, entriesSize,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.config.getTimeToLiveMillis())));
+            if (previous != null) {
+                this.size -= previous.size;
+            }
+            this.size += entriesSize;
+            Iterator<CachedResult> itr = this.results.values().iterator();
+            while (this.size > this.config.getMaxSize() && itr.hasNext()) {
+                this.size -= itr.next().size;
+                itr.remove();
+            }
+        }
+
+        private synchronized void clear() {
+            this.results.clear();
+            this.size = 0;
+            this.generation++;
+        }
+    }
+
+    private static class CachedResult {
+
+        private final List<DataEntry> entries;
+
+        private final long size;
+
+        private final long expiresAt;
+
+        private CachedResult(List<DataEntry> entries, long size, long expiresAt) {
+            this.entries = entries;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import org.apache.axis2.databinding.types.NCName;
 import org.wso2.micro.integrator.dataservices.common.DBConstants;
 import org.wso2.micro.integrator.dataservices.core.DataServiceFault;import org.wso2.micro.integrator.dataservices.core.XSLTTransformer;
 
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -48,6 +49,8 @@ public class Result {
 
     private boolean escapeNonPrintableChar;
 
+    private boolean jsonMapping;
+
     public Result(String xsltPath, int resultType)
             throws DataServiceFault {
         this(null, null, null, xsltPath, resultType);
@@ -177,4 +180,52 @@ public class Result {
     public void setEscapeNonPrintableChar(boolean escapeNonPrintableChar) {
         this.escapeNonPrintableChar = escapeNonPrintableChar;
     }
+
+    public boolean isJsonMapping() {
+        return jsonMapping;
+    }
+
+    public void setJsonMapping(boolean jsonMapping) {
+        this.jsonMapping = jsonMapping;
+    }
+
+    /**
+     * Checks whether this result, and the results of all the nested queries it calls, can be
+     * written directly as JSON, without converting the XML representation. This is the case for
+     * JSON mappings with a row array and without an XSLT transformation.
+     *
+     * @return true if the result can be streamed as native JSON
+     */
+    public boolean isNativeJSONCompatible() {
+        return this.isNativeJSONCompatible(new HashSet<Result>());
+    }
+
+    private boolean isNativeJSONCompatible(Set<Result> visited) {
+        if (!visited.add(this)) {
+            return true;
+        }
+        if (!this.isJsonMapping() || this.getXsltTransformer() != null || this.getRowName() == null ||
+                this.getRowName().length() == 0 || this.getDefaultElementGroup() == null) {
+            return false;
+        }
+        return isNativeJSONCompatible(this.getDefaultElementGroup(), visited);
+    }
+
+    private static boolean isNativeJSONCompatible(OutputElementGroup group, Set<Result> visited) {
+        if (!group.getAttributeEntries().isEmpty()) {
+            return false;
+        }
+        for (CallQuery callQuery : group.getCallQueryEntries()) {
+            Result nestedResult = callQuery.getQuery().getResult();
+            if (nestedResult != null && !nestedResult.isNativeJSONCompatible(visited)) {
+                return false;
+            }
+        }
+        for (OutputElementGroup nestedGroup : group.getOutputElementGroupEntries()) {
+            if (!isNativeJSONCompatible(nestedGroup, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -75,7 +75,7 @@ public class StaticOutputElement extends OutputElement {
 
     /**
      * Exports the values in this element,
-     * these will be saved in a thread local storage,
+     * these will be saved in the storage of the request,
      * which can be re-used later by other queries
      */
     private String export;
@@ -52,6 +52,10 @@ public class XMLWriterHelper {
         }
 		switch (resultType) {
 		case DBConstants.ResultTypes.XML:
+			if (xmlWriter instanceof DSJSONStreamWriter) {
+				((DSJSONStreamWriter) xmlWriter).writeStartRow(name);
+				break;
+			}
 			xmlWriter.writeStartElement(this.getNamespace(), name);
 			break;
 		case DBConstants.ResultTypes.RDF:
@@ -81,6 +85,10 @@ public class XMLWriterHelper {
 		switch (resultType) {
 		case DBConstants.ResultTypes.XML:
 			if (name != null) {
+				if (xmlWriter instanceof DSJSONStreamWriter) {
+					((DSJSONStreamWriter) xmlWriter).writeStartObject(name);
+					break;
+				}
 			    /* start result wrapper */
 			    xmlWriter.writeStartElement(name);
 			    /* write default namespace */
@@ -140,6 +148,10 @@ public class XMLWriterHelper {
 		boolean writeNS;
 		switch (resultType) {
 		case DBConstants.ResultTypes.XML:			
+			if (xmlWriter instanceof DSJSONStreamWriter) {
+				((DSJSONStreamWriter) xmlWriter).writeValue(name, value, xsdType);
+				break;
+			}
 			xmlWriter.writeStartElement(name);
 			/* write default namespace */
 		    nsPrefix = xmlWriter.getNamespaceContext().getPrefix(this.getNamespace());
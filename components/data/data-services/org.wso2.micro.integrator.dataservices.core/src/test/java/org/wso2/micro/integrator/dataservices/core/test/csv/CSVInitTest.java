@@ -20,6 +20,11 @@ package org.wso2.micro.integrator.dataservices.core.test.csv;
 import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
 import org.wso2.micro.integrator.dataservices.core.test.util.UtilServer;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
 public class CSVInitTest extends DataServiceBaseTestCase {
 
 	public CSVInitTest() {
@@ -28,6 +33,11 @@ public class CSVInitTest extends DataServiceBaseTestCase {
 	
 	public void testExcelStartup() throws Exception {
                startTenantFlow();
+		/* the snapshot tests change their data source, so they use a copy of it */
+		Path snapshotFile = Paths.get("./target/csv/customers_snapshot.csv");
+		Files.createDirectories(snapshotFile.getParent());
+		Files.copy(Paths.get("./src/test/resources/csv/customers.csv"), snapshotFile,
+				StandardCopyOption.REPLACE_EXISTING);
 		UtilServer.start(repository, axis2Conf);
 	}
 	
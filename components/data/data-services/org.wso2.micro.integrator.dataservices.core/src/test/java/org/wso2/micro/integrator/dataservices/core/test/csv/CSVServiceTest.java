@@ -21,6 +21,17 @@ import org.apache.axiom.om.OMElement;
 import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
 import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 public class CSVServiceTest extends DataServiceBaseTestCase {
 
 	private String epr = null;
@@ -67,4 +78,92 @@ public class CSVServiceTest extends DataServiceBaseTestCase {
 		}
 	}
 
+	/**
+	 * Test filtering the records by a key column, without a snapshot
+	 */
+	public void testCSVKeyColumnFilter() {
+		TestUtils.showMessage(this.epr + " - testCSVKeyColumnFilter");
+		try {
+            TestUtils.checkForService(this.epr);
+			OMElement result = TestUtils.callOperation(this.epr,
+					"customer_by_number_op", Collections.singletonMap("customerNumber", "112"));
+			assertEquals(Collections.singletonList("112"), this.getValues(result, "customerNumber"));
+			assertEquals("Signal Gift Stores", TestUtils.getFirstValue(result,
+					"/Customers/Customer/customerName",
+					TestUtils.DEFAULT_DS_WS_NAMESPACE));
+		} catch (Exception e) {
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test looking up the records of a snapshot by a key column
+	 */
+	public void testCSVSnapshotKeyColumnFilter() {
+		TestUtils.showMessage(this.epr + " - testCSVSnapshotKeyColumnFilter");
+		try {
+            TestUtils.checkForService(this.epr);
+			OMElement result = TestUtils.callOperation(this.epr,
+					"snapshot_customers_by_city_op", Collections.singletonMap("city", "Nantes"));
+			List<String> customerNumbers = this.getValues(result, "customerNumber");
+			assertTrue(customerNumbers.contains("103"));
+			assertTrue(customerNumbers.contains("119"));
+			for (String city : this.getValues(result, "city")) {
+				assertEquals("Nantes", city);
+			}
+		} catch (Exception e) {
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test that a snapshot is rebuilt when its file changes
+	 */
+	public void testCSVSnapshotRebuiltOnFileChange() {
+		TestUtils.showMessage(this.epr + " - testCSVSnapshotRebuiltOnFileChange");
+		try {
+            TestUtils.checkForService(this.epr);
+			int count = this.getValues(TestUtils.callOperation(this.epr,
+					"snapshot_customer_list_op", null), "customerNumber").size();
+			Map<String, String> params = new HashMap<String, String>();
+			params.put("customerNumber", "999");
+			assertTrue(this.getValues(TestUtils.callOperation(this.epr,
+					"snapshot_customer_by_number_op", params), "customerNumber").isEmpty());
+
+			File file = new File("./target/csv/customers_snapshot.csv");
+			long lastModified = file.lastModified();
+			Files.write(file.toPath(), ("999,\"Snapshot Gifts\",\"Doe\",\"John\",\"40.32.2556\",\"1 rue Royale\"," +
+					"\"\",\"Nantes\",\"\",\"44000\",\"France\",1370,1000\n").getBytes(StandardCharsets.UTF_8),
+					StandardOpenOption.APPEND);
+			/* the file system may not record a finer modification time */
+			file.setLastModified(lastModified + 2000);
+
+			assertEquals(count + 1, this.getValues(TestUtils.callOperation(this.epr,
+					"snapshot_customer_list_op", null), "customerNumber").size());
+			OMElement result = TestUtils.callOperation(this.epr, "snapshot_customer_by_number_op", params);
+			assertEquals(Collections.singletonList("999"), this.getValues(result, "customerNumber"));
+			assertEquals("Snapshot Gifts", TestUtils.getFirstValue(result,
+					"/Customers/Customer/customerName",
+					TestUtils.DEFAULT_DS_WS_NAMESPACE));
+		} catch (Exception e) {
+			fail(e.getMessage());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> getValues(OMElement result, String name) {
+		List<String> values = new ArrayList<String>();
+		Iterator<OMElement> customers = result.getChildElements();
+		while (customers.hasNext()) {
+			Iterator<OMElement> fields = customers.next().getChildElements();
+			while (fields.hasNext()) {
+				OMElement field = fields.next();
+				if (name.equals(field.getLocalName())) {
+					values.add(field.getText());
+				}
+			}
+		}
+		return values;
+	}
+
 }
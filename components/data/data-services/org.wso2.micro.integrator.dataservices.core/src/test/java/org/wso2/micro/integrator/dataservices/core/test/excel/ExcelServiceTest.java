@@ -21,6 +21,10 @@ import org.apache.axiom.om.OMElement;
 import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
 import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 public class ExcelServiceTest extends DataServiceBaseTestCase {
 
 private String epr = null;
@@ -77,5 +81,63 @@ private String epr = null;
 			fail(e.getMessage());
 		}
 	}
+
+	/**
+	 * Test reading a sheet in streaming mode with the SQL driver
+	 */
+	public void testExcelStreamingRead() {
+		TestUtils.showMessage(this.epr + " - testExcelStreamingRead");
+		try {
+            TestUtils.checkForService(this.epr);
+			OMElement result = TestUtils.callOperation(this.epr,
+					"excel_sql_op", null);
+			OMElement streamedResult = TestUtils.callOperation(this.epr,
+					"excel_sql_streaming_op", null);
+			assertEquals(122, this.getCities(streamedResult).size());
+			assertEquals(result.toString(), streamedResult.toString());
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the conditions of a query evaluated while the sheet is streamed
+	 */
+	public void testExcelStreamingReadWithCondition() {
+		TestUtils.showMessage(this.epr + " - testExcelStreamingReadWithCondition");
+		try {
+            TestUtils.checkForService(this.epr);
+			OMElement result = TestUtils.callOperation(this.epr,
+					"excel_sql_where_op", null);
+			OMElement streamedResult = TestUtils.callOperation(this.epr,
+					"excel_sql_streaming_where_op", null);
+			List<String> cities = this.getCities(streamedResult);
+			assertEquals(5, cities.size());
+			for (String city : cities) {
+				assertEquals("Madrid", city);
+			}
+			assertEquals(result.toString(), streamedResult.toString());
+		} catch (Exception e) {
+			e.printStackTrace();
+			fail(e.getMessage());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> getCities(OMElement result) {
+		List<String> cities = new ArrayList<String>();
+		Iterator<OMElement> customers = result.getChildElements();
+		while (customers.hasNext()) {
+			Iterator<OMElement> fields = customers.next().getChildElements();
+			while (fields.hasNext()) {
+				OMElement field = fields.next();
+				if ("city".equals(field.getLocalName())) {
+					cities.add(field.getText());
+				}
+			}
+		}
+		return cities;
+	}
 	
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.soap.SOAPEnvelope;
+import org.apache.axiom.soap.SOAPFactory;
+import org.apache.axis2.Constants;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.context.ServiceContext;
+import org.apache.axis2.description.AxisOperation;
+import org.apache.axis2.description.AxisService;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.apache.axis2.json.gson.JsonFormatter;
+import org.apache.axis2.transport.http.HTTPConstants;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.DBInOutMessageReceiver;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.UtilServer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.namespace.QName;
+
+/**
+ * Checks that results with a JSON mapping, written directly as JSON by the data services message receiver, are the
+ * same as the JSON the Axis2 JSON formatter produces from the XML result.
+ */
+public class H2JSONStreamTest extends DataServiceBaseTestCase {
+
+	private static final String SERVICE_NAME = "H2JSONService";
+
+	private static final String CHARSET = "UTF-8";
+
+	public H2JSONStreamTest(String testName) {
+		super(testName);
+	}
+
+	public void testH2JSONTypedValuesAndNulls() throws Exception {
+		JsonElement json = this.assertEquivalentJSON("customers_json_op", null);
+		JsonArray customers = json.getAsJsonObject().getAsJsonObject("Customers").getAsJsonArray("Customer");
+		assertTrue(customers.size() > 1);
+		boolean hasNullValue = false;
+		for (JsonElement customer : customers) {
+			JsonObject fields = customer.getAsJsonObject();
+			assertTrue(fields.getAsJsonPrimitive("customerNumber").isNumber());
+			assertTrue(fields.getAsJsonPrimitive("customerName").isString());
+			assertTrue(fields.getAsJsonPrimitive("creditLimit").isNumber());
+			assertTrue(fields.getAsJsonPrimitive("preferred").isBoolean());
+			hasNullValue |= fields.get("addressLine2").isJsonNull() || fields.get("state").isJsonNull();
+		}
+		assertTrue(hasNullValue);
+	}
+
+	public void testH2JSONSingleRowResult() throws Exception {
+		JsonElement json = this.assertEquivalentJSON("office_json_op", "4");
+		JsonElement offices = json.getAsJsonObject().getAsJsonObject("Offices").get("Office");
+		assertTrue(offices.isJsonArray());
+		assertEquals(1, offices.getAsJsonArray().size());
+		JsonObject office = offices.getAsJsonArray().get(0).getAsJsonObject();
+		assertEquals("Paris", office.get("city").getAsString());
+		assertTrue(office.get("addressLine2").isJsonNull());
+	}
+
+	public void testH2JSONNestedQueries() throws Exception {
+		JsonElement json = this.assertEquivalentJSON("offices_json_op", null);
+		JsonArray offices = json.getAsJsonObject().getAsJsonObject("Offices").getAsJsonArray("Office");
+		assertTrue(offices.size() > 1);
+		JsonObject firstOffice = offices.get(0).getAsJsonObject();
+		JsonArray employees = firstOffice.getAsJsonObject("Employees").getAsJsonArray("Employee");
+		assertTrue(employees.size() > 0);
+		assertTrue(employees.get(0).getAsJsonObject().getAsJsonPrimitive("employeeNumber").isNumber());
+	}
+
+	/**
+	 * Invokes the operation twice, once writing the result directly as JSON and once converting the XML result
+	 * with the Axis2 JSON formatter, and checks that both produce the same JSON.
+	 *
+	 * @return the JSON written directly by the data service
+	 */
+	private JsonElement assertEquivalentJSON(String operation, String officeCode) throws Exception {
+		MessageContext streamedContext = this.invoke(operation, officeCode);
+		OMDataSource jsonDataSource = (OMDataSource) streamedContext.getProperty(
+				DBConstants.DATA_SERVICE_JSON_DATA_SOURCE);
+		assertNotNull("The result of " + operation + " is not written directly as JSON", jsonDataSource);
+		ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+		jsonDataSource.serialize(streamed, this.createOutputFormat());
+
+		MessageContext convertedContext = this.invoke(operation, officeCode);
+		ByteArrayOutputStream converted = new ByteArrayOutputStream();
+		new JsonFormatter().writeTo(convertedContext, this.createOutputFormat(), converted, false);
+
+		JsonParser parser = new JsonParser();
+		JsonElement streamedJSON = parser.parse(new String(streamed.toByteArray(), StandardCharsets.UTF_8));
+		JsonElement convertedJSON = parser.parse(new String(converted.toByteArray(), StandardCharsets.UTF_8));
+		assertEquals(convertedJSON, streamedJSON);
+		return streamedJSON;
+	}
+
+	private MessageContext invoke(String operation, String officeCode) throws Exception {
+		ConfigurationContext configContext = UtilServer.getConfigurationContext();
+		AxisConfiguration axisConfig = configContext.getAxisConfiguration();
+		if (axisConfig.getMessageFormatter(HTTPConstants.MEDIA_TYPE_APPLICATION_JSON) == null) {
+			/* the message receiver only writes JSON if the server can format it */
+			axisConfig.addMessageFormatter(HTTPConstants.MEDIA_TYPE_APPLICATION_JSON, new JsonFormatter());
+		}
+		AxisService axisService = axisConfig.getService(SERVICE_NAME);
+		assertNotNull("Service " + SERVICE_NAME + " is not deployed", axisService);
+		AxisOperation axisOperation = axisService.getOperation(new QName(operation));
+		ServiceContext serviceContext = configContext.createServiceGroupContext(
+				axisService.getAxisServiceGroup()).getServiceContext(axisService);
+
+		SOAPFactory factory = OMAbstractFactory.getSOAP11Factory();
+		SOAPEnvelope envelope = factory.getDefaultEnvelope();
+		OMElement payload = factory.createOMElement(new QName(operation));
+		if (officeCode != null) {
+			factory.createOMElement(new QName("officeCode"), payload).setText(officeCode);
+		}
+		envelope.getBody().addChild(payload);
+
+		MessageContext inMsgContext = configContext.createMessageContext();
+		inMsgContext.setServiceContext(serviceContext);
+		inMsgContext.setAxisOperation(axisOperation);
+		inMsgContext.setEnvelope(envelope);
+		Map<String, String> transportHeaders = new HashMap<>();
+		transportHeaders.put(HTTPConstants.HEADER_ACCEPT, HTTPConstants.MEDIA_TYPE_APPLICATION_JSON);
+		inMsgContext.setProperty(MessageContext.TRANSPORT_HEADERS, transportHeaders);
+
+		MessageContext outMsgContext = configContext.createMessageContext();
+		outMsgContext.setServiceContext(serviceContext);
+		outMsgContext.setAxisOperation(axisOperation);
+		outMsgContext.setProperty(Constants.Configuration.CHARACTER_SET_ENCODING, CHARSET);
+
+		new DBInOutMessageReceiver().invokeBusinessLogic(inMsgContext, outMsgContext);
+		assertEquals(HTTPConstants.MEDIA_TYPE_APPLICATION_JSON,
+				outMsgContext.getProperty(Constants.Configuration.MESSAGE_TYPE));
+		return outMsgContext;
+	}
+
+	private OMOutputFormat createOutputFormat() {
+		OMOutputFormat format = new OMOutputFormat();
+		format.setCharSetEncoding(CHARSET);
+		return format;
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.soap.SOAPEnvelope;
+import org.apache.axiom.soap.SOAPFactory;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.context.ServiceContext;
+import org.apache.axis2.description.AxisOperation;
+import org.apache.axis2.description.AxisService;
+import org.wso2.micro.integrator.dataservices.common.DBConstants;
+import org.wso2.micro.integrator.dataservices.core.DBInOutMessageReceiver;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
+import org.wso2.micro.integrator.dataservices.core.test.util.UtilServer;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Checks that the requests of a request box executed in parallel see the message context of the request box.
+ */
+public class H2ParallelRequestBoxTest extends DataServiceBaseTestCase {
+
+	private static final String SERVICE_NAME = "H2RequestBoxService";
+
+	private static final String USER_NAME = "parallel_user";
+
+	public H2ParallelRequestBoxTest(String testName) {
+		super(testName);
+	}
+
+	public void testH2ParallelRequestBoxUsername() throws Exception {
+		ConfigurationContext configContext = UtilServer.getConfigurationContext();
+		AxisService axisService = configContext.getAxisConfiguration().getService(SERVICE_NAME);
+		assertNotNull("Service " + SERVICE_NAME + " is not deployed", axisService);
+		AxisOperation axisOperation = axisService.getOperation(new QName(DBConstants.REQUEST_BOX_ELEMENT));
+		ServiceContext serviceContext = configContext.createServiceGroupContext(
+				axisService.getAxisServiceGroup()).getServiceContext(axisService);
+
+		SOAPFactory factory = OMAbstractFactory.getSOAP11Factory();
+		SOAPEnvelope envelope = factory.getDefaultEnvelope();
+		OMElement requestBox = factory.createOMElement(new QName(DBConstants.REQUEST_BOX_ELEMENT));
+		/* both requests only read data, so they are executed in parallel */
+		factory.createOMElement(new QName("user_name_op"), requestBox);
+		factory.createOMElement(new QName("user_name_op"), requestBox);
+		envelope.getBody().addChild(requestBox);
+
+		MessageContext inMsgContext = configContext.createMessageContext();
+		inMsgContext.setServiceContext(serviceContext);
+		inMsgContext.setAxisOperation(axisOperation);
+		inMsgContext.setEnvelope(envelope);
+		inMsgContext.setProperty(DBConstants.MSG_CONTEXT_USERNAME_PROPERTY, USER_NAME);
+		MessageContext outMsgContext = configContext.createMessageContext();
+		outMsgContext.setServiceContext(serviceContext);
+		outMsgContext.setAxisOperation(axisOperation);
+
+		/* the message receiver of the transport sets the current message context */
+		MessageContext.setCurrentMessageContext(inMsgContext);
+		try {
+			new DBInOutMessageReceiver().invokeBusinessLogic(inMsgContext, outMsgContext);
+		} finally {
+			MessageContext.setCurrentMessageContext(null);
+		}
+		OMElement result = outMsgContext.getEnvelope().getBody().getFirstElement();
+		assertNotNull(result);
+		assertEquals(USER_NAME, TestUtils.getFirstValue(result, "//userName", TestUtils.DEFAULT_DS_WS_NAMESPACE));
+	}
+
+}
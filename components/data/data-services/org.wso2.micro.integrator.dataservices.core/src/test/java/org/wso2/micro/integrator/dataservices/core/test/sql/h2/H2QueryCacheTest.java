@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import org.apache.axiom.om.OMElement;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Checks that the cached results of a query are invalidated by the queries which write to its tables.
+ */
+public class H2QueryCacheTest extends DataServiceBaseTestCase {
+
+	private String epr = null;
+
+	public H2QueryCacheTest(String testName) {
+		super(testName);
+		this.epr = this.baseEpr + "H2QueryCacheService";
+	}
+
+	public void testH2QueryCacheInvalidationAfterWrite() throws Exception {
+		TestUtils.showMessage(this.epr + " - queryCacheInvalidationAfterWrite");
+		TestUtils.checkForService(this.epr);
+		assertEquals(0, this.countItems());
+		/* served from the cache, unless it is invalidated */
+		assertEquals(0, this.countItems());
+
+		assertNotNull(TestUtils.callOperation(this.epr, "insert_item_op", this.createItemParams("1", "first")));
+		assertEquals(1, this.countItems());
+
+		/* a stored procedure returning a result may still modify any table */
+		OMElement result = TestUtils.callOperation(this.epr, "call_insert_item_op",
+				this.createItemParams("2", "second"));
+		assertEquals("2", TestUtils.getFirstValue(result, "/Items/Item/id", TestUtils.DEFAULT_DS_WS_NAMESPACE));
+		assertEquals(2, this.countItems());
+	}
+
+	private int countItems() throws Exception {
+		OMElement result = TestUtils.callOperation(this.epr, "select_items_op", null);
+		int count = 0;
+		while (TestUtils.evalExpression(result, "/Items/Item[" + (count + 1) + "]",
+				TestUtils.DEFAULT_DS_WS_NAMESPACE)) {
+			count++;
+		}
+		return count;
+	}
+
+	private Map<String, String> createItemParams(String id, String name) {
+		Map<String, String> params = new HashMap<String, String>();
+		params.put("id", id);
+		params.put("name", name);
+		return params;
+	}
+
+}
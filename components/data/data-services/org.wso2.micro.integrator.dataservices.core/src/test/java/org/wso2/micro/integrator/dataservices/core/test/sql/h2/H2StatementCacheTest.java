@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import org.apache.axiom.om.OMElement;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.TestUtils;
+
+/**
+ * Checks that the prepared statements cached in the connection of a request are only reused by
+ * queries which apply the same statement settings.
+ */
+public class H2StatementCacheTest extends DataServiceBaseTestCase {
+
+	private String epr = null;
+
+	public H2StatementCacheTest(String testName) {
+		super(testName);
+		this.epr = this.baseEpr + "H2StatementCacheService";
+	}
+
+	public void testH2StatementReuseWithDifferentSettings() throws Exception {
+		TestUtils.showMessage(this.epr + " - statementReuseWithDifferentSettings");
+		TestUtils.checkForService(this.epr);
+		OMElement result = TestUtils.callOperation(this.epr, "office_employees_op", null);
+		assertEquals(2, this.countEmployees(result, "LimitedEmployees"));
+		/* the statement of the limited query must not be reused with its maximum rows */
+		assertEquals(23, this.countEmployees(result, "AllEmployees"));
+	}
+
+	private int countEmployees(OMElement result, String element) throws Exception {
+		int count = 0;
+		while (TestUtils.evalExpression(result, "/Offices/Office/" + element + "/Employee[" + (count + 1) + "]",
+				TestUtils.DEFAULT_DS_WS_NAMESPACE)) {
+			count++;
+		}
+		return count;
+	}
+
+}
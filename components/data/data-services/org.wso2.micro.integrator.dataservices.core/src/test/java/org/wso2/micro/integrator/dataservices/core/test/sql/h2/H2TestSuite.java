@@ -32,7 +32,12 @@ public class H2TestSuite extends TestCase {
 		suite.addTestSuite(H2DMLServiceTest.class);
 		suite.addTestSuite(H2InputMappingServiceTest.class);
 		suite.addTestSuite(H2NestedQueryTest.class);
+		suite.addTestSuite(H2JSONStreamTest.class);
 		suite.addTestSuite(H2StoredProcedureServiceTest.class);
+		suite.addTestSuite(H2QueryCacheTest.class);
+		suite.addTestSuite(H2VirtualThreadReceiverTest.class);
+		suite.addTestSuite(H2ParallelRequestBoxTest.class);
+		suite.addTestSuite(H2StatementCacheTest.class);
 		//suite.addTestSuite(H2ResourceServiceTest.class);
 		suite.addTestSuite(H2FinalizeTest.class);
 		//$JUnit-END$
@@ -114,4 +114,21 @@ public class H2TestUtils {
         stmt.executeUpdate();
 
     }
+
+    public static ResultSet insertCacheItem(Connection conn, int id, String name) throws SQLException {
+        SimpleResultSet srs = new SimpleResultSet();
+        srs.addColumn("id", Types.INTEGER, 10, 0);
+        srs.addColumn("name", Types.VARCHAR, 255, 0);
+        /* H2 also calls the function to read the result columns when the statement is prepared */
+        if ("jdbc:columnlist:connection".equals(conn.getMetaData().getURL())) {
+            return srs;
+        }
+        PreparedStatement stmt = conn.prepareStatement("INSERT INTO CacheItems (id, name) VALUES (?, ?)");
+        stmt.setInt(1, id);
+        stmt.setString(2, name);
+        stmt.executeUpdate();
+        stmt.close();
+        srs.addRow(new Object[] { id, name });
+        return srs;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.core.test.sql.h2;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.soap.SOAPEnvelope;
+import org.apache.axiom.soap.SOAPFactory;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.context.MessageContext;
+import org.apache.axis2.context.OperationContext;
+import org.apache.axis2.context.ServiceContext;
+import org.apache.axis2.description.AxisOperation;
+import org.apache.axis2.description.AxisService;
+import org.apache.axis2.description.TransportOutDescription;
+import org.apache.axis2.handlers.AbstractHandler;
+import org.apache.axis2.transport.TransportSender;
+import org.wso2.micro.integrator.dataservices.core.DBInOutMessageReceiver;
+import org.wso2.micro.integrator.dataservices.core.test.DataServiceBaseTestCase;
+import org.wso2.micro.integrator.dataservices.core.test.util.UtilServer;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Checks that a request processed in a virtual thread is answered with a fault when processing it fails, since the
+ * transport does not acknowledge such requests by itself.
+ */
+public class H2VirtualThreadReceiverTest extends DataServiceBaseTestCase {
+
+	private static final String SERVICE_NAME = "H2BasicService";
+
+	private static final String OPERATION_NAME = "select_op_count";
+
+	public H2VirtualThreadReceiverTest(String testName) {
+		super(testName);
+	}
+
+	public void testH2FaultOnUnexpectedError() throws Exception {
+		FailingTransportSender sender = new FailingTransportSender();
+		MessageContext inMsgContext = this.createMessageContext(sender);
+		new VirtualThreadMessageReceiver().receiveInVirtualThread(inMsgContext);
+		assertEquals(1, sender.getResponses());
+		assertNotNull("No fault was sent for the failed request", sender.getFault());
+		assertTrue(sender.getFault().hasFault());
+	}
+
+	private MessageContext createMessageContext(TransportSender sender) throws Exception {
+		ConfigurationContext configContext = UtilServer.getConfigurationContext();
+		AxisService axisService = configContext.getAxisConfiguration().getService(SERVICE_NAME);
+		assertNotNull("Service " + SERVICE_NAME + " is not deployed", axisService);
+		AxisOperation axisOperation = axisService.getOperation(new QName(OPERATION_NAME));
+		ServiceContext serviceContext = configContext.createServiceGroupContext(
+				axisService.getAxisServiceGroup()).getServiceContext(axisService);
+		OperationContext operationContext = serviceContext.createOperationContext(axisOperation);
+
+		SOAPFactory factory = OMAbstractFactory.getSOAP11Factory();
+		SOAPEnvelope envelope = factory.getDefaultEnvelope();
+		envelope.getBody().addChild(factory.createOMElement(new QName(OPERATION_NAME)));
+
+		TransportOutDescription transportOut = new TransportOutDescription("dss-test");
+		transportOut.setSender(sender);
+		MessageContext inMsgContext = configContext.createMessageContext();
+		inMsgContext.setServerSide(true);
+		inMsgContext.setServiceContext(serviceContext);
+		inMsgContext.setAxisOperation(axisOperation);
+		inMsgContext.setOperationContext(operationContext);
+		operationContext.addMessageContext(inMsgContext);
+		inMsgContext.setTransportOut(transportOut);
+		inMsgContext.setEnvelope(envelope);
+		return inMsgContext;
+	}
+
+	/**
+	 * Exposes the processing done in the virtual thread, to run it in the test thread.
+	 */
+	private static class VirtualThreadMessageReceiver extends DBInOutMessageReceiver {
+
+		@Override
+		public void receiveInVirtualThread(MessageContext msgContext) {
+			super.receiveInVirtualThread(msgContext);
+		}
+
+	}
+
+	/**
+	 * Fails with a runtime exception in sending the response, and records the fault sent afterwards.
+	 */
+	private static class FailingTransportSender extends AbstractHandler implements TransportSender {
+
+		private int responses;
+
+		private SOAPEnvelope fault;
+
+		@Override
+		public InvocationResponse invoke(MessageContext msgContext) throws AxisFault {
+			if (msgContext.getEnvelope().hasFault()) {
+				this.fault = msgContext.getEnvelope();
+				return InvocationResponse.CONTINUE;
+			}
+			this.responses++;
+			throw new IllegalStateException(UtilServer.FAILURE_MESSAGE);
+		}
+
+		@Override
+		public void init(ConfigurationContext confContext, TransportOutDescription transportOut) {
+		}
+
+		@Override
+		public void cleanup(MessageContext msgContext) {
+		}
+
+		@Override
+		public void stop() {
+		}
+
+		public int getResponses() {
+			return responses;
+		}
+
+		public SOAPEnvelope getFault() {
+			return fault;
+		}
+
+	}
+
+}
@@ -102,5 +102,10 @@ CREATE TABLE BinaryData(
 	data BLOB
 );
 
+CREATE TABLE CacheItems(
+	id INTEGER,
+	name VARCHAR(255)
+);
+
 
 
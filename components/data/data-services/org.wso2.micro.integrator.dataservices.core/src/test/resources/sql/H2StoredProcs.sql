@@ -11,3 +11,5 @@ CREATE ALIAS getPaymentInfo FOR "org.wso2.micro.integrator.dataservices.core.tes
 CREATE ALIAS updateCustomerInfo FOR "org.wso2.micro.integrator.dataservices.core.test.sql.h2.H2TestUtils.updateCustomerInfo";
 
 CREATE ALIAS addCustomerInfo FOR "org.wso2.micro.integrator.dataservices.core.test.sql.h2.H2TestUtils.addCustomerInfo";
+
+CREATE ALIAS insertCacheItem FOR "org.wso2.micro.integrator.dataservices.core.test.sql.h2.H2TestUtils.insertCacheItem";
@@ -76,6 +76,7 @@ public class TDriverUtil {
         driverProperties.add(Constants.DRIVER_PROPERTIES.PASSWORD);
         driverProperties.add(Constants.DRIVER_PROPERTIES.DATA_SOURCE_TYPE);
         driverProperties.add(Constants.DRIVER_PROPERTIES.MAX_COLUMNS);
+        driverProperties.add(Constants.DRIVER_PROPERTIES.STREAMING_READ);
         driverProperties.add(Constants.GSPREAD_PROPERTIES.CLIENT_ID);
         driverProperties.add(Constants.GSPREAD_PROPERTIES.CLIENT_SECRET);
         driverProperties.add(Constants.GSPREAD_PROPERTIES.REFRESH_TOKEN);
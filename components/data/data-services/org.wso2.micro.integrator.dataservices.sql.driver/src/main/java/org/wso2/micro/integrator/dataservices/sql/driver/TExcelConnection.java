@@ -17,6 +17,7 @@
  */
 package org.wso2.micro.integrator.dataservices.sql.driver;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +34,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.wso2.micro.integrator.dataservices.sql.driver.parser.Constants;
@@ -57,10 +59,47 @@ public class TExcelConnection extends TConnection {
 
     private String filePath;
 
+    /**
+     * Whether reads stream the sheets of the document instead of loading the whole workbook, the
+     * workbook is then only loaded when a write needs it.
+     */
+    private boolean streamingRead;
+
     public TExcelConnection(Properties props) throws SQLException {
         super(props);
         filePath = (String) props.get(Constants.DRIVER_PROPERTIES.FILE_PATH);
-        this.workbook = this.createConnectionToExcelDocument(filePath);
+        if (Boolean.parseBoolean(props.getProperty(Constants.DRIVER_PROPERTIES.STREAMING_READ))) {
+            this.streamingRead = this.isStreamable(filePath);
+        }
+        if (!streamingRead) {
+            this.workbook = this.createConnectionToExcelDocument(filePath);
+        }
+    }
+
+    /**
+     * Streaming reads are only supported for local files in the OOXML (.xlsx) format.
+     *
+     * @param filePath Path to the Excel file
+     * @return true if the file can be read in streaming mode
+     */
+    private boolean isStreamable(String filePath) {
+        if (filePath.startsWith("http://") || TDriverUtil.isRegistryPath(filePath)) {
+            log.warn("Streaming read is only supported for local EXCEL files, loading the " +
+                    "workbook of '" + filePath + "' instead");
+            return false;
+        }
+        try {
+            if (FileMagic.valueOf(new File(filePath)) == FileMagic.OOXML) {
+                return true;
+            }
+            log.warn("Streaming read is only supported for XLSX documents, loading the workbook of '" +
+                    filePath + "' instead");
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not determine the format of the EXCEL file '" + filePath + "'", e);
+            }
+        }
+        return false;
     }
 
     /**
@@ -141,10 +180,39 @@ public class TExcelConnection extends TConnection {
         }
     }
 
-    public Workbook getWorkbook() {
+    public Workbook getWorkbook() throws SQLException {
+        if (workbook == null) {
+            workbook = this.createConnectionToExcelDocument(filePath);
+        }
         return workbook;
     }
 
+    public boolean isStreamingRead() {
+        return streamingRead;
+    }
+
+    public File getExcelFile() {
+        return new File(filePath);
+    }
+
+    /**
+     * Acquires the workbook lock for a streaming read, so that it never observes a document which
+     * is being written.
+     *
+     * @throws SQLException If the lock cannot be acquired
+     */
+    public void beginStreamingRead() throws SQLException {
+        try {
+            acquireLock();
+        } catch (InterruptedException e) {
+            throw new SQLException("Error Acquiring the lock for the workbook path - " + filePath, e);
+        }
+    }
+
+    public void endStreamingRead() {
+        releaseLock();
+    }
+
     public Statement createStatement(String sql) throws SQLException {
         return new TPreparedStatement(this, sql);
     }
@@ -225,7 +293,9 @@ public class TExcelConnection extends TConnection {
 
     public void close() throws SQLException {
         try {
-            workbook.close();
+            if (workbook != null) {
+                workbook.close();
+            }
         } catch (IOException ignore) {
         } finally {
             releaseLock();
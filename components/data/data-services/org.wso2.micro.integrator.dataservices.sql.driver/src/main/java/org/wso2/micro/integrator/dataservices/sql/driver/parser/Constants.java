@@ -140,6 +140,7 @@ public final class Constants {
         public static final String SHEET_NAME = "sheetName";
         public static final String HAS_HEADER = "hasHeader";
         public static final String MAX_COLUMNS = "maxColumns";
+        public static final String STREAMING_READ = "streamingRead";
     }
 
     public static final class GSPREAD_PROPERTIES {
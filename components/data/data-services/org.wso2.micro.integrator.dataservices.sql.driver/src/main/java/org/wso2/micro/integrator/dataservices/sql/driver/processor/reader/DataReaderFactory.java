@@ -21,6 +21,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 
 import org.wso2.micro.integrator.dataservices.sql.driver.TConnection;
+import org.wso2.micro.integrator.dataservices.sql.driver.TExcelConnection;
 import org.wso2.micro.integrator.dataservices.sql.driver.parser.Constants;
 
 public class DataReaderFactory {
@@ -31,6 +32,9 @@ public class DataReaderFactory {
         }
         String connectionType = ((TConnection) connection).getType();
         if (Constants.EXCEL.equals(connectionType)) {
+            if (((TExcelConnection) connection).isStreamingRead()) {
+                return new StreamingExcelDataReader((TExcelConnection) connection);
+            }
             return new ExcelDataReader(connection);
         } else if (Constants.GSPREAD.equals(connectionType)) {
             return new GSpreadDataReader(connection);
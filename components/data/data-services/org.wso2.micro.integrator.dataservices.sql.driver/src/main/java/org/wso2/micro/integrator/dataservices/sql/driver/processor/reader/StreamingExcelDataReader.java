@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.sql.driver.processor.reader;
+
+import java.sql.SQLException;
+
+import org.wso2.micro.integrator.dataservices.sql.driver.TExcelConnection;
+import org.wso2.micro.integrator.dataservices.sql.driver.parser.Constants;
+import org.wso2.micro.integrator.dataservices.sql.driver.query.ColumnInfo;
+
+/**
+ * Data reader for Excel connections in streaming read mode. Unlike {@link ExcelDataReader} it
+ * does not populate any data up front, the returned tables stream their sheet on each read.
+ */
+public class StreamingExcelDataReader implements DataReader {
+
+    private TExcelConnection connection;
+
+    public StreamingExcelDataReader(TExcelConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void populateData() throws SQLException {
+        /* rows are streamed on demand by the data tables */
+    }
+
+    @Override
+    public DataTable getDataTable(String name) throws SQLException {
+        ColumnInfo[] headers;
+        connection.beginStreamingRead();
+        try {
+            StreamingExcelWorkbook workbook =
+                    StreamingExcelWorkbook.getWorkbook(connection.getExcelFile());
+            if (!workbook.hasSheet(name)) {
+                throw new SQLException("Sheet '" + name + "' does not exist");
+            }
+            if (connection.hasHeader()) {
+                headers = workbook.getHeaders(name);
+            } else {
+                int maxColumns = connection.getMaxColumns();
+                headers = new ColumnInfo[maxColumns];
+                for (int i = 0; i < maxColumns; i++) {
+                    headers[i] = new ColumnInfo(i + 1, Constants.COLUMN + (i + 1), name, -1, i + 1);
+                }
+            }
+        } finally {
+            connection.endStreamingRead();
+        }
+        return new StreamingExcelDataTable(connection, name, headers);
+    }
+
+}
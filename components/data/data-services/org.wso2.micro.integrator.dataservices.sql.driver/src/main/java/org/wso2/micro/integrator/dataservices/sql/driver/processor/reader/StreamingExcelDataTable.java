@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.sql.driver.processor.reader;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.wso2.micro.integrator.dataservices.sql.driver.TExcelConnection;
+import org.wso2.micro.integrator.dataservices.sql.driver.parser.Condition;
+import org.wso2.micro.integrator.dataservices.sql.driver.parser.Constants;
+import org.wso2.micro.integrator.dataservices.sql.driver.query.ColumnInfo;
+
+/**
+ * Read-only data table over an Excel sheet whose rows are not held in memory. Every read
+ * streams the sheet, evaluating the conditions of the query and dropping the columns that
+ * are not selected while the rows are parsed, so only the matching rows are materialized.
+ */
+public class StreamingExcelDataTable extends DataTable {
+
+    private TExcelConnection connection;
+
+    public StreamingExcelDataTable(TExcelConnection connection, String tableName,
+                                   ColumnInfo[] headers) {
+        super(tableName, headers);
+        this.connection = connection;
+    }
+
+    @Override
+    public Map<Integer, DataRow> getRows() throws SQLException {
+        return this.select(null, null);
+    }
+
+    @Override
+    public Map<Integer, DataRow> applyCondition(String column, String value,
+                                                String operator) throws SQLException {
+        Condition condition = new Condition();
+        condition.setColumn(column);
+        condition.setValue(value);
+        condition.setOperator(operator);
+        return this.select(condition, null);
+    }
+
+    /**
+     * Streams the rows of the sheet which satisfy the given condition.
+     *
+     * @param condition     Root condition of the query, or null to select all rows
+     * @param targetColumns Columns to project, keyed in the resulting rows by their ordinal, or
+     *                      null to keep all cells of the rows keyed by their column id
+     * @return Matching rows in sheet order
+     * @throws SQLException SQLException
+     */
+    public Map<Integer, DataRow> select(final Condition condition,
+                                        final ColumnInfo[] targetColumns) throws SQLException {
+        final Map<Condition, Integer> conditionColumns = new IdentityHashMap<Condition, Integer>();
+        final boolean hasCondition = condition != null &&
+                !(condition.getLhs() == null && condition.getRhs() == null && condition.getColumn() == null);
+        if (hasCondition) {
+            this.resolveConditionColumns(condition, conditionColumns);
+        }
+        Set<Integer> columnIds = null;
+        if (targetColumns != null) {
+            columnIds = new HashSet<Integer>(conditionColumns.values());
+            for (ColumnInfo column : targetColumns) {
+                columnIds.add(column.getId());
+            }
+        }
+        final Map<Integer, DataRow> result = new LinkedHashMap<Integer, DataRow>();
+        connection.beginStreamingRead();
+        try {
+            StreamingExcelWorkbook workbook =
+                    StreamingExcelWorkbook.getWorkbook(connection.getExcelFile());
+            workbook.readRows(getTableName(), columnIds, new StreamingExcelWorkbook.RowHandler() {
+                @Override
+                public boolean handleRow(int rowNum, DataRow row) throws SQLException {
+                    if (rowNum == 0 || (hasCondition && !matches(condition, conditionColumns, row))) {
+                        return true;
+                    }
+                    if (targetColumns == null) {
+                        result.put(row.getRowId(), row);
+                    } else {
+                        DataRow filteredRow = new DataRow(row.getRowId());
+                        for (ColumnInfo column : targetColumns) {
+                            filteredRow.addCell(column.getOrdinal(), row.getCell(column.getId()));
+                        }
+                        result.put(filteredRow.getRowId(), filteredRow);
+                    }
+                    return true;
+                }
+            });
+        } finally {
+            connection.endStreamingRead();
+        }
+        return result;
+    }
+
+    private void resolveConditionColumns(Condition condition,
+                                         Map<Condition, Integer> conditionColumns) throws SQLException {
+        if (condition.getLhs() == null && condition.getRhs() == null) {
+            ColumnInfo column = this.getHeader(condition.getColumn());
+            if (column == null) {
+                throw new SQLException("Column '" + condition.getColumn() + "' does not exist");
+            }
+            conditionColumns.put(condition, column.getId());
+            return;
+        }
+        if (condition.getLhs() != null) {
+            this.resolveConditionColumns(condition.getLhs(), conditionColumns);
+        }
+        if (condition.getRhs() != null) {
+            this.resolveConditionColumns(condition.getRhs(), conditionColumns);
+        }
+    }
+
+    /**
+     * Evaluates the condition tree against a single row, with the same semantics as
+     * {@link Condition#process(DataTable)} over a {@link FixedDataTable}.
+     */
+    private static boolean matches(Condition condition, Map<Condition, Integer> conditionColumns,
+                                   DataRow row) throws SQLException {
+        if (condition.getLhs() != null && condition.getRhs() == null) {
+            return matches(condition.getLhs(), conditionColumns, row);
+        } else if (condition.getLhs() == null) {
+            return matches(row.getCell(conditionColumns.get(condition)), condition.getValue(),
+                    condition.getOperator());
+        } else if (condition.getOperator() == null) {
+            return matches(condition.getLhs(), conditionColumns, row);
+        } else if (Constants.OR.equals(condition.getOperator())) {
+            return matches(condition.getLhs(), conditionColumns, row) ||
+                    matches(condition.getRhs(), conditionColumns, row);
+        } else if (Constants.AND.equals(condition.getOperator())) {
+            return matches(condition.getLhs(), conditionColumns, row) &&
+                    matches(condition.getRhs(), conditionColumns, row);
+        }
+        return false;
+    }
+
+    private static boolean matches(DataCell cell, String value, String operator) throws SQLException {
+        if (!Constants.EQUAL.equals(operator) && !Constants.GREATER_THAN.equals(operator) &&
+                !Constants.LESS_THAN.equals(operator)) {
+            throw new SQLException("Unsupported operator: " + operator);
+        }
+        if (cell == null || cell.getCellValue() == null) {
+            return false;
+        }
+        Double rhs = toNumber(value);
+        Double lhs = rhs != null ? toNumber(cell.getCellValue().toString()) : null;
+        if (Constants.EQUAL.equals(operator)) {
+            if (lhs != null) {
+                return lhs.doubleValue() == rhs.doubleValue();
+            }
+            return value.equals(cell.getCellValue());
+        } else if (lhs == null) {
+            return false;
+        } else if (Constants.GREATER_THAN.equals(operator)) {
+            return lhs > rhs;
+        }
+        return lhs < rhs;
+    }
+
+    private static Double toNumber(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void addRow(DataRow dataRow) throws SQLException {
+        throw new SQLException("Streaming Excel data table '" + getTableName() + "' is read-only");
+    }
+
+    @Override
+    public void updateRows(DataRow... dataRows) throws SQLException {
+        throw new SQLException("Streaming Excel data table '" + getTableName() + "' is read-only");
+    }
+
+    @Override
+    public void deleteRows(int... rowIds) throws SQLException {
+        throw new SQLException("Streaming Excel data table '" + getTableName() + "' is read-only");
+    }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.dataservices.sql.driver.processor.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.wso2.micro.integrator.dataservices.sql.driver.query.ColumnInfo;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Read-only view of an XLSX document which streams sheet rows through the SAX based event API
+ * instead of building the full POI object model. The parts which every read needs, i.e. the
+ * sheet names, the shared strings table and the header rows, are parsed once and cached per
+ * file until its modification time or size changes.
+ */
+public class StreamingExcelWorkbook {
+
+    private static final Map<String, StreamingExcelWorkbook> workbooks =
+            new ConcurrentHashMap<String, StreamingExcelWorkbook>();
+
+    private final File file;
+
+    private final long lastModified;
+
+    private final long length;
+
+    private final List<String> sheetNames;
+
+    private final SharedStrings sharedStrings;
+
+    private final Map<String, ColumnInfo[]> headers = new ConcurrentHashMap<String, ColumnInfo[]>();
+
+    private StreamingExcelWorkbook(File file, long lastModified, long length) throws SQLException {
+        this.file = file;
+        this.lastModified = lastModified;
+        this.length = length;
+        OPCPackage pkg = this.openPackage();
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            List<String> names = new ArrayList<String>();
+            XSSFReader.SheetIterator sheetItr = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheetItr.hasNext()) {
+                InputStream in = sheetItr.next();
+                names.add(sheetItr.getSheetName());
+                in.close();
+            }
+            this.sheetNames = Collections.unmodifiableList(names);
+            this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        } catch (IOException | OpenXML4JException | SAXException e) {
+            throw new SQLException("Error occurred while initializing the EXCEL datasource", e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Returns the cached workbook of the given file, parsing it again if the file has been
+     * modified since it was cached.
+     *
+     * @param file XLSX file
+     * @return Streaming workbook of the file
+     * @throws SQLException If the file cannot be read
+     */
+    public static StreamingExcelWorkbook getWorkbook(File file) throws SQLException {
+        if (!file.isFile()) {
+            throw new SQLException("Could not locate the EXCEL datasource in the provided location");
+        }
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        StreamingExcelWorkbook workbook = workbooks.get(key);
+        if (workbook == null || workbook.lastModified != lastModified || workbook.length != length) {
+            workbook = new StreamingExcelWorkbook(file, lastModified, length);
+            workbooks.put(key, workbook);
+        }
+        return workbook;
+    }
+
+    public boolean hasSheet(String sheetName) {
+        return sheetNames.contains(sheetName);
+    }
+
+    /**
+     * Extracts the column headers from the first row of the given sheet, following the same
+     * rules as {@link ExcelDataReader}.
+     *
+     * @param sheetName Name of the sheet
+     * @return Header columns of the sheet
+     * @throws SQLException If the sheet does not exist or a header cell is not a string or number
+     */
+    public ColumnInfo[] getHeaders(final String sheetName) throws SQLException {
+        ColumnInfo[] result = headers.get(sheetName);
+        if (result == null) {
+            final List<ColumnInfo> columns = new ArrayList<ColumnInfo>();
+            this.readRows(sheetName, null, new RowHandler() {
+                @Override
+                public boolean handleRow(int rowNum, DataRow row) throws SQLException {
+                    if (rowNum != 0) {
+                        return false;
+                    }
+                    for (DataCell cell : new TreeMap<Integer, DataCell>(row.getCells()).values()) {
+                        if (cell.getCellType() == CellType.STRING.getCode()) {
+                            columns.add(new ColumnInfo(cell.getColumnId(),
+                                    (String) cell.getCellValue(), sheetName, Types.VARCHAR,
+                                    cell.getColumnId()));
+                        } else if (cell.getCellType() == CellType.NUMERIC.getCode()) {
+                            columns.add(new ColumnInfo(cell.getColumnId(),
+                                    String.valueOf(cell.getCellValue()), sheetName, Types.INTEGER,
+                                    cell.getColumnId()));
+                        } else {
+                            throw new SQLException("Invalid column type");
+                        }
+                    }
+                    return false;
+                }
+            });
+            result = columns.toArray(new ColumnInfo[columns.size()]);
+            headers.put(sheetName, result);
+        }
+        /* callers set ids and aliases on the returned columns, so each one gets its own copies */
+        ColumnInfo[] copy = new ColumnInfo[result.length];
+        for (int i = 0; i < result.length; i++) {
+            copy[i] = new ColumnInfo(result[i].getId(), result[i].getName(),
+                    result[i].getTableName(), result[i].getSqlType(), result[i].getOrdinal());
+        }
+        return copy;
+    }
+
+    /**
+     * Streams the rows of the given sheet to the handler in document order. Cells which do not
+     * belong to one of the requested columns are skipped without materializing their values.
+     *
+     * @param sheetName Name of the sheet
+     * @param columnIds 1-based ids of the columns to read, or null to read all columns
+     * @param handler   Row handler
+     * @throws SQLException If the sheet does not exist or cannot be parsed
+     */
+    public void readRows(String sheetName, Set<Integer> columnIds,
+                         RowHandler handler) throws SQLException {
+        OPCPackage pkg = this.openPackage();
+        try {
+            XSSFReader.SheetIterator sheetItr =
+                    (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheetItr.hasNext()) {
+                InputStream in = sheetItr.next();
+                try {
+                    if (sheetName.equals(sheetItr.getSheetName())) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        SheetHandler sheetHandler = new SheetHandler(columnIds, handler);
+                        parser.setContentHandler(sheetHandler);
+                        try {
+                            parser.parse(new InputSource(in));
+                        } catch (StopParsingException e) {
+                            if (e.getCause() instanceof SQLException) {
+                                throw (SQLException) e.getCause();
+                            }
+                        }
+                        return;
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+            throw new SQLException("Sheet '" + sheetName + "' does not exist");
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new SQLException("Error occurred while reading the EXCEL sheet '" + sheetName +
+                    "'", e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    private OPCPackage openPackage() throws SQLException {
+        try {
+            return OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new SQLException("Error occurred while initializing the EXCEL datasource", e);
+        }
+    }
+
+    /**
+     * Callback which receives the rows of a streamed sheet.
+     */
+    public interface RowHandler {
+
+        /**
+         * @param rowNum 0-based row number in the sheet
+         * @param row    Row whose id is the row number minus one, as in {@link ExcelDataReader}
+         * @return false to stop reading the sheet
+         * @throws SQLException SQLException
+         */
+        boolean handleRow(int rowNum, DataRow row) throws SQLException;
+
+    }
+
+    /**
+     * Used to abort parsing once the handler does not need further rows, or to carry a
+     * handler failure out of the parser.
+     */
+    private static class StopParsingException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+        StopParsingException(Exception cause) {
+            super(cause);
+        }
+
+    }
+
+    /**
+     * SAX handler for the worksheet part, see ECMA-376 Part 1, 18.3.1.
+     */
+    private class SheetHandler extends DefaultHandler {
+
+        private final Set<Integer> columnIds;
+
+        private final RowHandler rowHandler;
+
+        private final StringBuilder text = new StringBuilder();
+
+        private DataRow row;
+
+        private int rowNum = -1;
+
+        private int columnIndex;
+
+        private int cellColumnId;
+
+        private String cellDataType;
+
+        private boolean isFormula;
+
+        private boolean hasValue;
+
+        private boolean isCollecting;
+
+        private boolean isInlineString;
+
+        private boolean isPhonetic;
+
+        SheetHandler(Set<Integer> columnIds, RowHandler rowHandler) {
+            this.columnIds = columnIds;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName,
+                                 Attributes attributes) {
+            if ("row".equals(localName)) {
+                String ref = attributes.getValue("r");
+                rowNum = ref != null ? Integer.parseInt(ref) - 1 : rowNum + 1;
+                row = new DataRow(rowNum - 1);
+                columnIndex = -1;
+            } else if ("c".equals(localName)) {
+                String ref = attributes.getValue("r");
+                columnIndex = ref != null ? parseColumnIndex(ref) : columnIndex + 1;
+                cellColumnId = columnIndex + 1;
+                cellDataType = attributes.getValue("t");
+                isFormula = false;
+                hasValue = false;
+                text.setLength(0);
+            } else if ("f".equals(localName)) {
+                isFormula = true;
+            } else if ("v".equals(localName) || ("t".equals(localName) && isInlineString &&
+                    !isPhonetic)) {
+                isCollecting = isRequired();
+                hasValue = true;
+            } else if ("is".equals(localName)) {
+                isInlineString = true;
+            } else if ("rPh".equals(localName)) {
+                isPhonetic = true;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            if ("row".equals(localName)) {
+                try {
+                    if (!rowHandler.handleRow(rowNum, row)) {
+                        throw new StopParsingException(null);
+                    }
+                } catch (SQLException e) {
+                    throw new StopParsingException(e);
+                }
+                row = null;
+            } else if ("c".equals(localName)) {
+                if (isRequired()) {
+                    row.addCell(cellColumnId, this.createCell());
+                }
+            } else if ("v".equals(localName) || "t".equals(localName)) {
+                isCollecting = false;
+            } else if ("is".equals(localName)) {
+                isInlineString = false;
+            } else if ("rPh".equals(localName)) {
+                isPhonetic = false;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (isCollecting) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private boolean isRequired() {
+            return columnIds == null || columnIds.contains(cellColumnId);
+        }
+
+        private DataCell createCell() {
+            int cellType = isFormula ? CellType.FORMULA.getCode() : CellType.STRING.getCode();
+            Object value;
+            String content = text.toString();
+            if (!hasValue) {
+                return new DataCell(cellColumnId, CellType.BLANK.getCode(), "");
+            } else if ("s".equals(cellDataType)) {
+                value = sharedStrings.getItemAt(Integer.parseInt(content.trim())).getString();
+            } else if ("b".equals(cellDataType)) {
+                value = "1".equals(content.trim());
+                cellType = isFormula ? cellType : CellType.BOOLEAN.getCode();
+            } else if (cellDataType == null || "n".equals(cellDataType)) {
+                try {
+                    value = Double.parseDouble(content);
+                    cellType = isFormula ? cellType : CellType.NUMERIC.getCode();
+                } catch (NumberFormatException e) {
+                    value = content;
+                }
+            } else {
+                /* inline strings, formula string results and errors */
+                value = content;
+            }
+            return new DataCell(cellColumnId, cellType, value);
+        }
+
+    }
+
+    private static int parseColumnIndex(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+}
@@ -21,6 +21,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import org.wso2.micro.integrator.dataservices.sql.driver.TResultSet;
+import org.wso2.micro.integrator.dataservices.sql.driver.processor.reader.FixedDataTable;
+import org.wso2.micro.integrator.dataservices.sql.driver.processor.reader.StreamingExcelDataTable;
+
 public class ExcelSelectQuery extends SelectQuery {
 
     public ExcelSelectQuery(Statement stmt) throws SQLException {
@@ -36,5 +40,21 @@ public class ExcelSelectQuery extends SelectQuery {
     public boolean execute() throws SQLException {
         return (executeSQL() != null);
     }
+
+    /**
+     * In streaming read mode the conditions and the column projection are applied while the
+     * sheet is parsed instead of on a fully populated table.
+     */
+    @Override
+    public synchronized ResultSet executeSQL() throws SQLException {
+        if (!(getTargetTable() instanceof StreamingExcelDataTable)) {
+            return super.executeSQL();
+        }
+        FixedDataTable table =
+                new FixedDataTable(getTargetTableName(), getTargetTable().getHeaders());
+        table.setData(((StreamingExcelDataTable) getTargetTable()).select(getCondition(),
+                getTargetColumns()));
+        return new TResultSet(getStatement(), table, getTargetColumns());
+    }
     
 }
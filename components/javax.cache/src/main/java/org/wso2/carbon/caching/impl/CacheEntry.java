@@ -31,6 +31,13 @@ public class CacheEntry<K, V> implements Cache.Entry<K, V>, Serializable {
     private V value;
     private long lastAccessed;
     private long lastModified;
+    // bookkeeping of the local cache engine, not replicated
+    private transient boolean referenced = true;
+    // expiry wheel links, guarded by the lock of the wheel. The slot is the bucket index plus one, 0 if unscheduled.
+    private transient long expiryTick;
+    private transient int wheelSlot;
+    private transient CacheEntry<K, V> wheelPrev;
+    private transient CacheEntry<K, V> wheelNext;
 
     public CacheEntry(K key, V value) {
         this.key = key;
@@ -66,6 +73,46 @@ public class CacheEntry<K, V> implements Cache.Entry<K, V>, Serializable {
         this.lastAccessed = lastAccessed;
     }
 
+    boolean isReferenced() {
+        return referenced;
+    }
+
+    void setReferenced(boolean referenced) {
+        this.referenced = referenced;
+    }
+
+    long getExpiryTick() {
+        return expiryTick;
+    }
+
+    void setExpiryTick(long expiryTick) {
+        this.expiryTick = expiryTick;
+    }
+
+    int getWheelSlot() {
+        return wheelSlot;
+    }
+
+    void setWheelSlot(int wheelSlot) {
+        this.wheelSlot = wheelSlot;
+    }
+
+    CacheEntry<K, V> getWheelPrev() {
+        return wheelPrev;
+    }
+
+    void setWheelPrev(CacheEntry<K, V> wheelPrev) {
+        this.wheelPrev = wheelPrev;
+    }
+
+    CacheEntry<K, V> getWheelNext() {
+        return wheelNext;
+    }
+
+    void setWheelNext(CacheEntry<K, V> wheelNext) {
+        this.wheelNext = wheelNext;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -46,16 +46,16 @@ import javax.management.MBeanServerFactory;
 import javax.management.ObjectName;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -77,10 +77,7 @@ import static org.wso2.carbon.caching.impl.Constants.SUPER_TENANT_ID;
 public class CacheImpl<K, V> implements Cache<K, V> {
 
     private static final Log log = LogFactory.getLog(CacheImpl.class);
-    private static final long MAX_CLEANUP_TIME = 60000;
     private static final int CACHE_LOADER_THREADS = 2;
-    private static final float CACHE_OVERCAPACITY_FACTOR = 0.75f;
-    private static final float CACHE_EVICTION_FACTOR = 0.25f;
 
     private String cacheName;
     private CacheManager cacheManager;
@@ -90,7 +87,10 @@ public class CacheImpl<K, V> implements Cache<K, V> {
     private Map<K, Long> localTimestampMap = new ConcurrentHashMap<K, Long>();
     private long capacity = CachingConstants.DEFAULT_CACHE_CAPACITY;
     private int initialCapacity = 1000;
-    private final Map<K, CacheEntry<K, V>> localCache = new ConcurrentHashMap<>(initialCapacity, 0.75f, 50);
+    private final LocalCacheStore<K, V> localCache =
+            new LocalCacheStore<>(initialCapacity, capacity, this::onEviction);
+    // keys evicted from the local cache which are yet to be removed from the distributed cache
+    private final Queue<K> evictedKeys = new ConcurrentLinkedQueue<>();
     private CacheConfiguration<K, V> cacheConfiguration;
 
     private List<CacheEntryListener> cacheEntryListeners = new ArrayList<CacheEntryListener>();
@@ -149,6 +149,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         }
 
         cacheStatistics = new CacheStatisticsImpl();
+        refreshExpiryDurations();
         registerMBean();
         CacheManagerFactoryImpl.addCacheForMonitoring(this);
         status = Status.STARTED;
@@ -233,6 +234,11 @@ public class CacheImpl<K, V> implements Cache<K, V> {
                 notifyCacheEntryRead(key, value);
             }
         }
+        if (value != null) {
+            cacheStatistics.recordHit();
+        } else {
+            cacheStatistics.recordMiss();
+        }
         return value;
     }
 
@@ -241,10 +247,9 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> source = localCache;
         Map<K, V> destination = new HashMap<K, V>(keys.size());
         for (K key : keys) {
-            destination.put(key, source.get(key).getValue());
+            destination.put(key, localCache.get(key).getValue());
         }
         return destination;
     }
@@ -363,11 +368,9 @@ public class CacheImpl<K, V> implements Cache<K, V> {
     }
 
     private void internalPut(K key, V value) {
-        // If the cache capacity has been exceeded by more than CACHE_OVERCAPACITY_FACTOR, do not put anymore until cache gets cleared
-        if(localCache.size() >= capacity * (1 + CACHE_OVERCAPACITY_FACTOR)){
-            return;
-        }
+        // The local cache evicts entries on its own once it grows beyond its capacity
         this.localCache.put(key, new CacheEntry(key, value));
+        cacheStatistics.recordPut();
         if (!isLocalCache) {
             this.distributedCache.put(key, new CacheEntry(key, value));
         }
@@ -534,6 +537,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         }
         boolean removed = entry != null;
         if (removed) {
+            cacheStatistics.recordRemoval();
             notifyCacheEntryRemoved((K) key, (V) entry.getValue());
         }
         return localCache.get(key) == null;
@@ -550,6 +554,9 @@ public class CacheImpl<K, V> implements Cache<K, V> {
             distributedTimestampMap.remove(key);
             localTimestampMap.remove(key);
         }
+        if (cacheEntry != null) {
+            cacheStatistics.recordRemoval();
+        }
         notifyCacheEntryRemoved(key, oldValue);
         return localCache.get(key) == null;
     }
@@ -567,6 +574,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         }
         if (entry != null) {
             V value = (V) entry.getValue();
+            cacheStatistics.recordRemoval();
             notifyCacheEntryRemoved(key, value);
             return value;
         }
@@ -578,7 +586,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> map = localCache;
+        LocalCacheStore<K, V> map = localCache;
         if (map.containsKey(key) && map.get(key).equals(new CacheEntry(key, oldValue))) {
             internalPut(key, newValue);
             notifyCacheEntryUpdated(key, newValue);
@@ -592,7 +600,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> map = localCache;
+        LocalCacheStore<K, V> map = localCache;
         if (map.containsKey(key)) {
             internalPut(key, value);
             notifyCacheEntryUpdated(key, value);
@@ -606,7 +614,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> map = localCache;
+        LocalCacheStore<K, V> map = localCache;
         CacheEntry<K, V> oldValue = map.get(key);
         if (oldValue != null) {
             internalPut(key, value);
@@ -621,7 +629,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> map = localCache;
+        LocalCacheStore<K, V> map = localCache;
         for (K key : keys) {
             CacheEntry entry = map.remove(key);
             if(!isLocalCache){
@@ -653,7 +661,7 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         checkStatusStarted();
         lastAccessed = System.currentTimeMillis();
-        Map<K, CacheEntry<K, V>> map = localCache;
+        LocalCacheStore<K, V> map = localCache;
         for (Map.Entry<K, CacheEntry<K, V>> entry : map.entrySet()) {
             notifyCacheEntryRemoved(entry.getKey(), entry.getValue().getValue());
         }
@@ -858,12 +866,18 @@ public class CacheImpl<K, V> implements Cache<K, V> {
     public void setCacheConfiguration(CacheConfigurationImpl cacheConfiguration) {
         Util.checkAccess(ownerTenantDomain, ownerTenantId);
         this.cacheConfiguration = cacheConfiguration;
+        refreshExpiryDurations();
     }
 
     public void setCapacity(long capacity) {
         this.capacity = capacity;
+        localCache.setCapacity(capacity);
     }
 
+    /**
+     * @deprecated The local cache selects the entries to evict on its own, the eviction algorithm is not used.
+     */
+    @Deprecated
     public void setEvictionAlgorithm(EvictionAlgorithm evictionAlgorithm) {
         this.evictionAlgorithm = evictionAlgorithm;
     }
@@ -931,89 +945,18 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         return result;
     }
 
-    @SuppressWarnings("unchecked")
     void runCacheExpiry() {
-        CacheConfiguration cacheConfiguration = getConfiguration();
-
-        CacheConfiguration.Duration modifiedExpiry =
-                cacheConfiguration.getExpiry(CacheConfiguration.ExpiryType.MODIFIED);
-        long modifiedExpiryDuration =
-                modifiedExpiry == null ?
-                        Util.getDefaultCacheTimeout() * 60 * 1000 :
-                        modifiedExpiry.getTimeUnit().toMillis(modifiedExpiry.getDurationAmount());
-
-        CacheConfiguration.Duration accessedExpiry =
-                cacheConfiguration.getExpiry(CacheConfiguration.ExpiryType.ACCESSED);
-        long accessedExpiryDuration =
-                accessedExpiry == null ?
-                        Util.getDefaultCacheTimeout() * 60 * 1000 :
-                        accessedExpiry.getTimeUnit().toMillis(accessedExpiry.getDurationAmount());
-
-        Collection<CacheEntry<K, V>> cacheEntries = getAll();
-
-        long evictionListSize = 0;
-        if (localCache.size() > capacity) {
-            evictionListSize = localCache.size() - capacity; // Evict all extra entries
-            evictionListSize += (long) (capacity * CachingConstants.CACHE_EVICTION_FACTOR); // Evict 25% of cache
-        }
-
-        TreeSet<CacheEntry> evictionList = new TreeSet<CacheEntry>(new Comparator<CacheEntry>() {
-
-            @Override
-            /**
-             * Compares its two arguments for order.  Returns a negative integer,
-             * zero, or a positive integer as the first argument is less than, equal
-             * to, or greater than the second.
-             */
-            public int compare(CacheEntry o1, CacheEntry o2) {
-                if(o1.getLastAccessed() == o2.getLastAccessed()) {
-                    if(o1.getKey().equals(o2.getKey())){
-                        return 0;
-                    }
-                    return -1;
-                } else {
-                    return (int) (o1.getLastAccessed() - o2.getLastAccessed());
-                }
+        refreshExpiryDurations();
+        localCache.runMaintenance(System.currentTimeMillis(), entry -> {
+            expire(entry.getKey());
+            if (log.isDebugEnabled()) {
+                log.debug("Expired: Cache:" + cacheName + ", entry:" + entry.getKey());
             }
         });
-        long start = System.currentTimeMillis();
-        for (CacheEntry<K, V> localCacheEntry : cacheEntries) { // All Cache entries in a Cache
-            K key = localCacheEntry.getKey();
-            if (localCache.size() >= capacity) {
-                evictionList.add(localCacheEntry);
-            }
-
-            long lastAccessed = localCacheEntry.getLastAccessed();
-            long lastModified = localCacheEntry.getLastModified();
-            long now = System.currentTimeMillis();
-
-            if (now - lastAccessed >= accessedExpiryDuration || now - lastModified >= modifiedExpiryDuration) {
-                expire(key);
-                if (log.isDebugEnabled()) {
-                    log.debug("Expired: Cache:" + cacheName + ", entry:" + key);
-                }
-                if (System.currentTimeMillis() - start > MAX_CLEANUP_TIME) {
-                    break;
-                }
-            }
-        }
-
-        if (localCache.size() >= capacity) {
-            start = System.currentTimeMillis();
-            for (int i = 0; i < evictionListSize; i++) {
-                CacheEntry entry = evictionAlgorithm.getEntryForEviction(evictionList);
-                if (entry != null) {
-                    this.evict((K) entry.getKey());
-                }
-                if (System.currentTimeMillis() - start > MAX_CLEANUP_TIME) {
-                    break;
-                }
-            }
-            log.info("Evicted " + evictionListSize + " entries from cache " + cacheName);
-        }
 
         // Replicate timestamps
         if(!isLocalCache){
+            removeEvictedKeysFromDistributedCache();
             for (Map.Entry<K, Long> entry : localTimestampMap.entrySet()) {
                 Long oldValue = entry.getValue();
                 distributedTimestampMap.put(entry.getKey(), oldValue);
@@ -1025,6 +968,44 @@ public class CacheImpl<K, V> implements Cache<K, V> {
         }
     }
 
+    private void refreshExpiryDurations() {
+        CacheConfiguration<K, V> configuration = getConfiguration();
+        localCache.setExpiry(getExpiryMillis(configuration, CacheConfiguration.ExpiryType.ACCESSED),
+                getExpiryMillis(configuration, CacheConfiguration.ExpiryType.MODIFIED));
+    }
+
+    private long getExpiryMillis(CacheConfiguration<K, V> configuration, CacheConfiguration.ExpiryType expiryType) {
+        CacheConfiguration.Duration expiry = configuration.getExpiry(expiryType);
+        return expiry == null ?
+                Util.getDefaultCacheTimeout() * 60 * 1000 :
+                expiry.getTimeUnit().toMillis(expiry.getDurationAmount());
+    }
+
+    private void onEviction(CacheEntry<K, V> entry) {
+        cacheStatistics.recordEviction();
+        if (!isLocalCache) {
+            // evictions happen on the put path, the distributed cache is updated by the next cleanup run
+            evictedKeys.offer(entry.getKey());
+        }
+    }
+
+    private void removeEvictedKeysFromDistributedCache() {
+        K key;
+        while ((key = evictedKeys.poll()) != null) {
+            if (localCache.containsKey(key)) {
+                // put again since it was evicted
+                continue;
+            }
+            try {
+                distributedCache.remove(key);
+                distributedTimestampMap.remove(key);
+                localTimestampMap.remove(key);
+            } catch (Exception e) {
+                log.warn("Exception occurred while evicting item from distributed cache. " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Callable used for cache loader.
      *
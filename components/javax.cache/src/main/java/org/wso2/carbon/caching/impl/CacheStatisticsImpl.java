@@ -20,71 +20,94 @@ package org.wso2.carbon.caching.impl;
 import javax.cache.CacheStatistics;
 import javax.cache.Status;
 import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * TODO: class description
+ * Statistics of a cache, exposed through the CacheMXBean
  */
 public class CacheStatisticsImpl implements CacheStatistics {
     private Status status;
 
-    private long cacheHits;
-    private long cacheMisses;
-    private long cacheGets;
-    private long cachePuts;
-    private long cacheRemovals;
-    private long cacheEvictions;
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder cachePuts = new LongAdder();
+    private final LongAdder cacheRemovals = new LongAdder();
+    private final LongAdder cacheEvictions = new LongAdder();
+    private volatile Date startAccumulationDate = new Date();
+
+    void recordHit() {
+        cacheHits.increment();
+    }
+
+    void recordMiss() {
+        cacheMisses.increment();
+    }
+
+    void recordPut() {
+        cachePuts.increment();
+    }
+
+    void recordRemoval() {
+        cacheRemovals.increment();
+    }
+
+    void recordEviction() {
+        cacheEvictions.increment();
+    }
 
     @Override
     public void clear() {
-        cacheGets = 0;
-        cacheMisses = 0;
-        cachePuts = 0;
-        cacheHits = 0;
+        cacheMisses.reset();
+        cachePuts.reset();
+        cacheHits.reset();
+        cacheRemovals.reset();
+        cacheEvictions.reset();
+        startAccumulationDate = new Date();
     }
 
     @Override
     public Date getStartAccumulationDate() {
-        return null;  //TODO
+        return new Date(startAccumulationDate.getTime());
     }
 
     @Override
     public long getCacheHits() {
-        return cacheHits;
+        return cacheHits.sum();
     }
 
     @Override
     public float getCacheHitPercentage() {
-        return 0;  //TODO
+        return percentageOfGets(cacheHits.sum());
     }
 
     @Override
     public long getCacheMisses() {
-        return cacheMisses;
+        return cacheMisses.sum();
     }
 
     @Override
     public float getCacheMissPercentage() {
-        return 0;  //TODO
+        return percentageOfGets(cacheMisses.sum());
     }
 
     @Override
     public long getCacheGets() {
-        return cacheGets;
+        return cacheHits.sum() + cacheMisses.sum();
     }
 
     @Override
     public long getCachePuts() {
-        return cachePuts;
+        return cachePuts.sum();
     }
 
     @Override
     public long getCacheRemovals() {
-        return 0;  //TODO
+        return cacheRemovals.sum();
     }
 
     @Override
     public long getCacheEvictions() {
-        return cacheEvictions;
+        return cacheEvictions.sum();
     }
 
     @Override
@@ -101,4 +124,9 @@ public class CacheStatisticsImpl implements CacheStatistics {
     public float getAverageRemoveMillis() {
         return 0;  //TODO
     }
+
+    private float percentageOfGets(long count) {
+        long gets = getCacheGets();
+        return gets == 0 ? 0 : (float) count * 100 / gets;
+    }
 }
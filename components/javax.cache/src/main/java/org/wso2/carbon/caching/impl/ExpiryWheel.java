@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.caching.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Single level timer wheel of one second buckets used to expire cache entries. Every bucket is an intrusive list
+ * linked through the entries themselves, so an entry is in at most one bucket, scheduling it again moves it, and
+ * cancelling it unlinks it in constant time. Advancing the wheel only visits the buckets that became due. Deadlines
+ * beyond the span of the wheel are placed in the farthest bucket and rescheduled when that bucket is visited.
+ */
+final class ExpiryWheel<K, V> {
+
+    static final long TICK_MILLIS = 1000;
+    private static final int BUCKET_COUNT = 1024;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private final CacheEntry<K, V>[] buckets;
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by lock
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryWheel(long now) {
+        buckets = new CacheEntry[BUCKET_COUNT];
+        currentTick = now / TICK_MILLIS;
+    }
+
+    /**
+     * Schedule the entry to be visited once its deadline has passed, moving it out of the bucket it was scheduled to
+     * before.
+     *
+     * @param entry    cache entry
+     * @param deadline time in milliseconds the entry expires at
+     */
+    void schedule(CacheEntry<K, V> entry, long deadline) {
+        lock.lock();
+        try {
+            scheduleLocked(entry, deadline);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedule the entry which replaced another one, cancelling the replaced entry.
+     *
+     * @param previous replaced entry, may be null
+     * @param entry    cache entry
+     * @param deadline time in milliseconds the entry expires at
+     */
+    void replace(CacheEntry<K, V> previous, CacheEntry<K, V> entry, long deadline) {
+        lock.lock();
+        try {
+            if (previous != null && previous != entry) {
+                unlink(previous);
+            }
+            scheduleLocked(entry, deadline);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the entry from the wheel. Entries which are not scheduled are ignored.
+     *
+     * @param entry cache entry
+     */
+    void cancel(CacheEntry<K, V> entry) {
+        lock.lock();
+        try {
+            unlink(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advance the wheel to the given time, handing every entry scheduled up to that time to the visitor. Visited
+     * entries are no longer scheduled, the visitor decides whether the entry expires or is scheduled again.
+     *
+     * @param now     current time in milliseconds
+     * @param visitor visitor of the due entries
+     */
+    void advance(long now, Consumer<CacheEntry<K, V>> visitor) {
+        List<CacheEntry<K, V>> dueEntries = new ArrayList<>();
+        lock.lock();
+        try {
+            long targetTick = now / TICK_MILLIS;
+            long fromTick = Math.max(currentTick + 1, targetTick - BUCKET_COUNT + 1);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                currentTick = tick;
+                CacheEntry<K, V> entry = buckets[(int) (tick & BUCKET_MASK)];
+                while (entry != null) {
+                    CacheEntry<K, V> next = entry.getWheelNext();
+                    if (entry.getExpiryTick() <= tick) {
+                        unlink(entry);
+                        dueEntries.add(entry);
+                    } else {
+                        // an entry scheduled beyond the span of the wheel moves closer to its deadline
+                        scheduleAtTick(entry, entry.getExpiryTick());
+                    }
+                    entry = next;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (CacheEntry<K, V> dueEntry : dueEntries) {
+            visitor.accept(dueEntry);
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                CacheEntry<K, V> entry = buckets[i];
+                while (entry != null) {
+                    CacheEntry<K, V> next = entry.getWheelNext();
+                    unlink(entry);
+                    entry = next;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleLocked(CacheEntry<K, V> entry, long deadline) {
+        scheduleAtTick(entry, Math.max(deadline / TICK_MILLIS + 1, currentTick + 1));
+    }
+
+    private void scheduleAtTick(CacheEntry<K, V> entry, long entryTick) {
+        long bucketTick = Math.min(entryTick, currentTick + BUCKET_COUNT - 1);
+        int index = (int) (bucketTick & BUCKET_MASK);
+        entry.setExpiryTick(entryTick);
+        if (entry.getWheelSlot() == index + 1) {
+            return;
+        }
+        unlink(entry);
+        CacheEntry<K, V> head = buckets[index];
+        entry.setWheelPrev(null);
+        entry.setWheelNext(head);
+        if (head != null) {
+            head.setWheelPrev(entry);
+        }
+        buckets[index] = entry;
+        entry.setWheelSlot(index + 1);
+    }
+
+    private void unlink(CacheEntry<K, V> entry) {
+        int slot = entry.getWheelSlot();
+        if (slot == 0) {
+            return;
+        }
+        CacheEntry<K, V> prev = entry.getWheelPrev();
+        CacheEntry<K, V> next = entry.getWheelNext();
+        if (prev != null) {
+            prev.setWheelNext(next);
+        } else {
+            buckets[slot - 1] = next;
+        }
+        if (next != null) {
+            next.setWheelPrev(prev);
+        }
+        entry.setWheelPrev(null);
+        entry.setWheelNext(null);
+        entry.setWheelSlot(0);
+    }
+}
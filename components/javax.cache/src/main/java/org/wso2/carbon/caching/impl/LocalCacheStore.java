@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.caching.impl;
+
+import org.wso2.carbon.caching.impl.eviction.FrequencySketch;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Bounded store of the local entries of a {@link CacheImpl}.
+ * <p/>
+ * Eviction follows the CLOCK algorithm over the entries of the map: reading an entry marks it as referenced, and
+ * the clock hand clears the mark of referenced entries and samples the unreferenced ones, evicting the sample with
+ * the lowest frequency in a TinyLFU sketch. Newly added entries start referenced, so they survive one sweep of the
+ * hand before they compete on frequency. Expiry is driven by an {@link ExpiryWheel}, so a cleanup run only visits
+ * the entries that are due instead of the whole cache. Reads only write to the entry and the sketch and do not
+ * allocate.
+ */
+final class LocalCacheStore<K, V> {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ConcurrentHashMap<K, CacheEntry<K, V>> data;
+    private final ExpiryWheel<K, V> expiryWheel;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Consumer<CacheEntry<K, V>> evictionListener;
+
+    private volatile FrequencySketch sketch;
+    private volatile long capacity;
+    private volatile long accessedExpiry = Long.MAX_VALUE;
+    private volatile long modifiedExpiry = Long.MAX_VALUE;
+    // guarded by evictionLock
+    private Iterator<CacheEntry<K, V>> clockHand;
+
+    /**
+     * @param initialCapacity  initial capacity of the backing map
+     * @param capacity         maximum number of entries
+     * @param evictionListener notified of the entries removed to keep the store within its capacity
+     */
+    LocalCacheStore(int initialCapacity, long capacity, Consumer<CacheEntry<K, V>> evictionListener) {
+        this.data = new ConcurrentHashMap<>(initialCapacity);
+        this.capacity = capacity;
+        this.evictionListener = evictionListener;
+        this.expiryWheel = new ExpiryWheel<>(System.currentTimeMillis());
+    }
+
+    CacheEntry<K, V> get(Object key) {
+        CacheEntry<K, V> entry = data.get(key);
+        if (entry != null) {
+            entry.setReferenced(true);
+            recordAccess(key);
+        }
+        return entry;
+    }
+
+    boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    CacheEntry<K, V> put(K key, CacheEntry<K, V> entry) {
+        entry.setReferenced(true);
+        CacheEntry<K, V> previous = data.put(key, entry);
+        recordAccess(key);
+        expiryWheel.replace(previous, entry, deadlineOf(entry));
+        if (data.get(key) != entry) {
+            // replaced by a concurrent put which may have been scheduled first
+            expiryWheel.cancel(entry);
+        }
+        if (data.size() > capacity) {
+            evict();
+        }
+        return previous;
+    }
+
+    CacheEntry<K, V> remove(Object key) {
+        CacheEntry<K, V> entry = data.remove(key);
+        if (entry != null) {
+            expiryWheel.cancel(entry);
+        }
+        return entry;
+    }
+
+    boolean remove(Object key, CacheEntry<K, V> entry) {
+        if (data.remove(key, entry)) {
+            expiryWheel.cancel(entry);
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    void clear() {
+        data.clear();
+        expiryWheel.clear();
+    }
+
+    Collection<CacheEntry<K, V>> values() {
+        return data.values();
+    }
+
+    Set<K> keySet() {
+        return data.keySet();
+    }
+
+    Set<Map.Entry<K, CacheEntry<K, V>>> entrySet() {
+        return data.entrySet();
+    }
+
+    void setCapacity(long capacity) {
+        this.capacity = capacity;
+        this.sketch = null;
+    }
+
+    /**
+     * Set the expiry durations. Entries are moved to the bucket of their new deadline when the durations change.
+     *
+     * @param accessedExpiry time in milliseconds an entry is kept after it was last accessed
+     * @param modifiedExpiry time in milliseconds an entry is kept after it was last modified
+     */
+    void setExpiry(long accessedExpiry, long modifiedExpiry) {
+        if (this.accessedExpiry == accessedExpiry && this.modifiedExpiry == modifiedExpiry) {
+            return;
+        }
+        this.accessedExpiry = accessedExpiry;
+        this.modifiedExpiry = modifiedExpiry;
+        for (CacheEntry<K, V> entry : data.values()) {
+            expiryWheel.schedule(entry, deadlineOf(entry));
+        }
+    }
+
+    /**
+     * Expire the entries which are due and evict entries if the store is over its capacity.
+     *
+     * @param now            current time in milliseconds
+     * @param expiryListener notified of the entries which expired, the listener is responsible for removing them
+     */
+    void runMaintenance(long now, Consumer<CacheEntry<K, V>> expiryListener) {
+        expiryWheel.advance(now, entry -> {
+            if (data.get(entry.getKey()) != entry) {
+                // removed or replaced by a concurrent put while it was being scheduled
+                return;
+            }
+            long deadline = deadlineOf(entry);
+            if (deadline <= now) {
+                expiryListener.accept(entry);
+            } else {
+                expiryWheel.schedule(entry, deadline);
+            }
+        });
+        if (data.size() > capacity) {
+            evict();
+        }
+    }
+
+    private void recordAccess(Object key) {
+        FrequencySketch frequencySketch = sketch;
+        if (frequencySketch == null) {
+            // the frequency history only matters once the store gets close to its capacity
+            if (data.size() < capacity / 2) {
+                return;
+            }
+            frequencySketch = sketch = new FrequencySketch(capacity);
+        }
+        frequencySketch.increment(key);
+    }
+
+    private long deadlineOf(CacheEntry<K, V> entry) {
+        return Math.min(saturatedAdd(entry.getLastAccessed(), accessedExpiry),
+                saturatedAdd(entry.getLastModified(), modifiedExpiry));
+    }
+
+    private static long saturatedAdd(long time, long duration) {
+        long result = time + duration;
+        return result < time ? Long.MAX_VALUE : result;
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // the thread holding the lock keeps evicting until the store is within its capacity
+            return;
+        }
+        try {
+            while (data.size() > capacity) {
+                CacheEntry<K, V> victim = selectVictim();
+                if (victim == null) {
+                    break;
+                }
+                if (remove(victim.getKey(), victim)) {
+                    evictionListener.accept(victim);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private CacheEntry<K, V> selectVictim() {
+        FrequencySketch frequencySketch = sketch;
+        CacheEntry<K, V> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        int sampled = 0;
+        long maxSteps = 2L * data.size() + EVICTION_SAMPLE_SIZE;
+        for (long step = 0; step < maxSteps && sampled < EVICTION_SAMPLE_SIZE; step++) {
+            if (clockHand == null || !clockHand.hasNext()) {
+                clockHand = data.values().iterator();
+                if (!clockHand.hasNext()) {
+                    break;
+                }
+            }
+            CacheEntry<K, V> candidate = clockHand.next();
+            if (candidate.isReferenced()) {
+                candidate.setReferenced(false);
+                continue;
+            }
+            sampled++;
+            int frequency = frequencySketch == null ? 0 : frequencySketch.frequency(candidate.getKey());
+            if (frequency < victimFrequency) {
+                victim = candidate;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.caching.impl;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ExpiryWheelTest {
+
+    @Test
+    public void testEntryExpiresAtItsDeadline() {
+
+        ExpiryWheel<String, String> wheel = new ExpiryWheel<>(0);
+        CacheEntry<String, String> entry = new CacheEntry<>("key", "value");
+        wheel.schedule(entry, 10_000);
+
+        List<CacheEntry<String, String>> visited = new ArrayList<>();
+        wheel.advance(10_999, visited::add);
+        assertTrue(visited.isEmpty());
+
+        wheel.advance(11_000, visited::add);
+        assertEquals(visited.size(), 1);
+        assertEquals(visited.get(0), entry);
+    }
+
+    @Test
+    public void testEntryBeyondWheelSpanExpiresAtItsDeadline() {
+
+        ExpiryWheel<String, String> wheel = new ExpiryWheel<>(0);
+        CacheEntry<String, String> entry = new CacheEntry<>("key", "value");
+        // deadline of 2000 seconds is beyond the span of 1024 one second buckets
+        wheel.schedule(entry, 2_000_000);
+
+        List<CacheEntry<String, String>> visited = new ArrayList<>();
+        for (long now = 1_000; now < 2_001_000; now += 1_000) {
+            wheel.advance(now, visited::add);
+        }
+        assertTrue(visited.isEmpty());
+
+        wheel.advance(2_001_000, visited::add);
+        assertEquals(visited.size(), 1);
+        assertEquals(visited.get(0), entry);
+    }
+
+    @Test
+    public void testEntryBeyondWheelSpanExpiresAfterLongPause() {
+
+        ExpiryWheel<String, String> wheel = new ExpiryWheel<>(0);
+        CacheEntry<String, String> entry = new CacheEntry<>("key", "value");
+        wheel.schedule(entry, 1_500_000);
+
+        List<CacheEntry<String, String>> visited = new ArrayList<>();
+        wheel.advance(1_200_000, visited::add);
+        assertTrue(visited.isEmpty());
+
+        wheel.advance(1_501_000, visited::add);
+        assertEquals(visited.size(), 1);
+    }
+
+    @Test
+    public void testCancelledEntryIsNotVisited() {
+
+        ExpiryWheel<String, String> wheel = new ExpiryWheel<>(0);
+        CacheEntry<String, String> entry = new CacheEntry<>("key", "value");
+        wheel.schedule(entry, 2_000_000);
+        wheel.cancel(entry);
+
+        List<CacheEntry<String, String>> visited = new ArrayList<>();
+        wheel.advance(3_000_000, visited::add);
+        assertTrue(visited.isEmpty());
+    }
+}
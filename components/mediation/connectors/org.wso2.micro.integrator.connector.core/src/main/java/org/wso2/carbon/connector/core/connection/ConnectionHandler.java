@@ -24,7 +24,10 @@ import org.apache.synapse.config.SynapseConfiguration;
 import org.wso2.carbon.connector.core.ConnectException;
 import org.wso2.carbon.connector.core.pool.Configuration;
 import org.wso2.carbon.connector.core.pool.ConnectionFactory;
+import org.wso2.carbon.connector.core.pool.ConcurrentConnectionPool;
 import org.wso2.carbon.connector.core.pool.ConnectionPool;
+import org.wso2.carbon.connector.core.pool.ConnectionPoolMetrics;
+import org.wso2.carbon.connector.core.pool.ManagedConnectionPool;
 import org.wso2.carbon.connector.core.util.ConnectorUtils;
 import org.wso2.carbon.connector.core.util.Constants;
 
@@ -54,6 +57,8 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
     private final ConcurrentHashMap<String, LocalEntryUndeployObserver> observerMap = new ConcurrentHashMap();
     private SynapseConfiguration synapseConfiguration = null;
 
+    private final boolean useLegacyPool = Boolean.getBoolean(Constants.USE_LEGACY_CONNECTION_POOL);
+
     private ReentrantLock lock = new ReentrantLock();
     private ReentrantLock poolLock = new ReentrantLock();
 
@@ -130,16 +135,16 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
         configurationMap.putIfAbsent(getCode(connector, connectionName), configuration);
         connectionFactoryMap.putIfAbsent(getCode(connector, connectionName), factory);
         String key = getCode(connector, connectionName);
-        ConnectionPool pool = (ConnectionPool) connectionMap.get(key);
+        ManagedConnectionPool pool = (ManagedConnectionPool) connectionMap.get(key);
 
         // Double-checked locking for thread safety
         if (pool == null) {
             poolLock.lock();
             try {
-                pool = (ConnectionPool) connectionMap.get(key);  // Second check (inside lock)
+                pool = (ManagedConnectionPool) connectionMap.get(key);  // Second check (inside lock)
                 if (pool == null) {
                     log.info("Creating connection pool for " + connectionName);
-                    pool = new ConnectionPool(factory, configuration);
+                    pool = createPool(key, factory, configuration);
                     connectionMap.putIfAbsent(key, pool);
                 }
             } finally {
@@ -175,16 +180,16 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
         configurationMap.putIfAbsent(getCode(connector, connectionName), configuration);
         connectionFactoryMap.putIfAbsent(getCode(connector, connectionName), factory);
         String key = getCode(connector, connectionName);
-        ConnectionPool pool = (ConnectionPool) connectionMap.get(key);
+        ManagedConnectionPool pool = (ManagedConnectionPool) connectionMap.get(key);
 
         // Double-checked locking for thread safety
         if (pool == null) {
             poolLock.lock();
             try {
-                pool = (ConnectionPool) connectionMap.get(key);  // Second check (inside lock)
+                pool = (ManagedConnectionPool) connectionMap.get(key);  // Second check (inside lock)
                 if (pool == null) {
                     log.info("Creating connection pool for " + connectionName);
-                    pool = new ConnectionPool(factory, configuration);
+                    pool = createPool(key, factory, configuration);
                     connectionMap.putIfAbsent(key, pool);
                 }
             } finally {
@@ -218,16 +223,16 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
         String connectorCode = getCode(connector, connectionName);
         Object connectionObj = connectionMap.get(connectorCode);
         if (connectionObj != null) {
-            if (connectionObj instanceof ConnectionPool) {
-                if (((ConnectionPool) connectionObj).isAgedTimeoutEnabled()) {
+            if (connectionObj instanceof ManagedConnectionPool) {
+                if (((ManagedConnectionPool) connectionObj).isAgedTimeoutEnabled()) {
                     closeAgedConnectionPoolGracefully(connectorCode);
                     if (!connectionMap.containsKey(connectorCode)) {
-                        ConnectionPool pool = new ConnectionPool(connectionFactoryMap.get(connectorCode),
+                        ManagedConnectionPool pool = createPool(connectorCode, connectionFactoryMap.get(connectorCode),
                                 configurationMap.get(connectorCode));
                         connectionMap.putIfAbsent(connectorCode, pool);
                     }
                 }
-                connection = (Connection) ((ConnectionPool) connectionMap.get(connectorCode)).borrowObject();
+                connection = (Connection) ((ManagedConnectionPool) connectionMap.get(connectorCode)).borrowObject();
             } else if (connectionObj instanceof Connection) {
                 connection = (Connection) connectionObj;
             }
@@ -245,11 +250,11 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
      */
     private void closeAgedConnectionPoolGracefully(String connectorCode) {
         Instant current = Instant.now();
-        if (((ConnectionPool)connectionMap.get(connectorCode)).isPoolExpired(current)) {
+        if (((ManagedConnectionPool) connectionMap.get(connectorCode)).isPoolExpired(current)) {
             lock.lock();
             try {
-                if (connectionMap.get(connectorCode) != null && ((ConnectionPool)connectionMap.get(connectorCode)).isPoolExpired(current)) {
-                    ((ConnectionPool)connectionMap.get(connectorCode)).close();
+                if (connectionMap.get(connectorCode) != null && ((ManagedConnectionPool) connectionMap.get(connectorCode)).isPoolExpired(current)) {
+                    ((ManagedConnectionPool) connectionMap.get(connectorCode)).close();
                     connectionMap.remove(connectorCode);
                 }
             } catch (ConnectException e) {
@@ -271,8 +276,9 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
 
         String connectorCode = this.getCode(connector, connectionName);
         Object connectionObj = this.connectionMap.get(connectorCode);
-        if (connectionObj instanceof ConnectionPool) {
-            ((ConnectionPool) connectionObj).returnObject(connection);
+        if (connectionObj instanceof ManagedConnectionPool) {
+            // a connection borrowed from an aged pool that has been replaced is closed by the concurrent pool
+            ((ManagedConnectionPool) connectionObj).returnObject(connection);
         }
     }
 
@@ -345,9 +351,9 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
      * @param connectionObj Connection Object
      */
     private void closeConnection(String conName, Object connectionObj) {
-        if (connectionObj instanceof ConnectionPool) {
+        if (connectionObj instanceof ManagedConnectionPool) {
             try {
-                ((ConnectionPool) connectionObj).close();
+                ((ManagedConnectionPool) connectionObj).close();
             } catch (ConnectException e) {
                 log.error("Failed to close connection pool. ", e);
             }
@@ -366,9 +372,9 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
      * @param connectionObj Connection Object
      */
     private void closeConnection(Object connectionObj) {
-        if (connectionObj instanceof ConnectionPool) {
+        if (connectionObj instanceof ManagedConnectionPool) {
             try {
-                ((ConnectionPool) connectionObj).close();
+                ((ManagedConnectionPool) connectionObj).close();
             } catch (ConnectException e) {
                 log.error("Failed to close connection pool. ", e);
             }
@@ -381,6 +387,39 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
         }
     }
 
+    /**
+     * Retrieves the statistics of a connection pool
+     *
+     * @param connector      Name of the connector
+     * @param connectionName Name of the connection
+     * @return the pool metrics, or null if the connection is not pooled by a concurrent connection pool
+     */
+    public ConnectionPoolMetrics getConnectionPoolMetrics(String connector, String connectionName) {
+
+        Object connectionObj = connectionMap.get(getCode(connector, connectionName));
+        if (connectionObj instanceof ConcurrentConnectionPool) {
+            return ((ConcurrentConnectionPool) connectionObj).getMetrics();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the connection pool for a connection
+     *
+     * @param connectorCode Connection code of the pool
+     * @param factory       Connection Factory that defines how to create connections
+     * @param configuration Configurations for the connection pool
+     * @return the connection pool
+     */
+    private ManagedConnectionPool createPool(String connectorCode, ConnectionFactory factory,
+                                             Configuration configuration) {
+
+        if (useLegacyPool) {
+            return new ConnectionPool(factory, configuration);
+        }
+        return new ConcurrentConnectionPool(factory, configuration, connectorCode);
+    }
+
     /**
      * Retrieves the connection code defined as <connector_name>:<connection_name>
      *
@@ -404,7 +443,7 @@ public class ConnectionHandler implements LocalEntryUndeployCallBack {
         String connectorCode = getCode(connector, connectionName);
         Object connectionObj = connectionMap.get(connectorCode);
         if (connectionObj != null) {
-            if (connectionObj instanceof ConnectionPool) {
+            if (connectionObj instanceof ManagedConnectionPool) {
                 return true;
             }
         }
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.connector.core.pool;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.commons.jmx.MBeanRegistrar;
+import org.wso2.carbon.connector.core.ConnectException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.ObjectName;
+
+import static java.lang.String.format;
+
+/**
+ * Connection pool built on lock-free idle queues and a fair semaphore instead of the single monitor used by
+ * {@link ConnectionPool}. Borrowing and returning connections therefore do not serialize on the pool, which keeps
+ * the latency of connector operations flat when many mediation threads share a connection. The pool honours the
+ * same {@link Configuration} as the legacy pool and publishes its statistics through {@link ConnectionPoolMetrics}.
+ */
+public class ConcurrentConnectionPool implements ManagedConnectionPool {
+
+    private static final Log log = LogFactory.getLog(ConcurrentConnectionPool.class);
+
+    public static final String MBEAN_CATEGORY = "ConnectorConnectionPool";
+
+    private static final int DEFAULT_MAX_ACTIVE = 8;
+    private static final int DEFAULT_MAX_IDLE = 8;
+    private static final int DEFAULT_MIN_IDLE = 0;
+    private static final long DEFAULT_MAX_WAIT = -1L;
+    private static final long DEFAULT_MIN_EVICTABLE_IDLE_TIME = 1000L * 60L * 30L;
+    private static final long DEFAULT_TIME_BETWEEN_EVICTION_RUNS = -1L;
+    private static final int DEFAULT_NUM_TESTS_PER_EVICTION_RUN = 3;
+
+    private static final String WHEN_EXHAUSTED_FAIL = "WHEN_EXHAUSTED_FAIL";
+    private static final String WHEN_EXHAUSTED_BLOCK = "WHEN_EXHAUSTED_BLOCK";
+    private static final String WHEN_EXHAUSTED_GROW = "WHEN_EXHAUSTED_GROW";
+
+    private static volatile ScheduledExecutorService evictionScheduler;
+
+    private final ConnectionFactory factory;
+    private final String name;
+    private final int maxActive;
+    private final int maxIdle;
+    private final int minIdle;
+    private final long maxWait;
+    private final long minEvictableIdleTime;
+    private final long softMinEvictableIdleTime;
+    private final int numTestsPerEvictionRun;
+    private final String exhaustedAction;
+    private final boolean testOnBorrow;
+    private final boolean testOnReturn;
+    private final boolean testWhileIdle;
+
+    private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    // connections currently lent out by this pool, so that connections of another pool are not taken back
+    private final Set<BorrowedConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger numIdle = new AtomicInteger();
+    private final AtomicInteger numActive = new AtomicInteger();
+    // null when the pool is allowed to grow beyond maxActive
+    private final Semaphore permits;
+    private final ConnectionPoolMetrics metrics;
+    private final ScheduledFuture<?> evictor;
+
+    private final boolean agedTimeoutEnabled;
+    private final long poolConnectionAgedTimeout;
+    private final Instant start;
+
+    private volatile boolean closed = false;
+
+    public ConcurrentConnectionPool(ConnectionFactory factory, Configuration configuration, String name) {
+
+        this.factory = factory;
+        this.name = name;
+        this.maxActive = valueOf(configuration.getMaxActiveConnections(), DEFAULT_MAX_ACTIVE);
+        this.maxIdle = valueOf(configuration.getMaxIdleConnections(), DEFAULT_MAX_IDLE);
+        this.minIdle = valueOf(configuration.getMinIdleConnections(), DEFAULT_MIN_IDLE);
+        this.maxWait = valueOf(configuration.getMaxWaitTime(), DEFAULT_MAX_WAIT);
+        this.minEvictableIdleTime = valueOf(configuration.getMinEvictionTime(), DEFAULT_MIN_EVICTABLE_IDLE_TIME);
+        this.softMinEvictableIdleTime = valueOf(configuration.getSoftMinEvictableIdleTimeMillis(), -1L);
+        this.numTestsPerEvictionRun = valueOf(configuration.getNumTestsPerEvictionRun(),
+                DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
+        this.exhaustedAction = getExhaustedAction(configuration.getExhaustedAction());
+        this.testOnBorrow = valueOf(configuration.getTestOnBorrow(), false);
+        this.testOnReturn = valueOf(configuration.getTestOnReturn(), false);
+        this.testWhileIdle = valueOf(configuration.getTestWhileIdle(), false);
+
+        if (WHEN_EXHAUSTED_GROW.equals(exhaustedAction) || maxActive <= 0) {
+            this.permits = null;
+        } else {
+            this.permits = new Semaphore(maxActive, true);
+        }
+
+        if (configuration.getPoolConnectionAgedTimeout() != 0) {
+            //If the Aged Timeout value is set enabled pool expiration (gracefully closing)
+            this.agedTimeoutEnabled = true;
+            this.poolConnectionAgedTimeout = configuration.getPoolConnectionAgedTimeout();
+        } else {
+            this.agedTimeoutEnabled = false;
+            this.poolConnectionAgedTimeout = 0;
+        }
+        this.start = Instant.now();
+
+        this.metrics = new ConnectionPoolMetrics(this);
+        MBeanRegistrar.getInstance().registerMBean(metrics, MBEAN_CATEGORY, getMBeanName(name));
+
+        long evictionInterval = valueOf(configuration.getEvictionCheckInterval(), DEFAULT_TIME_BETWEEN_EVICTION_RUNS);
+        if (evictionInterval > 0) {
+            this.evictor = getEvictionScheduler().scheduleWithFixedDelay(this::evict, evictionInterval,
+                    evictionInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.evictor = null;
+        }
+    }
+
+    @Override
+    public Object borrowObject() throws ConnectException {
+
+        if (closed) {
+            throw new ConnectException("Connection pool " + name + " is closed.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Borrowing object from the connection pool " + name + "...");
+        }
+        long startTime = System.nanoTime();
+        acquirePermit();
+        long waitTime = System.nanoTime() - startTime;
+        try {
+            Object connection = takeConnection();
+            borrowedConnections.add(new BorrowedConnection(connection));
+            numActive.incrementAndGet();
+            metrics.recordBorrow(waitTime, System.nanoTime() - startTime);
+            return connection;
+        } catch (ConnectException e) {
+            releasePermit();
+            throw e;
+        } catch (Exception e) {
+            releasePermit();
+            throw new ConnectException(e, "Error occurred while borrowing connection from the pool.");
+        }
+    }
+
+    @Override
+    public void returnObject(Object obj) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Returning object to the connection pool " + name + "...");
+        }
+        if (!borrowedConnections.remove(new BorrowedConnection(obj))) {
+            // borrowed from a pool this one replaced, which no longer takes it back
+            destroyForeign(obj);
+            return;
+        }
+        numActive.decrementAndGet();
+        try {
+            if (closed || (testOnReturn && !factory.validateObject(obj))) {
+                destroy(obj);
+                return;
+            }
+            factory.passivateObject(obj);
+            if (maxIdle >= 0 && numIdle.incrementAndGet() > maxIdle) {
+                numIdle.decrementAndGet();
+                destroy(obj);
+                return;
+            }
+            PooledConnection pooled = new PooledConnection(obj);
+            idleConnections.offerFirst(pooled);
+            // the pool may have been drained by a concurrent close
+            if (closed && idleConnections.removeFirstOccurrence(pooled)) {
+                numIdle.decrementAndGet();
+                destroy(obj);
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while returning the connection to the pool.", e);
+            destroy(obj);
+        } finally {
+            releasePermit();
+        }
+    }
+
+    @Override
+    public void close() throws ConnectException {
+
+        closed = true;
+        if (evictor != null) {
+            evictor.cancel(false);
+        }
+        MBeanRegistrar.getInstance().unRegisterMBean(MBEAN_CATEGORY, getMBeanName(name));
+        Exception error = null;
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            numIdle.decrementAndGet();
+            try {
+                factory.destroyObject(pooled.connection);
+                metrics.recordDestroyed();
+            } catch (Exception e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw new ConnectException(error, "Error occurred while closing the connections.");
+        }
+    }
+
+    @Override
+    public int getNumActive() {
+        return numActive.get();
+    }
+
+    @Override
+    public int getNumIdle() {
+        return numIdle.get();
+    }
+
+    @Override
+    public boolean isAgedTimeoutEnabled() {
+        return agedTimeoutEnabled;
+    }
+
+    @Override
+    public boolean isPoolExpired(Instant current) {
+        return ChronoUnit.MILLIS.between(start, current) >= poolConnectionAgedTimeout;
+    }
+
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Take an idle connection, or create a new one when none of the idle connections are usable
+     *
+     * @return activated connection
+     * @throws Exception if the connection could not be created or activated
+     */
+    private Object takeConnection() throws Exception {
+
+        while (true) {
+            PooledConnection pooled = idleConnections.pollFirst();
+            boolean created = false;
+            Object connection;
+            if (pooled != null) {
+                numIdle.decrementAndGet();
+                connection = pooled.connection;
+            } else {
+                connection = factory.makeObject();
+                metrics.recordCreated();
+                created = true;
+            }
+            try {
+                factory.activateObject(connection);
+                if (testOnBorrow && !factory.validateObject(connection)) {
+                    throw new ConnectException("Validation of the connection failed.");
+                }
+                return connection;
+            } catch (Exception e) {
+                destroy(connection);
+                if (created) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void acquirePermit() throws ConnectException {
+
+        if (permits == null) {
+            return;
+        }
+        boolean acquired;
+        try {
+            if (WHEN_EXHAUSTED_FAIL.equals(exhaustedAction)) {
+                acquired = permits.tryAcquire();
+            } else if (maxWait <= 0) {
+                permits.acquire();
+                acquired = true;
+            } else {
+                acquired = permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException(e, "Interrupted while waiting for a connection from the pool.");
+        }
+        if (!acquired) {
+            metrics.recordTimeout();
+            throw new ConnectException(format("Error occurred while borrowing connection from the pool. " +
+                    "Pool %s is exhausted with %d active connections.", name, numActive.get()));
+        }
+    }
+
+    private void releasePermit() {
+
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    private void destroy(Object connection) {
+
+        try {
+            factory.destroyObject(connection);
+        } catch (Exception e) {
+            log.error("Error occurred while destroying the connection.", e);
+        } finally {
+            metrics.recordDestroyed();
+        }
+    }
+
+    private void destroyForeign(Object connection) {
+
+        log.warn("Connection returned to the pool " + name + " was not borrowed from it. The connection is closed.");
+        try {
+            factory.destroyObject(connection);
+        } catch (Exception e) {
+            log.error("Error occurred while destroying the connection.", e);
+        }
+    }
+
+    /**
+     * Examine the oldest idle connections, evicting the ones that have been idle for too long or that fail
+     * validation, and then top the pool up to minIdle.
+     */
+    private void evict() {
+
+        if (closed) {
+            return;
+        }
+        try {
+            List<PooledConnection> candidates = new ArrayList<>(numTestsPerEvictionRun);
+            Iterator<PooledConnection> oldest = idleConnections.descendingIterator();
+            while (oldest.hasNext() && candidates.size() < numTestsPerEvictionRun) {
+                candidates.add(oldest.next());
+            }
+            long now = System.currentTimeMillis();
+            for (PooledConnection pooled : candidates) {
+                // a borrower may have claimed the connection since it was selected
+                if (!idleConnections.removeFirstOccurrence(pooled)) {
+                    continue;
+                }
+                int remaining = numIdle.decrementAndGet();
+                long idleTime = now - pooled.idleSince;
+                if ((minEvictableIdleTime > 0 && idleTime > minEvictableIdleTime)
+                        || (softMinEvictableIdleTime > 0 && idleTime > softMinEvictableIdleTime
+                        && remaining >= minIdle)) {
+                    destroy(pooled.connection);
+                } else if (testWhileIdle && !isValidIdle(pooled.connection)) {
+                    destroy(pooled.connection);
+                } else {
+                    numIdle.incrementAndGet();
+                    idleConnections.offerLast(pooled);
+                }
+            }
+            ensureMinIdle();
+        } catch (Exception e) {
+            log.error("Error occurred while evicting idle connections of the pool " + name + ".", e);
+        }
+    }
+
+    private boolean isValidIdle(Object connection) {
+
+        try {
+            factory.activateObject(connection);
+            if (!factory.validateObject(connection)) {
+                return false;
+            }
+            factory.passivateObject(connection);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void ensureMinIdle() throws Exception {
+
+        while (!closed && numIdle.get() < minIdle
+                && (permits == null || numIdle.get() + numActive.get() < maxActive)) {
+            Object connection = factory.makeObject();
+            metrics.recordCreated();
+            factory.passivateObject(connection);
+            numIdle.incrementAndGet();
+            idleConnections.offerLast(new PooledConnection(connection));
+        }
+    }
+
+    private String getExhaustedAction(String exhaustedAction) {
+
+        if (exhaustedAction == null) {
+            return WHEN_EXHAUSTED_BLOCK;
+        }
+        switch (exhaustedAction) {
+            case WHEN_EXHAUSTED_FAIL:
+            case WHEN_EXHAUSTED_BLOCK:
+            case WHEN_EXHAUSTED_GROW:
+                return exhaustedAction;
+            default:
+                log.warn(format("Unable to find the configured exhausted action. Setting to default: %s.",
+                        WHEN_EXHAUSTED_BLOCK));
+                return WHEN_EXHAUSTED_BLOCK;
+        }
+    }
+
+    /**
+     * The pool name is defined as <connector_name>:<connection_name>, and ':' is not allowed in an unquoted
+     * ObjectName value
+     */
+    private static String getMBeanName(String name) {
+        return ObjectName.quote(name);
+    }
+
+    private static <T> T valueOf(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static ScheduledExecutorService getEvictionScheduler() {
+
+        if (evictionScheduler == null) {
+            synchronized (ConcurrentConnectionPool.class) {
+                if (evictionScheduler == null) {
+                    evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "connector-connection-pool-evictor");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return evictionScheduler;
+    }
+
+    /**
+     * Identity of a borrowed connection, as connections are not required to implement equals and hashCode
+     */
+    private static final class BorrowedConnection {
+
+        private final Object connection;
+
+        private BorrowedConnection(Object connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof BorrowedConnection && ((BorrowedConnection) other).connection == connection;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(connection);
+        }
+    }
+
+    /**
+     * Idle connection along with the time it was returned to the pool
+     */
+    private static final class PooledConnection {
+
+        private final Object connection;
+        private final long idleSince;
+
+        private PooledConnection(Object connection) {
+            this.connection = connection;
+            this.idleSince = System.currentTimeMillis();
+        }
+    }
+}
@@ -34,7 +34,7 @@ import static java.lang.String.format;
  * <a href="https://github.com/wso2-extensions/mi-connector-core">https://github.com/wso2-extensions/mi-connector-core</a>
  */
 @Deprecated
-public class ConnectionPool extends GenericObjectPool {
+public class ConnectionPool extends GenericObjectPool implements ManagedConnectionPool {
 
     private static final Log log = LogFactory.getLog(ConnectionPool.class);
     private Long poolConnectionAgedTimeout;
@@ -127,6 +127,7 @@ public class ConnectionPool extends GenericObjectPool {
         this.poolConnectionAgedTimeout = poolConnectionAgedTimeout;
     }
 
+    @Override
     public boolean isAgedTimeoutEnabled() {
         return isAgedTimeoutEnabled;
     }
@@ -134,6 +135,8 @@ public class ConnectionPool extends GenericObjectPool {
     public void setAgedTimeoutEnabled(boolean agedTimeoutEnabled) {
         isAgedTimeoutEnabled = agedTimeoutEnabled;
     }
+
+    @Override
     public boolean isPoolExpired (Instant current) {
         long gap = ChronoUnit.MILLIS.between(strat, current);
         return gap >= getPoolConnectionAgedTimeout();
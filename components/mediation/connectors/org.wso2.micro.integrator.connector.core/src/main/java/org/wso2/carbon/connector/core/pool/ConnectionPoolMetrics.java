@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.connector.core.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a connector connection pool. Wait time is the time spent waiting for a free slot in the pool and
+ * borrow latency is the total time taken by a borrow, including the creation or validation of the connection.
+ * Times are reported in milliseconds.
+ */
+public class ConnectionPoolMetrics implements ConnectionPoolMetricsMBean {
+
+    private final ManagedConnectionPool pool;
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalBorrowNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+    public ConnectionPoolMetrics(ManagedConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    void recordBorrow(long waitNanos, long borrowNanos) {
+        borrowCount.increment();
+        totalWaitNanos.add(waitNanos);
+        totalBorrowNanos.add(borrowNanos);
+        maxWaitNanos.accumulate(waitNanos);
+    }
+
+    void recordTimeout() {
+        timeoutCount.increment();
+    }
+
+    void recordCreated() {
+        createdCount.increment();
+    }
+
+    void recordDestroyed() {
+        destroyedCount.increment();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return pool.getNumActive();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return pool.getNumIdle();
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    @Override
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    @Override
+    public long getDestroyedCount() {
+        return destroyedCount.sum();
+    }
+
+    @Override
+    public double getAverageWaitTime() {
+        return average(totalWaitNanos.sum());
+    }
+
+    @Override
+    public double getMaxWaitTime() {
+        return toMillis(maxWaitNanos.get());
+    }
+
+    @Override
+    public double getAverageBorrowLatency() {
+        return average(totalBorrowNanos.sum());
+    }
+
+    private double average(long totalNanos) {
+        long count = borrowCount.sum();
+        return count == 0 ? 0 : toMillis(totalNanos) / count;
+    }
+
+    private double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
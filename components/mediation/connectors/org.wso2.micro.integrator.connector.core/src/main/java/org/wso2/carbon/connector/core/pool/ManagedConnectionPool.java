@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.connector.core.pool;
+
+import org.wso2.carbon.connector.core.ConnectException;
+
+import java.time.Instant;
+
+/**
+ * Pool of connections managed by the connection handler
+ */
+public interface ManagedConnectionPool {
+
+    /**
+     * Borrow a connection from the pool
+     *
+     * @return the connection
+     * @throws ConnectException if a connection could not be obtained
+     */
+    Object borrowObject() throws ConnectException;
+
+    /**
+     * Return a borrowed connection to the pool
+     *
+     * @param obj connection to be returned
+     */
+    void returnObject(Object obj);
+
+    /**
+     * Close the pool and the idle connections in it
+     *
+     * @throws ConnectException if the connections could not be closed
+     */
+    void close() throws ConnectException;
+
+    /**
+     * @return number of connections currently borrowed from the pool
+     */
+    int getNumActive();
+
+    /**
+     * @return number of idle connections in the pool
+     */
+    int getNumIdle();
+
+    /**
+     * @return true if the pool is closed and recreated once the poolConnectionAgedTimeout is reached
+     */
+    boolean isAgedTimeoutEnabled();
+
+    /**
+     * Check whether the poolConnectionAgedTimeout has elapsed since the pool was created
+     *
+     * @param current current time
+     * @return true if the pool is expired
+     */
+    boolean isPoolExpired(Instant current);
+}
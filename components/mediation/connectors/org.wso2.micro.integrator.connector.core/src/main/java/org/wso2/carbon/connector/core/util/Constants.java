@@ -34,4 +34,7 @@ public class Constants {
     public static final String EVICTION_CHECK_INTERVAL = "evictionCheckInterval";
     public static final String EXHAUSTED_ACTION = "exhaustedAction";
     public static final String INIT_CONFIG_KEY = "INIT_CONFIG_KEY";
+
+    // System property to fall back to the commons-pool based connection pool
+    public static final String USE_LEGACY_CONNECTION_POOL = "connector.core.legacy.connection.pool";
 }
@@ -24,6 +24,8 @@ import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
 import org.wso2.micro.integrator.observability.util.MetricConstants;
 import org.wso2.micro.integrator.observability.util.MetricUtils;
 
+import java.util.Collection;
+
 public class DSMetricHandler extends AbstractHandler {
 
     private MetricReporter metricReporter;
@@ -50,8 +52,30 @@ public class DSMetricHandler extends AbstractHandler {
             } else if (MetricConstants.MESSAGE_DIRECTION_OUT.equalsIgnoreCase(
                     messageContext.getAxisMessage().getDirection())) {
                 metricReporter.observeTime(messageContext.getProperty(MetricConstants.DATA_SERVICE_LATENCY_TIMER));
+                reportQueryCacheLookups(dataServiceName, messageContext.getProperty(
+                        MetricConstants.DATA_SERVICE_QUERY_CACHE_HITS),
+                        MetricConstants.DATA_SERVICE_QUERY_CACHE_HIT_TOTAL);
+                reportQueryCacheLookups(dataServiceName, messageContext.getProperty(
+                        MetricConstants.DATA_SERVICE_QUERY_CACHE_MISSES),
+                        MetricConstants.DATA_SERVICE_QUERY_CACHE_MISS_TOTAL);
             }
         }
         return InvocationResponse.CONTINUE;
     }
+
+    /**
+     * Reports the query result cache lookups recorded by the data service for the response.
+     *
+     * @param dataServiceName The data service name
+     * @param queryIds        The IDs of the queries looked up in the cache
+     * @param metricName      The hit or miss metric to increment
+     */
+    private void reportQueryCacheLookups(String dataServiceName, Object queryIds, String metricName) {
+        if (queryIds instanceof Collection) {
+            for (Object queryId : (Collection<?>) queryIds) {
+                metricReporter.incrementCount(metricName,
+                        new String[]{dataServiceName, MetricConstants.DATA_SERVICE, String.valueOf(queryId)});
+            }
+        }
+    }
 }
@@ -139,7 +139,11 @@ public class OpenTelemetryReporter implements MetricReporter {
                 metricMap.put(metricName, INBOUND_ENDPOINT_LATENCY_HISTOGRAM);
             }
         } else if (serviceType.equalsIgnoreCase(SERVICE.DATA_SERVICE.name())) {
-            if (type.equals(MetricConstants.COUNTER)) {
+            if (type.equals(MetricConstants.COUNTER)
+                    && !MetricConstants.DATA_SERVICE_REQUEST_COUNT_TOTAL.equals(metricName)) {
+                metricMap.put(metricName, meter.counterBuilder(metricName)
+                        .setDescription(metricHelp).ofDoubles().build());
+            } else if (type.equals(MetricConstants.COUNTER)) {
                 TOTAL_REQUESTS_RECEIVED_DATA_SERVICE = meter.counterBuilder(MetricConstants.DATA_SERVICE_REQUEST_COUNT_TOTAL)
                         .setDescription(metricHelp).ofDoubles().build();
                 metricMap.put(metricName, TOTAL_REQUESTS_RECEIVED_DATA_SERVICE);
@@ -378,6 +382,14 @@ public class OpenTelemetryReporter implements MetricReporter {
         createMetrics("DATA_SERVICE", MetricConstants.HISTOGRAM,
                 MetricConstants.DATA_SERVICE_LATENCY_SECONDS,
                 "Latency of requests to a data service.", labels);
+        String[] cacheLabels = {MetricConstants.SERVICE_NAME, MetricConstants.SERVICE_TYPE,
+                MetricConstants.QUERY_ID};
+        createMetrics("DATA_SERVICE", MetricConstants.COUNTER,
+                MetricConstants.DATA_SERVICE_QUERY_CACHE_HIT_TOTAL,
+                "Total number of data service query results served from the result cache.", cacheLabels);
+        createMetrics("DATA_SERVICE", MetricConstants.COUNTER,
+                MetricConstants.DATA_SERVICE_QUERY_CACHE_MISS_TOTAL,
+                "Total number of data service query results not found in the result cache.", cacheLabels);
 
         initializeDataServiceErrorMetrics();
     }
@@ -139,7 +139,10 @@ public class PrometheusReporter implements MetricReporter {
                 metricMap.put(metricName, INBOUND_ENDPOINT_LATENCY_HISTOGRAM);
             }
         } else if (serviceType.equalsIgnoreCase(SERVICE.DATA_SERVICE.name())) {
-            if (type.equals(MetricConstants.COUNTER)) {
+            if (type.equals(MetricConstants.COUNTER)
+                    && !MetricConstants.DATA_SERVICE_REQUEST_COUNT_TOTAL.equals(metricName)) {
+                metricMap.put(metricName, Counter.build(metricName, metricHelp).labelNames(labels).register());
+            } else if (type.equals(MetricConstants.COUNTER)) {
                 TOTAL_REQUESTS_RECEIVED_DATA_SERVICE = Counter.build
                                 (MetricConstants.DATA_SERVICE_REQUEST_COUNT_TOTAL, metricHelp).
                         labelNames(labels).register();
@@ -383,6 +386,14 @@ public class PrometheusReporter implements MetricReporter {
         createMetrics("DATA_SERVICE", MetricConstants.HISTOGRAM,
                 MetricConstants.DATA_SERVICE_LATENCY_SECONDS,
                 "Latency of requests to a data service.", labels);
+        String[] cacheLabels = {MetricConstants.SERVICE_NAME, MetricConstants.SERVICE_TYPE,
+                MetricConstants.QUERY_ID};
+        createMetrics("DATA_SERVICE", MetricConstants.COUNTER,
+                MetricConstants.DATA_SERVICE_QUERY_CACHE_HIT_TOTAL,
+                "Total number of data service query results served from the result cache.", cacheLabels);
+        createMetrics("DATA_SERVICE", MetricConstants.COUNTER,
+                MetricConstants.DATA_SERVICE_QUERY_CACHE_MISS_TOTAL,
+                "Total number of data service query results not found in the result cache.", cacheLabels);
 
         initializeDataServiceErrorMetrics();
     }
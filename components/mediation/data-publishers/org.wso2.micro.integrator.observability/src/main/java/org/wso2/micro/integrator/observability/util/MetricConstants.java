@@ -59,6 +59,10 @@ public class MetricConstants {
             "wso2_integration_data_service_request_count_error_total";
     public static final String DATA_SERVICE_LATENCY_SECONDS =
             "wso2_integration_data_service_latency_seconds";
+    public static final String DATA_SERVICE_QUERY_CACHE_HIT_TOTAL =
+            "wso2_integration_data_service_query_cache_hit_total";
+    public static final String DATA_SERVICE_QUERY_CACHE_MISS_TOTAL =
+            "wso2_integration_data_service_query_cache_miss_total";
 
     public static final String SERVER_UP = "wso2_integration_server_up";
     public static final String SERVICE_UP = "wso2_integration_service_up";
@@ -74,6 +78,8 @@ public class MetricConstants {
     public static final String API_LATENCY_TIMER = "API_LATENCY_TIMER";
     public static final String INBOUND_ENDPOINT_LATENCY_TIMER = "INBOUND_ENDPOINT_LATENCY_TIMER";
     public static final String DATA_SERVICE_LATENCY_TIMER = "DATA_SERVICE_LATENCY_TIMER";
+    public static final String DATA_SERVICE_QUERY_CACHE_HITS = "DATA_SERVICE_QUERY_CACHE_HITS";
+    public static final String DATA_SERVICE_QUERY_CACHE_MISSES = "DATA_SERVICE_QUERY_CACHE_MISSES";
 
     public static final String SERVER = "Server";
     public static final String SERVICE = "Service";
@@ -87,6 +93,7 @@ public class MetricConstants {
     public static final String SERVICE_NAME = "service_name";
     public static final String SERVICE_TYPE = "service_type";
     public static final String INVOCATION_URL = "invocation_url";
+    public static final String QUERY_ID = "query_id";
     public static final String JAVA_VERSION_LABEL = "java_version";
     public static final String JAVA_HOME_LABEL = "java_home";
     public static final String HOST = "host";
@@ -30,11 +30,14 @@ import org.wso2.carbon.mediator.datamapper.engine.core.notifiers.InputVariableNo
 import org.wso2.carbon.mediator.datamapper.engine.core.notifiers.OutputVariableNotifier;
 import org.wso2.carbon.mediator.datamapper.engine.input.InputBuilder;
 import org.wso2.carbon.mediator.datamapper.engine.output.OutputMessageBuilder;
+import org.wso2.carbon.mediator.datamapper.engine.output.StreamingOutputAggregator;
 import org.wso2.carbon.mediator.datamapper.engine.utils.InputOutputDataType;
 import org.wso2.carbon.mediator.datamapper.engine.utils.ModelType;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Map;
 
 public class MappingHandler implements InputVariableNotifier, OutputVariableNotifier {
@@ -47,6 +50,8 @@ public class MappingHandler implements InputVariableNotifier, OutputVariableNoti
     private Executor scriptExecutor;
     private InputBuilder inputBuilder;
     private String propertiesInJSON;
+    private InputOutputDataType outputDataType;
+    private StreamingOutputAggregator outputAggregator;
 
     public MappingHandler(MappingResource mappingResource, String inputType, String outputType,
             String dmExecutorPoolSize) throws IOException, SchemaException, WriterException {
@@ -54,8 +59,9 @@ public class MappingHandler implements InputVariableNotifier, OutputVariableNoti
         this.inputBuilder = new InputBuilder(InputOutputDataType.fromString(inputType),
                 mappingResource.getInputSchema());
 
-        this.outputMessageBuilder = new OutputMessageBuilder(InputOutputDataType.fromString(outputType),
-                ModelType.JAVA_MAP, mappingResource.getOutputSchema());
+        this.outputDataType = InputOutputDataType.fromString(outputType);
+        this.outputMessageBuilder = new OutputMessageBuilder(outputDataType, ModelType.JAVA_MAP,
+                mappingResource.getOutputSchema());
 
         this.dmExecutorPoolSize = dmExecutorPoolSize;
         this.mappingResource = mappingResource;
@@ -84,6 +90,55 @@ public class MappingHandler implements InputVariableNotifier, OutputVariableNoti
      */
 	public String doMap(InputStream inputMsg, Map<String, Map<String, Object>> propertiesMap)
 			throws ReaderException, InterruptedException, IOException, SchemaException, JSException {
+		if (isStreaming()) {
+			StringWriter output = new StringWriter();
+			doMap(inputMsg, propertiesMap, output);
+			return output.toString();
+		}
+		return map(inputMsg, propertiesMap);
+	}
+
+    /**
+     * This method performs the mapping in the streaming mode, where the records of the input message are read,
+     * mapped and written to the given output chunk by chunk. The mapping function is executed once per chunk, so it
+     * must map each record independently of the others.
+     *
+     * @param inputMsg      Input message as an InputStream
+     * @param propertiesMap Map of maps, single map for each scope
+     * @param output        Writer to which the combined output message is written
+     * @throws ReaderException
+     * @throws InterruptedException
+     * @throws IOException
+     * @throws SchemaException
+     * @throws JSException
+     */
+    public void doMap(InputStream inputMsg, Map<String, Map<String, Object>> propertiesMap, Writer output)
+            throws ReaderException, InterruptedException, IOException, SchemaException, JSException {
+        if (!isStreaming()) {
+            output.write(map(inputMsg, propertiesMap));
+            output.flush();
+            return;
+        }
+        this.outputAggregator = new StreamingOutputAggregator(outputDataType, mappingResource.getOutputSchema(),
+                output);
+        try {
+            map(inputMsg, propertiesMap);
+        } finally {
+            this.outputAggregator = null;
+        }
+    }
+
+    /**
+     * Check whether the mapping is done chunk by chunk, as flagged in the input schema
+     *
+     * @return true if the input message is streamed
+     */
+    public boolean isStreaming() {
+        return inputBuilder.isStreaming();
+    }
+
+	private String map(InputStream inputMsg, Map<String, Map<String, Object>> propertiesMap)
+			throws ReaderException, InterruptedException, IOException, SchemaException, JSException {
 		ReaderException readerException = null;
 		try {
 			this.scriptExecutor = ScriptExecutorFactory.getScriptExecutor(dmExecutorPoolSize);
@@ -111,20 +166,41 @@ public class MappingHandler implements InputVariableNotifier, OutputVariableNoti
     @Override
     public void notifyInputVariable(Object variable) throws SchemaException, JSException, ReaderException {
         this.inputVariable = (String) variable;
-        Model outputModel = scriptExecutor.execute(mappingResource, inputVariable, propertiesInJSON);
         try {
+            if (scriptExecutor == null) {
+                // executor of the previous chunk is already released when streaming
+                this.scriptExecutor = ScriptExecutorFactory.getScriptExecutor(dmExecutorPoolSize);
+            }
+            Model outputModel = scriptExecutor.execute(mappingResource, inputVariable, propertiesInJSON);
             releaseExecutor();
             if (outputModel.getModel() instanceof Map) {
+                if (outputAggregator != null) {
+                    outputMessageBuilder.resetWriter();
+                }
                 outputMessageBuilder.buildOutputMessage(outputModel, this);
             } else {
                 notifyOutputVariable(outputModel.getModel());
             }
-
+            if (outputAggregator != null) {
+                outputAggregator.append(outputVariable);
+                outputVariable = null;
+            }
         } catch (InterruptedException | WriterException e) {
             throw new ReaderException(e.getMessage());
         }
     }
 
+    @Override
+    public void notifyEndOfInput() throws ReaderException {
+        if (outputAggregator != null) {
+            try {
+                outputAggregator.complete();
+            } catch (WriterException e) {
+                throw new ReaderException(e.getMessage());
+            }
+        }
+    }
+
     private void releaseExecutor() throws InterruptedException {
         ScriptExecutorFactory.releaseScriptExecutor(scriptExecutor);
         this.scriptExecutor = null;
@@ -24,4 +24,6 @@ import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.SchemaExceptio
 public interface InputVariableNotifier {
 
     void notifyInputVariable(Object variable) throws SchemaException, JSException, ReaderException;
+
+    void notifyEndOfInput() throws ReaderException;
 }
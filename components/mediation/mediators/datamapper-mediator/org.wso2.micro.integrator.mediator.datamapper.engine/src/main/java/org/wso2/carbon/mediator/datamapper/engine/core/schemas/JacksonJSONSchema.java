@@ -375,4 +375,27 @@ public class JacksonJSONSchema implements Schema {
     public Map getSchemaMap() {
         return jsonSchemaMap;
     }
+
+    @Override
+    public boolean isStreamingEnabled() {
+        Object streaming = jsonSchemaMap.get(STREAMING_KEY);
+        return streaming != null && Boolean.parseBoolean(streaming.toString());
+    }
+
+    @Override
+    public int getStreamingChunkSize() {
+        Object chunkSize = jsonSchemaMap.get(STREAMING_CHUNK_SIZE_KEY);
+        if (chunkSize != null) {
+            try {
+                int size = Integer.parseInt(chunkSize.toString());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid streaming chunk size " + chunkSize + " found in schema, using the default value "
+                        + DEFAULT_STREAMING_CHUNK_SIZE);
+            }
+        }
+        return DEFAULT_STREAMING_CHUNK_SIZE;
+    }
 }
@@ -64,4 +64,19 @@ public interface Schema {
     boolean isCurrentArrayIsPrimitive();
 
     Map getSchemaMap();
+
+    /**
+     * Method to check whether the schema is flagged for record-oriented streaming, in which case each record of the
+     * root array is read, mapped and written independently of the others
+     *
+     * @return true if the streaming flag is set in the schema
+     */
+    boolean isStreamingEnabled();
+
+    /**
+     * Method to get the number of records read and mapped at once when streaming is enabled
+     *
+     * @return number of records in a single chunk
+     */
+    int getStreamingChunkSize();
 }
@@ -24,6 +24,7 @@ import org.wso2.carbon.mediator.datamapper.engine.core.notifiers.InputVariableNo
 import org.wso2.carbon.mediator.datamapper.engine.core.schemas.Schema;
 import org.wso2.carbon.mediator.datamapper.engine.input.readers.InputReader;
 import org.wso2.carbon.mediator.datamapper.engine.input.readers.InputReaderFactory;
+import org.wso2.carbon.mediator.datamapper.engine.input.readers.StreamingInputReader;
 import org.wso2.carbon.mediator.datamapper.engine.utils.InputOutputDataType;
 
 import java.io.IOException;
@@ -57,7 +58,22 @@ public class InputBuilder {
     public void buildInputModel(InputStream inputStream, InputVariableNotifier inputVariableNotifier)
             throws ReaderException {
         this.inputVariableNotifier = inputVariableNotifier;
-        inputReader.read(inputStream, inputSchema, this);
+        if (isStreaming()) {
+            ((StreamingInputReader) inputReader).readInChunks(inputStream, inputSchema, this,
+                    inputSchema.getStreamingChunkSize());
+        } else {
+            inputReader.read(inputStream, inputSchema, this);
+        }
+    }
+
+    /**
+     * Check whether the input message will be read chunk by chunk. Streaming is used only if the input schema is
+     * flagged for it and the reader of the input type supports it.
+     *
+     * @return true if the input will be notified as a sequence of chunks
+     */
+    public boolean isStreaming() {
+        return inputSchema.isStreamingEnabled() && inputReader instanceof StreamingInputReader;
     }
 
     /**
@@ -72,4 +88,13 @@ public class InputBuilder {
         inputVariableNotifier.notifyInputVariable(builtMessage);
     }
 
+    /**
+     * This method will be called by streaming input readers once all the chunks of the input message are notified
+     *
+     * @throws ReaderException
+     */
+    public void notifyEndOfStream() throws ReaderException {
+        inputVariableNotifier.notifyEndOfInput();
+    }
+
 }
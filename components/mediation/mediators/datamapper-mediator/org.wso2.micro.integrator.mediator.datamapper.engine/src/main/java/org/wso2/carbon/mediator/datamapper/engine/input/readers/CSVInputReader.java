@@ -30,13 +30,21 @@ import org.wso2.carbon.mediator.datamapper.engine.core.schemas.Schema;
 import org.wso2.carbon.mediator.datamapper.engine.input.InputBuilder;
 import org.wso2.carbon.mediator.datamapper.engine.input.builders.JSONBuilder;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.BOOLEAN_ELEMENT_TYPE;
 import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.INTEGER_ELEMENT_TYPE;
@@ -49,9 +57,11 @@ import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineC
 /**
  * This class is responsible for generating the JSON message for the given CSV message
  */
-public class CSVInputReader implements InputReader {
+public class CSVInputReader implements StreamingInputReader {
 
     private static final Log log = LogFactory.getLog(CSVInputReader.class);
+    private static final String CSV_CONTENT_ELEMENT = "text";
+    private static final int MAX_LEADING_WHITESPACE = 8192;
     /* JSON schema for input message */
     private Map jsonSchema;
     /* JSON schema of the input message */
@@ -85,6 +95,110 @@ public class CSVInputReader implements InputReader {
         }
     }
 
+    /**
+     * Read the CSV records one by one from the text content of the input message and notify the message builder
+     * with a JSON array for every chunk of records. The CSV content is never held in memory as a whole. The input
+     * can either be the XML message holding the CSV content in a text element, or the raw UTF-8 encoded CSV content
+     * as received by the transport.
+     *
+     * @param input          input message InputStream
+     * @param inputSchema    schema of the input message
+     * @param messageBuilder reference of the InputBuilder to be notified with each chunk
+     * @param chunkSize      maximum number of records in a chunk
+     * @throws ReaderException
+     */
+    @Override
+    public void readInChunks(InputStream input, Schema inputSchema, InputBuilder messageBuilder, int chunkSize)
+            throws ReaderException {
+        this.inputSchema = inputSchema;
+        this.jsonSchema = inputSchema.getSchemaMap();
+        this.messageBuilder = messageBuilder;
+        XMLStreamReader xmlReader = null;
+        try {
+            BufferedInputStream bufferedInput = new BufferedInputStream(input);
+            Reader csvContent;
+            if (isXMLContent(bufferedInput)) {
+                xmlReader = XMLInputFactory.newInstance().createXMLStreamReader(bufferedInput);
+                if (!moveToCSVContent(xmlReader)) {
+                    throw new ReaderException(
+                            "Request csv data not found. The csv records should contain in a <text></text> tag.");
+                }
+                csvContent = new ElementTextReader(xmlReader);
+            } else {
+                csvContent = new InputStreamReader(bufferedInput, StandardCharsets.UTF_8);
+            }
+            Map<String, Object> fieldMap = (Map<String, Object>) ((Map<String, Object>) ((ArrayList) jsonSchema
+                    .get(ITEMS_KEY)).get(0)).get(PROPERTIES_KEY);
+            List<String> fieldNamesList = new ArrayList<>(fieldMap.keySet());
+            CSVReader csvReader = new CSVReader(csvContent);
+            JSONBuilder chunkBuilder = null;
+            int recordsInChunk = 0;
+            String[] items;
+            while ((items = csvReader.readNext()) != null) {
+                if (chunkBuilder == null) {
+                    chunkBuilder = new JSONBuilder();
+                    chunkBuilder.writeStartArray();
+                }
+                writeRecord(chunkBuilder, items, fieldNamesList, fieldMap);
+                if (++recordsInChunk == chunkSize) {
+                    notifyWithChunk(chunkBuilder);
+                    chunkBuilder = null;
+                    recordsInChunk = 0;
+                }
+            }
+            if (chunkBuilder != null) {
+                notifyWithChunk(chunkBuilder);
+            }
+            messageBuilder.notifyEndOfStream();
+        } catch (IOException | SchemaException | JSException | XMLStreamException e) {
+            throw new ReaderException("Error while parsing CSV input stream. " + e.getMessage());
+        } finally {
+            if (xmlReader != null) {
+                try {
+                    xmlReader.close();
+                } catch (XMLStreamException e) {
+                    log.warn("Error while closing the CSV input stream reader", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether the input is an XML message by peeking at its first non whitespace character, leaving the
+     * stream at its start.
+     */
+    private boolean isXMLContent(BufferedInputStream input) throws IOException {
+        input.mark(MAX_LEADING_WHITESPACE);
+        try {
+            for (int i = 0; i < MAX_LEADING_WHITESPACE; i++) {
+                int c = input.read();
+                if (c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                    return c == '<';
+                }
+            }
+            return false;
+        } finally {
+            input.reset();
+        }
+    }
+
+    private boolean moveToCSVContent(XMLStreamReader xmlReader) throws XMLStreamException {
+        while (xmlReader.hasNext()) {
+            if (xmlReader.next() == XMLStreamConstants.START_ELEMENT && CSV_CONTENT_ELEMENT
+                    .equals(xmlReader.getLocalName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void notifyWithChunk(JSONBuilder chunkBuilder)
+            throws IOException, JSException, SchemaException, ReaderException {
+        chunkBuilder.writeEndArray();
+        chunkBuilder.close();
+        messageBuilder.notifyWithResult(chunkBuilder.getContent());
+    }
+
     /**
      * Populate CSV content to a JSON message
      *
@@ -115,18 +229,24 @@ public class CSVInputReader implements InputReader {
             jsonBuilder.writeStartArray();
 
             for (String[] items : allData) {
-                jsonBuilder.writeStartObject();
-                for (int i = 0; i < items.length; i++) {
-                    writeFieldElement(fieldNamesList.get(i), items[i],
-                                      getElementTypeByName(fieldNamesList.get(i), fieldMap));
-                }
-                jsonBuilder.writeEndObject();
+                writeRecord(jsonBuilder, items, fieldNamesList, fieldMap);
             }
             jsonBuilder.writeEndArray();
         }
         writeTerminateElement();
     }
 
+    private void writeRecord(JSONBuilder builder, String[] items, List<String> fieldNamesList,
+                             Map<String, Object> fieldMap)
+            throws IOException, JSException, SchemaException, ReaderException {
+        builder.writeStartObject();
+        for (int i = 0; i < items.length; i++) {
+            writeFieldElement(builder, fieldNamesList.get(i), items[i],
+                              getElementTypeByName(fieldNamesList.get(i), fieldMap));
+        }
+        builder.writeEndObject();
+    }
+
     /**
      * Extract CSV content from the input message
      *
@@ -159,23 +279,23 @@ public class CSVInputReader implements InputReader {
         return inputSchema;
     }
 
-    private void writeFieldElement(String fieldName, String valueString, String fieldType)
+    private void writeFieldElement(JSONBuilder builder, String fieldName, String valueString, String fieldType)
             throws IOException, JSException, SchemaException, ReaderException {
         switch (fieldType) {
         case STRING_ELEMENT_TYPE:
-            jsonBuilder.writeField(fieldName, valueString, fieldType);
+            builder.writeField(fieldName, valueString, fieldType);
             break;
         case BOOLEAN_ELEMENT_TYPE:
-            jsonBuilder.writeField(fieldName, Boolean.parseBoolean(valueString), fieldType);
+            builder.writeField(fieldName, Boolean.parseBoolean(valueString), fieldType);
             break;
         case NUMBER_ELEMENT_TYPE:
-            jsonBuilder.writeField(fieldName, Double.parseDouble(valueString), fieldType);
+            builder.writeField(fieldName, Double.parseDouble(valueString), fieldType);
             break;
         case INTEGER_ELEMENT_TYPE:
-            jsonBuilder.writeField(fieldName, Integer.parseInt(valueString), fieldType);
+            builder.writeField(fieldName, Integer.parseInt(valueString), fieldType);
             break;
         default:
-            jsonBuilder.writeField(fieldName, valueString, fieldType);
+            builder.writeField(fieldName, valueString, fieldType);
 
         }
     }
@@ -185,4 +305,53 @@ public class CSVInputReader implements InputReader {
         String jsonBuiltMessage = jsonBuilder.getContent();
         messageBuilder.notifyWithResult(jsonBuiltMessage);
     }
-}
\ No newline at end of file
+
+    /**
+     * Reader which exposes the text content of the current XML element by copying the character events of the
+     * underlying stream reader, so that the CSV parser can consume the content without building it as a String.
+     */
+    private static class ElementTextReader extends Reader {
+
+        private final XMLStreamReader xmlReader;
+        private int textOffset;
+        private int textLength;
+        private boolean ended;
+
+        ElementTextReader(XMLStreamReader xmlReader) {
+            this.xmlReader = xmlReader;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            try {
+                while (textOffset >= textLength) {
+                    if (ended || !xmlReader.hasNext()) {
+                        return -1;
+                    }
+                    int event = xmlReader.next();
+                    if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                            || event == XMLStreamConstants.SPACE) {
+                        textOffset = 0;
+                        textLength = xmlReader.getTextLength();
+                    } else if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                        ended = true;
+                    }
+                }
+                int copied = xmlReader.getTextCharacters(textOffset, buffer, offset,
+                                                         Math.min(length, textLength - textOffset));
+                textOffset += copied;
+                return copied;
+            } catch (XMLStreamException e) {
+                throw new IOException("Error while reading CSV content. " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() {
+            ended = true;
+        }
+    }
+}
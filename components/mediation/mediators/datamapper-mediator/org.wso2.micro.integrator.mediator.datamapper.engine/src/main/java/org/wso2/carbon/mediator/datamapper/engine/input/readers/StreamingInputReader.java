@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.mediator.datamapper.engine.input.readers;
+
+import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.ReaderException;
+import org.wso2.carbon.mediator.datamapper.engine.core.schemas.Schema;
+import org.wso2.carbon.mediator.datamapper.engine.input.InputBuilder;
+
+import java.io.InputStream;
+
+/**
+ * This interface should be implemented by data-mapper input readers which are able to read record-oriented input
+ * messages chunk by chunk without materializing the whole message.
+ */
+public interface StreamingInputReader extends InputReader {
+
+    /**
+     * Read the records of the root array of the input message and notify the message builder with a JSON array
+     * message for every chunk of at most chunkSize records.
+     *
+     * @param input          input message InputStream
+     * @param inputSchema    schema of the input message
+     * @param messageBuilder reference of the InputBuilder to be notified with each chunk
+     * @param chunkSize      maximum number of records in a chunk
+     * @throws ReaderException
+     */
+    void readInChunks(InputStream input, Schema inputSchema, InputBuilder messageBuilder, int chunkSize)
+            throws ReaderException;
+}
@@ -19,7 +19,9 @@ package org.wso2.carbon.mediator.datamapper.engine.input.readers;
 
 import org.apache.axiom.om.OMAttribute;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
 import org.apache.axiom.om.OMNamespace;
+import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.OMXMLBuilderFactory;
 import org.apache.axiom.om.OMXMLParserWrapper;
 import org.apache.commons.lang.StringUtils;
@@ -67,7 +69,7 @@ import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineC
 /**
  * This class is capable of parsing XML through AXIOMS for the InputStream and build the respective JSON message
  */
-public class XMLInputReader implements InputReader {
+public class XMLInputReader implements StreamingInputReader {
 
     private static final Log log = LogFactory.getLog(XMLInputReader.class);
 
@@ -127,6 +129,95 @@ public class XMLInputReader implements InputReader {
 
     }
 
+    /**
+     * Read the record elements under the root element one by one and notify with a JSON message for every chunk of
+     * records. Each chunk is wrapped in a copy of the root element, so the mapping function sees the same structure
+     * as in the non-streaming mode. Records are detached from the deferred AXIOM tree once read, which keeps the
+     * built part of the input bounded by the chunk size.
+     *
+     * @param input          XML message InputStream
+     * @param inputSchema    Schema of the input message
+     * @param messageBuilder Reference of the InputXMLMessageBuilder
+     * @param chunkSize      maximum number of records in a chunk
+     * @throws ReaderException Exceptions in the parsing stage
+     */
+    @Override
+    public void readInChunks(InputStream input, Schema inputSchema, InputBuilder messageBuilder, int chunkSize)
+            throws ReaderException {
+
+        this.messageBuilder = messageBuilder;
+        this.inputSchema = inputSchema;
+
+        OMXMLParserWrapper parserWrapper = OMXMLBuilderFactory.createOMBuilder(input);
+        OMElement root = parserWrapper.getDocumentElement();
+        this.jsonSchema = getInputSchema().getSchemaMap();
+
+        try {
+            OMElement chunkRoot = null;
+            int recordsInChunk = 0;
+            OMElement record = nextElement(root.getFirstOMChild());
+            while (record != null) {
+                /* moving to the next sibling completes the current record, so it can be detached safely */
+                OMElement nextRecord = nextElement(record.getNextOMSibling());
+                record.detach();
+                if (chunkRoot == null) {
+                    chunkRoot = createChunkRoot(root);
+                }
+                chunkRoot.addChild(record);
+                if (++recordsInChunk == chunkSize) {
+                    readChunk(chunkRoot);
+                    chunkRoot = null;
+                    recordsInChunk = 0;
+                }
+                record = nextRecord;
+            }
+            if (chunkRoot != null) {
+                readChunk(chunkRoot);
+            }
+            messageBuilder.notifyEndOfStream();
+        } catch (IOException | JSException | SchemaException | InvalidPayloadException e) {
+            throw new ReaderException("Error while parsing XML input stream. " + e.getMessage());
+        } finally {
+            parserWrapper.close();
+        }
+    }
+
+    /**
+     * Returns the first element starting from the given node, detaching the text and comment nodes in between so
+     * that they are not retained by the root element.
+     */
+    private OMElement nextElement(OMNode node) {
+        while (node != null && node.getType() != OMNode.ELEMENT_NODE) {
+            OMNode next = node.getNextOMSibling();
+            node.detach();
+            node = next;
+        }
+        return (OMElement) node;
+    }
+
+    private OMElement createChunkRoot(OMElement root) {
+        OMFactory factory = root.getOMFactory();
+        OMElement chunkRoot = factory.createOMElement(root.getLocalName(), root.getNamespace());
+        Iterator<OMNamespace> namespaces = root.getAllDeclaredNamespaces();
+        while (namespaces.hasNext()) {
+            chunkRoot.declareNamespace(namespaces.next());
+        }
+        Iterator<OMAttribute> attributes = root.getAllAttributes();
+        while (attributes.hasNext()) {
+            OMAttribute attribute = attributes.next();
+            chunkRoot.addAttribute(attribute.getLocalName(), attribute.getAttributeValue(), attribute.getNamespace());
+        }
+        return chunkRoot;
+    }
+
+    private void readChunk(OMElement chunkRoot)
+            throws IOException, ReaderException, SchemaException, JSException, InvalidPayloadException {
+        this.jsonBuilder = new JSONBuilder();
+        xmlTraverse(chunkRoot, null, jsonSchema);
+        jsonBuilder.writeEndObject();
+        writeTerminateElement();
+    }
+
     /**
      * This method will perform a Depth First Search on the XML message and build the json message
      *
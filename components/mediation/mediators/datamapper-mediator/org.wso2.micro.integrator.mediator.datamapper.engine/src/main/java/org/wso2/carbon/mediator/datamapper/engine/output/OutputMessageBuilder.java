@@ -34,12 +34,14 @@ public class OutputMessageBuilder {
 
     private Formatter formatter;
     private Writer outputWriter;
+    private InputOutputDataType dataType;
     private Schema outputSchema;
     private OutputVariableNotifier outputVariableNotifier;
 
     public OutputMessageBuilder(InputOutputDataType dataType, ModelType modelType, Schema outputSchema)
             throws SchemaException, WriterException {
         this.outputSchema = outputSchema;
+        this.dataType = dataType;
         this.formatter = FormatterFactory.getFormatter(modelType);
         this.outputWriter = WriterFactory.getWriter(dataType, outputSchema);
     }
@@ -50,6 +52,17 @@ public class OutputMessageBuilder {
         formatter.format(outputModel, this, outputSchema);
     }
 
+    /**
+     * Replace the output writer with a new one, so that the builder can be used to build another output message.
+     * Used when the input is mapped chunk by chunk.
+     *
+     * @throws SchemaException
+     * @throws WriterException
+     */
+    public void resetWriter() throws SchemaException, WriterException {
+        this.outputWriter = WriterFactory.getWriter(dataType, outputSchema);
+    }
+
     public void notifyEvent(ReaderEvent readerEvent) throws SchemaException, WriterException {
         switch (readerEvent.getEventType()) {
             case OBJECT_START:
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.mediator.datamapper.engine.output;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.SchemaException;
+import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.WriterException;
+import org.wso2.carbon.mediator.datamapper.engine.core.schemas.Schema;
+import org.wso2.carbon.mediator.datamapper.engine.output.writers.XMLWriter;
+import org.wso2.carbon.mediator.datamapper.engine.utils.InputOutputDataType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.ARRAY_ELEMENT_TYPE;
+import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.PROPERTIES_KEY;
+import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.STREAMING_RECORDS_KEY;
+import static org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants.TYPE_KEY;
+
+/**
+ * This class combines the output messages produced for each chunk of a streamed input into a single output message
+ * and writes it to the given target as the chunks arrive, so that only one chunk of output is held at a time.
+ */
+public class StreamingOutputAggregator {
+
+    private static final String XML_END_TAG_START = "</";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final InputOutputDataType outputType;
+    private final Schema outputSchema;
+    private final Writer target;
+    private String recordsField;
+    private boolean started;
+    private String closingMarkup;
+    private JsonGenerator jsonGenerator;
+    private boolean jsonRootIsObject;
+    private Map<String, String> trailingJSONFields;
+    private String emptyXMLOutput;
+
+    /**
+     * @param outputType   type of the combined output message
+     * @param outputSchema schema of the output message, used to find the record array of a JSON root object
+     * @param target       writer to which the combined output message is written
+     */
+    public StreamingOutputAggregator(InputOutputDataType outputType, Schema outputSchema, Writer target) {
+        this.outputType = outputType;
+        this.outputSchema = outputSchema;
+        this.target = target;
+        this.recordsField = outputType == InputOutputDataType.JSON ? getRecordsField(outputSchema) : null;
+    }
+
+    /**
+     * Append the output message of a single chunk to the combined output
+     *
+     * @param chunkOutput output message built for a chunk of input records
+     * @throws WriterException if the chunk output cannot be combined
+     */
+    public void append(String chunkOutput) throws WriterException {
+        if (chunkOutput == null) {
+            return;
+        }
+        try {
+            switch (outputType) {
+            case CSV:
+                target.write(chunkOutput);
+                break;
+            case JSON:
+                appendJSON(chunkOutput.trim());
+                break;
+            case XML:
+                appendXML(chunkOutput.trim());
+                break;
+            default:
+                throw new WriterException("Streaming is not supported for output type " + outputType);
+            }
+        } catch (IOException e) {
+            throw new WriterException("Error while writing streamed output. " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the closing markup of the combined output and flush the target
+     *
+     * @throws WriterException if the target cannot be written
+     */
+    public void complete() throws WriterException {
+        try {
+            if (outputType == InputOutputDataType.JSON) {
+                completeJSON();
+            } else if (outputType == InputOutputDataType.XML) {
+                completeXML();
+            }
+            target.flush();
+        } catch (IOException e) {
+            throw new WriterException("Error while writing streamed output. " + e.getMessage());
+        }
+    }
+
+    /**
+     * The records of a chunk are the elements of the root JSON array, or of the record array field of the root JSON
+     * object. The other fields of a root object are taken from the first chunk and written once, around the records
+     * of all the chunks. The chunk output is read as a token stream, so brackets and quotes inside values or other
+     * array fields do not affect where the records are found.
+     */
+    private void appendJSON(String chunkOutput) throws IOException, WriterException {
+        boolean firstChunk = !started;
+        try (JsonParser parser = JSON_FACTORY.createParser(chunkOutput)) {
+            JsonToken rootToken = parser.nextToken();
+            if (rootToken == JsonToken.START_ARRAY) {
+                if (firstChunk) {
+                    getJSONGenerator().writeStartArray();
+                    started = true;
+                }
+                copyRecords(parser);
+            } else if (rootToken == JsonToken.START_OBJECT) {
+                if (recordsField == null) {
+                    recordsField = findRecordsField(chunkOutput);
+                }
+                Map<String, String> leadingFields = new LinkedHashMap<>();
+                boolean recordsFound = false;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.getCurrentName();
+                    JsonToken valueToken = parser.nextToken();
+                    if (!recordsFound && valueToken == JsonToken.START_ARRAY && recordsField.equals(fieldName)) {
+                        recordsFound = true;
+                        if (firstChunk) {
+                            startJSONObject(leadingFields, fieldName);
+                        }
+                        copyRecords(parser);
+                    } else if (firstChunk) {
+                        String value = copyToString(parser);
+                        if (recordsFound) {
+                            trailingJSONFields.put(fieldName, value);
+                        } else {
+                            leadingFields.put(fieldName, value);
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (!recordsFound) {
+                    throw new WriterException("Streaming requires the mapping to produce a JSON array of records in "
+                            + "the field '" + recordsField + "' for each chunk");
+                }
+            } else {
+                throw new WriterException("Streaming requires the mapping to produce a JSON array or object for "
+                        + "each chunk");
+            }
+        }
+    }
+
+    private void startJSONObject(Map<String, String> leadingFields, String recordsFieldName) throws IOException {
+        JsonGenerator generator = getJSONGenerator();
+        generator.writeStartObject();
+        for (Map.Entry<String, String> field : leadingFields.entrySet()) {
+            generator.writeFieldName(field.getKey());
+            generator.writeRawValue(field.getValue());
+        }
+        generator.writeFieldName(recordsFieldName);
+        generator.writeStartArray();
+        jsonRootIsObject = true;
+        trailingJSONFields = new LinkedHashMap<>();
+        started = true;
+    }
+
+    private void completeJSON() throws IOException {
+        JsonGenerator generator = getJSONGenerator();
+        if (!started) {
+            // no records were streamed
+            generator.writeStartArray();
+        }
+        generator.writeEndArray();
+        if (jsonRootIsObject) {
+            for (Map.Entry<String, String> field : trailingJSONFields.entrySet()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeRawValue(field.getValue());
+            }
+            generator.writeEndObject();
+        }
+        generator.flush();
+    }
+
+    /**
+     * Copy the elements of the array the parser is positioned at to the combined output
+     */
+    private void copyRecords(JsonParser parser) throws IOException {
+        JsonGenerator generator = getJSONGenerator();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            copyValue(parser, generator);
+        }
+    }
+
+    private String copyToString(JsonParser parser) throws IOException {
+        StringWriter value = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(value)) {
+            copyValue(parser, generator);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Copy the value the parser is positioned at, keeping numbers exactly as they were written by the mapping
+     */
+    private void copyValue(JsonParser parser, JsonGenerator generator) throws IOException {
+        int depth = 0;
+        do {
+            JsonToken token = parser.getCurrentToken();
+            switch (token) {
+            case START_OBJECT:
+                generator.writeStartObject();
+                depth++;
+                break;
+            case START_ARRAY:
+                generator.writeStartArray();
+                depth++;
+                break;
+            case END_OBJECT:
+                generator.writeEndObject();
+                depth--;
+                break;
+            case END_ARRAY:
+                generator.writeEndArray();
+                depth--;
+                break;
+            case FIELD_NAME:
+                generator.writeFieldName(parser.getCurrentName());
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                generator.writeNumber(parser.getText());
+                break;
+            default:
+                generator.copyCurrentEvent(parser);
+            }
+        } while (depth > 0 && parser.nextToken() != null);
+    }
+
+    /**
+     * Returns the only array field of a JSON root object, used as the record array when the output schema does not
+     * name one.
+     */
+    private String findRecordsField(String chunkOutput) throws IOException, WriterException {
+        String arrayField = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(chunkOutput)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY) {
+                    if (arrayField != null) {
+                        throw new WriterException("Cannot decide which array of the JSON output holds the streamed "
+                                + "records. Set the '" + STREAMING_RECORDS_KEY + "' property of the output schema "
+                                + "to the name of the record array");
+                    }
+                    arrayField = fieldName;
+                }
+                parser.skipChildren();
+            }
+        }
+        if (arrayField == null) {
+            throw new WriterException("Streaming requires the mapping to produce a JSON array of records for each "
+                    + "chunk");
+        }
+        return arrayField;
+    }
+
+    private JsonGenerator getJSONGenerator() throws IOException {
+        if (jsonGenerator == null) {
+            jsonGenerator = JSON_FACTORY.createGenerator(target);
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+        return jsonGenerator;
+    }
+
+    /**
+     * Returns the name of the record array field of a JSON root object, which is the field named by the
+     * "streamingRecords" key of the output schema or else the only array property of the root object. Null is
+     * returned when the schema does not decide it, in which case the only array field of the first chunk is used.
+     */
+    private static String getRecordsField(Schema outputSchema) {
+        if (outputSchema == null || outputSchema.getSchemaMap() == null) {
+            return null;
+        }
+        Map schemaMap = outputSchema.getSchemaMap();
+        Object configuredField = schemaMap.get(STREAMING_RECORDS_KEY);
+        if (configuredField != null) {
+            return configuredField.toString();
+        }
+        String arrayProperty = null;
+        Object properties = schemaMap.get(PROPERTIES_KEY);
+        if (properties instanceof Map) {
+            for (Object property : ((Map) properties).entrySet()) {
+                Map.Entry entry = (Map.Entry) property;
+                if (entry.getValue() instanceof Map
+                        && ARRAY_ELEMENT_TYPE.equals(((Map) entry.getValue()).get(TYPE_KEY))) {
+                    if (arrayProperty != null) {
+                        return null;
+                    }
+                    arrayProperty = entry.getKey().toString();
+                }
+            }
+        }
+        return arrayProperty;
+    }
+
+    private void appendXML(String chunkOutput) throws IOException, WriterException {
+        int startTagEnd = getStartTagEnd(chunkOutput);
+        if (startTagEnd < 0) {
+            throw new WriterException("Invalid XML output found while streaming : " + chunkOutput);
+        }
+        if (chunkOutput.charAt(startTagEnd - 1) == '/') {
+            // empty root element, nothing to append for this chunk, but written if no chunk has records
+            if (emptyXMLOutput == null) {
+                emptyXMLOutput = chunkOutput;
+            }
+            return;
+        }
+        int endTagStart = chunkOutput.lastIndexOf(XML_END_TAG_START);
+        if (endTagStart < startTagEnd) {
+            throw new WriterException("Invalid XML output found while streaming : " + chunkOutput);
+        }
+        if (!started) {
+            target.write(chunkOutput, 0, startTagEnd + 1);
+            closingMarkup = chunkOutput.substring(endTagStart);
+            started = true;
+        }
+        target.write(chunkOutput, startTagEnd + 1, endTagStart - startTagEnd - 1);
+    }
+
+    private void completeXML() throws IOException, WriterException {
+        if (started) {
+            target.write(closingMarkup);
+        } else if (emptyXMLOutput != null) {
+            target.write(emptyXMLOutput);
+        } else {
+            // no records were streamed, write the empty root element of the output schema
+            if (outputSchema == null) {
+                throw new WriterException("Cannot write an empty XML output without the output schema");
+            }
+            try {
+                target.write(new XMLWriter(outputSchema).terminateMessageBuilding());
+            } catch (SchemaException e) {
+                throw new WriterException("Error while writing an empty XML output. " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the '>' closing the root start tag, skipping any XML declaration and quoted attribute
+     * values.
+     */
+    private int getStartTagEnd(String xml) {
+        int index = 0;
+        if (xml.startsWith("<?")) {
+            index = xml.indexOf("?>") + 2;
+            if (index < 2) {
+                return -1;
+            }
+        }
+        index = xml.indexOf('<', index);
+        if (index < 0) {
+            return -1;
+        }
+        char quote = 0;
+        for (int i = index; i < xml.length(); i++) {
+            char c = xml.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -71,4 +71,8 @@ public class DataMapperEngineConstants {
     public static final String FIRST_ELEMENT_OF_THE_INPUT = "xmlns:firstElementOfTheInput";
     public static final String XSLT_COMPATIBLE_DEFAULT = "false";
     public static final String OUTPUT_TYPE = "outputType";
+    public static final String STREAMING_KEY = "streaming";
+    public static final String STREAMING_CHUNK_SIZE_KEY = "chunkSize";
+    public static final String STREAMING_RECORDS_KEY = "streamingRecords";
+    public static final int DEFAULT_STREAMING_CHUNK_SIZE = 500;
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.mediator.datamapper.engine.core.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Test the streamed mapping of an input message, which is mapped and written chunk by chunk while it is read.
+ */
+public class StreamingMappingTest {
+
+    private static final int DESCRIPTION_LENGTH = 4096;
+    // a few MB of input, mapped in chunks of 500 records as configured in the input schema
+    private static final long RECORD_COUNT = 2000;
+
+    @Test
+    public void testMapInputChunkByChunk() throws Exception {
+        long recordCount = RECORD_COUNT;
+        MappingResource mappingResource = new MappingResource(getResource("csv_inschema.json"),
+                getResource("json_outschema.json"), getResource("csv_to_json.dmc"), "JSON");
+        MappingHandler mappingHandler = new MappingHandler(mappingResource, "CSV", "JSON", "1");
+        Assert.assertTrue(mappingHandler.isStreaming());
+
+        StringWriter output = new StringWriter();
+        CSVRecordStream input = new CSVRecordStream(recordCount, output);
+        mappingHandler.doMap(input, new HashMap<>(), output);
+
+        // the output of the earlier chunks is written before the whole input is read
+        Assert.assertTrue("Output should be written while the input is read",
+                input.getOutputLengthAtEndOfInput() > output.getBuffer().length() / 2);
+
+        long records = 0;
+        int tags = 0;
+        String source = null;
+        try (JsonParser parser = new JsonFactory().createParser(output.toString())) {
+            Assert.assertEquals(JsonToken.START_OBJECT, parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("source".equals(field)) {
+                    source = parser.getText();
+                } else if ("tags".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        tags++;
+                    }
+                } else if ("records".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String recordField = parser.getCurrentName();
+                            parser.nextToken();
+                            if ("size".equals(recordField)) {
+                                Assert.assertEquals(DESCRIPTION_LENGTH, parser.getIntValue());
+                            }
+                        }
+                        records++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        Assert.assertEquals("csv [streamed]", source);
+        Assert.assertEquals("Fields outside the records should be written once", 1, tags);
+        Assert.assertEquals(recordCount, records);
+    }
+
+    private InputStream getResource(String name) {
+        return getClass().getClassLoader().getResourceAsStream("streaming/" + name);
+    }
+
+    /**
+     * Generates the CSV records while they are read, so that the input message is never held in memory, and records
+     * how much output was written when the end of the input is reached.
+     */
+    private static class CSVRecordStream extends InputStream {
+
+        private final long recordCount;
+        private final String description;
+        private final StringWriter output;
+        private int outputLengthAtEndOfInput = -1;
+        private long nextRecord;
+        private byte[] record = new byte[0];
+        private int position;
+
+        CSVRecordStream(long recordCount, StringWriter output) {
+            this.recordCount = recordCount;
+            this.output = output;
+            char[] descriptionChars = new char[DESCRIPTION_LENGTH];
+            Arrays.fill(descriptionChars, 'x');
+            this.description = new String(descriptionChars);
+        }
+
+        @Override
+        public int read() {
+            if (position == record.length) {
+                if (nextRecord == recordCount) {
+                    if (outputLengthAtEndOfInput < 0) {
+                        outputLengthAtEndOfInput = output.getBuffer().length();
+                    }
+                    return -1;
+                }
+                record = (nextRecord + ",name-" + nextRecord + "," + description + "\n")
+                        .getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                nextRecord++;
+            }
+            return record[position++];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int copied = 0;
+            while (copied < length) {
+                int next = read();
+                if (next < 0) {
+                    return copied == 0 ? -1 : copied;
+                }
+                buffer[offset + copied++] = (byte) next;
+            }
+            return copied;
+        }
+
+        int getOutputLengthAtEndOfInput() {
+            return outputLengthAtEndOfInput;
+        }
+    }
+}
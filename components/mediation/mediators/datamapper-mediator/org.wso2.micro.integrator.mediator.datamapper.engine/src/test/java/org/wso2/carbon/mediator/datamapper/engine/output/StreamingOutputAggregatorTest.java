@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.mediator.datamapper.engine.output;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.WriterException;
+import org.wso2.carbon.mediator.datamapper.engine.core.schemas.JacksonJSONSchema;
+import org.wso2.carbon.mediator.datamapper.engine.utils.InputOutputDataType;
+
+import java.io.StringWriter;
+
+/**
+ * Test combining the output of the streamed chunks.
+ */
+public class StreamingOutputAggregatorTest {
+
+    @Test
+    public void testJSONRootArray() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.JSON, null, output);
+        aggregator.append("[{\"name\":\"a [1]\",\"values\":[1,2]}]");
+        aggregator.append(" [{\"name\":\"]\",\"values\":[]}, 2.50] ");
+        aggregator.complete();
+        Assert.assertEquals("[{\"name\":\"a [1]\",\"values\":[1,2]},{\"name\":\"]\",\"values\":[]},2.50]",
+                output.toString());
+    }
+
+    @Test
+    public void testJSONRootObjectWithOtherArrays() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.JSON,
+                new JacksonJSONSchema(getClass().getClassLoader()
+                        .getResourceAsStream("streaming/json_outschema.json")), output);
+        aggregator.append("{\"source\":\"csv [1]\",\"tags\":[{\"name\":\"x]\"}],\"records\":[{\"name\":\"a\"}],"
+                + "\"total\":{\"values\":[1]}}");
+        aggregator.append("{\"source\":\"csv [2]\",\"tags\":[{\"name\":\"y\"}],\"records\":[{\"name\":\"[b\"}],"
+                + "\"total\":{\"values\":[2]}}");
+        aggregator.complete();
+        Assert.assertEquals("{\"source\":\"csv [1]\",\"tags\":[{\"name\":\"x]\"}],"
+                + "\"records\":[{\"name\":\"a\"},{\"name\":\"[b\"}],\"total\":{\"values\":[1]}}", output.toString());
+    }
+
+    @Test
+    public void testJSONRecordsFieldWithoutSchema() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.JSON, null, output);
+        aggregator.append("{\"header\":\"]\",\"rows\":[1]}");
+        aggregator.append("{\"header\":\"]\",\"rows\":[2,3]}");
+        aggregator.complete();
+        Assert.assertEquals("{\"header\":\"]\",\"rows\":[1,2,3]}", output.toString());
+    }
+
+    @Test(expected = WriterException.class)
+    public void testJSONAmbiguousRecordsField() throws Exception {
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.JSON, null,
+                new StringWriter());
+        aggregator.append("{\"tags\":[\"a\"],\"rows\":[1]}");
+    }
+
+    @Test
+    public void testJSONWithoutRecords() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.JSON, null, output);
+        aggregator.complete();
+        Assert.assertEquals("[]", output.toString());
+    }
+
+    @Test
+    public void testXMLChunks() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.XML, null, output);
+        aggregator.append("<?xml version=\"1.0\"?><rows a=\"x>y\"><row>1</row></rows>");
+        aggregator.append("<rows a=\"x>y\"><row>2</row></rows>");
+        aggregator.complete();
+        Assert.assertEquals("<?xml version=\"1.0\"?><rows a=\"x>y\"><row>1</row><row>2</row></rows>",
+                output.toString());
+    }
+
+    @Test
+    public void testXMLWithoutRecords() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.XML,
+                new JacksonJSONSchema(getClass().getClassLoader()
+                        .getResourceAsStream("streaming/json_outschema.json")), output);
+        aggregator.complete();
+        // an element without content may be written as an empty element tag
+        Assert.assertTrue(output.toString(), output.toString().matches("<result(></result>|/>)"));
+    }
+
+    @Test
+    public void testXMLWithEmptyChunks() throws Exception {
+        StringWriter output = new StringWriter();
+        StreamingOutputAggregator aggregator = new StreamingOutputAggregator(InputOutputDataType.XML, null, output);
+        aggregator.append("<rows a=\"x\"/>");
+        aggregator.append("<rows a=\"x\"/>");
+        aggregator.complete();
+        Assert.assertEquals("<rows a=\"x\"/>", output.toString());
+    }
+}
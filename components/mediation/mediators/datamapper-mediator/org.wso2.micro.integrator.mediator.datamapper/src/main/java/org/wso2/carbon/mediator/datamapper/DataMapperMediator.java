@@ -18,15 +18,21 @@
 package org.wso2.carbon.mediator.datamapper;
 
 import com.google.gson.Gson;
+import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMException;
+import org.apache.axiom.om.OMXMLBuilderFactory;
+import org.apache.axiom.om.ds.WrappedTextNodeOMDataSourceFromReader;
 import org.apache.axiom.om.impl.llom.OMTextImpl;
 import org.apache.axiom.om.util.AXIOMUtil;
 import org.apache.axiom.soap.SOAP11Constants;
 import org.apache.axiom.soap.SOAP12Constants;
 import org.apache.axiom.soap.SOAPEnvelope;
 import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.AutoCloseInputStream;
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -44,6 +50,9 @@ import org.apache.synapse.mediators.AbstractMediator;
 import org.apache.synapse.mediators.Value;
 import org.apache.synapse.mediators.template.TemplateContext;
 import org.apache.synapse.mediators.v2.VariableMediator;
+import org.apache.synapse.transport.passthru.PassThroughConstants;
+import org.apache.synapse.transport.passthru.Pipe;
+import org.apache.synapse.transport.passthru.util.RelayUtils;
 import org.apache.synapse.util.AXIOMUtils;
 import org.wso2.carbon.mediator.datamapper.config.xml.DataMapperMediatorConstants;
 import org.wso2.carbon.mediator.datamapper.engine.core.exceptions.JSException;
@@ -57,6 +66,7 @@ import org.wso2.carbon.mediator.datamapper.engine.core.mapper.MappingHandler;
 import org.wso2.carbon.mediator.datamapper.engine.core.mapper.MappingResource;
 import org.wso2.carbon.mediator.datamapper.engine.core.mapper.XSLTMappingHandler;
 import org.wso2.carbon.mediator.datamapper.engine.core.mapper.XSLTMappingResource;
+import org.wso2.carbon.mediator.datamapper.engine.core.schemas.JacksonJSONSchema;
 import org.wso2.carbon.mediator.datamapper.engine.core.schemas.Schema;
 import org.wso2.carbon.mediator.datamapper.engine.utils.DataMapperEngineConstants;
 import org.wso2.carbon.mediator.datamapper.engine.utils.InputOutputDataType;
@@ -71,8 +81,15 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.TransformerException;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.ref.Cleaner;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -107,6 +124,12 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
     private static final Log log = LogFactory.getLog(DataMapperMediator.class);
     private static final String cSVToXMLOpeningTag = "<text xmlns=\"http://ws.apache.org/commons/ns/payload\">";
     private static final String cSVToXMLClosingTag = "</text>";
+    private static final QName CSV_TEXT_WRAPPER = new QName("http://ws.apache.org/commons/ns/payload", "text");
+    private static final String SOAP_ENVELOPE_ELEMENT = "soapenv:Envelope";
+    /* streamed output up to this size is kept in memory, larger output is spooled to a temporary file */
+    private static final int STREAMED_OUTPUT_MEMORY_THRESHOLD = 1024 * 1024;
+    /* removes the spool files of streamed output which is dropped from the message without being read */
+    private static final Cleaner SPOOL_CLEANER = Cleaner.create();
     private static final int INDEX_OF_CONTEXT = 0;
     private static final int INDEX_OF_NAME = 1;
     private static List<JSFunction> compiledFunctionList = new ArrayList<>();
@@ -123,6 +146,7 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
     private final Object xsltHandlerLock = new Object();
     private String targetVariableName = null;
     private String target = null;
+    private boolean streamingInput = false;
     private static ScriptRunner scriptRunner = null;
 
     /**
@@ -352,6 +376,7 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
         if (target != null || targetVariableName != null) {
             // new datamapping behaviour without schema validation is decided based on above attributes
             try {
+                buildMessage(synCtx);
                 String input = getInput(synCtx, inputType);
                 String output = transform(synCtx, mappingConfigurationKey.evaluateValue(synCtx), input);
 
@@ -538,6 +563,7 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
                         }
                     }
                 }
+                buildMessage(synCtx);
                 outputResult = xsltMappingHandler.doMap(
                         getPropertiesMapForXSLT(xsltMappingResource.getRunTimeProperties(), synCtx),
                         getInputStream(synCtx, inputType, xsltMappingResource.getName()));
@@ -587,7 +613,19 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
 
                 propertiesMap = getPropertiesMap(mappingResource.getPropertiesList(), synCtx);
 
+                if (mappingHandler.isStreaming()) {
+                    /* map the input records chunk by chunk, without building the input or output message */
+                    InputStream inputStream = getStreamingInputStream(synCtx);
+                    if (inputStream == null) {
+                        buildMessage(synCtx);
+                        inputStream = getInputStream(synCtx, inputType, mappingResource.getInputSchema().getName());
+                    }
+                    setStreamedOutput(synCtx, mapToSpool(mappingHandler, inputStream, propertiesMap));
+                    return;
+                }
+
                 /* execute mapping on the input stream */
+                buildMessage(synCtx);
                 outputResult = mappingHandler.doMap(
                         getInputStream(synCtx, inputType, mappingResource.getInputSchema().getName()),
                         propertiesMap);
@@ -602,36 +640,7 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
                     (InputOutputDataType.CSV.toString().equals(outputType) && !InputOutputDataType.CSV.toString()
                             .equals(inputType))) {
 
-                OMElement outputMessage = AXIOMUtil.stringToOM(outputResult);
-                if (outputMessage != null) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Output message received ");
-                    }
-                    // Use to create the SOAP message
-                    QName resultQName = outputMessage.getQName();
-                    if (resultQName.getLocalPart().equals("Envelope") && (
-                            resultQName.getNamespaceURI().equals(SOAP11Constants.SOAP_ENVELOPE_NAMESPACE_URI)
-                                    || resultQName.getNamespaceURI()
-                                    .equals(SOAP12Constants.SOAP_ENVELOPE_NAMESPACE_URI))) {
-                        SOAPEnvelope soapEnvelope = AXIOMUtils.getSOAPEnvFromOM(outputMessage);
-                        if (soapEnvelope != null) {
-                            try {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Valid Envelope");
-                                }
-                                synCtx.setEnvelope(soapEnvelope);
-                            } catch (AxisFault axisFault) {
-                                handleException("Invalid Envelope", axisFault, synCtx);
-                            }
-                        }
-                    } else {
-                        synCtx.getEnvelope().getBody().getFirstElement().detach();
-                        synCtx.getEnvelope().getBody().addChild(outputMessage);
-                    }
-                } else {
-                    synCtx.getEnvelope().getBody().getFirstElement().detach();
-                }
-
+                setXMLOutput(synCtx, AXIOMUtil.stringToOM(outputResult));
             } else if (InputOutputDataType.JSON.toString().equals(outputType)) {
                 org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synCtx)
                         .getAxis2MessageContext();
@@ -646,13 +655,177 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
         }
     }
 
+    private void setXMLOutput(MessageContext synCtx, OMElement outputMessage) {
+        if (outputMessage != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Output message received ");
+            }
+            // Use to create the SOAP message
+            QName resultQName = outputMessage.getQName();
+            if (resultQName.getLocalPart().equals("Envelope") && (
+                    resultQName.getNamespaceURI().equals(SOAP11Constants.SOAP_ENVELOPE_NAMESPACE_URI)
+                            || resultQName.getNamespaceURI()
+                            .equals(SOAP12Constants.SOAP_ENVELOPE_NAMESPACE_URI))) {
+                SOAPEnvelope soapEnvelope = AXIOMUtils.getSOAPEnvFromOM(outputMessage);
+                if (soapEnvelope != null) {
+                    try {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Valid Envelope");
+                        }
+                        synCtx.setEnvelope(soapEnvelope);
+                    } catch (AxisFault axisFault) {
+                        handleException("Invalid Envelope", axisFault, synCtx);
+                    }
+                }
+            } else {
+                detachFirstBodyElement(synCtx);
+                synCtx.getEnvelope().getBody().addChild(outputMessage);
+            }
+        } else {
+            detachFirstBodyElement(synCtx);
+        }
+    }
+
+    private void detachFirstBodyElement(MessageContext synCtx) {
+        OMElement firstElement = synCtx.getEnvelope().getBody().getFirstElement();
+        if (firstElement != null) {
+            firstElement.detach();
+        }
+    }
+
+    /**
+     * Execute a streamed mapping, writing the output to a spool that is kept in memory up to a threshold and in a
+     * temporary file beyond that
+     *
+     * @return the output message, which removes the temporary file when it is closed, fully read or dropped
+     */
+    private InputStream mapToSpool(MappingHandler mappingHandler, InputStream inputStream,
+            Map<String, Map<String, Object>> propertiesMap)
+            throws ReaderException, InterruptedException, IOException, SchemaException, JSException {
+        DeferredFileOutputStream spool = new DeferredFileOutputStream(STREAMED_OUTPUT_MEMORY_THRESHOLD,
+                "datamapper-", ".out", null);
+        boolean mapped = false;
+        try (Writer output = new OutputStreamWriter(spool, StandardCharsets.UTF_8)) {
+            mappingHandler.doMap(inputStream, propertiesMap, output);
+            mapped = true;
+        } finally {
+            if (!mapped && !spool.isInMemory()) {
+                deleteSpoolFile(spool.getFile());
+            }
+        }
+        if (spool.isInMemory()) {
+            return new ByteArrayInputStream(spool.getData());
+        }
+        File spoolFile = spool.getFile();
+        // the file is removed on shutdown if the output is neither read nor garbage collected until then
+        spoolFile.deleteOnExit();
+        return new AutoCloseInputStream(new SpoolFileInputStream(spoolFile));
+    }
+
+    private static void deleteSpoolFile(File spoolFile) {
+        if (spoolFile != null && spoolFile.exists() && !spoolFile.delete()) {
+            log.warn("Unable to delete the DataMapper output spool file " + spoolFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Reads the spooled output of a streamed mapping and removes the spool file when it is closed. If the output is
+     * dropped from the message without being read, for example when a later mediator replaces the payload or a
+     * fault occurs, the file is removed once the stream is garbage collected.
+     */
+    private static class SpoolFileInputStream extends FilterInputStream {
+
+        private final Cleaner.Cleanable cleanable;
+
+        SpoolFileInputStream(File spoolFile) throws IOException {
+            this(new FileInputStream(spoolFile), spoolFile);
+        }
+
+        private SpoolFileInputStream(FileInputStream fileStream, File spoolFile) {
+            super(fileStream);
+            // the cleanup action must not refer to this stream, otherwise it is never garbage collected
+            this.cleanable = SPOOL_CLEANER.register(this, () -> {
+                try {
+                    fileStream.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close the DataMapper output spool file " + spoolFile.getAbsolutePath(), e);
+                } finally {
+                    deleteSpoolFile(spoolFile);
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Set the output of a streamed mapping as the message payload. The output is read lazily from the given stream
+     * when the payload is accessed or serialized.
+     */
+    private void setStreamedOutput(MessageContext synCtx, InputStream output) throws AxisFault {
+        switch (InputOutputDataType.fromString(outputType)) {
+        case XML:
+            setXMLOutput(synCtx, OMXMLBuilderFactory.createOMBuilder(output).getDocumentElement());
+            break;
+        case JSON:
+            JsonUtil.getNewJsonPayload(((Axis2MessageContext) synCtx).getAxis2MessageContext(), output, true, true);
+            break;
+        case CSV:
+            setXMLOutput(synCtx, OMAbstractFactory.getOMFactory().createOMElement(
+                    new WrappedTextNodeOMDataSourceFromReader(CSV_TEXT_WRAPPER,
+                            new InputStreamReader(output, StandardCharsets.UTF_8)), CSV_TEXT_WRAPPER));
+            break;
+        default:
+            throw new SynapseException("Unsupported output data type found : " + outputType);
+        }
+    }
+
+    /**
+     * Returns the raw input message from the pass-through pipe when it is not built yet and can be read by the
+     * streaming input readers as it is, so that the input records are mapped as they arrive. A SOAP message is not
+     * streamed, since the records of a streamed XML input are the children of the root element. Null is returned if
+     * the message has to be built before it is mapped.
+     */
+    private InputStream getStreamingInputStream(MessageContext synCtx) {
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) synCtx).getAxis2MessageContext();
+        Pipe pipe = (Pipe) axis2MC.getProperty(PassThroughConstants.PASS_THROUGH_PIPE);
+        if (pipe == null || Boolean.TRUE.equals(axis2MC.getProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED))
+                || !axis2MC.isDoingREST()
+                || SOAP_ENVELOPE_ELEMENT.equals(mappingResource.getInputSchema().getName())) {
+            return null;
+        }
+        Object contentTypeProperty = axis2MC.getProperty(Constants.Configuration.CONTENT_TYPE);
+        String contentType = contentTypeProperty == null ? "" : contentTypeProperty.toString().toLowerCase();
+        boolean xmlContent = contentType.contains("xml");
+        boolean csvContent = InputOutputDataType.CSV.toString().equals(inputType)
+                && (contentType.startsWith("text/csv") || contentType.startsWith("text/plain"))
+                && (!contentType.contains("charset=") || contentType.contains("charset=utf-8")
+                || contentType.contains("charset=us-ascii"));
+        if (!xmlContent && !csvContent) {
+            return null;
+        }
+        axis2MC.setProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED, Boolean.TRUE);
+        return pipe.getInputStream();
+    }
+
+    private void buildMessage(MessageContext synCtx) {
+        try {
+            RelayUtils.buildMessage(((Axis2MessageContext) synCtx).getAxis2MessageContext(), false);
+        } catch (IOException | XMLStreamException e) {
+            handleException("DataMapper mediator : unable to build the input message", e, synCtx);
+        }
+    }
+
     private InputStream getInputStream(MessageContext context, String inputType, String inputStartElement) {
         InputStream inputStream = null;
         try {
             switch (InputOutputDataType.fromString(inputType)) {
             case XML:
             case CSV:
-                if ("soapenv:Envelope".equals(inputStartElement)) {
+                if (SOAP_ENVELOPE_ELEMENT.equals(inputStartElement)) {
                     inputStream = new ByteArrayInputStream(
                             context.getEnvelope().toString().getBytes(StandardCharsets.UTF_8));
                 } else {
@@ -678,14 +851,14 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
     }
 
     /**
-     * State that DataMapperMediator interacts with the message context
+     * When the input schema flags the input records to be streamed, the DataMapperMediator builds the message itself
+     * when it is needed, so that a streamed mapping can read the input records directly from the pass-through pipe
      *
-     * @return true if the DataMapperMediator is intending to interact with the
-     * message context
+     * @return false if the input records are streamed, true otherwise
      */
     @Override
     public boolean isContentAware() {
-        return true;
+        return !streamingInput;
     }
 
     @Override
@@ -695,7 +868,32 @@ public class DataMapperMediator extends AbstractMediator implements ManagedLifec
 
     @Override
     public void init(SynapseEnvironment se) {
+        streamingInput = isStreamingInput(se);
+    }
 
+    /**
+     * Check whether the input schema flags the input records to be streamed. Only an input schema with a static key
+     * can be read before mediation, the message is built before mediation for any other input schema.
+     *
+     * @param se synapse environment
+     * @return true if the input records are streamed
+     */
+    private boolean isStreamingInput(SynapseEnvironment se) {
+        if (target != null || targetVariableName != null || xsltStyleSheetKey != null || inputSchemaKey == null
+                || inputSchemaKey.getKeyValue() == null) {
+            return false;
+        }
+        Object entry = se.getSynapseConfiguration().getEntry(inputSchemaKey.getKeyValue());
+        if (!(entry instanceof OMTextImpl)) {
+            return false;
+        }
+        try {
+            return new JacksonJSONSchema(new ByteArrayInputStream(
+                    ((OMTextImpl) entry).getText().getBytes(StandardCharsets.UTF_8))).isStreamingEnabled();
+        } catch (SchemaException e) {
+            log.warn("DataMapper mediator : unable to read the input schema " + inputSchemaKey.getKeyValue(), e);
+            return false;
+        }
     }
 
     /**
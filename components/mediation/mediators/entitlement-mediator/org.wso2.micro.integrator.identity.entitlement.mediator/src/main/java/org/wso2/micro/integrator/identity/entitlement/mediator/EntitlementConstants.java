@@ -48,6 +48,11 @@ public class EntitlementConstants {
 
     public static final QName ATTR_INVALIDATION_INTERVAL = new QName("invalidationInterval");
 
+    public static final QName ATTR_DENY_INVALIDATION_INTERVAL = new QName("denyInvalidationInterval");
+
+    public static final QName ATTR_INDETERMINATE_INVALIDATION_INTERVAL =
+            new QName("indeterminateInvalidationInterval");
+
     public static final QName ATTR_MAX_CACHE_ENTRIES = new QName("maxCacheEntries");
 
     public static final QName ATTR_THRIFT_HOST = new QName("thriftHost");
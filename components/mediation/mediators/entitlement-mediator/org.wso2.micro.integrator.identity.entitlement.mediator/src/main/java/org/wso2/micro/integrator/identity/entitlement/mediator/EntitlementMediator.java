@@ -83,6 +83,9 @@ public class EntitlementMediator extends AbstractMediator
     private String reuseSession;
     private String cacheType;
     private int invalidationInterval;
+    // negative values fall back to invalidationInterval for Deny and to not caching Indeterminate decisions
+    private int denyInvalidationInterval = -1;
+    private int indeterminateInvalidationInterval = -1;
     private int maxCacheEntries;
     EntitlementCallbackHandler callback = null;
     /* The reference to the sequence which will execute when access is denied   */
@@ -539,7 +542,9 @@ public class EntitlementMediator extends AbstractMediator
                     .put(EntitlementConstants.PDP_CONFIG_MAP_ENTITLEMENT_MEDIATOR_ENTRY, clientConfigMap);
             config = new PEPProxyConfig(appToPDPClientConfigMap,
                                         EntitlementConstants.PDP_CONFIG_MAP_ENTITLEMENT_MEDIATOR_ENTRY, cacheType,
-                                        invalidationInterval, maxCacheEntries);
+                                        invalidationInterval,
+                                        denyInvalidationInterval < 0 ? invalidationInterval : denyInvalidationInterval,
+                                        Math.max(indeterminateInvalidationInterval, 0), maxCacheEntries);
 
             try {
                 pepProxy = new PEPProxy(config);
@@ -841,6 +846,22 @@ public class EntitlementMediator extends AbstractMediator
         this.invalidationInterval = invalidationInterval;
     }
 
+    public int getDenyInvalidationInterval() {
+        return denyInvalidationInterval;
+    }
+
+    public void setDenyInvalidationInterval(int denyInvalidationInterval) {
+        this.denyInvalidationInterval = denyInvalidationInterval;
+    }
+
+    public int getIndeterminateInvalidationInterval() {
+        return indeterminateInvalidationInterval;
+    }
+
+    public void setIndeterminateInvalidationInterval(int indeterminateInvalidationInterval) {
+        this.indeterminateInvalidationInterval = indeterminateInvalidationInterval;
+    }
+
     public int getMaxCacheEntries() {
         return maxCacheEntries;
     }
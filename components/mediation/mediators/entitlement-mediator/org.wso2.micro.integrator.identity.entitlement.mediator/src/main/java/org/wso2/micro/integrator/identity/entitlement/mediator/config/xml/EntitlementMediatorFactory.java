@@ -59,6 +59,8 @@ public class EntitlementMediatorFactory extends AbstractMediatorFactory {
         OMAttribute callbackClass = null;
         OMAttribute cacheType = null;
         OMAttribute invalidationInterval = null;
+        OMAttribute denyInvalidationInterval = null;
+        OMAttribute indeterminateInvalidationInterval = null;
         OMAttribute maxCacheEntries = null;
         OMAttribute basicAuth = null;
         OMAttribute thriftHost = null;
@@ -108,6 +110,19 @@ public class EntitlementMediatorFactory extends AbstractMediatorFactory {
                     parseInt(invalidationInterval.getAttributeValue()));
         }
 
+        denyInvalidationInterval = element.getAttribute(EntitlementConstants.ATTR_DENY_INVALIDATION_INTERVAL);
+        if (denyInvalidationInterval != null && denyInvalidationInterval.getAttributeValue() != null) {
+            mediator.setDenyInvalidationInterval(Integer.parseInt(denyInvalidationInterval.getAttributeValue()));
+        }
+
+        indeterminateInvalidationInterval =
+                element.getAttribute(EntitlementConstants.ATTR_INDETERMINATE_INVALIDATION_INTERVAL);
+        if (indeterminateInvalidationInterval != null
+                && indeterminateInvalidationInterval.getAttributeValue() != null) {
+            mediator.setIndeterminateInvalidationInterval(
+                    Integer.parseInt(indeterminateInvalidationInterval.getAttributeValue()));
+        }
+
         maxCacheEntries = element.getAttribute(EntitlementConstants.ATTR_MAX_CACHE_ENTRIES);
         if (maxCacheEntries != null && maxCacheEntries.getAttributeValue() != null) {
             mediator.setMaxCacheEntries(Integer.parseInt(maxCacheEntries.getAttributeValue()));
@@ -89,6 +89,16 @@ public class EntitlementMediatorSerializer extends AbstractMediatorSerializer {
                     entitlement.getInvalidationInterval())));
         }
 
+        if (entitlement.getDenyInvalidationInterval() >= 0) {
+            entitlementElem.addAttribute(fac.createOMAttribute("denyInvalidationInterval", nullNS, Integer.toString(
+                    entitlement.getDenyInvalidationInterval())));
+        }
+
+        if (entitlement.getIndeterminateInvalidationInterval() >= 0) {
+            entitlementElem.addAttribute(fac.createOMAttribute("indeterminateInvalidationInterval", nullNS,
+                    Integer.toString(entitlement.getIndeterminateInvalidationInterval())));
+        }
+
         if (entitlement.getMaxCacheEntries() != 0) {
             entitlementElem.addAttribute(fac.createOMAttribute("maxCacheEntries", nullNS,
                                                                Integer.toString(entitlement.getMaxCacheEntries())));
@@ -21,6 +21,7 @@ package org.wso2.micro.integrator.identity.entitlement.proxy;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.impl.llom.util.AXIOMUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 import javax.xml.namespace.QName;
 
@@ -28,6 +29,23 @@ public abstract class AbstractEntitlementServiceClient {
 
     public abstract String getDecision(Attribute[] attributes, String appId) throws Exception;
 
+    /**
+     * Get the decisions for a set of requests. Clients that can send XACML multiple decision requests to the PDP
+     * should override this, the default implementation evaluates the requests one at a time.
+     *
+     * @param attributeSets attributes of each request
+     * @param appId         app id of the PDP
+     * @return the decisions in the order of the requests
+     * @throws Exception if a decision could not be obtained
+     */
+    public List<String> getDecisions(List<Attribute[]> attributeSets, String appId) throws Exception {
+        List<String> decisions = new ArrayList<>(attributeSets.size());
+        for (Attribute[] attributes : attributeSets) {
+            decisions.add(getDecision(attributes, appId));
+        }
+        return decisions;
+    }
+
     public abstract boolean subjectCanActOnResource(String subjectType, String alias, String actionId,
                                                     String resourceId, String domainId, String appId) throws Exception;
 
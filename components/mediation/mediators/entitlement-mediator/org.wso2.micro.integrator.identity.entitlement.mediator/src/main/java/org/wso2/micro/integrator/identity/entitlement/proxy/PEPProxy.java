@@ -20,9 +20,14 @@ package org.wso2.micro.integrator.identity.entitlement.proxy;
 
 import org.wso2.micro.integrator.identity.entitlement.proxy.exception.EntitlementProxyException;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class PEPProxy {
 
@@ -39,6 +44,10 @@ public class PEPProxy {
     private String defaultAppId;
     private Map<String, AbstractEntitlementServiceClient> appToPDPClientMap;
     private PEPProxyCache cache;
+    // Decisions currently being fetched from the PDP, shared by concurrent requests for the same key
+    private final Map<String, CompletableFuture<String>> inFlightDecisions = new ConcurrentHashMap<>();
+    // Maximum time to wait for a decision fetched by another request before fetching it directly
+    private static final long IN_FLIGHT_DECISION_TIMEOUT_SECONDS = 30;
 
     /**
      * Creating the PDP Proxy instance and initializing it
@@ -51,7 +60,8 @@ public class PEPProxy {
         if (config.getCacheType() != null && (SIMPLE.equals(config.getCacheType()) || CARBON
                 .equals(config.getCacheType()))) {
             cache = new PEPProxyCache(config.getCacheType(), config.getInvalidationInterval(),
-                                      config.getMaxCacheEntries());
+                                      config.getDenyInvalidationInterval(),
+                                      config.getIndeterminateInvalidationInterval(), config.getMaxCacheEntries());
         }
         appToPDPClientMap = PEPProxyFactory.getAppToPDPClientMap(config.getAppToPDPClientConfigMap());
     }
@@ -82,14 +92,27 @@ public class PEPProxy {
             appProxy = appToPDPClientMap.get(appId);
         }
         if (cache != null) {
-            String key = generateKey(attributes);
+            String key = generateKey(attributes, appId);
             String decision = cache.get(key);
             if (decision != null) {
                 return decision;
-            } else {
+            }
+            CompletableFuture<String> pending = new CompletableFuture<>();
+            CompletableFuture<String> inFlight = inFlightDecisions.putIfAbsent(key, pending);
+            if (inFlight != null) {
+                return awaitDecision(inFlight, appProxy, attributes, appId);
+            }
+            try {
                 decision = appProxy.getDecision(attributes, appId);
                 cache.put(key, decision);
+                pending.complete(decision);
                 return decision;
+            } catch (Throwable e) {
+                // complete the waiting requests on errors too, otherwise they would wait until they time out
+                pending.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightDecisions.remove(key, pending);
             }
         } else {
             return appProxy.getDecision(attributes, appId);
@@ -97,6 +120,69 @@ public class PEPProxy {
 
     }
 
+    /**
+     * This method is used to get the Entitlement decisions for several sets of Attributes using The Provided AppID.
+     * Decisions which are not cached are requested from the PDP together.
+     *
+     * @param attributeSets XACML 3.0 Attribute Sets
+     * @param appId         specific appID in the PDP Proxy
+     * @return the Entitlement Decisions in the order of the Attribute Sets
+     * @throws Exception
+     */
+    public List<String> getDecisions(List<Attribute[]> attributeSets, String appId) throws Exception {
+        AbstractEntitlementServiceClient appProxy;
+        if (!appToPDPClientMap.containsKey(appId)) {
+            throw new EntitlementProxyException("Invalid App Id");
+        } else {
+            appProxy = appToPDPClientMap.get(appId);
+        }
+        if (cache == null) {
+            return appProxy.getDecisions(attributeSets, appId);
+        }
+        List<String> decisions = new ArrayList<>(attributeSets.size());
+        List<String> missedKeys = new ArrayList<>();
+        List<Attribute[]> missedAttributeSets = new ArrayList<>();
+        for (Attribute[] attributes : attributeSets) {
+            String key = generateKey(attributes, appId);
+            String decision = cache.get(key);
+            decisions.add(decision);
+            if (decision == null) {
+                missedKeys.add(key);
+                missedAttributeSets.add(attributes);
+            }
+        }
+        if (!missedAttributeSets.isEmpty()) {
+            List<String> fetched = appProxy.getDecisions(missedAttributeSets, appId);
+            int fetchedIndex = 0;
+            for (int i = 0; i < decisions.size(); i++) {
+                if (decisions.get(i) == null) {
+                    String decision = fetched.get(fetchedIndex);
+                    cache.put(missedKeys.get(fetchedIndex), decision);
+                    decisions.set(i, decision);
+                    fetchedIndex++;
+                }
+            }
+        }
+        return decisions;
+    }
+
+    private String awaitDecision(CompletableFuture<String> inFlight, AbstractEntitlementServiceClient appProxy,
+                                 Attribute[] attributes, String appId) throws Exception {
+        try {
+            return inFlight.get(IN_FLIGHT_DECISION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            return appProxy.getDecision(attributes, appId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw new EntitlementProxyException("Error while getting the entitlement decision", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EntitlementProxyException("Interrupted while waiting for the entitlement decision", e);
+        }
+    }
+
     /**
      * This method is used to get the Entitlement decision for the provided subject,resource,action and environment using the default appID of the PDP defaultProxy
      *
@@ -234,11 +320,25 @@ public class PEPProxy {
         return appProxy.getActionsForResource(alias, resources, appId);
     }
 
-    private String generateKey(Attribute[] attributes) {
-        int key = 1;
-        key = 11 * key + ((attributes == null) ? 0 : Arrays.hashCode(attributes));
-        key = 31 * key + ((defaultAppId == null) ? 0 : defaultAppId.hashCode());
-        return Integer.toString(key);
+    /**
+     * Build the cache key from the complete content of the request. A hash alone is not used as the key since a
+     * collision would serve the decision of one request to another.
+     */
+    private String generateKey(Attribute[] attributes, String appId) {
+        StringBuilder key = new StringBuilder(appId == null ? "" : appId);
+        if (attributes != null) {
+            for (Attribute attribute : attributes) {
+                key.append('\u0001');
+                if (attribute != null) {
+                    key.append(attribute.getCategory()).append('\u0002')
+                            .append(attribute.getId()).append('\u0002')
+                            .append(attribute.getType()).append('\u0002')
+                            .append(attribute.getValue()).append('\u0002')
+                            .append(attribute.getContent());
+                }
+            }
+        }
+        return key.toString();
     }
 
     public void clear() {
@@ -18,23 +18,48 @@
 
 package org.wso2.micro.integrator.identity.entitlement.proxy;
 
-import java.util.Calendar;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.util.AXIOMUtil;
+
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
+import javax.xml.stream.XMLStreamException;
 
 class PEPProxyCache {
 
-    private SimpleCache<String, EntitlementDecision> simpleCache;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private DecisionCache simpleCache;
     private boolean isCarbonCache = false;
-    private int invalidationInterval = 0;
+    private long permitInterval = 0;
+    private long denyInterval = 0;
+    private long indeterminateInterval = 0;
 
     PEPProxyCache(String enableCaching, int invalidationInterval, int maxEntries) {
+        this(enableCaching, invalidationInterval, invalidationInterval, 0, maxEntries);
+    }
+
+    /**
+     * Create the decision cache
+     *
+     * @param enableCaching                     type of the cache, simple or carbon
+     * @param invalidationInterval              time in milliseconds a Permit decision is cached
+     * @param denyInvalidationInterval          time in milliseconds a Deny or NotApplicable decision is cached
+     * @param indeterminateInvalidationInterval time in milliseconds an Indeterminate decision is cached
+     * @param maxEntries                        maximum number of decisions held by the simple cache
+     */
+    PEPProxyCache(String enableCaching, int invalidationInterval, int denyInvalidationInterval,
+                  int indeterminateInvalidationInterval, int maxEntries) {
         if ("simple".equalsIgnoreCase(enableCaching)) {
-            simpleCache = new SimpleCache<String, EntitlementDecision>(maxEntries);
-            this.invalidationInterval = invalidationInterval;
+            simpleCache = new DecisionCache(maxEntries);
+            this.permitInterval = invalidationInterval;
+            this.denyInterval = denyInvalidationInterval;
+            this.indeterminateInterval = indeterminateInvalidationInterval;
         } else if ("carbon".equalsIgnoreCase(enableCaching)) {
             isCarbonCache = true;
         }
@@ -58,9 +83,10 @@ class PEPProxyCache {
 
     void put(String key, String entry) {
         if (simpleCache != null) {
-            EntitlementDecision entitlementDecision = new EntitlementDecision(entry,
-                                                                              Calendar.getInstance().getTimeInMillis());
-            simpleCache.put(key, entitlementDecision);
+            long interval = getInvalidationInterval(entry);
+            if (interval > 0) {
+                simpleCache.put(key, new EntitlementDecision(entry, System.currentTimeMillis() + interval));
+            }
         } else if (isCarbonCache) {
             Cache<IdentityCacheKey, IdentityCacheEntry> carbonCache = getCommonCache();
             if (carbonCache != null) {
@@ -73,11 +99,7 @@ class PEPProxyCache {
 
     String get(String key) {
         if (simpleCache != null) {
-            EntitlementDecision entitlementDecision = simpleCache.get(key);
-            if (entitlementDecision != null && (entitlementDecision.getCachedTime() + (long) invalidationInterval
-                    > Calendar.getInstance().getTimeInMillis())) {
-                return entitlementDecision.getResponse();
-            }
+            return simpleCache.get(key, System.currentTimeMillis());
         } else if (isCarbonCache) {
             Cache<IdentityCacheKey, IdentityCacheEntry> carbonCache = getCommonCache();
             if (carbonCache != null) {
@@ -93,7 +115,7 @@ class PEPProxyCache {
 
     void clear() {
         if (simpleCache != null) {
-            simpleCache = new SimpleCache<>(simpleCache.maxEntries);
+            simpleCache.clear();
         } else if (isCarbonCache) {
             Cache<IdentityCacheKey, IdentityCacheEntry> carbonCache = getCommonCache();
             if (carbonCache != null) {
@@ -102,60 +124,159 @@ class PEPProxyCache {
         }
     }
 
-    private class SimpleCache<K, V> extends LinkedHashMap<K, V> {
+    /**
+     * Pick the invalidation interval of a response by the decision it carries. Responses without a recognizable
+     * decision are treated as Indeterminate.
+     *
+     * @param response XACML response
+     * @return time in milliseconds the response can be cached
+     */
+    private long getInvalidationInterval(String response) {
+        String decision = getDecision(response);
+        if (decision == null) {
+            return indeterminateInterval;
+        }
+        switch (decision) {
+            case "Permit":
+                return permitInterval;
+            case "Deny":
+            case "NotApplicable":
+                return denyInterval;
+            default:
+                return indeterminateInterval;
+        }
+    }
+
+    /**
+     * Read the decision of the first result of a XACML response, in any XACML namespace.
+     *
+     * @param response XACML response
+     * @return the decision, or null if the response does not carry one
+     */
+    private static String getDecision(String response) {
+        OMElement responseElement;
+        try {
+            responseElement = AXIOMUtil.stringToOM(response);
+        } catch (XMLStreamException | RuntimeException e) {
+            return null;
+        }
+        OMElement result = getFirstChild(responseElement, "Result");
+        if (result == null) {
+            return null;
+        }
+        OMElement decision = getFirstChild(result, "Decision");
+        return decision != null ? decision.getText().trim() : null;
+    }
+
+    private static OMElement getFirstChild(OMElement parent, String localName) {
+        Iterator<?> children = parent.getChildElements();
+        while (children.hasNext()) {
+            OMElement child = (OMElement) children.next();
+            if (localName.equals(child.getLocalName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bounded LRU cache split into independently locked segments, so that concurrent requests for different
+     * decisions do not contend on a single lock.
+     */
+    private static class DecisionCache {
+
+        private final Segment[] segments;
+
+        DecisionCache(int maxEntries) {
+            int segmentCount = Math.max(1, Math.min(SEGMENT_COUNT, maxEntries / MIN_SEGMENT_SIZE));
+            int segmentSize = (maxEntries + segmentCount - 1) / segmentCount;
+            segments = new Segment[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment(segmentSize);
+            }
+        }
+
+        String get(String key, long now) {
+            Segment segment = segmentFor(key);
+            synchronized (segment) {
+                EntitlementDecision decision = segment.get(key);
+                if (decision == null) {
+                    return null;
+                }
+                if (decision.getExpiryTime() <= now) {
+                    segment.remove(key);
+                    return null;
+                }
+                return decision.getResponse();
+            }
+        }
+
+        void put(String key, EntitlementDecision decision) {
+            Segment segment = segmentFor(key);
+            synchronized (segment) {
+                segment.put(key, decision);
+            }
+        }
+
+        void clear() {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                }
+            }
+        }
+
+        private Segment segmentFor(String key) {
+            int hash = key.hashCode();
+            hash ^= (hash >>> 16);
+            return segments[(hash & Integer.MAX_VALUE) % segments.length];
+        }
+    }
+
+    private static class Segment extends LinkedHashMap<String, EntitlementDecision> {
 
         private static final long serialVersionUID = -6958380913702000534L;
 
-        private int maxEntries;
-
-        public SimpleCache(int maxEntries) {
-            // removeEldestEntry() is called after a put(). To allow maxEntries in
-            // cache, capacity should be maxEntries + 1 (for the entry which will be
-            // removed). Load factor is taken as 1 because size is fixed. This is
-            // less space efficient when very less entries are present, but there
-            // will be no effect on time complexity for get(). The third parameter
-            // in the base class constructor says that this map is
-            // insertion-order oriented.
-            super(maxEntries + 1, 1, false);
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            // Access ordered, so the least recently used decision is evicted once the segment is full.
+            super(maxEntries + 1, 1, true);
             this.maxEntries = maxEntries;
         }
 
         @Override
-        protected boolean removeEldestEntry(Entry<K, V> eldest) {
-            // After size exceeds max entries, this statement returns true and the
-            // oldest value will be removed. Behaves like a queue, the first
-            // inserted value will go away.
+        protected boolean removeEldestEntry(Entry<String, EntitlementDecision> eldest) {
             return size() > maxEntries;
         }
-
     }
 
     /**
-     * Encapsulate the XACML Decision with XACML response and time stamp
+     * Encapsulate the XACML Decision with XACML response and expiry time
      */
-    private class EntitlementDecision {
+    private static class EntitlementDecision {
 
         /**
          * XACML response
          */
-        private String response;
+        private final String response;
 
         /**
-         * time stamp
+         * time stamp after which the decision is invalid
          */
-        private long cachedTime;
+        private final long expiryTime;
 
-        EntitlementDecision(String response, long cachedTime) {
+        EntitlementDecision(String response, long expiryTime) {
             this.response = response;
-            this.cachedTime = cachedTime;
+            this.expiryTime = expiryTime;
         }
 
         public String getResponse() {
             return response;
         }
 
-        public long getCachedTime() {
-            return cachedTime;
+        public long getExpiryTime() {
+            return expiryTime;
         }
     }
 
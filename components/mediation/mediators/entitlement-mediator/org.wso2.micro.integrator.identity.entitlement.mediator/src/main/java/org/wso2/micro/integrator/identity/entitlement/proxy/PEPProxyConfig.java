@@ -26,14 +26,25 @@ public class PEPProxyConfig {
     private String defaultAppId;
     private String cacheType;
     private int invalidationInterval;
+    private int denyInvalidationInterval;
+    private int indeterminateInvalidationInterval;
     private int maxCacheEntries;
 
     public PEPProxyConfig(Map<String, Map<String, String>> appToPDPClientConfigMap, String defaultAppId,
                           String cacheType, int invalidationInterval, int maxCacheEntries) {
+        this(appToPDPClientConfigMap, defaultAppId, cacheType, invalidationInterval, invalidationInterval, 0,
+             maxCacheEntries);
+    }
+
+    public PEPProxyConfig(Map<String, Map<String, String>> appToPDPClientConfigMap, String defaultAppId,
+                          String cacheType, int invalidationInterval, int denyInvalidationInterval,
+                          int indeterminateInvalidationInterval, int maxCacheEntries) {
         this.defaultAppId = defaultAppId;
         this.appToPDPClientConfigMap = appToPDPClientConfigMap;
         this.cacheType = cacheType;
         this.invalidationInterval = invalidationInterval;
+        this.denyInvalidationInterval = denyInvalidationInterval;
+        this.indeterminateInvalidationInterval = indeterminateInvalidationInterval;
         this.maxCacheEntries = maxCacheEntries;
         if (this.maxCacheEntries > ProxyConstants.MAX_CACHE_SIZE || this.maxCacheEntries < 0) {
             this.maxCacheEntries = ProxyConstants.MAX_CACHE_SIZE;
@@ -52,6 +63,14 @@ public class PEPProxyConfig {
         return invalidationInterval;
     }
 
+    public int getDenyInvalidationInterval() {
+        return denyInvalidationInterval;
+    }
+
+    public int getIndeterminateInvalidationInterval() {
+        return indeterminateInvalidationInterval;
+    }
+
     public Map<String, Map<String, String>> getAppToPDPClientConfigMap() {
         return appToPDPClientConfigMap;
     }
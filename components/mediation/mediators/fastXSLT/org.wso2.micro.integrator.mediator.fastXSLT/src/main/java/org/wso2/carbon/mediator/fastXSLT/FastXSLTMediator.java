@@ -1,15 +1,15 @@
 package org.wso2.carbon.mediator.fastXSLT;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Hashtable;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
@@ -87,8 +87,16 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
 
     private Value xsltKey=null;
 
+    /**
+     * Guards the TransformerFactory while compiling stylesheets. Lookups of compiled templates do not take it.
+     */
     private final Object transformerLock = new Object();
-    private Map<String, Templates> cachedTemplatesMap = new Hashtable<String, Templates>();
+    private final ConcurrentMap<String, Templates> cachedTemplatesMap = new ConcurrentHashMap<String, Templates>();
+    /**
+     * Compilations in progress, so that concurrent requests for the same key wait for a single compilation.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Templates>> compilingTemplatesMap =
+            new ConcurrentHashMap<String, CompletableFuture<Templates>>();
     private TransformerFactory transFact = TransformerFactory.newInstance();
     /**
      * The (optional) XPath expression which yields the source element for a transformation
@@ -174,34 +182,16 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
 
         String generatedXsltKey = xsltKey.evaluateValue(context);
 
-        // determine if it is needed to create or create the template
-        if (isCreationOrRecreationRequired(context)) {
-            // many threads can see this and come here for acquiring the lock
-            synchronized (transformerLock) {
-                // only first thread should create the template
-                if (isCreationOrRecreationRequired(context)) {
-                    cTemplate = createTemplate(context, generatedXsltKey);
-                } else {
-                    cTemplate = cachedTemplatesMap.get(generatedXsltKey);
-                }
-            }
-        } else {
-            //If already cached template then load it from cachedTemplatesMap
-            synchronized (transformerLock) {
-                cTemplate = cachedTemplatesMap.get(generatedXsltKey);
-            }
-        }
+        cTemplate = getTemplate(context, generatedXsltKey);
 
         System.setProperty("javax.xml.transform.TransformerFactory", "net.sf.saxon.TransformerFactoryImpl");
 
         try {
-            ByteArrayOutputStream _transformedOutMessage = new ByteArrayOutputStream();
+            // the transformation result is kept in a single buffer, sized for the common case, which is read in place
+            TransformedMessageBuffer _transformedOutMessage = new TransformedMessageBuffer(bufferSizeSupport);
             transform(inMessage, _transformedOutMessage, cTemplate);
 
-            ByteArrayOutputStream _transformedOutMessageNew = new ByteArrayOutputStream();
-            IOUtils.write(_transformedOutMessage.toByteArray(), _transformedOutMessageNew);
-
-            BufferedInputStream bufferedStream = new BufferedInputStream(new ByteArrayInputStream(_transformedOutMessageNew.toByteArray()));
+            BufferedInputStream bufferedStream = new BufferedInputStream(_transformedOutMessage.toInputStream());
 
         	Pipe pipe= (Pipe) axis2MC.getProperty(PassThroughConstants.PASS_THROUGH_PIPE);
             if(pipe != null) {
@@ -209,7 +199,7 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
 
                 axis2MC.setProperty(PassThroughConstants.BUFFERED_INPUT_STREAM, bufferedStream);
                 boolean fullLenthDone = false;
-                if (_transformedOutMessage.toByteArray().length > bufferSizeSupport) {
+                if (_transformedOutMessage.size() > bufferSizeSupport) {
                     RelayUtils.buildMessage(axis2MC, false, bufferedStream);
                     fullLenthDone = true;
                 }
@@ -220,7 +210,7 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
                                 .equals(axis2MC.getProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED)))) {
                     RelayUtils.buildMessage(axis2MC, false, bufferedStream);
                 } else if (!fullLenthDone) {
-                    IOUtils.write(_transformedOutMessage.toByteArray(), msgContextOutStream);
+                    _transformedOutMessage.writeTo(msgContextOutStream);
 
                 }
             } else {
@@ -262,25 +252,87 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
     }
 
     /**
-     * Create a XSLT template object and assign it to the cachedTemplates variable
+     * Get the compiled XSLT template for the given key, compiling it if it is not cached yet or if the
+     * underlying dynamic resource has expired. Cached templates are looked up without locking, and only one thread
+     * compiles a given key at a time while the others wait for its result.
      *
      * @param synCtx  current message
      * @param xsltKey evaluated xslt key(real key value) for dynamic or static key
      * @return cached template
      */
+    private Templates getTemplate(MessageContext synCtx, String xsltKey) {
+        Templates cachedTemplates = cachedTemplatesMap.get(xsltKey);
+        if (cachedTemplates != null && !isRecreationRequired(synCtx, xsltKey)) {
+            return cachedTemplates;
+        }
+        CompletableFuture<Templates> compilation = new CompletableFuture<Templates>();
+        CompletableFuture<Templates> inFlight = compilingTemplatesMap.putIfAbsent(xsltKey, compilation);
+        if (inFlight != null) {
+            return awaitTemplate(synCtx, xsltKey, inFlight);
+        }
+        try {
+            Templates current = cachedTemplatesMap.get(xsltKey);
+            Templates newTemplates;
+            if (current != null && current != cachedTemplates) {
+                // another thread has published a new template since the lookup above
+                newTemplates = current;
+            } else {
+                newTemplates = createTemplate(synCtx, xsltKey);
+                cachedTemplatesMap.put(xsltKey, newTemplates);
+            }
+            compilation.complete(newTemplates);
+            return newTemplates;
+        } catch (Throwable e) {
+            compilation.completeExceptionally(e);
+            throw e;
+        } finally {
+            compilingTemplatesMap.remove(xsltKey, compilation);
+        }
+    }
+
+    /**
+     * Wait for the template being compiled by another thread for the same key.
+     *
+     * @param synCtx   current message
+     * @param xsltKey  evaluated xslt key(real key value) for dynamic or static key
+     * @param inFlight compilation in progress
+     * @return compiled template
+     */
+    private Templates awaitTemplate(MessageContext synCtx, String xsltKey, CompletableFuture<Templates> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleException("Interrupted while waiting for the XSLT with key : " + xsltKey + " to compile", e, synCtx);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            handleException("Error creating XSLT transformer using : " + xsltKey, (Exception) cause, synCtx);
+        }
+        return null;
+    }
+
+    /**
+     * Create a XSLT template object
+     *
+     * @param synCtx  current message
+     * @param xsltKey evaluated xslt key(real key value) for dynamic or static key
+     * @return created template
+     */
     private Templates createTemplate(MessageContext synCtx, String xsltKey) {
         // Assign created template
         Templates cachedTemplates = null;
 
         try {
-            cachedTemplates = transFact.newTemplates(
-                    SynapseConfigUtils.getStreamSource(synCtx.getEntry(xsltKey)));
+            synchronized (transformerLock) {
+                cachedTemplates = transFact.newTemplates(
+                        SynapseConfigUtils.getStreamSource(synCtx.getEntry(xsltKey)));
+            }
             if (cachedTemplates == null) {
                 // if cached template creation failed
                 handleException("Error compiling the XSLT with key : " + xsltKey, synCtx);
-            } else {
-                // if cached template is created then put it in to cachedTemplatesMap
-                cachedTemplatesMap.put(xsltKey, cachedTemplates);
             }
         } catch (Exception e) {
             handleException("Error creating XSLT transformer using : " + xsltKey, e, synCtx);
@@ -382,29 +434,17 @@ public class FastXSLTMediator extends AbstractMediator implements ManagedLifecyc
 
 
     /**
-     * Utility method to determine weather it is needed to create a XSLT template
+     * Utility method to determine weather it is needed to recreate a cached XSLT template
      *
-     * @param synCtx current message
-     * @return true if it is needed to create a new XSLT template
+     * @param synCtx           current message
+     * @param generatedXsltKey evaluated xslt key of the cached template
+     * @return true if the template refers to a dynamic resource which has been expired
      */
-    private boolean isCreationOrRecreationRequired(MessageContext synCtx) {
-
-        // Derive actual key from message context
-        String generatedXsltKey = xsltKey.evaluateValue(synCtx);
-
-        // if there are no cachedTemplates inside cachedTemplatesMap or
-        // if the template related to this generated key is not cached
-        // then it need to be cached
-        if (cachedTemplatesMap.isEmpty() || !cachedTemplatesMap.containsKey(generatedXsltKey)) {
-            // this is a creation case
-            return true;
-        } else {
-            // build transformer - if necessary
-            Entry dp = synCtx.getConfiguration().getEntryDefinition(generatedXsltKey);
-            // if the xsltKey refers to a dynamic resource, and if it has been expired
-            // it is a recreation case
-            return dp != null && dp.isDynamic() && (!dp.isCached() || dp.isExpired());
-        }
+    private boolean isRecreationRequired(MessageContext synCtx, String generatedXsltKey) {
+        Entry dp = synCtx.getConfiguration().getEntryDefinition(generatedXsltKey);
+        // if the xsltKey refers to a dynamic resource, and if it has been expired
+        // it is a recreation case
+        return dp != null && dp.isDynamic() && (!dp.isCached() || dp.isExpired());
     }
 
     public Value getXsltKey() {
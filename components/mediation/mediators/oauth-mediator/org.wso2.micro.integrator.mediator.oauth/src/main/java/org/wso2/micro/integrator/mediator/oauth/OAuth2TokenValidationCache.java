@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.mediator.oauth;
+
+import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationRequestDTO_TokenValidationContextParam;
+import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationResponseDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of OAuth 2.0 token validation responses. A valid token is cached until it expires, but not longer than
+ * the maximum interval, so that a revoked token is not accepted for long. An invalid token is cached for a short
+ * interval, so that a client retrying with a bad token does not reach the remote service on every request. Entries
+ * are keyed by a hash of the token and the validation context, hence the cache does not hold the tokens themselves.
+ */
+class OAuth2TokenValidationCache {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment[] segments;
+    private final long maxInterval;
+    private final long invalidInterval;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create the validation cache
+     *
+     * @param maxEntries      maximum number of validation responses held by the cache
+     * @param maxInterval     maximum time in milliseconds a valid token is cached
+     * @param invalidInterval time in milliseconds an invalid token is cached
+     */
+    OAuth2TokenValidationCache(int maxEntries, long maxInterval, long invalidInterval) {
+        int segmentCount = Math.max(1, Math.min(SEGMENT_COUNT, maxEntries / MIN_SEGMENT_SIZE));
+        int segmentSize = (maxEntries + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        this.maxInterval = maxInterval;
+        this.invalidInterval = invalidInterval;
+    }
+
+    /**
+     * Build the cache key of a validation request.
+     *
+     * @param accessToken   access token
+     * @param contextParams validation context parameters
+     * @return hash of the token and the context parameters
+     */
+    static String getKey(String accessToken,
+                         List<OAuth2TokenValidationRequestDTO_TokenValidationContextParam> contextParams) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(accessToken.getBytes(StandardCharsets.UTF_8));
+            for (OAuth2TokenValidationRequestDTO_TokenValidationContextParam param : contextParams) {
+                digest.update((byte) 0);
+                digest.update(param.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '=');
+                digest.update(param.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    OAuth2TokenValidationResponseDTO get(String key) {
+        OAuth2TokenValidationResponseDTO response = null;
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            ValidationResult result = segment.get(key);
+            if (result != null) {
+                if (result.expiryTime <= System.currentTimeMillis()) {
+                    segment.remove(key);
+                } else {
+                    response = result.response;
+                }
+            }
+        }
+        if (response != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return response;
+    }
+
+    void put(String key, OAuth2TokenValidationResponseDTO response) {
+        long interval;
+        if (response.getValid()) {
+            // the expiry time of a token is given in seconds
+            long tokenInterval = response.getExpiryTime() * 1000;
+            interval = tokenInterval > 0 ? Math.min(tokenInterval, maxInterval) : maxInterval;
+        } else {
+            interval = invalidInterval;
+        }
+        if (interval > 0) {
+            Segment segment = segmentFor(key);
+            synchronized (segment) {
+                segment.put(key, new ValidationResult(response, System.currentTimeMillis() + interval));
+            }
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[(hash & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private static class Segment extends LinkedHashMap<String, ValidationResult> {
+
+        private static final long serialVersionUID = 3785124403918634725L;
+
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            // Access ordered, so the least recently used response is evicted once the segment is full.
+            super(maxEntries + 1, 1, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Entry<String, ValidationResult> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static class ValidationResult {
+
+        private final OAuth2TokenValidationResponseDTO response;
+        private final long expiryTime;
+
+        ValidationResult(OAuth2TokenValidationResponseDTO response, long expiryTime) {
+            this.response = response;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
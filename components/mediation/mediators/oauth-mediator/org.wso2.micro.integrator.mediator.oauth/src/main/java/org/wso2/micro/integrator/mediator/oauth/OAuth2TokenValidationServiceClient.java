@@ -80,4 +80,15 @@ public class OAuth2TokenValidationServiceClient {
         }
     }
 
+    /**
+     * Releases the resources held by the client.
+     */
+    public void cleanup() {
+        try {
+            stub.cleanup();
+        } catch (AxisFault e) {
+            log.warn("Error while cleaning up the OAuth2 token validation client", e);
+        }
+    }
+
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.mediator.oauth;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationRequestDTO_TokenValidationContextParam;
+import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationResponseDTO;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of token validation clients of a remote service. Axis2 stubs must not be used by concurrent requests, hence a
+ * client is borrowed for each validation and returned afterwards. A new client is created when none is idle, and at
+ * most the given number of idle clients is kept for reuse.
+ */
+class OAuth2TokenValidationServiceClientPool {
+
+    private final String backendServerURL;
+    private final String username;
+    private final String password;
+    private final ConfigurationContext configCtx;
+    private final BlockingQueue<OAuth2TokenValidationServiceClient> idleClients;
+    private final LongAdder remoteCalls = new LongAdder();
+    private final LongAdder remoteTime = new LongAdder();
+
+    OAuth2TokenValidationServiceClientPool(String backendServerURL, String username, String password,
+                                           ConfigurationContext configCtx, int maxIdleClients) {
+        this.backendServerURL = backendServerURL;
+        this.username = username;
+        this.password = password;
+        this.configCtx = configCtx;
+        this.idleClients = new ArrayBlockingQueue<>(Math.max(1, maxIdleClients));
+    }
+
+    /**
+     * Validates the OAuth 2.0 token with a pooled client.
+     *
+     * @param accessToken   the access token from the authorization header
+     * @param contextParams validation context parameters
+     * @return validation response of the remote service
+     * @throws Exception if the token could not be validated
+     */
+    OAuth2TokenValidationResponseDTO validate(String accessToken,
+            List<OAuth2TokenValidationRequestDTO_TokenValidationContextParam> contextParams) throws Exception {
+        OAuth2TokenValidationServiceClient client = idleClients.poll();
+        if (client == null) {
+            client = new OAuth2TokenValidationServiceClient(backendServerURL, username, password, configCtx);
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            OAuth2TokenValidationResponseDTO response = client.validateAuthenticationRequest(accessToken,
+                                                                                             contextParams);
+            failed = false;
+            return response;
+        } finally {
+            remoteCalls.increment();
+            remoteTime.add(System.nanoTime() - start);
+            // a client which failed may be left in a broken state, hence it is not reused
+            if (failed || !idleClients.offer(client)) {
+                client.cleanup();
+            }
+        }
+    }
+
+    /**
+     * Cleans up the idle clients.
+     */
+    void close() {
+        OAuth2TokenValidationServiceClient client;
+        while ((client = idleClients.poll()) != null) {
+            client.cleanup();
+        }
+    }
+
+    long getRemoteCallCount() {
+        return remoteCalls.sum();
+    }
+
+    /**
+     * @return average time in milliseconds taken by a remote validation
+     */
+    double getAverageRemoteLatency() {
+        long calls = remoteCalls.sum();
+        return calls == 0 ? 0 : remoteTime.sum() / 1_000_000.0 / calls;
+    }
+}
@@ -41,4 +41,13 @@ public final class OAuthConstants {
     public static final String ACCESS_TOKEN = "access_token";
     public static final String BEARER_TOKEN_TYPE = "bearer";
     public static final String OAUTH2_SCOPE_VALIDATION_ENABLED = "oauth2_scope_validation_enabled";
+    // OAuth 2.0 token validation cache and client pool, configured with system properties
+    public static final String TOKEN_CACHE_SIZE = "oauth.mediator.token.cache.size";
+    public static final int DEFAULT_TOKEN_CACHE_SIZE = 10000;
+    public static final String TOKEN_CACHE_MAX_INTERVAL = "oauth.mediator.token.cache.max.interval";
+    public static final long DEFAULT_TOKEN_CACHE_MAX_INTERVAL = 300000;
+    public static final String TOKEN_CACHE_INVALID_INTERVAL = "oauth.mediator.token.cache.invalid.interval";
+    public static final long DEFAULT_TOKEN_CACHE_INVALID_INTERVAL = 10000;
+    public static final String CLIENT_POOL_SIZE = "oauth.mediator.client.pool.size";
+    public static final int DEFAULT_CLIENT_POOL_SIZE = 16;
 }
@@ -17,6 +17,7 @@
  */
 package org.wso2.micro.integrator.mediator.oauth;
 
+import java.io.File;
 import java.lang.String;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +29,7 @@ import org.apache.axis2.context.ConfigurationContext;
 import org.apache.axis2.context.ConfigurationContextFactory;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.ManagedLifecycle;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
 import org.apache.synapse.core.SynapseEnvironment;
@@ -39,7 +41,7 @@ import org.wso2.carbon.identity.oauth.stub.types.Parameters;
 import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationRequestDTO_TokenValidationContextParam;
 import org.wso2.carbon.identity.oauth2.stub.dto.OAuth2TokenValidationResponseDTO;
 
-public class OAuthMediator extends AbstractMediator {
+public class OAuthMediator extends AbstractMediator implements ManagedLifecycle {
 
     private static final Log log = LogFactory.getLog(OAuthMediator.class);
 
@@ -49,6 +51,10 @@ public class OAuthMediator extends AbstractMediator {
     private String username;
     private String password;
 
+    // Validation clients and cached validation responses of OAuth 2.0 tokens, created with the first OAuth 2.0 request
+    private volatile OAuth2TokenValidationServiceClientPool oauth2ClientPool;
+    private volatile OAuth2TokenValidationCache tokenValidationCache;
+
     ConfigurationContext cfgCtx = null;
     private String clientRepository = null;
     private String axis2xml = null;
@@ -59,15 +65,29 @@ public class OAuthMediator extends AbstractMediator {
      * {@inheritDoc}
      */
     public void init(SynapseEnvironment synEnv) {
+        String axis2xmlPath = axis2xml != null ? axis2xml : DEFAULT_AXIS2_XML;
+        if (!new File(axis2xmlPath).exists()) {
+            // the service stubs fall back to a default configuration context
+            return;
+        }
         try {
             cfgCtx = ConfigurationContextFactory.createConfigurationContextFromFileSystem(clientRepository != null
-                    ? clientRepository : DEFAULT_CLIENT_REPO, axis2xml != null ? axis2xml : DEFAULT_AXIS2_XML);
+                    ? clientRepository : DEFAULT_CLIENT_REPO, axis2xmlPath);
         } catch (AxisFault e) {
             String msg = "Error initializing OAuth mediator : " + e.getMessage();
             throw new SynapseException(msg, e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized void destroy() {
+        if (oauth2ClientPool != null) {
+            oauth2ClientPool.close();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,12 +160,6 @@ public class OAuthMediator extends AbstractMediator {
         OAuth2TokenValidationResponseDTO respDTO;
         Map headersMap;
         try {
-            OAuth2TokenValidationServiceClient oauth2Client =
-                    new OAuth2TokenValidationServiceClient(
-                            getRemoteServiceUrl(),
-                            getUsername(),
-                            getPassword(),
-                            cfgCtx);
             org.apache.axis2.context.MessageContext msgContext = ((Axis2MessageContext) synCtx).getAxis2MessageContext();
             headersMap =
                     (Map) msgContext.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
@@ -172,7 +186,7 @@ public class OAuthMediator extends AbstractMediator {
                 }
             }
 
-            respDTO = oauth2Client.validateAuthenticationRequest(accessToken, contextParams);
+            respDTO = validateAccessToken(accessToken, contextParams);
         } catch (Exception e) {
             throw new SynapseException("Error occured while validating oauth 2.0 access token", e);
         }
@@ -216,6 +230,59 @@ public class OAuthMediator extends AbstractMediator {
         return true;
     }
 
+    /**
+     * Validates the OAuth 2.0 token, using the cached validation response of the token if there is one.
+     *
+     * @param accessToken   the access token from the authorization header
+     * @param contextParams validation context parameters
+     * @return validation response
+     * @throws Exception if the token could not be validated
+     */
+    private OAuth2TokenValidationResponseDTO validateAccessToken(String accessToken,
+            List<OAuth2TokenValidationRequestDTO_TokenValidationContextParam> contextParams) throws Exception {
+        if (oauth2ClientPool == null) {
+            initOAuth2Validation();
+        }
+        OAuth2TokenValidationCache cache = tokenValidationCache;
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = OAuth2TokenValidationCache.getKey(accessToken, contextParams);
+            OAuth2TokenValidationResponseDTO respDTO = cache.get(cacheKey);
+            if (respDTO != null) {
+                return respDTO;
+            }
+        }
+        OAuth2TokenValidationResponseDTO respDTO = oauth2ClientPool.validate(accessToken, contextParams);
+        if (cache != null) {
+            cache.put(cacheKey, respDTO);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Validated OAuth 2.0 token with the remote service. Remote validations: "
+                    + oauth2ClientPool.getRemoteCallCount() + ", average remote latency: "
+                    + String.format("%.2f", oauth2ClientPool.getAverageRemoteLatency()) + " ms"
+                    + (cache != null ? ", cache hits: " + cache.getHitCount() + ", cache misses: "
+                    + cache.getMissCount() : ""));
+        }
+        return respDTO;
+    }
+
+    private synchronized void initOAuth2Validation() {
+        if (oauth2ClientPool != null) {
+            return;
+        }
+        int cacheSize = Integer.getInteger(OAuthConstants.TOKEN_CACHE_SIZE, OAuthConstants.DEFAULT_TOKEN_CACHE_SIZE);
+        if (cacheSize > 0) {
+            tokenValidationCache = new OAuth2TokenValidationCache(cacheSize,
+                    Long.getLong(OAuthConstants.TOKEN_CACHE_MAX_INTERVAL,
+                                 OAuthConstants.DEFAULT_TOKEN_CACHE_MAX_INTERVAL),
+                    Long.getLong(OAuthConstants.TOKEN_CACHE_INVALID_INTERVAL,
+                                 OAuthConstants.DEFAULT_TOKEN_CACHE_INVALID_INTERVAL));
+        }
+        oauth2ClientPool = new OAuth2TokenValidationServiceClientPool(getRemoteServiceUrl(), getUsername(),
+                getPassword(), cfgCtx,
+                Integer.getInteger(OAuthConstants.CLIENT_POOL_SIZE, OAuthConstants.DEFAULT_CLIENT_POOL_SIZE));
+    }
+
     /**
      * Try to authenticate using OAuth 1.0a.
      *
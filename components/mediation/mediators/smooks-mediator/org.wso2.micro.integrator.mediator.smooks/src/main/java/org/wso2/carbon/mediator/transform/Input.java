@@ -19,6 +19,11 @@
 package org.wso2.carbon.mediator.transform;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
 
 import javax.xml.stream.FactoryConfigurationError;
@@ -29,9 +34,14 @@ import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.OMText;
 import org.apache.axiom.om.util.ElementHelper;
+import org.apache.axis2.Constants;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
 import org.apache.synapse.SynapseLog;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.transport.passthru.PassThroughConstants;
+import org.apache.synapse.transport.passthru.Pipe;
+import org.apache.synapse.transport.passthru.util.RelayUtils;
 import org.apache.synapse.util.PayloadHelper;
 import org.apache.synapse.util.xpath.SynapseXPath;
 import org.jaxen.JaxenException;
@@ -40,6 +50,10 @@ import org.wso2.carbon.mediator.transform.stream.IOElementPipe;
 
 
 public class Input {
+    private static final String PLAIN_TEXT_CONTENT_TYPE = "text/plain";
+    private static final String CHARSET_PARAMETER = "charset=";
+    private static final String DEFAULT_PLAIN_TEXT_CHARSET = "UTF-8";
+
     private SmooksMediator.TYPES type = SmooksMediator.TYPES.XML;
 
     private SynapseXPath expression = null;
@@ -69,6 +83,11 @@ public class Input {
 			}
         } else {
             if (type == SmooksMediator.TYPES.TEXT) {
+                InputStream passThroughStream = getPassThroughInputStream(synCtx);
+                if (passThroughStream != null) {
+                    return new StreamSource(passThroughStream);
+                }
+                buildMessage(synCtx, synLog);
                 OMElement element = PayloadHelper.getXMLPayload(synCtx.getEnvelope());
                 if (element != null) {
                     byte[] bytes = element.getText().getBytes();
@@ -90,6 +109,72 @@ public class Input {
         return null;
     }
 
+    /**
+     * Input can be read from the pass-through pipe only when the whole payload is read as text
+     *
+     * @return true if the input can be streamed without building the message
+     */
+    public boolean isStreamable() {
+        return type == SmooksMediator.TYPES.TEXT && expression == null;
+    }
+
+    /**
+     * Returns the raw payload stream of the pass-through pipe if the message is not built yet, so that large text
+     * payloads such as EDI or CSV are streamed to Smooks without being built as a text element first. The message
+     * is marked as built since the pipe is consumed by the transformation.
+     * <p>
+     * The text input has always been the text of the payload encoded with the platform default charset. The raw
+     * payload is the same bytes only for a plain text message in that charset, so any other message is built as
+     * before.
+     */
+    private InputStream getPassThroughInputStream(MessageContext synCtx) {
+        if (!(synCtx instanceof Axis2MessageContext)) {
+            return null;
+        }
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) synCtx).getAxis2MessageContext();
+        Pipe pipe = (Pipe) axis2MC.getProperty(PassThroughConstants.PASS_THROUGH_PIPE);
+        if (pipe == null || Boolean.TRUE.equals(axis2MC.getProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED))
+                || !isPlainTextInDefaultCharset(axis2MC.getProperty(Constants.Configuration.CONTENT_TYPE))) {
+            return null;
+        }
+        axis2MC.setProperty(PassThroughConstants.MESSAGE_BUILDER_INVOKED, Boolean.TRUE);
+        return pipe.getInputStream();
+    }
+
+    static boolean isPlainTextInDefaultCharset(Object contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String[] parts = contentType.toString().split(";");
+        if (!PLAIN_TEXT_CONTENT_TYPE.equalsIgnoreCase(parts[0].trim())) {
+            return false;
+        }
+        // the plain text builder decodes the payload as UTF-8 unless the content type says otherwise
+        String charset = DEFAULT_PLAIN_TEXT_CHARSET;
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, CHARSET_PARAMETER, 0, CHARSET_PARAMETER.length())) {
+                charset = parameter.substring(CHARSET_PARAMETER.length()).replace("\"", "").trim();
+            }
+        }
+        try {
+            return Charset.forName(charset).equals(Charset.defaultCharset());
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return false;
+        }
+    }
+
+    private void buildMessage(MessageContext synCtx, SynapseLog synLog) {
+        if (!(synCtx instanceof Axis2MessageContext)) {
+            return;
+        }
+        try {
+            RelayUtils.buildMessage(((Axis2MessageContext) synCtx).getAxis2MessageContext(), false);
+        } catch (IOException | XMLStreamException e) {
+            handleException("Error building the input message", synLog);
+        }
+    }
+
     public SynapseXPath getExpression() {
         return expression;
     }
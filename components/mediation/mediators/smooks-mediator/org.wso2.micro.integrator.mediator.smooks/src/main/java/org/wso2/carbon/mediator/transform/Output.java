@@ -176,6 +176,13 @@ public class Output {
         }
     }
 
+    /**
+     * @return true if the result of the transformation replaces the message payload
+     */
+    public boolean isReplacingPayload() {
+        return type != SmooksMediator.TYPES.JAVA && property == null && expression == null;
+    }
+
     public SmooksMediator.TYPES getType() {
         return type;
     }
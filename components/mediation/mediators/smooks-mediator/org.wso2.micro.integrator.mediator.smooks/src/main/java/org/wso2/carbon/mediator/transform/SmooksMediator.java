@@ -21,8 +21,10 @@ package org.wso2.carbon.mediator.transform;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -32,12 +34,14 @@ import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import org.apache.axis2.AxisFault;
+import org.apache.synapse.ManagedLifecycle;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseException;
 import org.apache.synapse.SynapseLog;
 import org.apache.synapse.config.Entry;
 import org.apache.synapse.config.SynapseConfigUtils;
 import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.core.SynapseEnvironment;
 import org.apache.synapse.mediators.AbstractMediator;
 import org.apache.synapse.mediators.Value;
 import org.milyn.Smooks;
@@ -53,17 +57,17 @@ import org.xml.sax.SAXException;
  * Transforms the current message payload using the given Smooks configuration.
  * The current message context is replaced with the result as XML.
  */
-public class SmooksMediator extends AbstractMediator {
+public class SmooksMediator extends AbstractMediator implements ManagedLifecycle {
 	public enum TYPES {
 		TEXT, XML, JAVA
 	}
 
-	/** Smooks engine */
-	private Smooks smooks = null;
+	/** Maximum number of compiled Smooks engines kept for the evaluated configuration keys */
+	private static final int MAX_CACHED_SMOOKS_CONFIGS = 64;
+	/** Compiled Smooks engines against the evaluated configuration key */
+	private final Map<String, CachedSmooks> smooksConfigs = new ConcurrentHashMap<String, CachedSmooks>();
 	/** Smooks configuration file */
 	private Value configKey = null;
-	/** This lock is used to create the smooks configuration synchronously */
-	private volatile Lock lock = new ReentrantLock();
 
 	private Input input = null;
 
@@ -100,16 +104,26 @@ public class SmooksMediator extends AbstractMediator {
 			}
 		}
 
-		// check weather we need to create the smooks configuration
-		lock.lock();
+		// get the cached smooks configuration, creating it if required
+		CachedSmooks cachedSmooks = acquireSmooks(synCtx);
 		try {
-			if (isCreationOrRecreationRequired(synCtx)) {
-				smooks = createSmooksConfig(synCtx);
-			}
+			transform(synCtx, synLog, cachedSmooks.smooks, disableResultPayload);
 		} finally {
-			lock.unlock();
+			cachedSmooks.release();
+		}
+
+		if (synLog.isTraceOrDebugEnabled()) {
+			synLog.traceOrDebug("End : Smooks mediator");
+
+			if (synLog.isTraceTraceEnabled()) {
+				synLog.traceTrace("Message : " + synCtx.getEnvelope());
+			}
 		}
 
+		return true;
+	}
+
+	private void transform(MessageContext synCtx, SynapseLog synLog, Smooks smooks, String disableResultPayload) {
 		// get the input as an stream
 		StreamSource streamSource = input.process(synCtx, synLog);
 
@@ -162,16 +176,6 @@ public class SmooksMediator extends AbstractMediator {
 			}
 			handleException(e.getMessage(), e);
 		}
-
-		if (synLog.isTraceOrDebugEnabled()) {
-			synLog.traceOrDebug("End : Smooks mediator");
-
-			if (synLog.isTraceTraceEnabled()) {
-				synLog.traceTrace("Message : " + synCtx.getEnvelope());
-			}
-		}
-
-		return true;
 	}
 
 	/**
@@ -199,21 +203,84 @@ public class SmooksMediator extends AbstractMediator {
 	}
 
 	/**
-	 * Create the smoooks configuration from the configuration key. Smooks
-	 * configuration can be stored as a local entry or can be stored in the
-	 * registry.
-	 * 
+	 * Get the Smooks engine for the configuration key evaluated against the current message. Engines are cached
+	 * per key and recreated only when the configuration refers to a dynamic resource which has been expired, so
+	 * that a registry change is picked up without reading the configuration for every message. The returned
+	 * engine must be released once the message is transformed, since a replaced engine is closed only after
+	 * the messages using it are done.
+	 *
 	 * @param synCtx
 	 *            synapse context
 	 * @return Smooks configuration
 	 */
-	private Smooks createSmooksConfig(MessageContext synCtx) {
-		SynapseLog log = getLog(synCtx);
+	private CachedSmooks acquireSmooks(MessageContext synCtx) {
 		String generatedConfigKey = configKey.evaluateValue(synCtx);
 		if (generatedConfigKey == null) {
 			handleException("Cannot find the object for smooks config key: " + configKey);
 		}
+		while (true) {
+			CachedSmooks cachedSmooks = smooksConfigs.get(generatedConfigKey);
+			if (cachedSmooks == null || isRecreationRequired(synCtx, generatedConfigKey)) {
+				cachedSmooks = recreateSmooks(synCtx, generatedConfigKey, cachedSmooks);
+			}
+			if (cachedSmooks != null && cachedSmooks.acquire()) {
+				return cachedSmooks;
+			}
+			// replaced or evicted by another thread in the meantime, look it up again
+		}
+	}
+
+	/**
+	 * Create the engine for a key outside the map, so that loading a configuration does not block the other
+	 * keys, and publish it in place of the expired one.
+	 *
+	 * @return the published engine, or null if another thread has published one first
+	 */
+	private CachedSmooks recreateSmooks(MessageContext synCtx, String generatedConfigKey, CachedSmooks expired) {
+		CachedSmooks created = new CachedSmooks(createSmooksConfig(synCtx, generatedConfigKey));
+		boolean published = expired == null ? smooksConfigs.putIfAbsent(generatedConfigKey, created) == null
+				: smooksConfigs.replace(generatedConfigKey, expired, created);
+		if (!published) {
+			created.retire();
+			return null;
+		}
+		if (expired != null) {
+			expired.retire();
+		}
+		evictLeastRecentlyUsed();
+		return created;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		while (smooksConfigs.size() > MAX_CACHED_SMOOKS_CONFIGS) {
+			Map.Entry<String, CachedSmooks> eldest = null;
+			for (Map.Entry<String, CachedSmooks> entry : smooksConfigs.entrySet()) {
+				if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+					eldest = entry;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			if (smooksConfigs.remove(eldest.getKey(), eldest.getValue())) {
+				eldest.getValue().retire();
+			}
+		}
+	}
 
+	/**
+	 * Create the smoooks configuration from the configuration key. Smooks
+	 * configuration can be stored as a local entry or can be stored in the
+	 * registry.
+	 * 
+	 * @param synCtx
+	 *            synapse context
+	 * @param generatedConfigKey
+	 *            evaluated configuration key
+	 * @return Smooks configuration
+	 */
+	private Smooks createSmooksConfig(MessageContext synCtx, String generatedConfigKey) {
+		SynapseLog log = getLog(synCtx);
 		InputStream in = SynapseConfigUtils.getInputStream(synCtx.getEntry(generatedConfigKey));
 		if (in == null) {
 			handleException("Cannot get the input stream from the config key: " + configKey);
@@ -237,25 +304,79 @@ public class SmooksMediator extends AbstractMediator {
 		return null;
 	}
 
-	private boolean isCreationOrRecreationRequired(MessageContext synCtx) {
-		// if there are no cachedTemplates we need to create a one
-		if (smooks == null) {
-			// this is a creation case
+	private boolean isRecreationRequired(MessageContext synCtx, String generatedConfigKey) {
+		// build transformer - if necessary
+		Entry dp = synCtx.getConfiguration().getEntryDefinition(generatedConfigKey);
+		// if the smooks config key refers to a dynamic resource, and if it
+		// has been expired
+		// it is a recreation case
+		return dp != null && dp.isDynamic() && (!dp.isCached() || dp.isExpired());
+	}
+
+	/**
+	 * The message is not required to be built when the input is read as text from the payload and the result
+	 * replaces the payload, as the input can then be streamed from the pass-through pipe.
+	 */
+	@Override
+	public boolean isContentAware() {
+		return !(input != null && input.isStreamable() && output != null && output.isReplacingPayload());
+	}
+
+	@Override
+	public void init(SynapseEnvironment synapseEnvironment) {
+	}
+
+	@Override
+	public void destroy() {
+		for (CachedSmooks cachedSmooks : smooksConfigs.values()) {
+			cachedSmooks.retire();
+		}
+		smooksConfigs.clear();
+	}
+
+	/**
+	 * A cached Smooks engine with the number of messages using it. A retired engine is no longer handed out, and
+	 * it is closed once the last message using it has released it.
+	 */
+	private static final class CachedSmooks {
+		private final Smooks smooks;
+		private final AtomicInteger users = new AtomicInteger();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private volatile boolean retired;
+		private volatile long lastUsed = System.nanoTime();
+
+		CachedSmooks(Smooks smooks) {
+			this.smooks = smooks;
+		}
+
+		boolean acquire() {
+			users.incrementAndGet();
+			if (retired) {
+				release();
+				return false;
+			}
+			lastUsed = System.nanoTime();
 			return true;
-		} else {
-			String generatedConfigKey = configKey.evaluateValue(synCtx);
-			// build transformer - if necessary
-			Entry dp = synCtx.getConfiguration().getEntryDefinition(generatedConfigKey);
-			// if the smooks config key refers to a dynamic resource, and if it
-			// has been expired
-			// it is a recreation case
-			boolean shouldRecreate = dp != null && dp.isDynamic()
-					&& (!dp.isCached() || dp.isExpired());
-			if (shouldRecreate) {
+		}
+
+		void release() {
+			if (users.decrementAndGet() == 0 && retired) {
+				close();
+			}
+		}
+
+		void retire() {
+			retired = true;
+			if (users.get() == 0) {
+				close();
+			}
+		}
+
+		private void close() {
+			if (closed.compareAndSet(false, true)) {
 				// we should clear all the existing resources
 				smooks.close();
 			}
-			return shouldRecreate;
 		}
 	}
 
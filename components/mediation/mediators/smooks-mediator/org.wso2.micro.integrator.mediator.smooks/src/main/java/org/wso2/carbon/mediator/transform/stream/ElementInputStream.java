@@ -29,12 +29,19 @@ import org.wso2.carbon.mediator.transform.stream.IOElementPipe;
 /**
  * This class extends from InputStream.
  * The data is retrieved from the IOElementPipe when reading from this class.
+ * An instance is read by a single thread, hence reads are not synchronized.
  */
 public class ElementInputStream extends InputStream {
 
 	/** This pipe is used to get data to read*/
 	private IOElementPipe pipe;
 
+	/** Buffer used for single byte reads */
+	private final byte[] singleByte = new byte[1];
+
+	/** Whether all the data of the pipe is read and the pipe is closed */
+	private boolean closed;
+
 	private static final Log log = LogFactory.getLog(ElementInputStream.class);
 
 	/**
@@ -48,7 +55,8 @@ public class ElementInputStream extends InputStream {
 	/**
 	 * Read data to byte array by getting data from pipe.
 	 */
-	public synchronized int read(byte[] b, int off, int len) {
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
 		if (b == null) {
 			throw new NullPointerException("Null byte array passed to read data");
 		} else if (off < 0 || len < 0 || len > b.length - off) {
@@ -58,33 +66,29 @@ public class ElementInputStream extends InputStream {
 		if (len <= 0) {
 			return 0;
 		}
+		if (closed) {
+			return -1;
+		}
 		try {
 			// Get data from the pipe
-			byte[] btemp = this.pipe.getData(len, off);
-			if (len > btemp.length) {
-				len = btemp.length;
-			}
-			if (btemp.length == 0) {
+			int readCount = this.pipe.read(b, off, len);
+			if (readCount < 0) {
+				closed = true;
 				this.pipe.closeConnections();
-				return -1;
 			}
-			System.arraycopy(btemp, 0, b, off, len);
+			return readCount;
 		} catch (XMLStreamException e) {
 			String errMessage = "Error in writting xml events";
-			log.error(errMessage);
-		} catch (IOException e) {
-			String errMessage = "Error in closing outputstream";
-			log.error(errMessage);
+			log.error(errMessage, e);
+			throw new IOException(errMessage, e);
 		}
-		return len;
 	}
 
 	@Override
 	public int read() throws IOException {
-		byte[] buf = new byte[1];
-		int count = read(buf, 0, 1);
+		int count = read(singleByte, 0, 1);
 		if (count > 0) {
-			return buf[0];
+			return singleByte[0] & 0xff;
 		} else {
 			return -1;
 		}
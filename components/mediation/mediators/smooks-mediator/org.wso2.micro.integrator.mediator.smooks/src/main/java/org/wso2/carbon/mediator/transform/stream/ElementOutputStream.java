@@ -21,24 +21,38 @@ import java.io.ByteArrayOutputStream;
 
 /**
  * This class extends ByteArrayOutputStream.
- * The internal byte array can be resized by removing read part of the array.
+ * Written bytes are drained from the front of the internal buffer, which is reused once it is fully drained, so that
+ * the same buffer serves the whole message without being copied or reallocated on every read.
  */
 public class ElementOutputStream extends ByteArrayOutputStream {
 
+    /** Position up to which the buffer had been read */
+    private int readPosition;
+
+    /**
+     * @return number of written bytes which are not drained yet
+     */
+    public int available() {
+        return this.count - this.readPosition;
+    }
+
     /**
-     * The read data of the buffer is removed and  rest is assigned.
-     * For example if i=100 & this.buf.length=120 then copy byte 101 to 120 and assign to this.buf
-     * So the first 100 bytes are removed from this.buf
-     * @param i Position up to which the buffer had been read
+     * Copy up to len written bytes to the given array and remove them from the buffer.
+     * @param b Array to copy data to
+     * @param off Starting position in the array
+     * @param len Maximum number of bytes to copy
+     * @return Number of bytes copied
      */
-    public void resizeBuffer(int i) {
-		byte[] temp = this.buf;
-		int copyLength = temp.length - i;
-		this.buf = new byte[copyLength];
-		if (copyLength > 0) {
-			System.arraycopy(temp, i, this.buf, 0, copyLength);
-		}
-		this.count = copyLength;
-	}
+    public int drainTo(byte[] b, int off, int len) {
+        int copyLength = Math.min(len, available());
+        System.arraycopy(this.buf, this.readPosition, b, off, copyLength);
+        this.readPosition += copyLength;
+        if (this.readPosition == this.count) {
+            // everything written so far is consumed, start over from the beginning of the buffer
+            this.readPosition = 0;
+            this.count = 0;
+        }
+        return copyLength;
+    }
 
 }
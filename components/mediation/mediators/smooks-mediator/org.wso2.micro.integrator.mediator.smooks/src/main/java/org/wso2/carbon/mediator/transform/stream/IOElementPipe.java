@@ -32,7 +32,8 @@ import org.apache.axiom.om.OMElement;
 
 /**
  * This class populates XML events from the OMElement and write to an OutputStream.
- * The written events are returned as a byte array when requested.
+ * The written events are copied to the reader's byte array when requested. Events are populated on the reading
+ * thread itself, so the pipe has a single producer and consumer and needs no locking.
  */
 public class IOElementPipe {
 
@@ -59,33 +60,31 @@ public class IOElementPipe {
 	}
 
     /**
-     * Copy data from outputStream to a byte array.
-     * @param count Number of bytes requested to read
+     * Read written events to the given byte array, populating more events when all written data is consumed.
+     * @param b Byte array to copy data
      * @param off Stating point of byte array to copy data
-     * @return byte array containing written events
+     * @param len Number of bytes requested to read
+     * @return Number of bytes read, or -1 if all the events are read
      * @throws XMLStreamException
-     * @throws FactoryConfigurationError
      */
-    public final byte[] getData(int count, final int off) throws XMLStreamException {
-		populateEvents();
-		byte[] xmlEventsBuffer = this.outputStream.toByteArray();
-		if (xmlEventsBuffer.length < count) {
-			count = xmlEventsBuffer.length;
+    public final int read(byte[] b, int off, int len) throws XMLStreamException {
+		while (this.outputStream.available() == 0) {
+			if (!populateEvents()) {
+				return -1;
+			}
 		}
-		byte[] copiedEventsBuffer = new byte[count];
-		System.arraycopy(xmlEventsBuffer, 0, copiedEventsBuffer, off, count);
-		//InputStream read count length from outputStream buffer
-		//resizeBuffer is called to remove count length from outputStream buffer
-		this.outputStream.resizeBuffer(count);
-		return copiedEventsBuffer;
+		return this.outputStream.drainTo(b, off, len);
 	}
 
 	/**
 	 * Read MAX_EVENT_COUNT events from eventReader and writes to outputStream.
+	 * @return false if there are no more events to read
 	 * @throws XMLStreamException
-	 * @throws FactoryConfigurationError
 	 */
-	private void populateEvents() throws XMLStreamException {
+	private boolean populateEvents() throws XMLStreamException {
+		if (!this.eventReader.hasNext()) {
+			return false;
+		}
 		int count = 0;
 		XMLEvent event;
 		while (this.eventReader.hasNext() && count < MAX_EVENT_COUNT) {
@@ -94,6 +93,7 @@ public class IOElementPipe {
 			count++;
 		}
 		this.xmlWriter.flush();
+		return true;
 	}
 	
 	/**
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.mediation.security.vault;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves secrets through the decrypted cache of the synapse configuration.
+ * <p>
+ * Only one load per alias is in flight at any time: callers which miss the cache while the alias is being loaded wait
+ * for that load instead of querying the vault again, while lookups of other aliases are not affected. Entries which
+ * are close to the end of their cacheable duration are reloaded in the background and the current value is served
+ * until the new one is available. The cache is bounded and the least recently loaded secrets are evicted first.
+ */
+public class SecretCache {
+
+    private static final Log log = LogFactory.getLog(SecretCache.class);
+
+    private static final int DEFAULT_MAX_SIZE = 10000;
+    private static final int DEFAULT_REFRESH_AHEAD_PERCENTAGE = 80;
+    private static final int DEFAULT_REFRESH_THREADS = 2;
+
+    private final String name;
+    private final int maxSize;
+    private final int refreshAheadPercentage;
+    private final Map<String, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder lookupCount = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * Loads the current value of a secret from its vault.
+     *
+     * @param <E> the exception thrown when the vault cannot be read
+     */
+    @FunctionalInterface
+    public interface SecretLoader<E extends Exception> {
+
+        /**
+         * @return the secret, or null if the vault does not have it, in which case nothing is cached
+         */
+        String load() throws E;
+    }
+
+    public SecretCache(String name) {
+
+        this.name = name;
+        this.maxSize = Math.max(1, Integer.getInteger(SecureVaultConstants.PROP_SECRET_CACHE_MAX_SIZE,
+                                                      DEFAULT_MAX_SIZE));
+        this.refreshAheadPercentage = Math.min(100, Math.max(1, Integer.getInteger(
+                SecureVaultConstants.PROP_SECRET_CACHE_REFRESH_AHEAD_PERCENTAGE, DEFAULT_REFRESH_AHEAD_PERCENTAGE)));
+    }
+
+    /**
+     * Returns the secret of the given alias, loading it when it is not cached or its cacheable duration has lapsed.
+     *
+     * @param cacheMap          the decrypted cache map of the synapse configuration
+     * @param alias             the cache key of the secret
+     * @param cacheableDuration the time in milliseconds a loaded secret can be served from the cache
+     * @param loader            loads the secret from the vault
+     * @return the secret, or null if the vault does not have it
+     */
+    public <E extends Exception> String get(Map<String, Object> cacheMap, String alias, long cacheableDuration,
+                                            SecretLoader<E> loader) throws E {
+
+        long start = System.nanoTime();
+        try {
+            Object cached = cacheMap.get(alias);
+            if (cached instanceof SecureVaultCacheContext) {
+                SecureVaultCacheContext cacheContext = (SecureVaultCacheContext) cached;
+                long age = System.currentTimeMillis() - cacheContext.getDateTime().getTime();
+                if (age <= cacheableDuration) {
+                    hits.increment();
+                    if (age * 100 >= cacheableDuration * refreshAheadPercentage) {
+                        refreshAhead(cacheMap, alias, loader);
+                    }
+                    return cacheContext.getDecryptedValue();
+                }
+            }
+            misses.increment();
+            return load(cacheMap, alias, loader);
+        } finally {
+            lookupCount.increment();
+            lookupNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private <E extends Exception> String load(Map<String, Object> cacheMap, String alias, SecretLoader<E> loader)
+            throws E {
+
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = loading.putIfAbsent(alias, load);
+        if (inFlight != null) {
+            stalls.increment();
+            return await(inFlight, cacheMap, alias, loader);
+        }
+        try {
+            String value = loadAndCache(cacheMap, alias, loader);
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(alias, load);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> String await(CompletableFuture<String> inFlight, Map<String, Object> cacheMap,
+                                               String alias, SecretLoader<E> loader) throws E {
+
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            // Do not leave the caller without a secret, but load it by itself instead of waiting any longer.
+            Thread.currentThread().interrupt();
+            return loadAndCache(cacheMap, alias, loader);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    private <E extends Exception> void refreshAhead(Map<String, Object> cacheMap, String alias,
+                                                    SecretLoader<E> loader) {
+
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        if (loading.putIfAbsent(alias, refresh) != null) {
+            return;
+        }
+        refreshes.increment();
+        Runnable task = () -> {
+            try {
+                refresh.complete(loadAndCache(cacheMap, alias, loader));
+            } catch (Throwable e) {
+                refresh.completeExceptionally(e);
+                log.warn("Could not refresh the " + name + " secret '" + alias + "' ahead of its expiry. The cached "
+                                 + "value is served until it expires", e);
+            } finally {
+                loading.remove(alias, refresh);
+            }
+        };
+        try {
+            RefreshExecutorHolder.EXECUTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private <E extends Exception> String loadAndCache(Map<String, Object> cacheMap, String alias,
+                                                      SecretLoader<E> loader) throws E {
+
+        long start = System.nanoTime();
+        String value = loader.load();
+        long elapsed = System.nanoTime() - start;
+        loadCount.increment();
+        loadNanos.add(elapsed);
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the " + name + " secret '" + alias + "' in "
+                              + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms. " + this);
+        }
+
+        if (value == null) {
+            return null;
+        }
+        if (value.isEmpty()) {
+            // Keep serving the previous secret rather than replacing it with an empty one
+            Object cached = cacheMap.get(alias);
+            if (cached instanceof SecureVaultCacheContext) {
+                return ((SecureVaultCacheContext) cached).getDecryptedValue();
+            }
+        }
+        cacheMap.put(alias, new SecureVaultCacheContext(new Date(), value));
+        if (cacheMap.size() > maxSize) {
+            evict(cacheMap);
+        }
+        return value;
+    }
+
+    private void evict(Map<String, Object> cacheMap) {
+
+        synchronized (evictionLock) {
+            if (cacheMap.size() <= maxSize) {
+                return;
+            }
+            // Evict down to 90% of the capacity, so that a full cache is not scanned on every load
+            int toEvict = cacheMap.size() - maxSize + maxSize / 10;
+            List<Map.Entry<String, Object>> entries = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : cacheMap.entrySet()) {
+                if (entry.getValue() instanceof SecureVaultCacheContext) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort(Comparator.comparing(entry -> ((SecureVaultCacheContext) entry.getValue()).getDateTime()));
+            for (int i = 0; i < toEvict && i < entries.size(); i++) {
+                Map.Entry<String, Object> entry = entries.get(i);
+                if (cacheMap.remove(entry.getKey(), entry.getValue())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of lookups which waited for a load of the same alias started by another caller
+     */
+    public long getStallCount() {
+
+        return stalls.sum();
+    }
+
+    public long getRefreshCount() {
+
+        return refreshes.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictions.sum();
+    }
+
+    /**
+     * @return the average time in microseconds taken to return a secret, including the lookups which had to load it
+     */
+    public long getAverageLookupMicros() {
+
+        long count = lookupCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(lookupNanos.sum() / count);
+    }
+
+    /**
+     * @return the average time in milliseconds taken to load a secret from the vault
+     */
+    public long getAverageLoadMillis() {
+
+        long count = loadCount.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(loadNanos.sum() / count);
+    }
+
+    @Override
+    public String toString() {
+
+        return name + " secret cache [hits: " + getHitCount() + ", misses: " + getMissCount() + ", stalls: "
+                + getStallCount() + ", refreshes: " + getRefreshCount() + ", evictions: " + getEvictionCount()
+                + ", average lookup: " + getAverageLookupMicros() + " us, average load: " + getAverageLoadMillis()
+                + " ms]";
+    }
+
+    /**
+     * Lazily creates the threads which refresh secrets ahead of their expiry, shared by all the secret caches.
+     */
+    private static final class RefreshExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(1, Integer.getInteger(SecureVaultConstants.PROP_SECRET_CACHE_REFRESH_THREADS,
+                                               DEFAULT_REFRESH_THREADS)), runnable -> {
+                    Thread thread = new Thread(runnable, "secret-cache-refresh-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -59,5 +59,12 @@ public interface SecureVaultConstants {
 
 	String FILE_PROTOCOL_PREFIX = "file:";
 
+	/**
+	 * System properties to tune the cache of resolved secrets
+	 */
+	String PROP_SECRET_CACHE_MAX_SIZE = "ei.secret.cache.max.size";
+	String PROP_SECRET_CACHE_REFRESH_AHEAD_PERCENTAGE = "ei.secret.cache.refresh.ahead.percentage";
+	String PROP_SECRET_CACHE_REFRESH_THREADS = "ei.secret.cache.refresh.threads";
+
 
 }
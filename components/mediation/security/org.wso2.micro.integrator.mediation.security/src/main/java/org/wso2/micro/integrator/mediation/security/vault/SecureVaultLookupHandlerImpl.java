@@ -18,7 +18,6 @@
 
 package org.wso2.micro.integrator.mediation.security.vault;
 
-import java.util.Calendar;
 import java.util.Map;
 
 import org.apache.commons.logging.Log;
@@ -32,7 +31,7 @@ public class SecureVaultLookupHandlerImpl implements SecureVaultLookupHandler {
 
 	private static SecureVaultLookupHandlerImpl instance = null;
 
-	private final Object decryptlockObj = new Object();
+	private final SecretCache secretCache = new SecretCache("secure vault");
 
 	private SecureVaultLookupHandlerImpl() {
 	}
@@ -61,27 +60,11 @@ public class SecureVaultLookupHandlerImpl implements SecureVaultLookupHandler {
 	public String evaluate(String aliasPasword, SecretSrcData secretSrcData, MessageContext synCtx) {
 		SynapseConfiguration synapseConfiguration = synCtx.getConfiguration();
 		Map<String, Object> decryptedCacheMap = synapseConfiguration.getDecryptedCacheMap();
-		if (decryptedCacheMap.containsKey(aliasPasword)) {
-			SecureVaultCacheContext cacheContext =
-			                                       (SecureVaultCacheContext) decryptedCacheMap.get(aliasPasword);
-			if (cacheContext != null) {
-				String cacheDurable = synCtx.getConfiguration().getRegistry().getConfigurationProperties().getProperty
-						("cachableDuration");
-				long cacheTime = (cacheDurable != null && !cacheDurable.isEmpty()) ? Long.parseLong(cacheDurable) :
-						10000;
-				if ((cacheContext.getDateTime().getTime() + cacheTime) >= System.currentTimeMillis()) {
-					// which means the given value between the cachable limit
-					return cacheContext.getDecryptedValue();
-				} else {
-					decryptedCacheMap.remove(aliasPasword);
-					return vaultLookup(aliasPasword, secretSrcData, decryptedCacheMap);
-				}
-			} else {
-				return vaultLookup(aliasPasword, secretSrcData, decryptedCacheMap);
-			}
-		} else {
-			return vaultLookup(aliasPasword, secretSrcData, decryptedCacheMap);
-		}
+		String cacheDurable = synapseConfiguration.getRegistry().getConfigurationProperties().getProperty
+				("cachableDuration");
+		long cacheTime = (cacheDurable != null && !cacheDurable.isEmpty()) ? Long.parseLong(cacheDurable) : 10000;
+		return secretCache.get(decryptedCacheMap, aliasPasword, cacheTime,
+				() -> new SecretCipherHander().getSecret(aliasPasword, secretSrcData));
 	}
 
 	@Override
@@ -89,34 +72,4 @@ public class SecureVaultLookupHandlerImpl implements SecureVaultLookupHandler {
 		return evaluate(aliasPasword, new SecretSrcData(), synCtx);
 	}
 
-	/**
-	 * Return the decrypted secret value
-	 * @param aliasPasword Password alias
-	 * @param secretSrcData SecretSrcData object
-	 * @param synCtx synapse message context
-	 * @param decryptedCacheMap decrypted cache map from the message context
-	 * */
-	private String vaultLookup(String aliasPasword, SecretSrcData secretSrcData, Map<String, Object> decryptedCacheMap) {
-		synchronized (decryptlockObj) {
-			SecretCipherHander secretManager = new SecretCipherHander();
-			String decryptedValue = secretManager.getSecret(aliasPasword, secretSrcData);
-			if (decryptedCacheMap == null) {
-				return null;
-			}
-
-			if (decryptedValue.isEmpty()) {
-				SecureVaultCacheContext cacheContext =
-						(SecureVaultCacheContext) decryptedCacheMap.get(aliasPasword);
-				if (cacheContext != null) {
-					return cacheContext.getDecryptedValue();
-				}
-			}
-
-			decryptedCacheMap.put(aliasPasword, new SecureVaultCacheContext(Calendar.getInstance()
-					.getTime(),
-					decryptedValue));
-			return decryptedValue;
-		}
-	}
-
 }
@@ -30,7 +30,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.config.SynapseConfiguration;
 import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
-import org.wso2.micro.integrator.mediation.security.vault.SecureVaultCacheContext;
+import org.wso2.micro.integrator.mediation.security.vault.SecretCache;
 import org.wso2.micro.integrator.mediation.security.vault.external.ExternalVaultConfigLoader;
 import org.wso2.micro.integrator.mediation.security.vault.external.ExternalVaultException;
 import org.wso2.micro.integrator.mediation.security.vault.external.ExternalVaultLookupHandler;
@@ -72,9 +72,9 @@ public class HashiCorpVaultLookupHandlerImpl implements ExternalVaultLookupHandl
 
     private String ldapPassword;
 
-    private boolean isAppRolePullAuthentication = true;
+    private volatile boolean isAppRolePullAuthentication = true;
 
-    private String currentAliasPassword;
+    private final SecretCache secretCache = new SecretCache(name());
 
     /**
      * Regex for environment variable inside vault config.
@@ -151,7 +151,7 @@ public class HashiCorpVaultLookupHandlerImpl implements ExternalVaultLookupHandl
      *
      * @return status of authenticated due to the token expiration or not
      */
-    private boolean authenticateHashiCorpVault() throws VaultException {
+    private synchronized boolean authenticateHashiCorpVault() throws VaultException {
 
         boolean isTokenExpired = false;
         if (isTokenTTLExpired()) {
@@ -380,41 +380,32 @@ public class HashiCorpVaultLookupHandlerImpl implements ExternalVaultLookupHandl
             namespaceForEvaluation = vaultNamespace;
         }
 
-
-        if (decryptedCacheMap.containsKey(aliasPassword)) {
-            SecureVaultCacheContext cacheContext =
-                    (SecureVaultCacheContext) decryptedCacheMap.get(aliasPassword);
-            if (cacheContext != null) {
-                long cacheTime = Long.parseLong(cachableDuration);
-                if ((cacheContext.getDateTime().getTime() + cacheTime) >= System.currentTimeMillis()) {
-                    // which means the given value between the cacheable limit
-                    return cacheContext.getDecryptedValue();
-                } else {
-                    decryptedCacheMap.remove(aliasPassword);
-                    return vaultLookup(namespaceForEvaluation, pathParameter, fieldParameter, decryptedCacheMap);
-                }
-            } else {
-                return vaultLookup(namespaceForEvaluation, pathParameter, fieldParameter, decryptedCacheMap);
-            }
-        } else {
-            return vaultLookup(namespaceForEvaluation, pathParameter, fieldParameter, decryptedCacheMap);
+        String namespace = namespaceForEvaluation;
+        String decryptedValue = secretCache.get(decryptedCacheMap, aliasPassword, Long.parseLong(cachableDuration),
+                () -> vaultLookup(namespace, pathParameter, fieldParameter));
+        if (decryptedValue == null) {
+            log.warn("Cannot find a vault secret from the HashiCorp vault for, "
+                    + (namespace != null ? "Namespace: " + namespace + ", " : "")
+                    + "Path: " + pathParameter + ", Field: " + fieldParameter);
+            // return an empty string value if no secret found for the given parameters
+            return "";
         }
+        return decryptedValue;
     }
 
     /**
-     * Resolves the secret by fetching that secret from HashiCorp vault if it does not exist in the cache.
+     * Resolves the secret by fetching that secret from HashiCorp vault. Concurrent lookups of the same secret are
+     * collapsed into one by the secret cache, while lookups of different secrets run in parallel.
      *
      * @param namespace namespace of the secret
      * @param pathParameter pathParameter of the secret
      * @param fieldParameter fieldParameter of the secret
-     * @param decryptedCacheMap map which contains fetched secrets
-     * @return resolved string
+     * @return resolved string, or null if the secret is not found
      * @throws ExternalVaultException when failed to resolve the text from the vault
      */
-    private synchronized String vaultLookup(String namespace, String pathParameter, String fieldParameter,
-                               Map<String, Object> decryptedCacheMap) throws ExternalVaultException {
+    private String vaultLookup(String namespace, String pathParameter, String fieldParameter)
+            throws ExternalVaultException {
 
-        currentAliasPassword = pathParameter + "-" + fieldParameter;
         String errorMsg = "Cannot read the vault secret from the HashiCorp vault. "
                 + (namespace != null ? "Namespace: " + namespace + ", " : "")
                 + "Path: " + pathParameter + ", Field: " + fieldParameter;
@@ -438,25 +429,6 @@ public class HashiCorpVaultLookupHandlerImpl implements ExternalVaultLookupHandl
                 throw new ExternalVaultException(errorMsg, e);
             }
         }
-
-        if (decryptedCacheMap == null || decryptedValue == null) {
-            log.warn("Cannot find a vault secret from the HashiCorp vault for, "
-                    + (namespace != null ? "Namespace: " + namespace + ", " : "")
-                    + "Path: " + pathParameter + ", Field: " + fieldParameter);
-            // return an empty string value if no secret found for the given parameters
-            return "";
-        }
-
-        if (decryptedValue.isEmpty()) {
-            SecureVaultCacheContext cacheContext =
-                    (SecureVaultCacheContext) decryptedCacheMap.get(currentAliasPassword);
-            if (cacheContext != null) {
-                return cacheContext.getDecryptedValue();
-            }
-        }
-
-        decryptedCacheMap.put(currentAliasPassword,
-                new SecureVaultCacheContext(Calendar.getInstance().getTime(), decryptedValue));
         return decryptedValue;
     }
 
@@ -475,7 +447,6 @@ public class HashiCorpVaultLookupHandlerImpl implements ExternalVaultLookupHandl
         Logical logical = vaultConnection.logical();
         if (namespace != null) {
             logical = logical.withNameSpace(namespace);
-            currentAliasPassword = namespace + "-" + currentAliasPassword;
         }
         return logical.read(pathParameter).getData().get(fieldParameter);
     }
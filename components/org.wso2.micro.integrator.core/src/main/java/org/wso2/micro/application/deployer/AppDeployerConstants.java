@@ -70,6 +70,11 @@ public class AppDeployerConstants {
     public static final String CARBON_APPS = "carbonapps";
     public static final String WORK_DIR = "work";
 
+    // persistent CApp extraction cache
+    public static final String CAPP_EXTRACTION_CACHE_ENABLED = "capp.extraction.cache.enabled";
+    public static final String EXTRACTION_CACHE_DIR = "extraction-cache";
+    public static final String EXTRACTION_MANIFEST_FILE = ".capp-manifest";
+
     public static final String REQ_FEATURES_XML = "required-features.xml";
 
     // artifact types
@@ -35,6 +35,7 @@ import org.wso2.micro.application.deployer.config.CappFile;
 import org.wso2.micro.application.deployer.config.RegistryConfig;
 import org.wso2.micro.core.Constants;
 import org.wso2.micro.core.util.CarbonException;
+import org.wso2.micro.core.util.FileManipulator;
 import org.wso2.micro.integrator.core.services.CarbonServerConfigurationService;
 import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
 
@@ -49,10 +50,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Dictionary;
 import java.util.Enumeration;
@@ -61,6 +66,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
@@ -75,6 +82,8 @@ public final class AppDeployerUtils {
 	private static String APP_UNZIP_DIR;
 	private static final String INTERNAL_ARTIFACTS_DIR = "internal-artifacts";
 	private static volatile boolean isAppDirCreated = false;
+	private static final Set<String> activeCacheEntries = ConcurrentHashMap.newKeySet();
+	private static final Set<String> extractionsInProgress = ConcurrentHashMap.newKeySet();
 
 	private static final String GOV_REGISTRY_PATH = "/_system/governance";
 	private static final String GOV_REGISTRY_PREFIX = "gov:";
@@ -484,6 +493,9 @@ public final class AppDeployerUtils {
      * @throws org.wso2.carbon.CarbonException - error on extraction
      */
     public static String extractCarbonApp(String appCarPath) throws CarbonException {
+        if (isExtractionCacheEnabled() && Files.isRegularFile(Paths.get(appCarPath))) {
+            return extractCarbonAppToCache(appCarPath);
+        }
         createAppDirectory();
 
         //append tenant id to the capp extraction path
@@ -502,6 +514,124 @@ public final class AppDeployerUtils {
         return dest;
     }
 
+    /**
+     * Whether extracted Carbon applications are kept across restarts, keyed by the content of the .car file.
+     *
+     * @return - true if the extraction cache is enabled
+     */
+    public static boolean isExtractionCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty(AppDeployerConstants.CAPP_EXTRACTION_CACHE_ENABLED));
+    }
+
+    /**
+     * Returns the directory which holds the cached Carbon application extractions of the current tenant.
+     *
+     * @return - extraction cache directory
+     */
+    public static String getExtractionCacheDir() {
+        return getAppUnzipDir() + File.separator + getTenantIdString() + File.separator +
+               AppDeployerConstants.EXTRACTION_CACHE_DIR;
+    }
+
+    /**
+     * Extract the Carbon application into the extraction cache, or reuse an earlier extraction of the same file.
+     * The cache entry is named after the SHA-256 digest of the .car path and content. A new entry is extracted
+     * into a temporary directory together with its manifest and then renamed atomically, hence an entry directory
+     * which exists is always completely extracted.
+     *
+     * @param appCarPath - Absolute path of the Carbon application .car file
+     * @return - extracted location
+     * @throws CarbonException - error on extraction
+     */
+    private static String extractCarbonAppToCache(String appCarPath) throws CarbonException {
+        createAppDirectory();
+
+        String appCarPathFormatted = formatPath(appCarPath);
+        String fileName = appCarPathFormatted.substring(appCarPathFormatted.lastIndexOf('/') + 1);
+        String digest;
+        try {
+            digest = computeExtractionKey(appCarPathFormatted, appCarPath);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new CarbonException("Error while computing the digest of Carbon Application : " + fileName, e);
+        }
+        String entryName = fileName + "-" + digest;
+        activeCacheEntries.add(entryName);
+
+        File cacheDir = new File(getExtractionCacheDir());
+        File entryDir = new File(cacheDir, entryName);
+        if (new File(entryDir, AppDeployerConstants.EXTRACTION_MANIFEST_FILE).isFile()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Reusing the cached extraction of Carbon Application : " + fileName);
+            }
+            return entryDir.getAbsolutePath() + File.separator;
+        }
+
+        String tempName = "." + entryName + ".tmp-" + System.nanoTime();
+        String tempDest = cacheDir.getAbsolutePath() + File.separator + tempName + File.separator;
+        // registered before the directory exists, so that a concurrent cache cleanup never deletes it
+        extractionsInProgress.add(tempName);
+        try {
+            createDir(tempDest);
+            extract(appCarPath, tempDest);
+            Properties manifest = new Properties();
+            manifest.setProperty(AppDeployerConstants.APP_FILE_PATH, appCarPathFormatted);
+            manifest.setProperty(AppDeployerConstants.HASH_VALUE, digest);
+            manifest.setProperty(AppDeployerConstants.LAST_UPDATED_TIME,
+                                 String.valueOf(new File(appCarPath).lastModified()));
+            try (OutputStream out = new FileOutputStream(tempDest + AppDeployerConstants.EXTRACTION_MANIFEST_FILE)) {
+                manifest.store(out, "Extracted Carbon Application");
+            }
+            Files.move(Paths.get(tempDest), entryDir.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            FileManipulator.deleteDir(tempDest);
+            // the rename fails if the same archive was extracted concurrently, use that extraction
+            if (!new File(entryDir, AppDeployerConstants.EXTRACTION_MANIFEST_FILE).isFile()) {
+                throw new CarbonException("Error while extracting Carbon Application : " + fileName, e);
+            }
+        } finally {
+            extractionsInProgress.remove(tempName);
+        }
+        return entryDir.getAbsolutePath() + File.separator;
+    }
+
+    private static String computeExtractionKey(String formattedPath, String appCarPath)
+            throws IOException, NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(formattedPath.getBytes(StandardCharsets.UTF_8));
+        try (InputStream in = new FileInputStream(appCarPath)) {
+            byte[] buffer = new byte[65536];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, len);
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : messageDigest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Deletes the cached extractions which were not used since the server started, together with any temporary
+     * directories left behind by interrupted extractions. Temporary directories of extractions still in progress are
+     * kept.
+     */
+    public static void cleanExtractionCache() {
+        File[] entries = new File(getExtractionCacheDir()).listFiles();
+        if (entries == null) {
+            return;
+        }
+        for (File entry : entries) {
+            if (!activeCacheEntries.contains(entry.getName()) && !extractionsInProgress.contains(entry.getName())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Deleting stale CApp extraction : " + entry.getAbsolutePath());
+                }
+                FileManipulator.deleteDir(entry);
+            }
+        }
+    }
+
     public static String createAppExtractionPath(String parentAppName) {
     	createAppDirectory();
         String tenantId = AppDeployerUtils.getTenantIdString();
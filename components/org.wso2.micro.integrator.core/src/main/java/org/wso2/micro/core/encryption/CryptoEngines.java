@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.core.encryption;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+
+/**
+ * Hands out per-thread {@link Cipher} and {@link Signature} instances for the crypto providers.
+ * <p>
+ * Looking up a JCA engine walks the registered security providers on every call, which dominates small
+ * encrypt / sign operations. An engine is not thread safe but is fully reset by {@code init}, {@code initSign} and
+ * {@code initVerify}, so callers must always initialize the returned instance before using it and must not keep it
+ * beyond the current operation.
+ */
+public final class CryptoEngines {
+
+    private static final int MAX_ENGINES_PER_THREAD = 32;
+
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+
+    private CryptoEngines() {
+
+    }
+
+    /**
+     * Returns the {@link Cipher} of the current thread for the given transformation and provider.
+     *
+     * @param transformation          the cipher transformation
+     * @param javaSecurityAPIProvider the Java Security API provider, or blank for the default provider
+     * @return an uninitialized or previously used cipher which has to be initialized by the caller
+     */
+    public static Cipher getCipher(String transformation, String javaSecurityAPIProvider)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, NoSuchProviderException {
+
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        String key = engineKey(transformation, javaSecurityAPIProvider);
+        Cipher cipher = ciphers.get(key);
+        if (cipher == null) {
+            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
+                cipher = Cipher.getInstance(transformation);
+            } else {
+                cipher = Cipher.getInstance(transformation, javaSecurityAPIProvider);
+            }
+            if (ciphers.size() >= MAX_ENGINES_PER_THREAD) {
+                ciphers.clear();
+            }
+            ciphers.put(key, cipher);
+        }
+        return cipher;
+    }
+
+    /**
+     * Returns the {@link Signature} of the current thread for the given algorithm and provider.
+     *
+     * @param algorithm               the signature algorithm
+     * @param javaSecurityAPIProvider the Java Security API provider, or blank for the default provider
+     * @return an uninitialized or previously used signature which has to be initialized by the caller
+     */
+    public static Signature getSignature(String algorithm, String javaSecurityAPIProvider)
+            throws NoSuchAlgorithmException, NoSuchProviderException {
+
+        Map<String, Signature> signatures = SIGNATURES.get();
+        String key = engineKey(algorithm, javaSecurityAPIProvider);
+        Signature signature = signatures.get(key);
+        if (signature == null) {
+            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
+                signature = Signature.getInstance(algorithm);
+            } else {
+                signature = Signature.getInstance(algorithm, javaSecurityAPIProvider);
+            }
+            if (signatures.size() >= MAX_ENGINES_PER_THREAD) {
+                signatures.clear();
+            }
+            signatures.put(key, signature);
+        }
+        return signature;
+    }
+
+    private static String engineKey(String algorithm, String javaSecurityAPIProvider) {
+
+        return StringUtils.isBlank(javaSecurityAPIProvider) ? algorithm : algorithm + '|' + javaSecurityAPIProvider;
+    }
+}
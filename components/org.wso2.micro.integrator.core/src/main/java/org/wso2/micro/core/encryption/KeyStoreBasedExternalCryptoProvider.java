@@ -38,6 +38,9 @@ import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.cert.Certificate;
 import java.security.spec.AlgorithmParameterSpec;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -50,6 +53,10 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
     private static Log log = LogFactory.getLog(KeyStoreBasedExternalCryptoProvider.class);
     private static SecureRandom random = new SecureRandom();
 
+    // Recovering a private key from the key store decrypts the key entry on every call, hence the recovered keys are
+    // kept per tenant and alias for as long as the key store they were read from is in use.
+    private final Map<String, PrivateKeyHandle> privateKeyHandles = new ConcurrentHashMap<>();
+
     /**
      * Computes and returns the signature of given data, using the underlying key store.
      *
@@ -66,12 +73,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
                        PrivateKeyInfo privateKeyInfo) throws CryptoException {
 
         try {
-            Signature signature;
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                signature = Signature.getInstance(algorithm);
-            } else {
-                signature = Signature.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Signature signature = CryptoEngines.getSignature(algorithm, javaSecurityAPIProvider);
 
             PrivateKey privateKey = getPrivateKey(cryptoContext, privateKeyInfo);
 
@@ -124,13 +126,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
                           CryptoContext cryptoContext, PrivateKeyInfo privateKeyInfo) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             PrivateKey privateKey = getPrivateKey(cryptoContext, privateKeyInfo);
 
@@ -186,13 +182,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
                           CryptoContext cryptoContext, CertificateInfo certificateInfo) throws CryptoException {
 
         try {
-            Cipher cipher;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                cipher = Cipher.getInstance(algorithm);
-            } else {
-                cipher = Cipher.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Cipher cipher = CryptoEngines.getCipher(algorithm, javaSecurityAPIProvider);
 
             Certificate certificate = getCertificate(cryptoContext, certificateInfo);
 
@@ -249,13 +239,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
             throws CryptoException {
 
         try {
-            Signature signature;
-
-            if (StringUtils.isBlank(javaSecurityAPIProvider)) {
-                signature = Signature.getInstance(algorithm);
-            } else {
-                signature = Signature.getInstance(algorithm, javaSecurityAPIProvider);
-            }
+            Signature signature = CryptoEngines.getSignature(algorithm, javaSecurityAPIProvider);
 
             Certificate certificate = getCertificate(cryptoContext, certificateInfo);
 
@@ -363,8 +347,18 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
             }
 
             KeyStore keyStore = keyStoreManager.getPrimaryKeyStore();
+            String handleKey = cryptoContext.getTenantId() + ":" + privateKeyInfo.getKeyAlias();
+            PrivateKeyHandle handle = privateKeyHandles.get(handleKey);
+            if (handle != null && handle.matches(keyStore, privateKeyInfo.getKeyPassword())) {
+                return handle.privateKey;
+            }
+
             privateKey = (PrivateKey) keyStore
                     .getKey(privateKeyInfo.getKeyAlias(), privateKeyInfo.getKeyPassword().toCharArray());
+            if (privateKey != null) {
+                privateKeyHandles.put(handleKey,
+                                      new PrivateKeyHandle(keyStore, privateKeyInfo.getKeyPassword(), privateKey));
+            }
 
             return privateKey;
 
@@ -524,13 +518,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
                                           String symmetricAlgorithm, SecretKeySpec symmetricKey,
                                           AlgorithmParameterSpec algoParams) throws Exception {
 
-        Cipher cipher;
-        // Check if JCE provider is specified.
-        if (StringUtils.isBlank(jceSecurityProvider)) {
-            cipher = Cipher.getInstance(symmetricAlgorithm);
-        } else {
-            cipher = Cipher.getInstance(symmetricAlgorithm, jceSecurityProvider);
-        }
+        Cipher cipher = CryptoEngines.getCipher(symmetricAlgorithm, jceSecurityProvider);
         cipher.init(Cipher.ENCRYPT_MODE, symmetricKey, algoParams);
 
         if (hybridEncryptionInput.getAuthData() != null) {
@@ -548,13 +536,7 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
     private byte[] symmetricDecryptData(HybridEncryptionOutput hybridEncryptionOutput, String jceSecurityProvider,
                                         String symmetricAlgorithm, SecretKeySpec decryptionKey) throws Exception {
 
-        Cipher cipher;
-        // Check if JCE provider is specified.
-        if (StringUtils.isBlank(jceSecurityProvider)) {
-            cipher = Cipher.getInstance(symmetricAlgorithm);
-        } else {
-            cipher = Cipher.getInstance(symmetricAlgorithm, jceSecurityProvider);
-        }
+        Cipher cipher = CryptoEngines.getCipher(symmetricAlgorithm, jceSecurityProvider);
         if (hybridEncryptionOutput.getParameterSpec() == null) {
             cipher.init(Cipher.DECRYPT_MODE, decryptionKey);
         } else {
@@ -615,4 +597,31 @@ public class KeyStoreBasedExternalCryptoProvider implements ExternalCryptoProvid
         }
         return outputStream.toByteArray();
     }
+
+    /**
+     * Drops the private keys recovered so far, so that they are read again from the key store on the next use.
+     */
+    public void clearKeyCache() {
+
+        privateKeyHandles.clear();
+    }
+
+    private static final class PrivateKeyHandle {
+
+        private final KeyStore keyStore;
+        private final String keyPassword;
+        private final PrivateKey privateKey;
+
+        private PrivateKeyHandle(KeyStore keyStore, String keyPassword, PrivateKey privateKey) {
+
+            this.keyStore = keyStore;
+            this.keyPassword = keyPassword;
+            this.privateKey = privateKey;
+        }
+
+        private boolean matches(KeyStore keyStore, String keyPassword) {
+
+            return this.keyStore == keyStore && Objects.equals(this.keyPassword, keyPassword);
+        }
+    }
 }
@@ -18,14 +18,20 @@
 
 package org.wso2.micro.integrator.core.json;
 
+import org.apache.axiom.om.OMDataSource;
+import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMOutputFormat;
+import org.apache.axiom.om.OMSourcedElement;
+import org.apache.axiom.soap.SOAPEnvelope;
 import org.apache.axis2.AxisFault;
 import org.apache.axis2.context.MessageContext;
 import org.apache.axis2.transport.MessageFormatter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.core.Constants;
 import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -88,12 +94,18 @@ public class JsonStreamFormatter implements MessageFormatter {
     public byte[] getBytes(MessageContext messageContext, OMOutputFormat omOutputFormat) throws AxisFault {
         try {
             if (MicroIntegratorBaseUtils.isDataService(messageContext)) {
+                OMDataSource jsonDataSource = getDataServiceJSONDataSource(messageContext);
+                if (jsonDataSource != null) {
+                    ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+                    jsonDataSource.serialize(bytesOut, omOutputFormat);
+                    return bytesOut.toByteArray();
+                }
                 return (byte[]) axis2GsonFormatterGetBytesMethod
                         .invoke(axis2GsonFormatter, messageContext, omOutputFormat);
             } else {
                 return (byte[]) synapseFormatterGetBytesMethod.invoke(synapseFormatter, messageContext, omOutputFormat);
             }
-        } catch (InvocationTargetException | IllegalAccessException e) {
+        } catch (InvocationTargetException | IllegalAccessException | XMLStreamException e) {
             logger.error("Error occurred while generating bytes for application/json", e);
             throw new AxisFault(e.getMessage());
         }
@@ -103,12 +115,17 @@ public class JsonStreamFormatter implements MessageFormatter {
                         boolean b) throws AxisFault {
         try {
             if (MicroIntegratorBaseUtils.isDataService(messageContext)) {
+                OMDataSource jsonDataSource = getDataServiceJSONDataSource(messageContext);
+                if (jsonDataSource != null) {
+                    jsonDataSource.serialize(outputStream, omOutputFormat);
+                    return;
+                }
                 axis2GsonFormatterWriteToMethod
                         .invoke(axis2GsonFormatter, messageContext, omOutputFormat, outputStream, b);
             } else {
                 synapseFormatterWriteToMethod.invoke(synapseFormatter, messageContext, omOutputFormat, outputStream, b);
             }
-        } catch (InvocationTargetException | IllegalAccessException e) {
+        } catch (InvocationTargetException | IllegalAccessException | XMLStreamException e) {
             logger.error("Error occurred while writing to application/json", e);
             throw new AxisFault(e.getMessage());
         }
@@ -159,4 +176,21 @@ public class JsonStreamFormatter implements MessageFormatter {
             throw new RuntimeException(e.getMessage());
         }
     }
+
+    /**
+     * Returns the data source set by the data services message receiver to write the response
+     * directly as JSON, provided the response payload has not been built or replaced since.
+     */
+    private static OMDataSource getDataServiceJSONDataSource(MessageContext messageContext) {
+        Object dataSource = messageContext.getProperty(Constants.DATASERVICE_JSON_DATA_SOURCE);
+        SOAPEnvelope envelope = messageContext.getEnvelope();
+        if (!(dataSource instanceof OMDataSource) || envelope == null || envelope.getBody() == null) {
+            return null;
+        }
+        OMElement firstElement = envelope.getBody().getFirstElement();
+        if (firstElement instanceof OMSourcedElement && !((OMSourcedElement) firstElement).isExpanded()) {
+            return (OMDataSource) dataSource;
+        }
+        return null;
+    }
 }
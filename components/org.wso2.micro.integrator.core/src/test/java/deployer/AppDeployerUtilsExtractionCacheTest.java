@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package deployer;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.micro.application.deployer.AppDeployerConstants;
+import org.wso2.micro.application.deployer.AppDeployerUtils;
+import org.wso2.micro.core.util.FileManipulator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class AppDeployerUtilsExtractionCacheTest {
+
+    private File tempCAppDir;
+    private File cacheDir;
+    private String cacheEnabled;
+
+    @Before
+    public void setUp() throws IOException {
+
+        cacheEnabled = System.getProperty(AppDeployerConstants.CAPP_EXTRACTION_CACHE_ENABLED);
+        System.setProperty(AppDeployerConstants.CAPP_EXTRACTION_CACHE_ENABLED, "true");
+        cacheDir = new File(AppDeployerUtils.getExtractionCacheDir());
+
+        tempCAppDir = Files.createTempDirectory("cappdir").toFile();
+    }
+
+    @After
+    public void tearDown() {
+
+        if (cacheEnabled == null) {
+            System.clearProperty(AppDeployerConstants.CAPP_EXTRACTION_CACHE_ENABLED);
+        } else {
+            System.setProperty(AppDeployerConstants.CAPP_EXTRACTION_CACHE_ENABLED, cacheEnabled);
+        }
+        FileManipulator.deleteDir(tempCAppDir);
+        FileManipulator.deleteDir(cacheDir);
+    }
+
+    @Test
+    public void extractCarbonApp_reusesCachedExtraction() throws Exception {
+
+        File carFile = createCarFile("test.car", "1.0.0");
+
+        String extractedPath = AppDeployerUtils.extractCarbonApp(carFile.getAbsolutePath());
+        Assert.assertEquals(cacheDir.getAbsolutePath(), new File(extractedPath).getParentFile().getAbsolutePath());
+        Assert.assertTrue(new File(extractedPath, AppDeployerConstants.EXTRACTION_MANIFEST_FILE).isFile());
+        Assert.assertEquals("1.0.0", readArtifact(extractedPath));
+
+        // an unchanged archive is not extracted again
+        File marker = new File(extractedPath, "marker");
+        Assert.assertTrue(marker.createNewFile());
+        String reusedPath = AppDeployerUtils.extractCarbonApp(carFile.getAbsolutePath());
+        Assert.assertEquals(extractedPath, reusedPath);
+        Assert.assertTrue(new File(reusedPath, "marker").isFile());
+    }
+
+    @Test
+    public void extractCarbonApp_reExtractsChangedArchive() throws Exception {
+
+        File carFile = createCarFile("test.car", "1.0.0");
+        String extractedPath = AppDeployerUtils.extractCarbonApp(carFile.getAbsolutePath());
+
+        Assert.assertTrue(carFile.delete());
+        createCarFile("test.car", "2.0.0");
+        String changedPath = AppDeployerUtils.extractCarbonApp(carFile.getAbsolutePath());
+
+        Assert.assertNotEquals(extractedPath, changedPath);
+        Assert.assertEquals("2.0.0", readArtifact(changedPath));
+        Assert.assertEquals("1.0.0", readArtifact(extractedPath));
+    }
+
+    @Test
+    public void cleanExtractionCache_removesStaleEntries() throws Exception {
+
+        File carFile = createCarFile("test.car", "1.0.0");
+        String extractedPath = AppDeployerUtils.extractCarbonApp(carFile.getAbsolutePath());
+
+        File staleEntry = new File(cacheDir, "stale.car-0123456789abcdef");
+        File leftoverTempDir = new File(cacheDir, ".stale.car-0123456789abcdef.tmp-1");
+        Assert.assertTrue(staleEntry.mkdirs());
+        Assert.assertTrue(leftoverTempDir.mkdirs());
+
+        AppDeployerUtils.cleanExtractionCache();
+
+        Assert.assertFalse(staleEntry.exists());
+        Assert.assertFalse(leftoverTempDir.exists());
+        Assert.assertTrue(new File(extractedPath, AppDeployerConstants.EXTRACTION_MANIFEST_FILE).isFile());
+    }
+
+    private File createCarFile(String carFileName, String version) throws IOException {
+
+        File carFile = new File(tempCAppDir, carFileName);
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(carFile))) {
+            zos.putNextEntry(new ZipEntry("artifacts.xml"));
+            zos.write(version.getBytes(StandardCharsets.UTF_8));
+            zos.closeEntry();
+        }
+        return carFile;
+    }
+
+    private String readArtifact(String extractedPath) throws IOException {
+
+        return new String(Files.readAllBytes(new File(extractedPath, "artifacts.xml").toPath()),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -65,6 +65,7 @@ public class ApiResource extends APIResource {
     private static Log LOG = LogFactory.getLog(ApiResource.class);
 
     private static final String API_NAME = "apiName";
+    private static final String API_LISTING = "apis";
     private static final String URL_VERSION_TYPE = "url";
     private List<String> serverContext = new ArrayList<>();  // base server urls
 
@@ -113,24 +114,15 @@ public class ApiResource extends APIResource {
         return true;
     }
 
-    private List<API> getSearchResults(MessageContext messageContext, String searchKey) {
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-        return configuration.getAPIs().stream()
-                .filter(artifact -> artifact.getAPIName().toLowerCase().contains(searchKey))
-                .collect(Collectors.toList());
-    }
-
     private void populateSearchResults(MessageContext messageContext, String searchKey) {
-        List<API> searchResultList = getSearchResults(messageContext, searchKey);
-        setResponseBody(searchResultList, messageContext);
+        ArtifactListing.respond(messageContext, API_LISTING, () -> convertApisToJsonList(
+                messageContext.getConfiguration().getAPIs(), messageContext), searchKey, null);
     }
 
-    private void setResponseBody(Collection<API> resultList, MessageContext messageContext) {
+    private List<JSONObject> convertApisToJsonList(Collection<API> apis, MessageContext messageContext) {
 
-        org.apache.axis2.context.MessageContext axis2MessageContext =
-                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
-        JSONObject jsonBody = Utils.createJSONList(resultList.size());
-        for (API api: resultList) {
+        List<JSONObject> apiList = new ArrayList<>(apis.size());
+        for (API api: apis) {
             JSONObject apiObject = new JSONObject();
             String apiUrl = getApiUrl(api, messageContext);
             JSONArray urlArray = new JSONArray(apiUrl.split(","));
@@ -139,10 +131,11 @@ public class ApiResource extends APIResource {
             apiObject.put(Constants.URL_LIST, urlArray);
             apiObject.put(Constants.TRACING,
                     api.getAspectConfiguration().isTracingEnabled() ? Constants.ENABLED : Constants.DISABLED);
-            jsonBody.getJSONArray(Constants.LIST).put(apiObject);
+            apiList.add(apiObject);
         }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        return apiList;
     }
+
     private void handlePost(MessageContext msgCtx, org.apache.axis2.context.MessageContext axisMsgCtx) {
 
         JSONObject response;
@@ -177,12 +170,8 @@ public class ApiResource extends APIResource {
 
     private void populateApiList(MessageContext messageContext) {
 
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-
-        Collection<API> apis = configuration.getAPIs();
-
-        setResponseBody(apis, messageContext);
-
+        ArtifactListing.respond(messageContext, API_LISTING, () -> convertApisToJsonList(
+                messageContext.getConfiguration().getAPIs(), messageContext));
     }
 
     private void populateApiData(MessageContext messageContext, String apiName) {
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.management.apis;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.wso2.micro.integrator.initializer.dashboard.ArtifactChangeTracker;
+import org.wso2.micro.integrator.management.apis.security.handler.SecurityUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.apache.synapse.SynapseConstants.HTTP_SC;
+
+/**
+ * Serves the artifact listings of the management API.
+ * <p>
+ * Listings are kept as snapshots which are rebuilt only when the artifact change generation moves, i.e. when an
+ * artifact is deployed, undeployed or has its tracing or statistics state changed. Each snapshot is versioned with an
+ * ETag, so a client polling with If-None-Match gets a 304 response without a body while nothing changed. A listing
+ * can be paged with the cursor and limit query parameters, where the cursor is the nextCursor of the previous page,
+ * and the fields of each item can be projected with a comma separated list in the fields query parameter. Without
+ * these parameters the whole listing is returned as before.
+ */
+final class ArtifactListing {
+
+    private static final String INSTANCE_TAG = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private static final Map<String, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+
+    private ArtifactListing() {
+    }
+
+    /**
+     * Responds with a page of the given listing. The items are sorted by name.
+     *
+     * @param messageContext synapse message context
+     * @param listingName    name identifying the listing
+     * @param builder        builds the items of the listing when the snapshot is stale
+     */
+    static void respond(MessageContext messageContext, String listingName, Supplier<List<JSONObject>> builder) {
+        respond(messageContext, listingName, builder, null, null);
+    }
+
+    /**
+     * Responds with a page of the given listing, filtered by the given search key. Fields which change without an
+     * artifact change, such as the size of a message store, are not kept in the snapshot but added to the items of the
+     * page by the given consumer. The ETag of such a page is calculated from its content.
+     *
+     * @param messageContext synapse message context
+     * @param listingName    name identifying the listing
+     * @param builder        builds the items of the listing when the snapshot is stale
+     * @param searchKey      lower case text the names of the items should contain, or null to list all the items
+     * @param liveFields     adds the live fields to a copy of an item of the page, or null if there are none
+     */
+    static void respond(MessageContext messageContext, String listingName, Supplier<List<JSONObject>> builder,
+                        String searchKey, Consumer<JSONObject> liveFields) {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        Snapshot<List<JSONObject>> snapshot = getSnapshot(messageContext, listingName, () -> {
+            List<JSONObject> items = new ArrayList<>(builder.get());
+            items.sort(Comparator.comparing(item -> item.optString(Constants.NAME)));
+            return items;
+        });
+        if (liveFields == null && isNotModified(axis2MessageContext, snapshot.eTag)) {
+            return;
+        }
+        List<JSONObject> items = snapshot.content;
+        if (searchKey != null) {
+            items = new ArrayList<>();
+            for (JSONObject item : snapshot.content) {
+                if (item.optString(Constants.NAME).toLowerCase().contains(searchKey)) {
+                    items.add(item);
+                }
+            }
+        }
+        JSONObject jsonBody;
+        try {
+            jsonBody = createPage(messageContext, items, liveFields);
+        } catch (IllegalArgumentException e) {
+            Utils.setJsonPayLoad(axis2MessageContext, Utils.createJsonError(e.getMessage(), axis2MessageContext,
+                                                                            Constants.BAD_REQUEST));
+            return;
+        }
+        String eTag = snapshot.eTag;
+        if (liveFields != null) {
+            eTag = contentTag(jsonBody);
+            if (isNotModified(axis2MessageContext, eTag)) {
+                return;
+            }
+        }
+        setETag(axis2MessageContext, eTag);
+        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+    }
+
+    /**
+     * Responds with the given listing body, which is kept as a snapshot but neither paged nor projected.
+     *
+     * @param messageContext synapse message context
+     * @param listingName    name identifying the listing
+     * @param builder        builds the listing body when the snapshot is stale
+     */
+    static void respondWithBody(MessageContext messageContext, String listingName, Supplier<JSONObject> builder) {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        Snapshot<JSONObject> snapshot = getSnapshot(messageContext, listingName, builder);
+        if (isNotModified(axis2MessageContext, snapshot.eTag)) {
+            return;
+        }
+        setETag(axis2MessageContext, snapshot.eTag);
+        Utils.setJsonPayLoad(axis2MessageContext, snapshot.content);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Snapshot<T> getSnapshot(MessageContext messageContext, String listingName,
+                                               Supplier<T> builder) {
+
+        ArtifactChangeTracker.observe(messageContext.getConfiguration());
+        // read the generation before building, so that a change during the build makes the snapshot stale
+        long generation = ArtifactChangeTracker.getGeneration();
+        Snapshot<T> snapshot = (Snapshot<T>) snapshots.get(listingName);
+        if (snapshot == null || snapshot.generation != generation) {
+            snapshot = new Snapshot<>(generation, builder.get());
+            snapshots.put(listingName, snapshot);
+        }
+        return snapshot;
+    }
+
+    private static JSONObject createPage(MessageContext messageContext, List<JSONObject> items,
+                                         Consumer<JSONObject> liveFields) {
+
+        int start = 0;
+        String cursor = Utils.getQueryParameter(messageContext, Constants.CURSOR);
+        if (cursor != null) {
+            start = indexAfter(items, decodeCursor(cursor));
+        }
+        int end = items.size();
+        String limit = Utils.getQueryParameter(messageContext, Constants.LIMIT);
+        if (limit != null) {
+            end = (int) Math.min(end, start + (long) parseLimit(limit));
+        }
+        String fields = Utils.getQueryParameter(messageContext, Constants.FIELDS);
+        String[] fieldNames = fields == null ? null : fields.split(",");
+
+        JSONObject jsonBody = Utils.createJSONList(items.size());
+        JSONArray list = jsonBody.getJSONArray(Constants.LIST);
+        for (int i = start; i < end; i++) {
+            JSONObject item = items.get(i);
+            if (liveFields != null) {
+                item = new JSONObject(item, JSONObject.getNames(item));
+                liveFields.accept(item);
+            }
+            if (fieldNames != null) {
+                item = project(item, fieldNames);
+            }
+            list.put(item);
+        }
+        if (end < items.size()) {
+            jsonBody.put(Constants.NEXT_CURSOR, Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    items.get(end - 1).optString(Constants.NAME).getBytes(StandardCharsets.UTF_8)));
+        }
+        return jsonBody;
+    }
+
+    private static int indexAfter(List<JSONObject> items, String name) {
+
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (items.get(mid).optString(Constants.NAME).compareTo(name) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String decodeCursor(String cursor) {
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor : " + cursor);
+        }
+    }
+
+    private static int parseLimit(String limit) {
+
+        int value;
+        try {
+            value = Integer.parseInt(limit.trim());
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        if (value <= 0) {
+            throw new IllegalArgumentException("Invalid limit : " + limit + ". The limit should be a positive number");
+        }
+        return value;
+    }
+
+    private static JSONObject project(JSONObject item, String[] fieldNames) {
+
+        JSONObject projected = new JSONObject();
+        for (String fieldName : fieldNames) {
+            String field = fieldName.trim();
+            if (item.has(field)) {
+                projected.put(field, item.get(field));
+            }
+        }
+        return projected;
+    }
+
+    private static boolean isNotModified(org.apache.axis2.context.MessageContext axis2MessageContext, String eTag) {
+
+        Map headers = SecurityUtils.getHeaders(axis2MessageContext);
+        if (headers == null) {
+            return false;
+        }
+        Object ifNoneMatch = headers.remove(Constants.HEADER_IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.toString().split(",")) {
+            String value = tag.trim();
+            if (value.equals(eTag) || value.equals("W/" + eTag) || value.equals("*")) {
+                headers.put(Constants.HEADER_ETAG, eTag);
+                axis2MessageContext.setProperty(Constants.NO_ENTITY_BODY, true);
+                axis2MessageContext.setProperty(HTTP_SC, Constants.NOT_MODIFIED);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setETag(org.apache.axis2.context.MessageContext axis2MessageContext, String eTag) {
+
+        Map headers = SecurityUtils.getHeaders(axis2MessageContext);
+        if (headers != null) {
+            headers.put(Constants.HEADER_ETAG, eTag);
+        }
+    }
+
+    private static String contentTag(JSONObject jsonBody) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(jsonBody.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Snapshot<T> {
+
+        private final long generation;
+        private final T content;
+        private final String eTag;
+
+        private Snapshot(long generation, T content) {
+
+            this.generation = generation;
+            this.content = content;
+            this.eTag = "\"" + INSTANCE_TAG + "-" + generation + "\"";
+        }
+    }
+}
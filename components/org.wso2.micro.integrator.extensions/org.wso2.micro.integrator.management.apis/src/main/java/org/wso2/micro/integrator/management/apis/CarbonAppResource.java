@@ -80,6 +80,7 @@ public class CarbonAppResource extends APIResource {
     private static final String MULTIPART_FORMDATA_DATA_TYPE = "multipart/form-data";
     private static final String CAPP_NAME = "name";
     private static final String CAPP_FILE_NAME = "cAppFileName";
+    private static final String CARBON_APP_LISTING = "carbon-applications";
     // HTTP method types supported by the resource
     private Set<String> methods;
 
@@ -183,9 +184,14 @@ public class CarbonAppResource extends APIResource {
 
     private void setResponseBody(Collection<CarbonApplication> appList, Collection<CarbonApplication> faultyAppList,
                                  MessageContext messageContext) {
-        JSONObject jsonBody;
         org.apache.axis2.context.MessageContext axis2MessageContext =
                 ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        Utils.setJsonPayLoad(axis2MessageContext, createResponseBody(appList, faultyAppList));
+    }
+
+    private JSONObject createResponseBody(Collection<CarbonApplication> appList,
+                                          Collection<CarbonApplication> faultyAppList) {
+        JSONObject jsonBody;
         if (appList == null) {
             jsonBody = new JSONObject();
             jsonBody.put("error", "Error while getting the Carbon Application List");
@@ -203,7 +209,7 @@ public class CarbonAppResource extends APIResource {
                 jsonBody.getJSONArray(Constants.FAULTY_LIST).put(appObject);
             }
         }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        return jsonBody;
     }
     /**
      * Populate file content.
@@ -382,12 +388,8 @@ public class CarbonAppResource extends APIResource {
 
     private void populateCarbonAppList(MessageContext messageContext) {
 
-        List<CarbonApplication> appList
-                = CappDeployer.getCarbonApps();
-
-        List<CarbonApplication> faultyAppList = CappDeployer.getFaultyCAppObjects();
-
-        setResponseBody(appList, faultyAppList, messageContext);
+        ArtifactListing.respondWithBody(messageContext, CARBON_APP_LISTING,
+                () -> createResponseBody(CappDeployer.getCarbonApps(), CappDeployer.getFaultyCAppObjects()));
     }
 
     private void populateCarbonAppData(MessageContext messageContext, String carbonAppName) {
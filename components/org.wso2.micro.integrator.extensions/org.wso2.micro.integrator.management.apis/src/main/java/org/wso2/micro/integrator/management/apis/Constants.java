@@ -265,6 +265,15 @@ public class Constants {
 
     // Searching constants
     public static final String SEARCH_KEY = "searchKey";
+
+    // Listing constants
+    public static final String CURSOR = "cursor";
+    public static final String LIMIT = "limit";
+    public static final String FIELDS = "fields";
+    public static final String NEXT_CURSOR = "nextCursor";
+    public static final String HEADER_ETAG = "ETag";
+    public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    public static final int NOT_MODIFIED = 304;
     public static final Character BASIC_AUTH_SEPARATOR_CHAR = ':';
 
     public static final String ARTIFACT_TYPE = "type";
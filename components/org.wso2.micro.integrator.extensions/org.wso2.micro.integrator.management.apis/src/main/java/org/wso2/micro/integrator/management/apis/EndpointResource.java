@@ -39,13 +39,13 @@ import org.wso2.micro.integrator.security.user.api.UserStoreException;
 import javax.xml.namespace.QName;
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static org.wso2.micro.integrator.management.apis.Constants.ACTIVE_STATUS;
 import static org.wso2.micro.integrator.management.apis.Constants.INACTIVE_STATUS;
@@ -62,6 +62,7 @@ public class EndpointResource implements MiApiResource {
     // Endpoint is active property
     private static final String IS_ACTIVE = "isActive";
     private static final String ENDPOINT_NAME = "endpointName";
+    private static final String ENDPOINT_LISTING = "endpoints";
 
     public EndpointResource() {
         methods = new HashSet<>();
@@ -123,15 +124,10 @@ public class EndpointResource implements MiApiResource {
         return true;
     }
 
-    private List<Endpoint> getSearchResults(MessageContext messageContext, String searchKey) {
-        return messageContext.getConfiguration().getDefinedEndpoints().values().stream()
-                .filter(artifact -> artifact.getName().toLowerCase().contains(searchKey))
-                .collect(Collectors.toList());
-    }
-
     private void populateSearchResults(MessageContext messageContext, String searchKey) {
-        List<Endpoint> searchResultList = getSearchResults(messageContext, searchKey);
-        setResponseBody(searchResultList, messageContext);
+        SynapseConfiguration configuration = messageContext.getConfiguration();
+        ArtifactListing.respond(messageContext, ENDPOINT_LISTING, () -> convertEndpointsToJsonList(
+                configuration.getDefinedEndpoints().values()), searchKey, endpointState(configuration));
     }
 
     private void handleStateChange(String performedBy, JsonObject payload, MessageContext msgCtx,
@@ -166,17 +162,13 @@ public class EndpointResource implements MiApiResource {
 
     private void populateEndpointList(MessageContext messageContext, SynapseConfiguration configuration) {
 
-        Map<String, Endpoint> namedEndpointMap = configuration.getDefinedEndpoints();
-        Collection<Endpoint> namedEndpointCollection = namedEndpointMap.values();
-        setResponseBody(namedEndpointCollection, messageContext);
+        ArtifactListing.respond(messageContext, ENDPOINT_LISTING, () -> convertEndpointsToJsonList(
+                configuration.getDefinedEndpoints().values()), null, endpointState(configuration));
     }
 
-    private void setResponseBody(Collection<Endpoint> namedEndpointCollection, MessageContext messageContext) {
-
-        org.apache.axis2.context.MessageContext axis2MessageContext =
-                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+    private List<JSONObject> convertEndpointsToJsonList(Collection<Endpoint> namedEndpointCollection) {
 
-        JSONObject jsonBody = Utils.createJSONList(namedEndpointCollection.size());
+        List<JSONObject> endpointList = new ArrayList<>(namedEndpointCollection.size());
 
         for (Endpoint ep : namedEndpointCollection) {
 
@@ -195,12 +187,24 @@ public class EndpointResource implements MiApiResource {
                 type = firstElement.getLocalName();
             }
             endpointObject.put(Constants.TYPE, type);
-            endpointObject.put(IS_ACTIVE, isEndpointActive(ep));
 
-            jsonBody.getJSONArray(Constants.LIST).put(endpointObject);
+            endpointList.add(endpointObject);
         }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        return endpointList;
     }
+
+    /**
+     * The state of an endpoint changes at runtime without an artifact change, hence it is not kept in the listing
+     * snapshot but added to each listed endpoint.
+     */
+    private Consumer<JSONObject> endpointState(SynapseConfiguration configuration) {
+
+        return endpointObject -> {
+            Endpoint endpoint = configuration.getDefinedEndpoints().get(endpointObject.getString(Constants.NAME));
+            endpointObject.put(IS_ACTIVE, endpoint != null && isEndpointActive(endpoint));
+        };
+    }
+
     private void populateEndpointData(MessageContext messageContext, String endpointName) {
 
         org.apache.axis2.context.MessageContext axis2MessageContext =
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.management.apis;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads parts of log files without loading the whole file, to serve ranged reads, tailing and searching through
+ * the management API. All the reads are bounded, hence a request never holds more than a few megabytes in memory.
+ */
+final class LogFileReader {
+
+    static final int DEFAULT_READ_LENGTH = 64 * 1024;
+    static final int MAX_READ_LENGTH = 1024 * 1024;
+    static final int MAX_TAIL_LINES = 10000;
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+    static final int MAX_SEARCH_LIMIT = 1000;
+    static final long MAX_FOLLOW_WAIT_MILLIS = 5000;
+
+    private static final int MAX_LINE_LENGTH = 8 * 1024;
+    private static final int TAIL_BLOCK_SIZE = 8 * 1024;
+    private static final long FOLLOW_POLL_INTERVAL_MILLIS = 500;
+    private static final int MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
+    private LogFileReader() {
+    }
+
+    /**
+     * Reads up to the given number of bytes from the given offset.
+     *
+     * @param file   log file
+     * @param offset offset to start reading from
+     * @param length maximum number of bytes to read
+     * @return the content read and the offset to continue from
+     * @throws IOException if the file cannot be read
+     */
+    static Chunk read(Path file, long offset, int length) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = Math.min(Math.max(offset, 0), size);
+            int toRead = (int) Math.min(Math.min(Math.max(length, 0), MAX_READ_LENGTH), size - start);
+            ByteBuffer buffer = ByteBuffer.allocate(toRead);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            return new Chunk(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8), start,
+                             start + buffer.position(), size);
+        }
+    }
+
+    /**
+     * Reads the last lines of the file by reading blocks backwards from the end of the file.
+     *
+     * @param file  log file
+     * @param lines number of lines to read
+     * @return the last lines and the offset of the end of the file, to follow the file from
+     * @throws IOException if the file cannot be read
+     */
+    static Chunk tail(Path file, int lines) throws IOException {
+
+        int lineCount = Math.min(Math.max(lines, 1), MAX_TAIL_LINES);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "r")) {
+            long size = randomAccessFile.length();
+            long start = size;
+            int newLines = 0;
+            byte[] block = new byte[TAIL_BLOCK_SIZE];
+            // a new line at the very end of the file terminates the last line, it does not start a new one
+            long position = size;
+            if (size > 0) {
+                randomAccessFile.seek(size - 1);
+                if (randomAccessFile.read() == '\n') {
+                    position = size - 1;
+                    start = position;
+                }
+            }
+            search:
+            while (position > 0) {
+                int blockLength = (int) Math.min(block.length, position);
+                position -= blockLength;
+                randomAccessFile.seek(position);
+                randomAccessFile.readFully(block, 0, blockLength);
+                for (int i = blockLength - 1; i >= 0; i--) {
+                    if (block[i] == '\n' && ++newLines == lineCount) {
+                        start = position + i + 1;
+                        break search;
+                    }
+                }
+                start = position;
+            }
+            if (size - start > MAX_READ_LENGTH) {
+                start = size - MAX_READ_LENGTH;
+            }
+            return read(file, start, (int) (size - start));
+        }
+    }
+
+    /**
+     * Waits until the file grows beyond the given offset, and reads the new content. If the file is shorter than the
+     * offset, it is considered rolled over and is read from the beginning.
+     *
+     * @param file       log file
+     * @param offset     offset up to which the file is already read
+     * @param waitMillis maximum time to wait for new content
+     * @return the new content, which is empty if the file did not grow within the wait time
+     * @throws IOException          if the file cannot be read
+     * @throws InterruptedException if interrupted while waiting
+     */
+    static Chunk follow(Path file, long offset, long waitMillis) throws IOException, InterruptedException {
+
+        long deadline = System.currentTimeMillis() + Math.min(Math.max(waitMillis, 0), MAX_FOLLOW_WAIT_MILLIS);
+        long size = Files.size(file);
+        while (size == offset && System.currentTimeMillis() < deadline) {
+            Thread.sleep(FOLLOW_POLL_INTERVAL_MILLIS);
+            size = Files.size(file);
+        }
+        return read(file, size < offset ? 0 : offset, DEFAULT_READ_LENGTH);
+    }
+
+    /**
+     * Finds the lines containing the given text, scanning the file through memory mapped regions.
+     *
+     * @param file       log file
+     * @param text       text to search for
+     * @param fromOffset offset to start searching from
+     * @param limit      maximum number of matching lines to return
+     * @return matching lines, and the offset to continue searching from if there can be more matches
+     * @throws IOException if the file cannot be read
+     */
+    static SearchResult search(Path file, String text, long fromOffset, int limit) throws IOException {
+
+        byte[] needle = text.getBytes(StandardCharsets.UTF_8);
+        int maxMatches = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        List<Match> matches = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long regionStart = Math.min(Math.max(fromOffset, 0), size);
+            while (regionStart < size) {
+                long regionLength = Math.min(MAPPED_REGION_SIZE, size - regionStart);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionLength);
+                boolean lastRegion = regionStart + regionLength == size;
+                // only complete lines are scanned, a line crossing the region end is scanned with the next region
+                int scanEnd = lastRegion ? (int) regionLength : lastIndexOf(region, (byte) '\n') + 1;
+                if (scanEnd <= 0) {
+                    // a single line longer than the region, scan it as it is
+                    scanEnd = (int) regionLength;
+                }
+                int lineStart = 0;
+                while (lineStart < scanEnd) {
+                    int lineEnd = indexOf(region, (byte) '\n', lineStart, scanEnd);
+                    int next = lineEnd < 0 ? scanEnd : lineEnd + 1;
+                    int contentEnd = lineEnd < 0 ? scanEnd : lineEnd;
+                    if (contains(region, lineStart, contentEnd, needle)) {
+                        matches.add(new Match(regionStart + lineStart, decode(region, lineStart, contentEnd)));
+                        if (matches.size() == maxMatches) {
+                            long nextOffset = regionStart + next;
+                            return new SearchResult(matches, nextOffset < size ? nextOffset : -1, size);
+                        }
+                    }
+                    lineStart = next;
+                }
+                regionStart += scanEnd;
+            }
+            return new SearchResult(matches, -1, size);
+        }
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, byte value) {
+
+        for (int i = buffer.limit() - 1; i >= 0; i--) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean contains(ByteBuffer buffer, int from, int to, byte[] needle) {
+
+        if (needle.length == 0) {
+            return true;
+        }
+        int last = to - needle.length;
+        for (int i = from; i <= last; i++) {
+            if (buffer.get(i) != needle[0]) {
+                continue;
+            }
+            int j = 1;
+            while (j < needle.length && buffer.get(i + j) == needle[j]) {
+                j++;
+            }
+            if (j == needle.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decode(ByteBuffer buffer, int from, int to) {
+
+        int length = Math.min(to - from, MAX_LINE_LENGTH);
+        if (length > 0 && to == from + length && buffer.get(to - 1) == '\r') {
+            length--;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Part of a log file.
+     */
+    static final class Chunk {
+
+        private final String content;
+        private final long offset;
+        private final long nextOffset;
+        private final long fileSize;
+
+        Chunk(String content, long offset, long nextOffset, long fileSize) {
+
+            this.content = content;
+            this.offset = offset;
+            this.nextOffset = nextOffset;
+            this.fileSize = fileSize;
+        }
+
+        String getContent() {
+            return content;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        long getNextOffset() {
+            return nextOffset;
+        }
+
+        long getFileSize() {
+            return fileSize;
+        }
+    }
+
+    /**
+     * A line matching a search, with the offset of the start of the line.
+     */
+    static final class Match {
+
+        private final long offset;
+        private final String line;
+
+        Match(long offset, String line) {
+
+            this.offset = offset;
+            this.line = line;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+
+        String getLine() {
+            return line;
+        }
+    }
+
+    /**
+     * A page of search results. The next offset is -1 if the whole file has been searched.
+     */
+    static final class SearchResult {
+
+        private final List<Match> matches;
+        private final long nextOffset;
+        private final long fileSize;
+
+        SearchResult(List<Match> matches, long nextOffset, long fileSize) {
+
+            this.matches = matches;
+            this.nextOffset = nextOffset;
+            this.fileSize = fileSize;
+        }
+
+        List<Match> getMatches() {
+            return matches;
+        }
+
+        long getNextOffset() {
+            return nextOffset;
+        }
+
+        long getFileSize() {
+            return fileSize;
+        }
+    }
+}
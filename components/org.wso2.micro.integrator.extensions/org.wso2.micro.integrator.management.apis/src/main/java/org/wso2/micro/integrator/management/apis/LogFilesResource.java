@@ -35,12 +35,10 @@ import org.apache.synapse.transport.passthru.util.StreamingOnRequestDataSource;
 import org.json.JSONObject;
 import org.wso2.carbon.inbound.endpoint.internal.http.api.APIResource;
 
-import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -52,7 +50,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.activation.DataHandler;
-import javax.mail.util.ByteArrayDataSource;
+import javax.activation.FileDataSource;
 
 import static org.apache.synapse.SynapseConstants.HTTP_SC;
 import static org.wso2.micro.integrator.management.apis.Constants.SEARCH_KEY;
@@ -60,12 +58,21 @@ import static org.wso2.micro.integrator.management.apis.Constants.NO_ENTITY_BODY
 
 /**
  * This resource will provide list of log files in the repository/logs directory and the capability to download the
- * files.
+ * files. A part of a file can be read by giving an offset and a length, the last lines of a file can be read with the
+ * tail parameter, a file can be followed by giving an offset and a wait time in seconds, and the lines of a file
+ * containing a text can be found by giving the searchKey along with the file.
  */
 public class LogFilesResource extends APIResource {
 
     private static final Log log = LogFactory.getLog(LogFilesResource.class);
 
+    private static final String FILE_PARAM = "file";
+    private static final String OFFSET_PARAM = "offset";
+    private static final String LENGTH_PARAM = "length";
+    private static final String TAIL_PARAM = "tail";
+    private static final String WAIT_PARAM = "wait";
+    private static final String LIMIT_PARAM = "limit";
+
     public LogFilesResource(String urlTemplate) {
         super(urlTemplate);
     }
@@ -81,10 +88,12 @@ public class LogFilesResource extends APIResource {
     @Override
     public boolean invoke(MessageContext synCtx) {
 
-        String pathParameter = Utils.getQueryParameter(synCtx, "file");
+        String pathParameter = Utils.getQueryParameter(synCtx, FILE_PARAM);
         String searchKey = Utils.getQueryParameter(synCtx, SEARCH_KEY);
 
-        if (StringUtils.isNotEmpty(pathParameter)) {
+        if (StringUtils.isNotEmpty(pathParameter) && isPartialRead(synCtx, searchKey)) {
+            populatePartialFileContent(synCtx, pathParameter, searchKey);
+        } else if (StringUtils.isNotEmpty(pathParameter)) {
             populateFileContent(synCtx, pathParameter);
         } else if (Objects.nonNull(searchKey) && !searchKey.trim().isEmpty()) {
             populateSearchResults(synCtx, searchKey.toLowerCase());
@@ -94,6 +103,125 @@ public class LogFilesResource extends APIResource {
         return true;
     }
 
+    private static boolean isPartialRead(MessageContext synCtx, String searchKey) {
+
+        return StringUtils.isNotEmpty(searchKey) || Utils.getQueryParameter(synCtx, OFFSET_PARAM) != null
+                || Utils.getQueryParameter(synCtx, LENGTH_PARAM) != null
+                || Utils.getQueryParameter(synCtx, TAIL_PARAM) != null
+                || Utils.getQueryParameter(synCtx, WAIT_PARAM) != null;
+    }
+
+    private void populatePartialFileContent(MessageContext synCtx, String fileName, String searchKey) {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) synCtx).getAxis2MessageContext();
+        Path logFile = resolveLogFile(fileName);
+        if (logFile == null) {
+            Utils.setJsonPayLoad(axis2MessageContext, Utils.createJsonError("Could not find the requested file : "
+                    + fileName, axis2MessageContext, Constants.NOT_FOUND));
+            return;
+        }
+        JSONObject jsonBody;
+        try {
+            long offset = getLongParameter(synCtx, OFFSET_PARAM, 0);
+            String tail = Utils.getQueryParameter(synCtx, TAIL_PARAM);
+            String wait = Utils.getQueryParameter(synCtx, WAIT_PARAM);
+            if (StringUtils.isNotEmpty(searchKey)) {
+                int limit = getIntParameter(synCtx, LIMIT_PARAM, LogFileReader.DEFAULT_SEARCH_LIMIT);
+                jsonBody = toJson(fileName, LogFileReader.search(logFile, searchKey, offset, limit));
+            } else if (tail != null) {
+                jsonBody = toJson(fileName, LogFileReader.tail(logFile, getIntParameter(synCtx, TAIL_PARAM, 0)));
+            } else if (wait != null) {
+                long waitMillis = getLongParameter(synCtx, WAIT_PARAM, 0) * 1000;
+                jsonBody = toJson(fileName, LogFileReader.follow(logFile, offset, waitMillis));
+            } else {
+                int length = getIntParameter(synCtx, LENGTH_PARAM, LogFileReader.DEFAULT_READ_LENGTH);
+                jsonBody = toJson(fileName, LogFileReader.read(logFile, offset, length));
+            }
+        } catch (NumberFormatException e) {
+            Utils.setJsonPayLoad(axis2MessageContext, Utils.createJsonError("Invalid numeric query parameter : "
+                    + e.getMessage(), axis2MessageContext, Constants.BAD_REQUEST));
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Utils.setJsonPayLoad(axis2MessageContext, Utils.createJsonError("Interrupted while following the file : "
+                    + fileName, axis2MessageContext, Constants.INTERNAL_SERVER_ERROR));
+            return;
+        } catch (IOException e) {
+            log.error("Error occurred while reading the file : " + logFile, e);
+            Utils.setJsonPayLoad(axis2MessageContext, Utils.createJsonError("Error occurred while reading the file : "
+                    + fileName, axis2MessageContext, Constants.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        axis2MessageContext.removeProperty(NO_ENTITY_BODY);
+    }
+
+    private static long getLongParameter(MessageContext synCtx, String name, long defaultValue) {
+
+        String value = Utils.getQueryParameter(synCtx, name);
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+        long longValue = Long.parseLong(value.trim());
+        if (longValue < 0) {
+            throw new NumberFormatException(name + " should not be negative");
+        }
+        return longValue;
+    }
+
+    private static int getIntParameter(MessageContext synCtx, String name, int defaultValue) {
+
+        return (int) Math.min(getLongParameter(synCtx, name, defaultValue), Integer.MAX_VALUE);
+    }
+
+    private static JSONObject toJson(String fileName, LogFileReader.Chunk chunk) {
+
+        JSONObject jsonBody = new JSONObject();
+        jsonBody.put("FileName", fileName);
+        jsonBody.put("Size", chunk.getFileSize());
+        jsonBody.put("Offset", chunk.getOffset());
+        jsonBody.put("NextOffset", chunk.getNextOffset());
+        jsonBody.put("Content", chunk.getContent());
+        return jsonBody;
+    }
+
+    private static JSONObject toJson(String fileName, LogFileReader.SearchResult result) {
+
+        JSONObject jsonBody = Utils.createJSONList(result.getMatches().size());
+        jsonBody.put("FileName", fileName);
+        jsonBody.put("Size", result.getFileSize());
+        jsonBody.put("NextOffset", result.getNextOffset());
+        for (LogFileReader.Match match : result.getMatches()) {
+            JSONObject matchObject = new JSONObject();
+            matchObject.put("Offset", match.getOffset());
+            matchObject.put("Line", match.getLine());
+            jsonBody.getJSONArray(Constants.LIST).put(matchObject);
+        }
+        return jsonBody;
+    }
+
+    /**
+     * Resolves the given file name against the logs directory, rejecting names pointing outside it. The real paths are
+     * compared so that symbolic links cannot be used to escape the logs directory.
+     *
+     * @param fileName name of the log file
+     * @return path of the log file, or null if there is no such log file
+     */
+    private static Path resolveLogFile(String fileName) {
+
+        try {
+            Path logsDir = Paths.get(Utils.getCarbonLogsPath()).toRealPath();
+            Path logFile = logsDir.resolve(fileName).toRealPath();
+            if (!logFile.startsWith(logsDir) || !Files.isRegularFile(logFile)) {
+                return null;
+            }
+            return logFile;
+        } catch (IOException | InvalidPathException e) {
+            return null;
+        }
+    }
+
     private void populateLogFileInfo(MessageContext messageContext) {
         List<LogFileInfo> logFileInfoList = Utils.getLogFileInfoList();
         setResponseBody(logFileInfoList, messageContext);
@@ -171,23 +299,12 @@ public class LogFilesResource extends APIResource {
 
     private DataHandler downloadArchivedLogFiles(String logFile) {
 
-        ByteArrayDataSource bytArrayDS;
-        Path logFilePath = Paths.get(Utils.getCarbonLogsPath(), logFile);
+        Path logFilePath = resolveLogFile(logFile);
 
-        File file = new File(logFilePath.toString());
-        if (file.exists() && !file.isDirectory()) {
-            try (InputStream is = new BufferedInputStream(new FileInputStream(logFilePath.toString()))) {
-                bytArrayDS = new ByteArrayDataSource(is, "text/xml");
-                return new DataHandler(bytArrayDS);
-            } catch (FileNotFoundException e) {
-                log.error("Could not find the requested file : " + logFile + " in : " + logFilePath.toString(), e);
-                return null;
-            } catch (IOException e) {
-                log.error("Error occurred while reading the file : " + logFile + " in : " + logFilePath.toString(), e);
-                return null;
-            }
+        if (logFilePath != null) {
+            return new DataHandler(new FileDataSource(logFilePath.toFile()));
         } else {
-            log.error("Could not find the requested file : " + logFile + " in : " + logFilePath.toString());
+            log.error("Could not find the requested file : " + logFile + " in : " + Utils.getCarbonLogsPath());
             return null;
         }
     }
@@ -23,16 +23,15 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.config.SynapseConfiguration;
 import org.apache.synapse.config.xml.MessageStoreSerializer;
-import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.message.store.MessageStore;
 import org.apache.synapse.message.store.impl.jdbc.JDBCMessageStore;
 import org.apache.synapse.message.store.impl.jms.JmsStore;
 import org.apache.synapse.message.store.impl.memory.InMemoryStore;
 import org.apache.synapse.message.store.impl.rabbitmq.RabbitMQStore;
 import org.apache.synapse.message.store.impl.resequencer.ResequenceMessageStore;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,7 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 import static org.wso2.micro.integrator.management.apis.Constants.PASSWORD;
 import static org.wso2.micro.integrator.management.apis.Constants.PASSWORD_MASKED_VALUE;
@@ -66,6 +65,7 @@ public class MessageStoreResource implements MiApiResource {
     private static final String FILE_NAME_ATTRIBUTE = "file";
     private static final String PROPERTIES_ATTRIBUTE = "properties";
     private static final String STORE_SIZE_ATTRIBUTE = "size";
+    private static final String MESSAGE_STORE_LISTING = "message-stores";
     //HTTP method types supported by the resource
     Set<String> methods;
 
@@ -98,31 +98,13 @@ public class MessageStoreResource implements MiApiResource {
         return true;
     }
 
-    private List<MessageStore> getSearchResults(MessageContext messageContext, String searchKey) {
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-        return configuration.getMessageStores().values().stream()
-                .filter(artifact -> artifact.getName().toLowerCase().contains(searchKey))
-                .collect(Collectors.toList());
-    }
-
     private void populateSearchResults(MessageContext messageContext, String searchKey) {
 
-        List<MessageStore> searchResultList = getSearchResults(messageContext, searchKey);
-        setResponseBody(searchResultList, messageContext);
-    }
-
-    private void setResponseBody(Collection<MessageStore> storeList, MessageContext messageContext) {
-
-        org.apache.axis2.context.MessageContext axis2MessageContext =
-                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
-        JSONObject jsonBody = Utils.createJSONList(storeList.size());
-        for (MessageStore store : storeList) {
-            addToJsonList(jsonBody.getJSONArray(Constants.LIST), store);
-        }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        SynapseConfiguration configuration = messageContext.getConfiguration();
+        ArtifactListing.respond(messageContext, MESSAGE_STORE_LISTING, () -> convertMessageStoresToJsonList(
+                configuration.getMessageStores().values()), searchKey, messageStoreSize(configuration));
     }
 
-
     /**
      * Sets the list of all available message stores to the response as json
      *
@@ -131,9 +113,33 @@ public class MessageStoreResource implements MiApiResource {
      */
     private void populateMessageStoreList(MessageContext messageContext,
                                           SynapseConfiguration synapseConfiguration) {
-        Map<String, MessageStore> storeMap = synapseConfiguration.getMessageStores();
-        Collection<MessageStore> storeList = storeMap.values();
-        setResponseBody(storeList, messageContext);
+        ArtifactListing.respond(messageContext, MESSAGE_STORE_LISTING, () -> convertMessageStoresToJsonList(
+                synapseConfiguration.getMessageStores().values()), null, messageStoreSize(synapseConfiguration));
+    }
+
+    private List<JSONObject> convertMessageStoresToJsonList(Collection<MessageStore> storeList) {
+
+        List<JSONObject> messageStoreList = new ArrayList<>(storeList.size());
+        for (MessageStore messageStore : storeList) {
+            JSONObject messageStoreObject = new JSONObject();
+            messageStoreObject.put(Constants.NAME, messageStore.getName());
+            messageStoreObject.put(STORE_TYPE_PROPERTY, getStoreType(messageStore));
+            messageStoreList.add(messageStoreObject);
+        }
+        return messageStoreList;
+    }
+
+    /**
+     * The size of a message store changes with every stored message, hence it is not kept in the listing snapshot
+     * but added to each listed message store.
+     */
+    private Consumer<JSONObject> messageStoreSize(SynapseConfiguration synapseConfiguration) {
+
+        return messageStoreObject -> {
+            MessageStore messageStore =
+                    synapseConfiguration.getMessageStores().get(messageStoreObject.getString(Constants.NAME));
+            messageStoreObject.put(STORE_SIZE_ATTRIBUTE, messageStore != null ? messageStore.size() : 0);
+        };
     }
 
     /**
@@ -155,19 +161,6 @@ public class MessageStoreResource implements MiApiResource {
         }
     }
 
-    /**
-     * Adds the provided message store to the json array
-     * @param list json array
-     * @param messageStore message store
-     * */
-    private void addToJsonList(JSONArray list, MessageStore messageStore) {
-        JSONObject messageStoreObject = new JSONObject();
-        messageStoreObject.put(Constants.NAME, messageStore.getName());
-        messageStoreObject.put(STORE_TYPE_PROPERTY, getStoreType(messageStore));
-        messageStoreObject.put(STORE_SIZE_ATTRIBUTE, messageStore.size());
-        list.put(messageStoreObject);
-    }
-
     /**
      * Returns the type of the message store
      * @param messageStore message store
@@ -39,12 +39,12 @@ import org.wso2.micro.service.mgt.ServiceAdmin;
 import org.wso2.micro.service.mgt.ServiceMetaData;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.wso2.micro.integrator.management.apis.Constants.ACTIVE_STATUS;
 import static org.wso2.micro.integrator.management.apis.Constants.INACTIVE_STATUS;
@@ -60,6 +60,7 @@ public class ProxyServiceResource extends APIResource {
 
     private static final String PROXY_NAME = "proxyName";
     private static final String PROXY_SERVICE_NAME = "proxyServiceName";
+    private static final String PROXY_SERVICE_LISTING = "proxy-services";
 
     private static ServiceAdmin serviceAdmin = null;
 
@@ -138,22 +139,13 @@ public class ProxyServiceResource extends APIResource {
         return true;
     }
 
-    private List<ProxyService> getSearchResults(MessageContext messageContext, String searchKey) {
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-        return configuration.getProxyServices().stream()
-                .filter(artifact -> artifact.getName().toLowerCase().contains(searchKey))
-                .collect(Collectors.toList());
-    }
-
     private void populateSearchResults(MessageContext messageContext, String searchKey) {
-        List<ProxyService> searchResultList = getSearchResults(messageContext, searchKey);
-        setResponseBody(searchResultList, messageContext);
+        ArtifactListing.respond(messageContext, PROXY_SERVICE_LISTING, () -> convertProxyServicesToJsonList(
+                messageContext.getConfiguration().getProxyServices()), searchKey, null);
     }
 
-    private void setResponseBody(Collection<ProxyService> proxyServices, MessageContext messageContext) {
-        org.apache.axis2.context.MessageContext axis2MessageContext =
-                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
-        JSONObject jsonBody = Utils.createJSONList(proxyServices.size());
+    private List<JSONObject> convertProxyServicesToJsonList(Collection<ProxyService> proxyServices) {
+        List<JSONObject> proxyList = new ArrayList<>(proxyServices.size());
         for (ProxyService proxyService : proxyServices) {
             JSONObject proxyObject = new JSONObject();
             try {
@@ -165,9 +157,9 @@ public class ProxyServiceResource extends APIResource {
             } catch (Exception e) {
                 LOG.error("Error occurred while processing service data", e);
             }
-            jsonBody.getJSONArray(Constants.LIST).put(proxyObject);
+            proxyList.add(proxyObject);
         }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        return proxyList;
     }
 
     private void handleTracing(String performedBy, JSONObject info, JsonObject payload, MessageContext msgCtx,
@@ -193,9 +185,8 @@ public class ProxyServiceResource extends APIResource {
 
     private void populateProxyServiceList(MessageContext messageContext) {
 
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-        Collection<ProxyService> proxyServices = configuration.getProxyServices();
-        setResponseBody(proxyServices, messageContext);
+        ArtifactListing.respond(messageContext, PROXY_SERVICE_LISTING, () -> convertProxyServicesToJsonList(
+                messageContext.getConfiguration().getProxyServices()));
     }
 
     private void populateProxyServiceData(MessageContext messageContext, String proxyServiceName) {
@@ -35,13 +35,12 @@ import org.wso2.micro.integrator.security.user.api.UserStoreException;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.wso2.micro.integrator.management.apis.Constants.SEARCH_KEY;
 import static org.wso2.micro.integrator.management.apis.Constants.USERNAME_PROPERTY;
@@ -51,6 +50,7 @@ public class SequenceResource extends APIResource {
     private static Log LOG = LogFactory.getLog(SequenceResource.class);
 
     private static final String SEQUENCE_NAME = "sequenceName";
+    private static final String SEQUENCE_LISTING = "sequences";
 
     public SequenceResource(String urlTemplate){
         super(urlTemplate);
@@ -98,24 +98,14 @@ public class SequenceResource extends APIResource {
         return true;
     }
 
-    private List<SequenceMediator> getSearchResults(MessageContext messageContext, String searchKey) {
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-        return configuration.getDefinedSequences().values().stream()
-                .filter(artifact -> artifact.getName().toLowerCase().contains(searchKey))
-                .collect(Collectors.toList());
-    }
-    
     private void populateSearchResults(MessageContext messageContext, String searchKey) {
-        List<SequenceMediator> searchResultList = getSearchResults(messageContext, searchKey);
-        setResponseBody(searchResultList, messageContext);
+        ArtifactListing.respond(messageContext, SEQUENCE_LISTING, () -> convertSequencesToJsonList(
+                messageContext.getConfiguration().getDefinedSequences().values()), searchKey, null);
     }
 
-    private void setResponseBody(Collection<SequenceMediator> sequenceMediatorCollection, MessageContext messageContext) {
+    private List<JSONObject> convertSequencesToJsonList(Collection<SequenceMediator> sequenceMediatorCollection) {
 
-        org.apache.axis2.context.MessageContext axis2MessageContext =
-                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
-        JSONObject jsonBody = Utils.createJSONList(sequenceMediatorCollection.size());
-        
+        List<JSONObject> sequenceList = new ArrayList<>(sequenceMediatorCollection.size());
         for (SequenceMediator sequence: sequenceMediatorCollection) {
             JSONObject sequenceObject = new JSONObject();
             sequenceObject.put(Constants.NAME, sequence.getName());
@@ -124,9 +114,9 @@ public class SequenceResource extends APIResource {
             sequenceObject.put(Constants.STATS, statisticState);
             String tracingState = sequence.getAspectConfiguration().isTracingEnabled() ? Constants.ENABLED : Constants.DISABLED;
             sequenceObject.put(Constants.TRACING, tracingState);
-            jsonBody.getJSONArray(Constants.LIST).put(sequenceObject);
+            sequenceList.add(sequenceObject);
         }
-        Utils.setJsonPayLoad(axis2MessageContext, jsonBody);
+        return sequenceList;
     }
 
     private void handlePost(MessageContext msgCtx, org.apache.axis2.context.MessageContext axisMsgCtx) {
@@ -164,11 +154,8 @@ public class SequenceResource extends APIResource {
 
     private void populateSequenceList(MessageContext messageContext) {
 
-        SynapseConfiguration configuration = messageContext.getConfiguration();
-
-        Map<String, SequenceMediator> sequenceMediatorMap = configuration.getDefinedSequences();
-        Collection<SequenceMediator> sequenceCollection = sequenceMediatorMap.values();
-        setResponseBody(sequenceCollection, messageContext);
+        ArtifactListing.respond(messageContext, SEQUENCE_LISTING, () -> convertSequencesToJsonList(
+                messageContext.getConfiguration().getDefinedSequences().values()));
     }
 
     private void populateSequenceData(MessageContext messageContext, String sequenceName) {
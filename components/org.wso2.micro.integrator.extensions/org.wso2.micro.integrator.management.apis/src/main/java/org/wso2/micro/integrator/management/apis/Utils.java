@@ -37,6 +37,7 @@ import org.ops4j.pax.logging.PaxLoggingConstants;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.wso2.micro.core.util.AuditLogger;
+import org.wso2.micro.integrator.initializer.dashboard.ArtifactChangeTracker;
 import org.wso2.micro.integrator.initializer.utils.ConfigurationHolder;
 import org.wso2.micro.integrator.registry.MicroIntegratorRegistry;
 import org.wso2.micro.integrator.security.MicroIntegratorSecurityUtils;
@@ -193,6 +194,7 @@ public class Utils {
             msg = "Invalid value for state " + Constants.TRACE;
             return createJsonError(msg, axisMsgCtx, Constants.BAD_REQUEST);
         }
+        ArtifactChangeTracker.markChanged();
         LOG.info(msg);
         return response;
     }
@@ -218,6 +220,7 @@ public class Utils {
             msg = "Invalid value for state " + Constants.STATISTICS;
             return createJsonError(msg, axisMsgCtx, Constants.BAD_REQUEST);
         }
+        ArtifactChangeTracker.markChanged();
         LOG.info(msg);
         return response;
     }
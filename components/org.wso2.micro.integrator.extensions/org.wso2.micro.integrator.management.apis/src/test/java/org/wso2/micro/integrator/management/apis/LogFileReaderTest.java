@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.management.apis;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class LogFileReaderTest {
+
+    private static final String CONTENT = "line one\nline two ERROR\nline three\nline four ERROR\n";
+
+    private Path logFile;
+
+    @Before
+    public void createLogFile() throws IOException {
+        logFile = Files.createTempFile("wso2carbon", ".log");
+        Files.write(logFile, CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void deleteLogFile() throws IOException {
+        Files.deleteIfExists(logFile);
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        LogFileReader.Chunk chunk = LogFileReader.read(logFile, 9, 8);
+        Assert.assertEquals("line two", chunk.getContent());
+        Assert.assertEquals(17, chunk.getNextOffset());
+        Assert.assertEquals(CONTENT.length(), chunk.getFileSize());
+
+        chunk = LogFileReader.read(logFile, CONTENT.length() + 10, 8);
+        Assert.assertEquals("", chunk.getContent());
+        Assert.assertEquals(CONTENT.length(), chunk.getNextOffset());
+    }
+
+    @Test
+    public void testTail() throws IOException {
+        LogFileReader.Chunk chunk = LogFileReader.tail(logFile, 2);
+        Assert.assertEquals("line three\nline four ERROR\n", chunk.getContent());
+        Assert.assertEquals(CONTENT.length(), chunk.getNextOffset());
+
+        chunk = LogFileReader.tail(logFile, 10);
+        Assert.assertEquals(CONTENT, chunk.getContent());
+    }
+
+    @Test
+    public void testFollow() throws IOException, InterruptedException {
+        Files.write(logFile, "line five\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        LogFileReader.Chunk chunk = LogFileReader.follow(logFile, CONTENT.length(), 0);
+        Assert.assertEquals("line five\n", chunk.getContent());
+    }
+
+    @Test
+    public void testSearch() throws IOException {
+        LogFileReader.SearchResult result = LogFileReader.search(logFile, "ERROR", 0, 1);
+        Assert.assertEquals(1, result.getMatches().size());
+        Assert.assertEquals(9, result.getMatches().get(0).getOffset());
+        Assert.assertEquals("line two ERROR", result.getMatches().get(0).getLine());
+
+        result = LogFileReader.search(logFile, "ERROR", result.getNextOffset(), 10);
+        Assert.assertEquals(1, result.getMatches().size());
+        Assert.assertEquals("line four ERROR", result.getMatches().get(0).getLine());
+        Assert.assertEquals(-1, result.getNextOffset());
+    }
+}
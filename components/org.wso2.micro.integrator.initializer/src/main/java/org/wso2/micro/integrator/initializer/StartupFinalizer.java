@@ -44,6 +44,7 @@ public class StartupFinalizer {
     public static final String START_TIME = "wso2carbon.start.time";
     public static final String SERVER_START_TIME = "wso2carbon.server.start.time";
     public static final String START_UP_DURATION = "wso2carbon.startup.duration";
+    public static final String GENERATE_STARTUP_ARCHIVE = "generateStartupArchive";
 
     private ConfigurationContext configCtx;
     private BundleContext bundleContext;
@@ -87,6 +88,18 @@ public class StartupFinalizer {
 
         setServerStartTimeParam();
         printInfo();
+        if (Boolean.getBoolean(GENERATE_STARTUP_ARCHIVE)) {
+            stopAfterArchiveGeneration();
+        }
+    }
+
+    /**
+     * Stops the server once it is started with --generate-startup-archive. The JVM writes the class data sharing
+     * archive of the classes loaded during the startup when it exits, and the shutdown hook stops the server.
+     */
+    private void stopAfterArchiveGeneration() {
+        log.info("Server started to generate the startup archive. Shutting down the server");
+        new Thread(() -> System.exit(0), "startup-archive-shutdown").start();
     }
     
     private void setServerStartTimeParam() {
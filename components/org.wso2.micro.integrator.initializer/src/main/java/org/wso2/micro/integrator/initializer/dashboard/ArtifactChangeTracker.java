@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.initializer.dashboard;
+
+import org.apache.synapse.Mediator;
+import org.apache.synapse.Startup;
+import org.apache.synapse.api.API;
+import org.apache.synapse.config.AbstractSynapseObserver;
+import org.apache.synapse.config.Entry;
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.core.axis2.ProxyService;
+import org.apache.synapse.endpoints.Endpoint;
+import org.apache.synapse.inbound.InboundEndpoint;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a generation counter which is incremented whenever an artifact is added to or removed from the synapse
+ * configuration, or a carbon application is deployed or undeployed. The ICP heartbeat uses the counter to decide
+ * whether the runtime hash has to be recalculated, and the management API to decide whether its artifact listings
+ * have to be rebuilt.
+ */
+public final class ArtifactChangeTracker extends AbstractSynapseObserver {
+
+    private static final ArtifactChangeTracker INSTANCE = new ArtifactChangeTracker();
+    private static final AtomicLong generation = new AtomicLong();
+    private static volatile SynapseConfiguration observedConfiguration;
+
+    private ArtifactChangeTracker() {
+    }
+
+    /**
+     * Starts observing the given synapse configuration, if it is not observed already. Replacing the observed
+     * configuration is considered as a change.
+     *
+     * @param synapseConfiguration synapse configuration to observe
+     */
+    public static void observe(SynapseConfiguration synapseConfiguration) {
+        if (synapseConfiguration == null || synapseConfiguration == observedConfiguration) {
+            return;
+        }
+        register(synapseConfiguration);
+    }
+
+    private static synchronized void register(SynapseConfiguration synapseConfiguration) {
+        if (synapseConfiguration == observedConfiguration) {
+            return;
+        }
+        if (observedConfiguration != null) {
+            observedConfiguration.unregisterObserver(INSTANCE);
+        }
+        synapseConfiguration.registerObserver(INSTANCE);
+        observedConfiguration = synapseConfiguration;
+        markChanged();
+    }
+
+    /**
+     * Records a change of the deployed artifacts.
+     */
+    public static void markChanged() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the current generation. Two equal generations mean no artifact was deployed or undeployed in between.
+     *
+     * @return current generation
+     */
+    public static long getGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public void sequenceAdded(Mediator sequence) {
+        markChanged();
+    }
+
+    @Override
+    public void sequenceRemoved(Mediator sequence) {
+        markChanged();
+    }
+
+    @Override
+    public void sequenceTemplateAdded(Mediator template) {
+        markChanged();
+    }
+
+    @Override
+    public void sequenceTemplateRemoved(Mediator template) {
+        markChanged();
+    }
+
+    @Override
+    public void entryAdded(Entry entry) {
+        markChanged();
+    }
+
+    @Override
+    public void entryRemoved(Entry entry) {
+        markChanged();
+    }
+
+    @Override
+    public void endpointAdded(Endpoint endpoint) {
+        markChanged();
+    }
+
+    @Override
+    public void endpointRemoved(Endpoint endpoint) {
+        markChanged();
+    }
+
+    @Override
+    public void proxyServiceAdded(ProxyService proxy) {
+        markChanged();
+    }
+
+    @Override
+    public void proxyServiceRemoved(ProxyService proxy) {
+        markChanged();
+    }
+
+    @Override
+    public void startupAdded(Startup startup) {
+        markChanged();
+    }
+
+    @Override
+    public void startupRemoved(Startup startup) {
+        markChanged();
+    }
+
+    @Override
+    public void apiAdded(API api) {
+        markChanged();
+    }
+
+    @Override
+    public void apiRemoved(API api) {
+        markChanged();
+    }
+
+    @Override
+    public void inboundEndpointAdded(InboundEndpoint inboundEndpoint) {
+        markChanged();
+    }
+
+    @Override
+    public void inboundEndpointRemoved(InboundEndpoint inboundEndpoint) {
+        markChanged();
+    }
+}
@@ -28,6 +28,7 @@ public class Constants {
     public static final String ICP_CONFIG_ENABLED = "icp_config.enabled";
     public static final String  ICP_CONFIG_HEARTBEAT_INTERVAL = "icp_config.heartbeat_interval";
     public static final String ICP_CONFIG_SSL_VERIFY = "icp_config.ssl_verify";
+    public static final String ICP_CONFIG_RUNTIME_HASH_MAX_AGE = "icp_config.runtime_hash_max_age";
 
     // JWT Configuration
     public static final String ICP_JWT_ISSUER = "icp_config.jwt_issuer";
@@ -56,6 +57,7 @@ public class Constants {
 
     public static final String DEFAULT_GROUP_ID = "default";
     public static final long DEFAULT_HEARTBEAT_INTERVAL = 10;
+    public static final long DEFAULT_RUNTIME_HASH_MAX_AGE = 60;
 
     public static final String HEADER_VALUE_APPLICATION_JSON = "application/json";
     public static final String FORWARD_SLASH = "/";
@@ -19,15 +19,18 @@
 package org.wso2.micro.integrator.initializer.dashboard;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
@@ -65,12 +68,17 @@ import org.wso2.micro.integrator.server.util.ICPStartupUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.SocketException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.Arrays;
@@ -104,6 +112,13 @@ public class ICPHeartBeatComponent {
     private static volatile ScheduledExecutorService heartbeatExecutor = null;
     private static volatile boolean shutdownHookRegistered = false;
     private static volatile boolean sslWarnLogged = false;
+    // writes the same JSON as JsonElement.toString(), keeping null members and leaving HTML characters unescaped
+    private static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+
+    // runtime hash of the last built full payload, reused by delta heartbeats while no artifact changes
+    private static volatile String cachedRuntimeHash = null;
+    private static volatile long cachedRuntimeHashGeneration = -1;
+    private static volatile long cachedRuntimeHashTime = 0;
 
     /**
      * Returns the runtime ID initialized at server startup via {@link ICPStartupUtils#getRuntimeId()}.
@@ -213,9 +228,7 @@ public class ICPHeartBeatComponent {
      */
     private static void sendDeltaHeartbeat(String icpUrl) {
         try {
-            // Build full payload to calculate hash
-            JsonObject fullPayload = buildFullHeartbeatPayload(false);
-            String currentHash = fullPayload.get("runtimeHash").getAsString();
+            String currentHash = getRuntimeHash();
 
             // Build delta payload
             JsonObject deltaPayload = new JsonObject();
@@ -244,6 +257,44 @@ public class ICPHeartBeatComponent {
         }
     }
 
+    /**
+     * Returns the runtime hash to be sent with a delta heartbeat. The full payload is built to recalculate the hash
+     * only if an artifact was deployed or undeployed since the last calculation, or the last calculation is older
+     * than the configured maximum age, which covers state changes such as activating or deactivating an artifact.
+     */
+    private static String getRuntimeHash() throws IOException {
+        if (MicroIntegratorBaseUtils.getSynapseEnvironment() != null) {
+            ArtifactChangeTracker.observe(MicroIntegratorBaseUtils.getSynapseEnvironment().getSynapseConfiguration());
+        }
+        String hash = getCachedRuntimeHash();
+        if (hash != null) {
+            return hash;
+        }
+        return buildFullHeartbeatPayload(false).get("runtimeHash").getAsString();
+    }
+
+    /**
+     * Returns the cached runtime hash, or null if an artifact was deployed or undeployed since it was calculated or
+     * it is older than the configured maximum age.
+     */
+    static String getCachedRuntimeHash() {
+        String hash = cachedRuntimeHash;
+        if (hash != null && cachedRuntimeHashGeneration == ArtifactChangeTracker.getGeneration()
+                && System.currentTimeMillis() - cachedRuntimeHashTime < getRuntimeHashMaxAgeMillis()) {
+            return hash;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the runtime hash calculated from the artifacts of the given generation.
+     */
+    static void cacheRuntimeHash(String hash, long generation) {
+        cachedRuntimeHash = hash;
+        cachedRuntimeHashGeneration = generation;
+        cachedRuntimeHashTime = System.currentTimeMillis();
+    }
+
     /**
      * Sends a full heartbeat to ICP with all artifact metadata.
      */
@@ -296,7 +347,13 @@ public class ICPHeartBeatComponent {
             httpPost.setHeader("Accept", HEADER_VALUE_APPLICATION_JSON);
             httpPost.setHeader("Content-type", HEADER_VALUE_APPLICATION_JSON);
 
-            StringEntity entity = new StringEntity(payload.toString(), "UTF-8");
+            // write the payload directly to the connection instead of serializing it to a string first
+            EntityTemplate entity = new EntityTemplate(out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                GSON.toJson(payload, writer);
+                writer.flush();
+            });
+            entity.setContentType(HEADER_VALUE_APPLICATION_JSON);
             httpPost.setEntity(entity);
 
             try (CloseableHttpResponse response = client.execute(httpPost)) {
@@ -365,13 +422,15 @@ public class ICPHeartBeatComponent {
         nodeInfo.addProperty("maxMemory", runtime.maxMemory());
         nodeInfo.addProperty("usedMemory", runtime.totalMemory() - runtime.freeMemory());
         payload.add("nodeInfo", nodeInfo);
-        // Artifacts
+        // Artifacts, the generation is read first so that a change made while collecting invalidates the hash
+        long generation = ArtifactChangeTracker.getGeneration();
         JsonObject artifacts = collectArtifacts();
         payload.add("artifacts", artifacts);
 
         // Hash (exclude timestamp for hash calculation)
         String hash = calculateHash(payload);
         payload.addProperty("runtimeHash", hash);
+        cacheRuntimeHash(hash, generation);
 
         // Add timestamp if requested
         if (includeTimestamp) {
@@ -695,20 +754,30 @@ public class ICPHeartBeatComponent {
      */
     private static String calculateHash(JsonObject payload) {
         try {
-            // Create a copy and remove timestamp for consistent hashing
-            JsonObject payloadCopy = payload.deepCopy();
-            payloadCopy.remove("timestamp");
-            if (payloadCopy.has("nodeInfo") && payloadCopy.get("nodeInfo").isJsonObject()) {
-                JsonObject nodeInfo = payloadCopy.getAsJsonObject("nodeInfo");
-                nodeInfo.remove("freeMemory");
-                nodeInfo.remove("usedMemory");
-                nodeInfo.remove("maxMemory");
-                nodeInfo.remove("totalMemory");
-            }
-
+            // Stream the payload into the digest, skipping the timestamp, instead of copying it into a string
             MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] hashBytes = md.digest(payloadCopy.toString().getBytes("UTF-8"));
-            return Base64.getEncoder().encodeToString(hashBytes);
+            try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(
+                    new DigestOutputStream(OutputStream.nullOutputStream(), md), StandardCharsets.UTF_8))) {
+                writer.beginObject();
+                for (Map.Entry<String, JsonElement> entry : payload.entrySet()) {
+                    if ("timestamp".equals(entry.getKey())) {
+                        continue;
+                    }
+                    JsonElement value = entry.getValue();
+                    if ("nodeInfo".equals(entry.getKey()) && value.isJsonObject()) {
+                        JsonObject nodeInfo = value.getAsJsonObject().deepCopy();
+                        nodeInfo.remove("freeMemory");
+                        nodeInfo.remove("usedMemory");
+                        nodeInfo.remove("maxMemory");
+                        nodeInfo.remove("totalMemory");
+                        value = nodeInfo;
+                    }
+                    writer.name(entry.getKey());
+                    GSON.toJson(value, writer);
+                }
+                writer.endObject();
+            }
+            return Base64.getEncoder().encodeToString(md.digest());
         } catch (Exception e) {
             log.error("Error calculating hash for heartbeat payload.", e);
             return "";
@@ -824,6 +893,23 @@ public class ICPHeartBeatComponent {
         return interval;
     }
 
+    /**
+     * Gets the maximum age of a reused runtime hash in milliseconds.
+     */
+    private static long getRuntimeHashMaxAgeMillis() {
+        long maxAge = DEFAULT_RUNTIME_HASH_MAX_AGE;
+        Object configuredMaxAge = configs.get(ICP_CONFIG_RUNTIME_HASH_MAX_AGE);
+        if (configuredMaxAge != null) {
+            try {
+                maxAge = Long.parseLong(configuredMaxAge.toString());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid config for '" + ICP_CONFIG_RUNTIME_HASH_MAX_AGE + "': "
+                        + configuredMaxAge + ". Using default: " + DEFAULT_RUNTIME_HASH_MAX_AGE);
+            }
+        }
+        return TimeUnit.SECONDS.toMillis(maxAge);
+    }
+
     /**
      * Gets the JWT token expiry time in seconds.
      */
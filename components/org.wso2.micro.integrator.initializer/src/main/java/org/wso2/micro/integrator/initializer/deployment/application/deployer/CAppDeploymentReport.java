@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.initializer.deployment.application.deployer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.micro.integrator.initializer.utils.Constants.CAPP_DEPLOYMENT_REPORT_TOP_ENTRIES;
+
+/**
+ * Collects the time spent on extracting and deploying carbon applications, and on each synapse artifact type,
+ * while the server starts. The collected timings are logged once all the carbon applications are processed.
+ */
+public final class CAppDeploymentReport {
+
+    private static final Log log = LogFactory.getLog(CAppDeploymentReport.class);
+
+    private static final Map<String, Long> extractionTimes = new ConcurrentHashMap<>();
+    private static final Map<String, Long> deploymentTimes = new ConcurrentHashMap<>();
+    // keeps the artifact types in the order they are deployed
+    private static final Map<String, LongAdder> artifactTypeTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+    private static final Map<String, LongAdder> artifactTypeCounts = new ConcurrentHashMap<>();
+    private static volatile long startTime = -1;
+    private static volatile boolean reported = false;
+
+    private CAppDeploymentReport() {
+    }
+
+    /**
+     * Records the time taken to extract a carbon application.
+     *
+     * @param cAppName    name of the carbon application file
+     * @param elapsedNano elapsed time in nanoseconds
+     */
+    public static void recordExtraction(String cAppName, long elapsedNano) {
+        if (reported) {
+            return;
+        }
+        markStart(elapsedNano);
+        extractionTimes.put(cAppName, elapsedNano);
+    }
+
+    /**
+     * Records the time taken to build and deploy a carbon application, excluding the extraction.
+     *
+     * @param cAppName    name of the carbon application file
+     * @param elapsedNano elapsed time in nanoseconds
+     */
+    public static void recordDeployment(String cAppName, long elapsedNano) {
+        if (reported) {
+            return;
+        }
+        markStart(elapsedNano);
+        deploymentTimes.put(cAppName, elapsedNano);
+    }
+
+    /**
+     * Records the time taken to deploy a set of synapse artifacts of the same type.
+     *
+     * @param artifactType  synapse artifact type
+     * @param artifactCount number of artifacts deployed
+     * @param elapsedNano   elapsed time in nanoseconds
+     */
+    public static void recordArtifactType(String artifactType, int artifactCount, long elapsedNano) {
+        if (reported) {
+            return;
+        }
+        artifactTypeTimes.computeIfAbsent(artifactType, k -> new LongAdder()).add(elapsedNano);
+        artifactTypeCounts.computeIfAbsent(artifactType, k -> new LongAdder()).add(artifactCount);
+    }
+
+    /**
+     * Logs the collected timings and stops collecting further timings. Only the first invocation has an effect, hence
+     * the report is logged only for the carbon applications deployed during server startup.
+     */
+    public static synchronized void logReport() {
+        if (reported) {
+            return;
+        }
+        reported = true;
+        if (deploymentTimes.isEmpty() && extractionTimes.isEmpty()) {
+            return;
+        }
+        long totalExtraction = sum(extractionTimes);
+        long totalDeployment = sum(deploymentTimes);
+        StringBuilder report = new StringBuilder("Carbon application deployment report: ");
+        report.append(deploymentTimes.size()).append(" CApp(s) deployed in ")
+                .append(toMillis(System.nanoTime() - startTime)).append(" ms (extraction ")
+                .append(toMillis(totalExtraction)).append(" ms, deployment ")
+                .append(toMillis(totalDeployment)).append(" ms)");
+
+        List<Map.Entry<String, Long>> slowest = new ArrayList<>(deploymentTimes.entrySet());
+        slowest.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        report.append(System.lineSeparator()).append("  Slowest CApps:");
+        for (Map.Entry<String, Long> entry : slowest.subList(0, Math.min(CAPP_DEPLOYMENT_REPORT_TOP_ENTRIES,
+                                                                          slowest.size()))) {
+            Long extraction = extractionTimes.get(entry.getKey());
+            report.append(System.lineSeparator()).append("    ").append(entry.getKey()).append(" : ")
+                    .append(toMillis(entry.getValue())).append(" ms");
+            if (extraction != null) {
+                report.append(" (extraction ").append(toMillis(extraction)).append(" ms)");
+            }
+        }
+        if (!artifactTypeTimes.isEmpty()) {
+            report.append(System.lineSeparator()).append("  Artifact types:");
+            for (Map.Entry<String, LongAdder> entry : new ArrayList<>(artifactTypeTimes.entrySet())) {
+                report.append(System.lineSeparator()).append("    ").append(entry.getKey()).append(" : ")
+                        .append(artifactTypeCounts.get(entry.getKey()).sum()).append(" artifact(s) in ")
+                        .append(toMillis(entry.getValue().sum())).append(" ms");
+            }
+        }
+        log.info(report.toString());
+
+        extractionTimes.clear();
+        deploymentTimes.clear();
+        artifactTypeTimes.clear();
+        artifactTypeCounts.clear();
+    }
+
+    private static void markStart(long elapsedNano) {
+        if (startTime < 0) {
+            startTime = System.nanoTime() - elapsedNano;
+        }
+    }
+
+    private static long sum(Map<String, Long> times) {
+        long total = 0;
+        for (Long time : times.values()) {
+            total += time;
+        }
+        return total;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
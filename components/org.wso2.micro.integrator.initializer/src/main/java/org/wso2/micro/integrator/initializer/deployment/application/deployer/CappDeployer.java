@@ -44,6 +44,7 @@ import org.wso2.micro.application.deployer.handler.AppDeploymentHandler;
 import org.wso2.micro.core.CarbonAxisConfigurator;
 import org.wso2.micro.core.util.CarbonException;
 import org.wso2.micro.core.util.FileManipulator;
+import org.wso2.micro.integrator.initializer.dashboard.ArtifactChangeTracker;
 import org.wso2.micro.integrator.initializer.deployment.DuplicateCAppDescriptorException;
 import org.wso2.micro.integrator.initializer.serviceCatalog.ServiceCatalogDeployer;
 import org.wso2.micro.integrator.initializer.utils.Constants;
@@ -67,14 +68,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipFile;
 
 import javax.xml.stream.XMLStreamException;
 
 import static org.wso2.micro.core.Constants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.micro.integrator.initializer.deployment.synapse.deployer.SynapseAppDeployerConstants.API_TYPE;
+import static org.wso2.micro.integrator.initializer.utils.Constants.CAPP_EXTRACTION_THREADS_PROPERTY;
 import static org.wso2.micro.integrator.initializer.utils.Constants.CAPP_FOLDER_NAME;
 import static org.wso2.micro.integrator.initializer.utils.Constants.CAR_FILE_EXTENSION;
 import static org.wso2.micro.integrator.initializer.utils.DeployerUtil.getCAppsWithDescriptorCount;
@@ -130,6 +136,17 @@ public class CappDeployer extends AbstractDeployer {
      */
     private SecretCallbackHandlerService secretCallbackHandlerService;
 
+    /**
+     * Extractions of carbon applications started ahead of their deployment, keyed by the target CApp path. The
+     * deployment of the CApps stays sequential and in dependency order, only the extraction is done in parallel.
+     */
+    private final Map<String, Future<String>> prefetchedExtractions = new ConcurrentHashMap<>();
+
+    /**
+     * Stale entries of the extraction cache are removed once, after the CApps are deployed at server startup.
+     */
+    private boolean isExtractionCacheCleanupPending = true;
+
     public void init(ConfigurationContext configurationContext) {
 
         if (log.isDebugEnabled()) {
@@ -137,10 +154,22 @@ public class CappDeployer extends AbstractDeployer {
         }
         this.axisConfig = configurationContext.getAxisConfiguration();
 
-        //delete the older extracted capps for this tenant.
+        //delete the older extracted capps for this tenant, except the ones kept in the extraction cache.
         String appUnzipDir = AppDeployerUtils.getAppUnzipDir() + File.separator +
                 AppDeployerUtils.getTenantIdString();
-        FileManipulator.deleteDir(appUnzipDir);
+        if (AppDeployerUtils.isExtractionCacheEnabled()) {
+            File[] extractedCApps = new File(appUnzipDir).listFiles();
+            if (extractedCApps != null) {
+                for (File extractedCApp : extractedCApps) {
+                    if (!extractedCApp.getAbsolutePath().equals(
+                            new File(AppDeployerUtils.getExtractionCacheDir()).getAbsolutePath())) {
+                        FileManipulator.deleteDir(extractedCApp);
+                    }
+                }
+            }
+        } else {
+            FileManipulator.deleteDir(appUnzipDir);
+        }
 
         if (ServiceCatalogUtils.isServiceCatalogEnabled()) {
             serviceCatalogConfiguration = ServiceCatalogUtils.readConfiguration(secretCallbackHandlerService);
@@ -190,8 +219,6 @@ public class CappDeployer extends AbstractDeployer {
      */
     private void deployCarbonApps(String artifactPath, boolean isEmbeddedCAR) throws CarbonException {
 
-        File cAppDirectory = new File(this.cAppDir);
-
         String archPathToProcess = AppDeployerUtils.formatPath(artifactPath);
         String cAppName = archPathToProcess.substring(archPathToProcess.lastIndexOf('/') + 1);
 
@@ -203,13 +230,25 @@ public class CappDeployer extends AbstractDeployer {
             log.debug("Carbon Application detected : " + cAppName);
         }
 
-        String targetCAppPath = cAppDirectory + File.separator + cAppName;
+        String targetCAppPath = getTargetCAppPath(archPathToProcess, cAppName, isEmbeddedCAR);
+        String extractedPath = extractCarbonApplication(cAppName, targetCAppPath);
+        long startTime = System.nanoTime();
+        try {
+            deployCarbonApplications(cAppName, targetCAppPath, extractedPath);
+        } finally {
+            CAppDeploymentReport.recordDeployment(cAppName, System.nanoTime() - startTime);
+        }
+    }
+
+    private String getTargetCAppPath(String archPathToProcess, String cAppName, boolean isEmbeddedCAR) {
+
+        File cAppDirectory = new File(this.cAppDir);
         if (isEmbeddedCAR) {
             String parentCApp = extractParentCAppName(archPathToProcess);
-            targetCAppPath = cAppDirectory + File.separator + parentCApp + File.separator + "dependencies" + File.separator + cAppName;
+            return cAppDirectory + File.separator + parentCApp + File.separator + "dependencies" + File.separator +
+                    cAppName;
         }
-        String extractedPath = extractCarbonApplication(targetCAppPath);
-        deployCarbonApplications(cAppName, targetCAppPath, extractedPath);
+        return cAppDirectory + File.separator + cAppName;
     }
 
     public static String extractParentCAppName(String filePath) {
@@ -231,7 +270,12 @@ public class CappDeployer extends AbstractDeployer {
         String archPathToProcess = AppDeployerUtils.formatPath(artifactPath);
         String cAppName = archPathToProcess.substring(archPathToProcess.lastIndexOf('/') + 1);
         String targetCAppPath = artifactPath.endsWith(File.separator) ? artifactPath : artifactPath + File.separator;
-        deployCarbonApplications(cAppName, targetCAppPath, targetCAppPath);
+        long startTime = System.nanoTime();
+        try {
+            deployCarbonApplications(cAppName, targetCAppPath, targetCAppPath);
+        } finally {
+            CAppDeploymentReport.recordDeployment(cAppName, System.nanoTime() - startTime);
+        }
     }
 
     private void deployCarbonApplications(String cAppName, String cAppPath, String targetCAppPath) throws CarbonException {
@@ -278,6 +322,15 @@ public class CappDeployer extends AbstractDeployer {
 
         // Initial execution of Service catalog Deployer at server startup when last CApp get deployed
         boolean isAllCAppsDeployed = getCAppFileList().length == cAppMap.size() + faultyCapps.size();
+        if (isAllCAppsDeployed) {
+            CAppDeploymentReport.logReport();
+            if (isExtractionCacheCleanupPending && AppDeployerUtils.isExtractionCacheEnabled()) {
+                isExtractionCacheCleanupPending = false;
+                Thread cleaner = new Thread(AppDeployerUtils::cleanExtractionCache, "capp-extraction-cache-cleaner");
+                cleaner.setDaemon(true);
+                cleaner.start();
+            }
+        }
         if (isServiceCatalogStartupExecutionPending && serviceCatalogConfiguration != null && isAllCAppsDeployed) {
             ServiceCatalogDeployer serviceDeployer = new ServiceCatalogDeployer(null,
                     ((CarbonAxisConfigurator) axisConfig.getAxisConfiguration().getConfigurator()).getRepoLocation(),
@@ -315,15 +368,90 @@ public class CappDeployer extends AbstractDeployer {
     }
 
     /**
-     * Extracts the carbon application to the tmp/carbonapps directory.
+     * Extracts the carbon application to the tmp/carbonapps directory. If the extraction was already started by
+     * {@link #prefetchExtractions(List)}, waits for it instead of extracting the archive again.
      *
+     * @param cAppName       - name of the carbon application file
      * @param targetCAppPath - path of the carbon application
      * @return - path to the extracted carbon application
      * @throws CarbonException - error while extracting
      */
-    private String extractCarbonApplication(String targetCAppPath) throws CarbonException {
+    String extractCarbonApplication(String cAppName, String targetCAppPath) throws CarbonException {
 
-        return AppDeployerUtils.extractCarbonApp(targetCAppPath);
+        Future<String> prefetched = prefetchedExtractions.remove(targetCAppPath);
+        if (prefetched != null) {
+            try {
+                return prefetched.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CarbonException) {
+                    throw (CarbonException) e.getCause();
+                }
+                throw new CarbonException("Error while extracting Carbon Application : " + cAppName, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CarbonException("Interrupted while extracting Carbon Application : " + cAppName, e);
+            }
+        }
+        long startTime = System.nanoTime();
+        String extractedPath = AppDeployerUtils.extractCarbonApp(targetCAppPath);
+        CAppDeploymentReport.recordExtraction(cAppName, System.nanoTime() - startTime);
+        return extractedPath;
+    }
+
+    /**
+     * Whether the extraction of the given carbon application was started ahead of its deployment.
+     *
+     * @param targetCAppPath - path of the carbon application
+     * @return - true if the extraction was started by {@link #prefetchExtractions(List)} and not consumed yet
+     */
+    boolean isExtractionPrefetched(String targetCAppPath) {
+        return prefetchedExtractions.containsKey(targetCAppPath);
+    }
+
+    /**
+     * Starts extracting the given carbon applications in parallel, in their deployment order, so that the sequential
+     * deployment does not have to wait for the extraction of each archive. The number of threads is configured with
+     * the {@code capp.extraction.threads} system property and parallel extraction is disabled when it is set to 1.
+     *
+     * @param filesToDeploy - carbon applications in the order they will be deployed
+     */
+    private void prefetchExtractions(List<DeploymentFileData> filesToDeploy) {
+
+        int threads = Integer.getInteger(CAPP_EXTRACTION_THREADS_PROPERTY,
+                                         Math.min(4, Runtime.getRuntime().availableProcessors()));
+        if (threads <= 1 || filesToDeploy.size() <= 1) {
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService extractionExecutor = Executors.newFixedThreadPool(Math.min(threads, filesToDeploy.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "capp-extractor-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            for (DeploymentFileData fileData : filesToDeploy) {
+                String archPathToProcess = AppDeployerUtils.formatPath(fileData.getAbsolutePath());
+                String cAppName = archPathToProcess.substring(archPathToProcess.lastIndexOf('/') + 1);
+                if (!isCAppArchiveFile(cAppName)) {
+                    continue;
+                }
+                String targetCAppPath = getTargetCAppPath(archPathToProcess, cAppName, fileData.isEmbeddedCAR());
+                Future<String> previous = prefetchedExtractions.put(targetCAppPath, extractionExecutor.submit(() -> {
+                    long startTime = System.nanoTime();
+                    String extractedPath = AppDeployerUtils.extractCarbonApp(targetCAppPath);
+                    CAppDeploymentReport.recordExtraction(cAppName, System.nanoTime() - startTime);
+                    return extractedPath;
+                }));
+                if (previous != null) {
+                    // an extraction of an older version of the archive which was never deployed
+                    previous.cancel(false);
+                }
+            }
+        } finally {
+            // already submitted extractions are completed before the threads exit
+            extractionExecutor.shutdown();
+        }
     }
 
     private void handleDeployException(Exception e, String cAppName, CarbonApplication currentApp) {
@@ -334,6 +462,7 @@ public class CappDeployer extends AbstractDeployer {
         SynapseConfigUtils.getSynapseConfiguration(SUPER_TENANT_DOMAIN_NAME).validateSwaggerTable();
         faultyCAppObjects.add(currentApp);
         faultyCapps.add(cAppName);
+        ArtifactChangeTracker.markChanged();
     }
 
     /**
@@ -437,10 +566,11 @@ public class CappDeployer extends AbstractDeployer {
      *
      * @param carbonApp - CarbonApplication instance
      */
-    private void addCarbonApp(CarbonApplication carbonApp) {
+    void addCarbonApp(CarbonApplication carbonApp) {
         synchronized (lock) {
             cAppMap.add(carbonApp);
         }
+        ArtifactChangeTracker.markChanged();
     }
 
     /**
@@ -770,10 +900,11 @@ public class CappDeployer extends AbstractDeployer {
      *
      * @param carbonApp - CarbonApplication instance
      */
-    private void removeCarbonApp(CarbonApplication carbonApp) {
+    void removeCarbonApp(CarbonApplication carbonApp) {
         synchronized (lock) {
             cAppMap.remove(carbonApp);
         }
+        ArtifactChangeTracker.markChanged();
     }
 
     /**
@@ -785,6 +916,7 @@ public class CappDeployer extends AbstractDeployer {
         synchronized (lock) {
             String cAppName = appFilePath.substring(appFilePath.lastIndexOf(File.separator) + 1);
             faultyCapps.remove(cAppName);
+            ArtifactChangeTracker.markChanged();
             for (CarbonApplication application : faultyCAppObjects) {
                 if (application.getAppFilePath().equals(appFilePath)) {
                     faultyCAppObjects.remove(application);
@@ -853,6 +985,14 @@ public class CappDeployer extends AbstractDeployer {
      */
     public void sort(List<DeploymentFileData> filesToDeploy, int startIndex, int toIndex) {
 
+        sortByProcessingOrder(filesToDeploy, startIndex, toIndex);
+        if (filesToDeploy != null && startIndex >= 0 && startIndex < toIndex && toIndex <= filesToDeploy.size()) {
+            prefetchExtractions(filesToDeploy.subList(startIndex, toIndex));
+        }
+    }
+
+    private void sortByProcessingOrder(List<DeploymentFileData> filesToDeploy, int startIndex, int toIndex) {
+
         File cAppDirFile = new File(this.cAppDir);
         File[] cAppFiles = cAppDirFile.listFiles((dir, name) -> name.endsWith(CAR_FILE_EXTENSION));
 
@@ -79,6 +79,7 @@ import org.wso2.micro.core.util.StringUtils;
 import org.wso2.micro.integrator.core.util.MicroIntegratorBaseUtils;
 import org.wso2.micro.integrator.initializer.ServiceBusConstants;
 import org.wso2.micro.integrator.initializer.ServiceBusUtils;
+import org.wso2.micro.integrator.initializer.deployment.application.deployer.CAppDeploymentReport;
 import org.wso2.micro.integrator.initializer.persistence.MediationPersistenceManager;
 import org.wso2.micro.integrator.initializer.utils.ConfigurationHolder;
 import org.wso2.micro.integrator.initializer.utils.Constants;
@@ -138,7 +139,17 @@ public class SynapseAppDeployer implements AppDeploymentHandler {
 
         //deploy artifacts
         for (String artifactType : artifactTypeMap.keySet()) {
-            deployArtifactType(artifactTypeMap.get(artifactType), carbonApp, axisConfig);
+            List<Artifact.Dependency> artifactsOfType = artifactTypeMap.get(artifactType);
+            if (artifactsOfType.isEmpty()) {
+                continue;
+            }
+            long startTime = System.nanoTime();
+            try {
+                deployArtifactType(artifactsOfType, carbonApp, axisConfig);
+            } finally {
+                CAppDeploymentReport.recordArtifactType(artifactType, artifactsOfType.size(),
+                                                        System.nanoTime() - startTime);
+            }
         }
     }
 
@@ -121,4 +121,8 @@ public class Constants {
     public static final String CAPP_GROUP_ID = "groupId";
     public static final String CAPP_ARTIFACT_ID = "artifactId";
     public static final String CAPP_VERSION = "version";
+
+    // constants related to CApp deployment at server startup
+    public static final String CAPP_EXTRACTION_THREADS_PROPERTY = "capp.extraction.threads";
+    public static final int CAPP_DEPLOYMENT_REPORT_TOP_ENTRIES = 10;
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.initializer.dashboard;
+
+import org.apache.synapse.config.SynapseConfiguration;
+import org.apache.synapse.mediators.base.SequenceMediator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ArtifactChangeTrackerTest {
+
+    private SynapseConfiguration synapseConfiguration;
+
+    @Before
+    public void setUp() {
+
+        synapseConfiguration = new SynapseConfiguration();
+        ArtifactChangeTracker.observe(synapseConfiguration);
+    }
+
+    @Test
+    public void testGenerationChangesOnArtifactDeployAndUndeploy() {
+
+        long generation = ArtifactChangeTracker.getGeneration();
+
+        synapseConfiguration.addSequence("TestSequence", createSequence("TestSequence"));
+        long deployedGeneration = ArtifactChangeTracker.getGeneration();
+        assertTrue(deployedGeneration > generation);
+
+        synapseConfiguration.removeSequence("TestSequence");
+        assertTrue(ArtifactChangeTracker.getGeneration() > deployedGeneration);
+    }
+
+    @Test
+    public void testObservingNewConfigurationChangesGeneration() {
+
+        long generation = ArtifactChangeTracker.getGeneration();
+
+        // observing the same configuration again is not a change
+        ArtifactChangeTracker.observe(synapseConfiguration);
+        assertEquals(generation, ArtifactChangeTracker.getGeneration());
+
+        SynapseConfiguration newConfiguration = new SynapseConfiguration();
+        ArtifactChangeTracker.observe(newConfiguration);
+        long newGeneration = ArtifactChangeTracker.getGeneration();
+        assertTrue(newGeneration > generation);
+
+        // the replaced configuration is no longer observed
+        synapseConfiguration.addSequence("TestSequence", createSequence("TestSequence"));
+        assertEquals(newGeneration, ArtifactChangeTracker.getGeneration());
+    }
+
+    @Test
+    public void testRuntimeHashIsInvalidatedOnDeployAndUndeploy() {
+
+        ICPHeartBeatComponent.cacheRuntimeHash("hash-1", ArtifactChangeTracker.getGeneration());
+        assertEquals("hash-1", ICPHeartBeatComponent.getCachedRuntimeHash());
+
+        synapseConfiguration.addSequence("TestSequence", createSequence("TestSequence"));
+        assertNull(ICPHeartBeatComponent.getCachedRuntimeHash());
+
+        ICPHeartBeatComponent.cacheRuntimeHash("hash-2", ArtifactChangeTracker.getGeneration());
+        assertEquals("hash-2", ICPHeartBeatComponent.getCachedRuntimeHash());
+
+        synapseConfiguration.removeSequence("TestSequence");
+        assertNull(ICPHeartBeatComponent.getCachedRuntimeHash());
+    }
+
+    @Test
+    public void testRuntimeHashCalculatedBeforeChangeIsNotReused() {
+
+        // a change made while the payload was collected invalidates the hash calculated from it
+        long generation = ArtifactChangeTracker.getGeneration();
+        ArtifactChangeTracker.markChanged();
+        ICPHeartBeatComponent.cacheRuntimeHash("hash-1", generation);
+        assertNull(ICPHeartBeatComponent.getCachedRuntimeHash());
+    }
+
+    private static SequenceMediator createSequence(String name) {
+
+        SequenceMediator sequence = new SequenceMediator();
+        sequence.setName(name);
+        return sequence;
+    }
+}
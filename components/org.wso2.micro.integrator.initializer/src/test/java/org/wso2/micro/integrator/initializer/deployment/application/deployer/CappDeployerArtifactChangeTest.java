@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.initializer.deployment.application.deployer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.micro.application.deployer.CarbonApplication;
+import org.wso2.micro.integrator.initializer.dashboard.ArtifactChangeTracker;
+
+import java.io.File;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CappDeployerArtifactChangeTest {
+
+    private CappDeployer cappDeployer;
+
+    @Before
+    public void setUp() {
+
+        cappDeployer = new CappDeployer();
+    }
+
+    @Test
+    public void testGenerationChangesOnCAppDeployAndUndeploy() {
+
+        CarbonApplication carbonApp = new CarbonApplication();
+        carbonApp.setAppName("TestCApp");
+        carbonApp.setAppVersion("1.0.0");
+        long generation = ArtifactChangeTracker.getGeneration();
+
+        cappDeployer.addCarbonApp(carbonApp);
+        long deployedGeneration = ArtifactChangeTracker.getGeneration();
+        assertTrue(CappDeployer.getCarbonApps().contains(carbonApp));
+        assertTrue(deployedGeneration > generation);
+
+        cappDeployer.removeCarbonApp(carbonApp);
+        assertFalse(CappDeployer.getCarbonApps().contains(carbonApp));
+        assertTrue(ArtifactChangeTracker.getGeneration() > deployedGeneration);
+    }
+
+    @Test
+    public void testGenerationChangesOnFaultyCAppUndeploy() throws Exception {
+
+        long generation = ArtifactChangeTracker.getGeneration();
+
+        cappDeployer.undeploy(File.separator + "carbonapps" + File.separator + "FaultyCApp_1.0.0.car");
+        assertTrue(ArtifactChangeTracker.getGeneration() > generation);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.micro.integrator.initializer.deployment.application.deployer;
+
+import org.apache.axis2.deployment.repository.util.DeploymentFileData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.micro.core.util.CarbonException;
+import org.wso2.micro.core.util.FileManipulator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.wso2.micro.integrator.initializer.utils.Constants.CAPP_EXTRACTION_THREADS_PROPERTY;
+import static org.wso2.micro.integrator.initializer.utils.DeployerUtilTest.createCarFile;
+import static org.wso2.micro.integrator.initializer.utils.DeployerUtilTest.writeDescriptorToExistingCarFile;
+
+public class CappDeployerExtractionTest {
+
+    private CappDeployer cappDeployer;
+    private File tempCAppDir;
+    private String extractionThreads;
+    private final List<String> extractedPaths = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+
+        cappDeployer = new CappDeployer();
+        extractionThreads = System.getProperty(CAPP_EXTRACTION_THREADS_PROPERTY);
+        System.setProperty(CAPP_EXTRACTION_THREADS_PROPERTY, "2");
+
+        tempCAppDir = File.createTempFile("cappdir", "");
+        tempCAppDir.delete(); // Delete the file so we can use the same name for directory
+        tempCAppDir.mkdir();
+        cappDeployer.setDirectory(tempCAppDir.getAbsolutePath());
+    }
+
+    @After
+    public void tearDown() {
+
+        if (extractionThreads == null) {
+            System.clearProperty(CAPP_EXTRACTION_THREADS_PROPERTY);
+        } else {
+            System.setProperty(CAPP_EXTRACTION_THREADS_PROPERTY, extractionThreads);
+        }
+        for (String extractedPath : extractedPaths) {
+            FileManipulator.deleteDir(extractedPath);
+        }
+        for (File file : Objects.requireNonNull(tempCAppDir.listFiles())) {
+            file.delete();
+        }
+        tempCAppDir.delete();
+    }
+
+    @Test
+    public void testExtractionsArePrefetchedInDeploymentOrder() throws Exception {
+        // A depends on B, B depends on C, C has no dependencies
+        String depB = "<dependency groupId=\"com.example\" artifactId=\"b\" version=\"1.0.0\" type=\"car\"/>";
+        String depC = "<dependency groupId=\"com.example\" artifactId=\"c\" version=\"1.0.0\" type=\"car\"/>";
+        File carA = createDescribedCarFile("a.car", "a", depB);
+        File carB = createDescribedCarFile("b.car", "b", depC);
+        File carC = createDescribedCarFile("c.car", "c");
+
+        List<DeploymentFileData> files = new ArrayList<>();
+        files.add(new DeploymentFileData(carA, cappDeployer));
+        files.add(new DeploymentFileData(carB, cappDeployer));
+        files.add(new DeploymentFileData(carC, cappDeployer));
+
+        cappDeployer.sort(files, 0, files.size());
+
+        // the deployment order is not changed by the parallel extraction
+        assertEquals("c.car", files.get(0).getFile().getName());
+        assertEquals("b.car", files.get(1).getFile().getName());
+        assertEquals("a.car", files.get(2).getFile().getName());
+
+        // each CApp is deployed from the extraction of its own archive
+        for (DeploymentFileData file : files) {
+            String cAppName = file.getFile().getName();
+            String targetCAppPath = getTargetCAppPath(cAppName);
+            assertTrue("Extraction of " + cAppName + " should be prefetched",
+                    cappDeployer.isExtractionPrefetched(targetCAppPath));
+
+            String extractedPath = extract(cAppName);
+            assertFalse(cappDeployer.isExtractionPrefetched(targetCAppPath));
+            String descriptor = new String(Files.readAllBytes(new File(extractedPath, "descriptor.xml").toPath()),
+                    StandardCharsets.UTF_8);
+            assertTrue(descriptor.contains("<id>com.example__" + cAppName.replace(".car", "") + "__1.0.0</id>"));
+        }
+    }
+
+    @Test
+    public void testExtractionErrorIsPropagatedToTheDeployment() throws Exception {
+
+        File carA = createDescribedCarFile("a.car", "a");
+        File corruptCar = new File(tempCAppDir, "b.car");
+        Files.write(corruptCar.toPath(), "not a zip archive".getBytes(StandardCharsets.UTF_8));
+        File carC = createDescribedCarFile("c.car", "c");
+
+        List<DeploymentFileData> files = new ArrayList<>();
+        files.add(new DeploymentFileData(carA, cappDeployer));
+        files.add(new DeploymentFileData(corruptCar, cappDeployer));
+        files.add(new DeploymentFileData(carC, cappDeployer));
+
+        cappDeployer.sort(files, 0, files.size());
+        assertTrue(cappDeployer.isExtractionPrefetched(getTargetCAppPath("b.car")));
+
+        assertTrue(new File(extract("a.car"), "descriptor.xml").isFile());
+        try {
+            extract("b.car");
+            fail("Extraction of a corrupt CApp should fail");
+        } catch (CarbonException e) {
+            assertEquals("Error while extracting Carbon Application : b.car", e.getMessage());
+        }
+        // the failure of one extraction does not affect the others
+        assertTrue(new File(extract("c.car"), "descriptor.xml").isFile());
+    }
+
+    @Test
+    public void testExtractionsAreNotPrefetchedWithSingleThread() throws Exception {
+
+        System.setProperty(CAPP_EXTRACTION_THREADS_PROPERTY, "1");
+        File carA = createDescribedCarFile("a.car", "a");
+        File carB = createDescribedCarFile("b.car", "b");
+
+        List<DeploymentFileData> files = new ArrayList<>();
+        files.add(new DeploymentFileData(carB, cappDeployer));
+        files.add(new DeploymentFileData(carA, cappDeployer));
+
+        cappDeployer.sort(files, 0, files.size());
+
+        assertEquals("a.car", files.get(0).getFile().getName());
+        assertEquals("b.car", files.get(1).getFile().getName());
+        assertFalse(cappDeployer.isExtractionPrefetched(getTargetCAppPath("a.car")));
+        assertFalse(cappDeployer.isExtractionPrefetched(getTargetCAppPath("b.car")));
+        assertTrue(new File(extract("a.car"), "descriptor.xml").isFile());
+    }
+
+    private File createDescribedCarFile(String carFileName, String artifactId, String... dependencies)
+            throws Exception {
+
+        File carFile = createCarFile(tempCAppDir, carFileName);
+        writeDescriptorToExistingCarFile(carFile, "com.example", artifactId, "1.0.0", dependencies);
+        return carFile;
+    }
+
+    private String getTargetCAppPath(String cAppName) {
+
+        return tempCAppDir.getAbsolutePath() + File.separator + cAppName;
+    }
+
+    private String extract(String cAppName) throws CarbonException {
+
+        String extractedPath = cappDeployer.extractCarbonApplication(cAppName, getTargetCAppPath(cAppName));
+        extractedPaths.add(extractedPath);
+        return extractedPath;
+    }
+}
@@ -37,6 +37,7 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 @Plugin(name = "LogMaskConverter", category = "Converter")
 @ConverterKeys({"mm"})
@@ -54,9 +55,18 @@ public class LogMaskConverter extends LogEventPatternConverter {
     private static final String REPLACE_PATTERN = ".replace_pattern";
     private static final String REPLACER = ".replacer";
 
+    // matches numbered back references, which cannot be used once the patterns are combined
+    private static final Pattern BACK_REFERENCE = Pattern.compile("(?<!\\\\)\\\\[1-9]");
+
     private List<LogMaskInfoProvider> logMaskInfoProvider;
     private boolean isMaskAvailable = false;
 
+    /**
+     * Alternation of all the masking patterns, used to skip messages which none of the patterns match with a single
+     * scan. Null if the patterns cannot be combined.
+     */
+    private Pattern combinedMaskingPattern;
+
     public static LogMaskConverter newInstance(String[] options) {
         return INSTANCE;
     }
@@ -66,6 +76,7 @@ public class LogMaskConverter extends LogEventPatternConverter {
         super(MASK_PATTERN, MASK_PATTERN);
         logMaskInfoProvider = new ArrayList<>();
         loadMaskingPatterns();
+        combinedMaskingPattern = combineMaskingPatterns(logMaskInfoProvider);
     }
 
     @Override
@@ -73,33 +84,72 @@ public class LogMaskConverter extends LogEventPatternConverter {
 
         String message = logEvent.getMessage().getFormat();
 
-        // Check whether there are any masking patterns defined.
-        if (this.isMaskAvailable) {
-            Matcher matcher;
-            Matcher replaceMatcher;
-
-            for (LogMaskInfoProvider maskingInfo : logMaskInfoProvider) {
-                Pattern pattern = maskingInfo.logMaskingPattern;
-                matcher = pattern.matcher(message);
-                StringBuffer stringBuffer = new StringBuffer();
-                Pattern replacementPattern = maskingInfo.logReplacementPattern;
-                while (matcher.find()) {
-                    if (Objects.isNull(replacementPattern)) {
-                        matcher.appendReplacement(stringBuffer, maskingInfo.logReplacementString);
-                    } else {
-                        String subStringToMask = message.substring(matcher.start(), matcher.end());
-                        replaceMatcher = replacementPattern.matcher(subStringToMask);
-                        subStringToMask = replaceMatcher.replaceAll(maskingInfo.logReplacementString);
-                        matcher.appendReplacement(stringBuffer, subStringToMask);
-                    }
+        // Check whether there are any masking patterns defined, and whether any of them matches the message.
+        if (!this.isMaskAvailable
+                || (combinedMaskingPattern != null && !combinedMaskingPattern.matcher(message).find())) {
+            stringBuilder.append(message);
+            return;
+        }
+        int lastIndex = logMaskInfoProvider.size() - 1;
+        for (int i = 0; i <= lastIndex; i++) {
+            LogMaskInfoProvider maskingInfo = logMaskInfoProvider.get(i);
+            Matcher matcher = maskingInfo.logMaskingPattern.matcher(message);
+            if (!matcher.find()) {
+                continue;
+            }
+            // The patterns are applied one after the other, the output of the last one is written to the event.
+            StringBuilder masked = i == lastIndex ? stringBuilder : new StringBuilder(message.length());
+            Pattern replacementPattern = maskingInfo.logReplacementPattern;
+            do {
+                if (Objects.isNull(replacementPattern)) {
+                    matcher.appendReplacement(masked, maskingInfo.logReplacementString);
+                } else {
+                    String subStringToMask = message.substring(matcher.start(), matcher.end());
+                    Matcher replaceMatcher = replacementPattern.matcher(subStringToMask);
+                    subStringToMask = replaceMatcher.replaceAll(maskingInfo.logReplacementString);
+                    matcher.appendReplacement(masked, subStringToMask);
                 }
-                matcher.appendTail(stringBuffer);
-                message = stringBuffer.toString();
+            } while (matcher.find());
+            matcher.appendTail(masked);
+            if (masked == stringBuilder) {
+                return;
             }
+            message = masked.toString();
         }
         stringBuilder.append(message);
     }
 
+    /**
+     * Combines the masking patterns into a single alternation. Patterns with numbered back references are not
+     * combined, since the group numbers change within the alternation.
+     *
+     * @param maskInfoProviders masking patterns
+     * @return the combined pattern, or null if there are less than two patterns or they cannot be combined
+     */
+    private static Pattern combineMaskingPatterns(List<LogMaskInfoProvider> maskInfoProviders) {
+
+        if (maskInfoProviders.size() < 2) {
+            return null;
+        }
+        StringBuilder combined = new StringBuilder();
+        for (LogMaskInfoProvider maskingInfo : maskInfoProviders) {
+            String pattern = maskingInfo.logMaskingPattern.pattern();
+            if (BACK_REFERENCE.matcher(pattern).find()) {
+                return null;
+            }
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(pattern).append(')');
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (PatternSyntaxException e) {
+            // e.g. the same named group is used in more than one pattern
+            return null;
+        }
+    }
+
     /**
      * Method to get the masking patterns (regex) from the properties file.
      */
@@ -40,4 +40,16 @@ public class SecurityConstants {
     public static final String WS_SECURITY_CONFIG = "ws_security";
 
     public static final String CASE_INSENSITIVE_USERNAME = "CaseInsensitiveUsername";
+
+    /**
+     * Seconds a successful basic auth verification is cached for. This is configured as system property.
+     * Default : 30, 0 disables the cache
+     */
+    public static final String MI_SECURITY_AUTH_CACHE_TIMEOUT = "mi.security.auth.cache.timeout";
+
+    /**
+     * Maximum number of cached basic auth verifications. This is configured as system property.
+     * Default : 1000
+     */
+    public static final String MI_SECURITY_AUTH_CACHE_CAPACITY = "mi.security.auth.cache.capacity";
 }
@@ -29,6 +29,7 @@ import org.apache.synapse.rest.Handler;
 import org.wso2.micro.integrator.security.MicroIntegratorSecurityUtils;
 import org.wso2.micro.integrator.security.user.api.UserStoreException;
 import org.wso2.micro.integrator.security.user.api.UserStoreManager;
+import org.wso2.micro.integrator.security.user.core.common.AuthenticationCache;
 
 import java.util.Map;
 
@@ -103,8 +104,16 @@ public class RESTBasicAuthHandler implements Handler {
      */
     public boolean processSecurity(String credentials) {
         String decodedCredentials = new String(new Base64().decode(credentials.getBytes()));
-        String username = decodedCredentials.split(":")[0];
-        String password = decodedCredentials.split(":",2)[1];
+        int separator = decodedCredentials.indexOf(':');
+        if (separator < 0) {
+            return false;
+        }
+        String username = decodedCredentials.substring(0, separator);
+        String password = decodedCredentials.substring(separator + 1);
+        AuthenticationCache authenticationCache = AuthenticationCache.getInstance();
+        if (authenticationCache.isAuthenticated(username, password)) {
+            return true;
+        }
         UserStoreManager userStoreManager;
         try {
             userStoreManager = MicroIntegratorSecurityUtils.getUserStoreManager();
@@ -113,7 +122,11 @@ public class RESTBasicAuthHandler implements Handler {
             return false;
         }
         try {
-            return userStoreManager.authenticate(username, password);
+            if (userStoreManager.authenticate(username, password)) {
+                authenticationCache.addAuthenticated(username, password);
+                return true;
+            }
+            return false;
         } catch (UserStoreException e) {
             log.error("Error in authenticating user", e);
             return false;
@@ -65,7 +65,11 @@ import org.wso2.micro.integrator.security.user.core.system.SystemUserRoleManager
 import org.wso2.micro.integrator.security.user.core.util.UserCoreUtil;
 import org.wso2.micro.integrator.security.util.Secret;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.CharBuffer;
 import java.security.AccessController;
@@ -81,6 +85,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.sql.DataSource;
@@ -131,6 +136,7 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
     private Map<String, Integer> maxUserListCount = null;
     private Map<String, Integer> maxRoleListCount = null;
     private List<UserStoreManagerConfigurationListener> listener = new ArrayList<UserStoreManagerConfigurationListener>();
+    private static final Map<String, MethodHandle> SECURE_CALL_HANDLES = new ConcurrentHashMap<>();
     private static final ThreadLocal<Boolean> isSecureCall = new ThreadLocal<Boolean>() {
         @Override
         protected Boolean initialValue() {
@@ -154,26 +160,20 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
             throws UserStoreException {
 
         final AbstractUserStoreManager instance = this;
+        final MethodHandle handle = getSecureCallHandle(methodName, argTypes);
 
         isSecureCall.set(Boolean.TRUE);
-        final Method method;
-        try {
-            Class clazz = Class.forName("org.wso2.micro.integrator.security.user.core.common.AbstractUserStoreManager");
-            method = clazz.getDeclaredMethod(methodName, argTypes);
-
-        } catch (NoSuchMethodException e) {
-            log.error("Error occurred when calling method " + methodName, e);
-            throw new UserStoreException(e);
-        } catch (ClassNotFoundException e) {
-            log.error("Error occurred when calling class " + methodName, e);
-            throw new UserStoreException(e);
-        }
-
         try {
             return AccessController.doPrivileged(new PrivilegedExceptionAction<Object>() {
                 @Override
                 public Object run() throws Exception {
-                    return method.invoke(instance, objects);
+                    try {
+                        return (Object) handle.invokeExact(instance, objects);
+                    } catch (Throwable e) {
+                        // wrapped like a reflective call, so any failure of the target surfaces as a
+                        // UserStoreException
+                        throw new InvocationTargetException(e);
+                    }
                 }
             });
         } catch (PrivilegedActionException e) {
@@ -198,6 +198,30 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         }
     }
 
+    /**
+     * Resolves the method handle used by {@link #callSecure(String, Object[], Class[])} once per signature. The
+     * handle takes the manager and the argument array, and returns the boxed result, or null for void methods.
+     */
+    private static MethodHandle getSecureCallHandle(String methodName, Class[] argTypes) throws UserStoreException {
+
+        String key = methodName + Arrays.toString(argTypes);
+        MethodHandle handle = SECURE_CALL_HANDLES.get(key);
+        if (handle != null) {
+            return handle;
+        }
+        try {
+            Method method = AbstractUserStoreManager.class.getDeclaredMethod(methodName, argTypes);
+            handle = MethodHandles.lookup().unreflect(method)
+                    .asSpreader(Object[].class, argTypes.length)
+                    .asType(MethodType.methodType(Object.class, AbstractUserStoreManager.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            log.error("Error occurred when calling method " + methodName, e);
+            throw new UserStoreException(e);
+        }
+        MethodHandle existing = SECURE_CALL_HANDLES.putIfAbsent(key, handle);
+        return existing != null ? existing : handle;
+    }
+
     /**
      * This method is used by the support system to read properties
      */
@@ -1856,6 +1880,7 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
                                     ex.getMessage()), userName, newCredential, oldCredential);
                     throw ex;
                 }
+                AuthenticationCache.getInstance().clearCacheByUser(userName);
 
                 // #################### <Listeners> ##################################################
                 try {
@@ -2076,6 +2101,7 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
                                 ex.getMessage()), userName, newCredentialObj);
                 throw ex;
             }
+            AuthenticationCache.getInstance().clearCacheByUser(userName);
 
             // #################### <Listeners> #####################################################
             try {
@@ -2252,6 +2278,9 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
                     String.format(ErrorMessages.ERROR_CODE_ERROR_WHILE_DELETING_USER.getMessage(), e.getMessage()),
                     userName);
             throw e;
+        } finally {
+            clearUserRolesCache(userName);
+            AuthenticationCache.getInstance().clearCacheByUser(userName);
         }
 
         // #################### <Listeners> #####################################################
@@ -3058,6 +3087,9 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
                                 e.getMessage()), roleName, deletedUsers, newUsers);
             }
             throw (UserStoreException) e.getException();
+        } finally {
+            clearUserCaches(deletedUsers);
+            clearUserCaches(newUsers);
         }
     }
 
@@ -3247,6 +3279,9 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
                                 e.getMessage()), username, deletedRoles, newRoles);
             }
             throw (UserStoreException) e.getException();
+        } finally {
+            clearUserRolesCache(username);
+            AuthenticationCache.getInstance().clearCacheByUser(username);
         }
     }
 
@@ -3656,6 +3691,8 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         if (!isReadOnly() && writeGroupsEnabled) {
             try {
                 doUpdateRoleName(userStore.getDomainFreeName(), userStoreNew.getDomainFreeName());
+                clearUserRolesCacheByTenant(tenantId);
+                AuthenticationCache.getInstance().clearCache();
             } catch (UserStoreException ex) {
                 handleUpdateRoleNameFailure(ErrorMessages.ERROR_CODE_ERROR_WHILE_UPDATING_ROLE_NAME.getCode(),
                         String.format(ErrorMessages.ERROR_CODE_ERROR_WHILE_UPDATING_ROLE_NAME.getMessage(),
@@ -4301,6 +4338,9 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         // #################### Domain Name Free Zone Starts Here ################################
 
         roleNames = doGetRoleListOfUser(userName, "*");
+        if (roleNames != null && roleNames.length > 0) {
+            putUserRolesCache(this.tenantId, userName, roleNames);
+        }
 
         return roleNames;
 
@@ -4759,6 +4799,8 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         }
         try {
             doDeleteRole(roleName);
+            clearUserRolesCacheByTenant(tenantId);
+            AuthenticationCache.getInstance().clearCache();
         } catch (UserStoreException ex) {
             handleDeleteRoleFailure(ErrorMessages.ERROR_CODE_ERROR_WHILE_DELETE_ROLE.getCode(),
                     String.format(ErrorMessages.ERROR_CODE_ERROR_WHILE_DELETE_ROLE.getMessage(), ex.getMessage()),
@@ -5506,6 +5548,20 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         return null;
     }
 
+    /**
+     * Drops the cached roles and authentications of the given users after their role assignments change.
+     *
+     * @param userNames names of the affected users, may be null
+     */
+    private void clearUserCaches(String[] userNames) {
+        if (userNames != null) {
+            for (String userName : userNames) {
+                clearUserRolesCache(userName);
+                AuthenticationCache.getInstance().clearCacheByUser(userName);
+            }
+        }
+    }
+
     /**
      * @param tenantID
      */
@@ -5544,6 +5600,22 @@ public abstract class AbstractUserStoreManager implements UserStoreManager, Pagi
         }
     }
 
+    /**
+     * Caches the roles of a user read from the user store, exactly as they are returned to the caller. Unlike
+     * {@link #addToUserRolesCache(int, String, String[])} the role names are not changed and the authorization cache
+     * is kept, since reading the roles does not change any permission.
+     *
+     * @param tenantID tenant id
+     * @param userName user name
+     * @param roleList roles of the user
+     */
+    private void putUserRolesCache(int tenantID, String userName, String[] roleList) {
+        if (userRolesCache != null) {
+            String usernameWithDomain = UserCoreUtil.addDomainToName(userName, getMyDomainName());
+            userRolesCache.addToCache(cacheIdentifier, tenantID, usernameWithDomain, roleList.clone());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.security.SecurityConstants;
+import org.wso2.micro.integrator.security.user.core.util.UserCoreUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short lived cache of successfully verified credentials. Entries are keyed by a salted SHA-256 digest of the
+ * user name and password, so the clear text password is never retained. The salt is generated per JVM, hence
+ * digests are meaningless outside this process.
+ * <p>
+ * Entries of a user are dropped when the user store manager updates the credential, deletes the user or changes the
+ * role assignments of the user. Once full, the least recently used entry is evicted. The cache is split into
+ * independently locked segments, so that concurrent requests for different users do not contend on a single lock.
+ */
+public class AuthenticationCache {
+
+    private static final Log log = LogFactory.getLog(AuthenticationCache.class);
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int SALT_LENGTH = 32;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 30;
+    private static final int DEFAULT_CAPACITY = 1000;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private static final AuthenticationCache authenticationCache = new AuthenticationCache(
+            Long.getLong(SecurityConstants.MI_SECURITY_AUTH_CACHE_TIMEOUT, DEFAULT_TIMEOUT_SECONDS),
+            Integer.getInteger(SecurityConstants.MI_SECURITY_AUTH_CACHE_CAPACITY, DEFAULT_CAPACITY));
+
+    private final Segment[] segments;
+    private final byte[] salt = new byte[SALT_LENGTH];
+    private final long timeoutNanos;
+    private final int capacity;
+
+    AuthenticationCache(long timeoutSeconds, int capacity) {
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(Math.max(0, timeoutSeconds));
+        this.capacity = Math.max(0, capacity);
+        int segmentCount = Math.max(1, Math.min(SEGMENT_COUNT, this.capacity / MIN_SEGMENT_SIZE));
+        int segmentSize = (this.capacity + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * Gets the shared instance of AuthenticationCache.
+     *
+     * @return the AuthenticationCache instance
+     */
+    public static AuthenticationCache getInstance() {
+        return authenticationCache;
+    }
+
+    /**
+     * Whether the cache holds any entries at all. A zero timeout or capacity disables the cache.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return timeoutNanos > 0 && capacity > 0;
+    }
+
+    /**
+     * Checks whether the given credentials were verified recently.
+     *
+     * @param userName user name as presented by the client
+     * @param password password as presented by the client
+     * @return true if a live entry exists for the credentials
+     */
+    public boolean isAuthenticated(String userName, String password) {
+        if (!isEnabled() || userName == null || password == null) {
+            return false;
+        }
+        String key = digest(userName, password);
+        if (key == null) {
+            return false;
+        }
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            Entry entry = segment.get(key);
+            if (entry == null) {
+                return false;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                segment.remove(key);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Records credentials that were successfully verified against the user store.
+     *
+     * @param userName user name as presented by the client
+     * @param password password as presented by the client
+     */
+    public void addAuthenticated(String userName, String password) {
+        if (!isEnabled() || userName == null || password == null) {
+            return;
+        }
+        String key = digest(userName, password);
+        if (key == null) {
+            return;
+        }
+        Entry entry = new Entry(normalize(userName), System.nanoTime() + timeoutNanos);
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes all entries of the given user, irrespective of the password they were created with.
+     *
+     * @param userName user name with or without the user store domain
+     */
+    public void clearCacheByUser(String userName) {
+        if (userName == null) {
+            return;
+        }
+        String normalized = normalize(userName);
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.values().removeIf(entry -> entry.userName.equals(normalized));
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cleared authentication cache entries of user " + userName);
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clearCache() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[(hash & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private String digest(String userName, String password) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            messageDigest.update(salt);
+            messageDigest.update(userName.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) 0);
+            messageDigest.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Unable to compute the authentication cache key", e);
+            return null;
+        }
+    }
+
+    private static String normalize(String userName) {
+        return UserCoreUtil.removeDomainFromName(userName).toLowerCase();
+    }
+
+    private static final class Segment extends LinkedHashMap<String, Entry> {
+
+        private static final long serialVersionUID = 2871406327592634712L;
+
+        private final int maxEntries;
+
+        private Segment(int maxEntries) {
+            // Access ordered, so the least recently used entry is evicted once the segment is full.
+            super(maxEntries + 1, 1, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static final class Entry {
+
+        private final String userName;
+        private final long expiresAt;
+
+        private Entry(String userName, long expiresAt) {
+            this.userName = userName;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -26,7 +26,10 @@ import org.wso2.micro.integrator.security.user.core.UserStoreManager;
 import org.wso2.micro.integrator.security.user.core.internal.UserStoreMgtDSComponent;
 import org.wso2.micro.integrator.security.user.core.util.UserCoreUtil;
 
+import java.util.concurrent.TimeUnit;
 import javax.cache.Cache;
+import javax.cache.CacheConfiguration;
+import javax.cache.CacheException;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 
@@ -40,6 +43,7 @@ public class UserRolesCache {
     private static UserRolesCache userRolesCache = new UserRolesCache();
 
     private int timeOut = UserCoreConstants.USER_ROLE_CACHE_DEFAULT_TIME_OUT;
+    private volatile boolean cacheConfigured;
 
     private UserRolesCache() {
 
@@ -61,9 +65,24 @@ public class UserRolesCache {
      */
     private Cache<UserRolesCacheKey, UserRolesCacheEntry> getUserRolesCache() {
         CacheManager cacheManager = Caching.getCacheManagerFactory().getCacheManager(USER_ROLES_CACHE_MANAGER);
-//        cacheManager.<UserRolesCacheKey, UserRolesCacheEntry>createCacheBuilder(USER_ROLES_CACHE).  //  TODO time out not working
-//                setExpiry(CacheConfiguration.ExpiryType.MODIFIED, new CacheConfiguration.Duration(TimeUnit.MINUTES, timeOut)).
-//                setStoreByValue(false);
+        if (!cacheConfigured) {
+            synchronized (this) {
+                if (!cacheConfigured) {
+                    // The cache has to be created through the builder for the time out to be honoured.
+                    try {
+                        cacheManager.<UserRolesCacheKey, UserRolesCacheEntry>createCacheBuilder(USER_ROLES_CACHE).
+                                setExpiry(CacheConfiguration.ExpiryType.MODIFIED,
+                                        new CacheConfiguration.Duration(TimeUnit.MINUTES, timeOut)).
+                                setStoreByValue(false).build();
+                    } catch (CacheException e) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("USER_ROLES_CACHE already exists, keeping its configuration.", e);
+                        }
+                    }
+                    cacheConfigured = true;
+                }
+            }
+        }
         return cacheManager.getCache(USER_ROLES_CACHE);
     }
 
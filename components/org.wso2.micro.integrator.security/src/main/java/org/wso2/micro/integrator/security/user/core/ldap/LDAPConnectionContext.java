@@ -86,6 +86,12 @@ public class LDAPConnectionContext {
     private long thresholdTimeoutInMilliseconds;
     private long thresholdStartTime;
     private boolean startTLSEnabled;
+    private LDAPConnectionPool connectionPool;
+
+    private static final int DEFAULT_POOL_MIN_IDLE = 1;
+    private static final long DEFAULT_POOL_MAX_WAIT_MILLIS = 30000;
+    private static final long DEFAULT_POOL_IDLE_TIMEOUT_MILLIS = 300000;
+    private static final long DEFAULT_POOL_VALIDATION_INTERVAL_MILLIS = 30000;
 
     static {
         String initialContextFactoryClassSystemProperty = System.getProperty(Context.INITIAL_CONTEXT_FACTORY);
@@ -222,10 +228,75 @@ public class LDAPConnectionContext {
         // By-default set to close state.
         ldapConnectionCircuitBreakerState = CIRCUIT_STATE_CLOSE;
         thresholdStartTime = 0;
+
+        initConnectionPool(realmConfig, connectionURL);
+    }
+
+    /**
+     * Creates the dedicated connection pool of this user store when a maximum pool size is configured. The pool
+     * holds contexts bound with the connection user, authentication binds keep using the JNDI level pooling.
+     */
+    private void initConnectionPool(RealmConfiguration realmConfig, String connectionURL)
+            throws UserStoreException {
+
+        int maxSize = (int) getLongProperty(realmConfig, LDAPConstants.CONNECTION_POOL_MAX_SIZE, 0);
+        if (maxSize <= 0) {
+            return;
+        }
+        int minIdle = (int) getLongProperty(realmConfig, LDAPConstants.CONNECTION_POOL_MIN_IDLE,
+                DEFAULT_POOL_MIN_IDLE);
+        long maxWait = getLongProperty(realmConfig, LDAPConstants.CONNECTION_POOL_MAX_WAIT,
+                DEFAULT_POOL_MAX_WAIT_MILLIS);
+        long idleTimeout = getLongProperty(realmConfig, LDAPConstants.CONNECTION_POOL_IDLE_TIMEOUT,
+                DEFAULT_POOL_IDLE_TIMEOUT_MILLIS);
+        long validationInterval = getLongProperty(realmConfig, LDAPConstants.CONNECTION_POOL_VALIDATION_INTERVAL,
+                DEFAULT_POOL_VALIDATION_INTERVAL_MILLIS);
+
+        String poolName = realmConfig.getUserStoreProperty(UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
+        if (poolName == null) {
+            poolName = connectionURL;
+        }
+        connectionPool = new LDAPConnectionPool(poolName, this::createContext, maxSize, minIdle, maxWait,
+                idleTimeout, validationInterval);
+        if (log.isDebugEnabled()) {
+            log.debug("LDAP connection pool enabled for " + poolName + " with maximum size " + maxSize
+                    + " and minimum idle " + minIdle);
+        }
+    }
+
+    private long getLongProperty(RealmConfiguration realmConfig, String property, long defaultValue)
+            throws UserStoreException {
+
+        String value = realmConfig.getUserStoreProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new UserStoreException("Invalid value " + value + " configured for " + property, e);
+        }
+    }
+
+    /**
+     * Returns the dedicated connection pool of this user store.
+     *
+     * @return the connection pool, or null if the user store does not use one
+     */
+    public LDAPConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     public DirContext getContext() throws UserStoreException {
 
+        if (connectionPool != null) {
+            return connectionPool.getContext();
+        }
+        return createContext();
+    }
+
+    private DirContext createContext() throws UserStoreException {
+
         DirContext context = null;
 
         // Implemented basic circuit breaker logic to reduce the resource consumption.
@@ -350,6 +421,9 @@ public class LDAPConnectionContext {
          * changed
          */
         this.environment.put(Context.SECURITY_CREDENTIALS, connectionPassword);
+        if (connectionPool != null) {
+            connectionPool.clear();
+        }
     }
 
     /**
@@ -374,6 +448,9 @@ public class LDAPConnectionContext {
         this.environment.put(Context.SECURITY_CREDENTIALS, Arrays.copyOf(passwordBytes, passwordBytes.length));
 
         connectionPasswordObj.clear();
+        if (connectionPool != null) {
+            connectionPool.clear();
+        }
     }
 
     private void populateDCMap() throws UserStoreException {
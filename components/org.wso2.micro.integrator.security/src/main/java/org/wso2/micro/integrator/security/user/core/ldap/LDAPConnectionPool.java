@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.ldap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.micro.integrator.security.user.core.UserStoreException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.naming.CommunicationException;
+import javax.naming.NamingException;
+import javax.naming.ServiceUnavailableException;
+import javax.naming.directory.DirContext;
+import javax.naming.ldap.LdapContext;
+
+/**
+ * Bounded pool of LDAP contexts bound with the connection user of a single user store.
+ * <p>
+ * Borrowed contexts are handed out as proxies, calling {@code close()} on the proxy returns the underlying context to
+ * the pool instead of closing the connection, so the existing {@code JNDIUtil.closeContext} call sites need no change.
+ * Request controls set while the context was borrowed are cleared on return, and a context that has seen a
+ * communication failure is discarded. Idle contexts are validated before reuse once they have been idle longer than
+ * the validation interval, and idle contexts beyond the minimum idle count are closed after the idle timeout.
+ */
+public class LDAPConnectionPool {
+
+    private static final Log log = LogFactory.getLog(LDAPConnectionPool.class);
+    private static final String[] VALIDATION_ATTRIBUTES = new String[]{"objectClass"};
+
+    private final String name;
+    private final ContextFactory factory;
+    private final int maxSize;
+    private final int minIdle;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long validationIntervalMillis;
+
+    private final ConcurrentLinkedDeque<PooledContext> idleContexts = new ConcurrentLinkedDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong destroyedCount = new AtomicLong();
+    private final AtomicLong borrowedCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong waitTimeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /**
+     * Creates the underlying, unpooled contexts.
+     */
+    public interface ContextFactory {
+
+        DirContext createContext() throws UserStoreException;
+    }
+
+    public LDAPConnectionPool(String name, ContextFactory factory, int maxSize, int minIdle, long maxWaitMillis,
+                              long idleTimeoutMillis, long validationIntervalMillis) {
+
+        this.name = name;
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.minIdle = Math.max(0, Math.min(minIdle, maxSize));
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Borrows a context. The returned context must be closed to return it to the pool.
+     *
+     * @return a pooled LDAP context
+     * @throws UserStoreException if no context becomes available within the maximum wait time, or if a new context
+     *                            could not be created
+     */
+    public DirContext getContext() throws UserStoreException {
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                waitTimeoutCount.incrementAndGet();
+                throw new UserStoreException("Timed out after " + maxWaitMillis + "ms waiting for a connection from "
+                        + "the LDAP connection pool of " + name + ". Active connections: " + activeCount.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserStoreException("Interrupted while waiting for an LDAP connection of " + name, e);
+        }
+        totalWaitNanos.addAndGet(System.nanoTime() - start);
+
+        PooledContext pooled;
+        try {
+            pooled = pollValidIdleContext();
+            if (pooled == null) {
+                pooled = new PooledContext(factory.createContext(), generation.get());
+                createdCount.incrementAndGet();
+            }
+        } catch (UserStoreException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        activeCount.incrementAndGet();
+        borrowedCount.incrementAndGet();
+        return pooled.lease();
+    }
+
+    /**
+     * Closes all idle contexts and makes sure contexts currently borrowed are closed when they are returned. Used
+     * when the connection credentials change.
+     */
+    public void clear() {
+
+        generation.incrementAndGet();
+        PooledContext pooled;
+        while ((pooled = idleContexts.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            destroy(pooled);
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public long getDestroyedCount() {
+        return destroyedCount.get();
+    }
+
+    public long getBorrowedCount() {
+        return borrowedCount.get();
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount.get();
+    }
+
+    public long getWaitTimeoutCount() {
+        return waitTimeoutCount.get();
+    }
+
+    /**
+     * @return the average time spent waiting for a free slot in the pool, in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long borrowed = borrowedCount.get();
+        return borrowed == 0 ? 0 : totalWaitNanos.get() / (borrowed * 1_000_000d);
+    }
+
+    @Override
+    public String toString() {
+        return "LDAPConnectionPool{name=" + name + ", maxSize=" + maxSize + ", active=" + activeCount.get()
+                + ", idle=" + idleCount.get() + ", created=" + createdCount.get() + ", destroyed="
+                + destroyedCount.get() + ", borrowed=" + borrowedCount.get() + ", validationFailures="
+                + validationFailureCount.get() + ", waitTimeouts=" + waitTimeoutCount.get() + "}";
+    }
+
+    private PooledContext pollValidIdleContext() {
+
+        PooledContext pooled;
+        while ((pooled = idleContexts.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (pooled.generation != generation.get()) {
+                destroy(pooled);
+                continue;
+            }
+            long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pooled.lastReturned);
+            if (idleMillis < validationIntervalMillis || validate(pooled)) {
+                return pooled;
+            }
+            validationFailureCount.incrementAndGet();
+            destroy(pooled);
+        }
+        return null;
+    }
+
+    private boolean validate(PooledContext pooled) {
+
+        try {
+            pooled.context.getAttributes("", VALIDATION_ATTRIBUTES);
+            return true;
+        } catch (NamingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Discarding LDAP connection of " + name + " which failed validation.", e);
+            }
+            return false;
+        }
+    }
+
+    private void release(PooledContext pooled) {
+
+        activeCount.decrementAndGet();
+        try {
+            if (pooled.broken || pooled.generation != generation.get() || !resetRequestControls(pooled)) {
+                destroy(pooled);
+                return;
+            }
+            pooled.lastReturned = System.nanoTime();
+            idleContexts.offerFirst(pooled);
+            idleCount.incrementAndGet();
+            evictIdleContexts();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean resetRequestControls(PooledContext pooled) {
+
+        if (!(pooled.context instanceof LdapContext)) {
+            return true;
+        }
+        try {
+            ((LdapContext) pooled.context).setRequestControls(null);
+            return true;
+        } catch (NamingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Idle contexts are kept most recently used first, so the contexts at the tail are the ones idle for longest.
+     */
+    private void evictIdleContexts() {
+
+        if (idleTimeoutMillis <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        Iterator<PooledContext> iterator = idleContexts.descendingIterator();
+        while (idleCount.get() > minIdle && iterator.hasNext()) {
+            PooledContext pooled = iterator.next();
+            if (TimeUnit.NANOSECONDS.toMillis(now - pooled.lastReturned) < idleTimeoutMillis) {
+                return;
+            }
+            if (idleContexts.removeLastOccurrence(pooled)) {
+                idleCount.decrementAndGet();
+                destroy(pooled);
+            }
+        }
+    }
+
+    private void destroy(PooledContext pooled) {
+
+        destroyedCount.incrementAndGet();
+        try {
+            pooled.context.close();
+        } catch (NamingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while closing pooled LDAP connection of " + name, e);
+            }
+        }
+    }
+
+    private final class PooledContext {
+
+        private final DirContext context;
+        private final int generation;
+        private volatile long lastReturned;
+        private volatile boolean broken;
+
+        private PooledContext(DirContext context, int generation) {
+            this.context = context;
+            this.generation = generation;
+        }
+
+        private DirContext lease() {
+            Class<?> contextType = context instanceof LdapContext ? LdapContext.class : DirContext.class;
+            return (DirContext) Proxy.newProxyInstance(LDAPConnectionPool.class.getClassLoader(),
+                    new Class[]{contextType}, new LeaseInvocationHandler(this));
+        }
+    }
+
+    /**
+     * Routes calls to the pooled context for the duration of a single borrow. Closing the lease returns the context
+     * to the pool once, further calls on a closed lease fail.
+     */
+    private final class LeaseInvocationHandler implements InvocationHandler {
+
+        private final PooledContext pooled;
+        private volatile boolean closed;
+
+        private LeaseInvocationHandler(PooledContext pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            String methodName = method.getName();
+            if ("close".equals(methodName) && method.getParameterCount() == 0) {
+                synchronized (this) {
+                    if (!closed) {
+                        closed = true;
+                        release(pooled);
+                    }
+                }
+                return null;
+            }
+            if ("equals".equals(methodName) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(methodName) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if (closed) {
+                throw new IllegalStateException("LDAP connection has already been returned to the pool of " + name);
+            }
+            try {
+                return method.invoke(pooled.context, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CommunicationException || cause instanceof ServiceUnavailableException) {
+                    pooled.broken = true;
+                }
+                throw cause;
+            }
+        }
+    }
+}
@@ -94,5 +94,11 @@ public class LDAPConstants {
     public static final String CONNECTION_POOLING_ENABLED = "ConnectionPoolingEnabled";
     public static final String USER_CACHE_EXPIRY_MILLISECONDS = "UserCacheExpiryMilliseconds";
     public static final String USER_DN_CACHE_ENABLED = "UserDNCacheEnabled";
+    public static final String CONNECTION_POOL_MAX_SIZE = "LDAPConnectionPoolMaxSize";
+    public static final String CONNECTION_POOL_MIN_IDLE = "LDAPConnectionPoolMinIdle";
+    public static final String CONNECTION_POOL_MAX_WAIT = "LDAPConnectionPoolMaxWaitMillis";
+    public static final String CONNECTION_POOL_IDLE_TIMEOUT = "LDAPConnectionPoolIdleTimeoutMillis";
+    public static final String CONNECTION_POOL_VALIDATION_INTERVAL = "LDAPConnectionPoolValidationIntervalMillis";
+    public static final String SEARCH_PAGE_SIZE = "LDAPSearchPageSize";
 
 }
@@ -127,12 +127,15 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
     //Authenticating to LDAP via Anonymous Bind
     private static final String USE_ANONYMOUS_BIND = "AnonymousBind";
     protected static final int MEMBERSHIP_ATTRIBUTE_RANGE_VALUE = 0;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 1000;
+    private static final String[] NO_ATTRIBUTES = new String[0];
 
     private String cacheExpiryTimeAttribute = ""; //Default: expire with default system wide cache expiry
     private long userDnCacheExpiryTime = 0; //Default: No cache
     private CacheBuilder userDnCacheBuilder = null; //Use cache manager if not null to get cache
     private String userDnCacheName;
     private boolean userDnCacheEnabled = true;
+    private int searchPageSize = DEFAULT_SEARCH_PAGE_SIZE;
     protected CacheManager cacheManager;
     protected String tenantDomain;
 
@@ -411,6 +414,16 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
         if (StringUtils.isNotEmpty(userDnCacheEnabledAttribute)) {
             userDnCacheEnabled = Boolean.parseBoolean(userDnCacheEnabledAttribute);
         }
+
+        String searchPageSizeAttribute = realmConfig.getUserStoreProperty(LDAPConstants.SEARCH_PAGE_SIZE);
+        if (StringUtils.isNotEmpty(searchPageSizeAttribute)) {
+            try {
+                searchPageSize = Integer.parseInt(searchPageSizeAttribute.trim());
+            } catch (NumberFormatException e) {
+                throw new UserStoreException("Invalid value " + searchPageSizeAttribute + " configured for "
+                        + LDAPConstants.SEARCH_PAGE_SIZE, e);
+            }
+        }
     }
 
     /**
@@ -2299,6 +2312,8 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
         try {
             SearchControls searchCtls = new SearchControls();
             searchCtls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+            // Only the DN of the entry is read.
+            searchCtls.setReturningAttributes(NO_ATTRIBUTES);
 
             if (log.isDebugEnabled()) {
                 try {
@@ -2512,7 +2527,6 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
         boolean debug = log.isDebugEnabled();
         List<String> names = new ArrayList<String>();
         DirContext dirContext = null;
-        NamingEnumeration<SearchResult> answer = null;
 
         if (debug) {
             log.debug("Result for searchBase: " + searchBases + " searchFilter: " + searchFilter +
@@ -2527,12 +2541,7 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
             for (String searchBase : searchBaseArray) {
 
                 try {
-                    answer = dirContext.search(escapeDNForSearch(searchBase), searchFilter, searchCtls);
-                    String domain = this.getRealmConfiguration().getUserStoreProperty(
-                            UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
-
-                    while (answer.hasMoreElements()) {
-                        SearchResult sr = (SearchResult) answer.next();
+                    searchInPages(dirContext, escapeDNForSearch(searchBase), searchFilter, searchCtls, sr -> {
                         if (sr.getAttributes() != null) {
                             Attribute attr = sr.getAttributes().get(property);
                             if (attr != null) {
@@ -2541,14 +2550,12 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
                                     if (debug) {
                                         log.debug("Found user: " + name);
                                     }
-                                    domain = UserCoreUtil.addDomainToName(name,
-                                            domain);
                                     names.add(name);
                                 }
                             }
                         }
-                    }
-                } catch (NamingException e) {
+                    });
+                } catch (NamingException | IOException e) {
                     // ignore
                     if (log.isDebugEnabled()) {
                         log.debug(e);
@@ -2565,7 +2572,6 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
 
             return names;
         } finally {
-            JNDIUtil.closeNamingEnumeration(answer);
             JNDIUtil.closeContext(dirContext);
         }
     }
@@ -2794,6 +2800,56 @@ public class ReadOnlyLDAPUserStoreManager extends AbstractUserStoreManager {
         return limit;
     }
 
+    /**
+     * Handles a single entry returned by {@link #searchInPages}.
+     */
+    private interface SearchResultHandler {
+
+        void handle(SearchResult searchResult) throws NamingException;
+    }
+
+    /**
+     * Runs a search and hands every entry of every result page to the handler. The paged results control is sent as
+     * non critical, so servers without paging support return the whole result at once. A page size of zero or less
+     * disables paging.
+     */
+    private void searchInPages(DirContext dirContext, Name searchBase, String searchFilter,
+                               SearchControls searchCtls, SearchResultHandler handler)
+            throws NamingException, IOException {
+
+        if (searchPageSize <= 0 || !(dirContext instanceof LdapContext)) {
+            NamingEnumeration<SearchResult> answer = dirContext.search(searchBase, searchFilter, searchCtls);
+            try {
+                while (answer.hasMore()) {
+                    handler.handle(answer.next());
+                }
+            } finally {
+                JNDIUtil.closeNamingEnumeration(answer);
+            }
+            return;
+        }
+
+        LdapContext ldapContext = (LdapContext) dirContext;
+        byte[] cookie = null;
+        try {
+            do {
+                ldapContext.setRequestControls(new Control[]{
+                        new PagedResultsControl(searchPageSize, cookie, Control.NONCRITICAL)});
+                NamingEnumeration<SearchResult> answer = ldapContext.search(searchBase, searchFilter, searchCtls);
+                try {
+                    while (answer.hasMore()) {
+                        handler.handle(answer.next());
+                    }
+                } finally {
+                    JNDIUtil.closeNamingEnumeration(answer);
+                }
+                cookie = parseControls(ldapContext.getResponseControls());
+            } while (cookie != null && cookie.length != 0);
+        } finally {
+            ldapContext.setRequestControls(null);
+        }
+    }
+
     /**
      * Parse the controls to navigate to next page.
      *
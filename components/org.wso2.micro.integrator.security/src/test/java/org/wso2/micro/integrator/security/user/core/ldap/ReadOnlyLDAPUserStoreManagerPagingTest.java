@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.micro.integrator.security.user.core.ldap;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.micro.integrator.security.user.api.RealmConfiguration;
+import org.wso2.micro.integrator.security.user.core.UserCoreConstants;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Reads the groups of a user from an embedded directory server which returns at most {@link #SERVER_SIZE_LIMIT}
+ * entries per search, to verify that the group membership search reads every result page.
+ */
+public class ReadOnlyLDAPUserStoreManagerPagingTest {
+
+    private static final String BASE_DN = "dc=wso2,dc=org";
+    private static final String USER_SEARCH_BASE = "ou=Users," + BASE_DN;
+    private static final String GROUP_SEARCH_BASE = "ou=Groups," + BASE_DN;
+    private static final String ADMIN_DN = "uid=admin,ou=system";
+    private static final String ADMIN_PASSWORD = "admin";
+    private static final String USER_NAME = "alice";
+    private static final int SERVER_SIZE_LIMIT = 10;
+    private static final int GROUP_COUNT = 25;
+
+    private InMemoryDirectoryServer directoryServer;
+
+    @Before
+    public void setUp() throws Exception {
+
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.addAdditionalBindCredentials(ADMIN_DN, ADMIN_PASSWORD);
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        config.setMaxSizeLimit(SERVER_SIZE_LIMIT);
+        config.setSchema(null);
+        directoryServer = new InMemoryDirectoryServer(config);
+        directoryServer.startListening();
+
+        directoryServer.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: wso2");
+        directoryServer.add("dn: " + USER_SEARCH_BASE, "objectClass: organizationalUnit", "ou: Users");
+        directoryServer.add("dn: " + GROUP_SEARCH_BASE, "objectClass: organizationalUnit", "ou: Groups");
+        directoryServer.add("dn: uid=" + USER_NAME + "," + USER_SEARCH_BASE, "objectClass: inetOrgPerson",
+                "uid: " + USER_NAME, "cn: " + USER_NAME, "sn: " + USER_NAME);
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            directoryServer.add("dn: cn=group" + i + "," + GROUP_SEARCH_BASE, "objectClass: groupOfNames",
+                    "cn: group" + i, "member: uid=" + USER_NAME + "," + USER_SEARCH_BASE);
+        }
+    }
+
+    @After
+    public void tearDown() {
+
+        if (directoryServer != null) {
+            directoryServer.shutDown(true);
+        }
+    }
+
+    @Test
+    public void testGroupSearchReadsAllPages() throws Exception {
+
+        ReadOnlyLDAPUserStoreManager userStoreManager = createUserStoreManager("4");
+
+        String[] roles = userStoreManager.doGetExternalRoleListOfUser(USER_NAME, "*");
+
+        assertEquals(expectedGroups(), new HashSet<>(Arrays.asList(roles)));
+    }
+
+    @Test
+    public void testGroupSearchWithPageSizeOfServerLimit() throws Exception {
+
+        ReadOnlyLDAPUserStoreManager userStoreManager = createUserStoreManager(Integer.toString(SERVER_SIZE_LIMIT));
+
+        String[] roles = userStoreManager.doGetExternalRoleListOfUser(USER_NAME, "*");
+
+        assertEquals(GROUP_COUNT, roles.length);
+    }
+
+    @Test
+    public void testGroupSearchWithoutPaging() throws Exception {
+
+        int remainingGroups = SERVER_SIZE_LIMIT - 1;
+        for (int i = remainingGroups; i < GROUP_COUNT; i++) {
+            directoryServer.delete("cn=group" + i + "," + GROUP_SEARCH_BASE);
+        }
+        ReadOnlyLDAPUserStoreManager userStoreManager = createUserStoreManager("0");
+
+        String[] roles = userStoreManager.doGetExternalRoleListOfUser(USER_NAME, "*");
+
+        assertEquals(remainingGroups, roles.length);
+    }
+
+    private ReadOnlyLDAPUserStoreManager createUserStoreManager(String searchPageSize) throws Exception {
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(LDAPConstants.CONNECTION_URL, "ldap://localhost:" + directoryServer.getListenPort());
+        properties.put(LDAPConstants.CONNECTION_NAME, ADMIN_DN);
+        properties.put(LDAPConstants.CONNECTION_PASSWORD, ADMIN_PASSWORD);
+        properties.put(LDAPConstants.USER_SEARCH_BASE, USER_SEARCH_BASE);
+        properties.put(LDAPConstants.USER_NAME_LIST_FILTER, "(objectClass=inetOrgPerson)");
+        properties.put(LDAPConstants.USER_NAME_SEARCH_FILTER, "(&(objectClass=inetOrgPerson)(uid=?))");
+        properties.put(LDAPConstants.USER_NAME_ATTRIBUTE, "uid");
+        properties.put(LDAPConstants.USER_DN_PATTERN, "uid={0}," + USER_SEARCH_BASE);
+        properties.put(UserCoreConstants.RealmConfig.READ_GROUPS_ENABLED, "true");
+        properties.put(LDAPConstants.GROUP_SEARCH_BASE, GROUP_SEARCH_BASE);
+        properties.put(LDAPConstants.GROUP_NAME_LIST_FILTER, "(objectClass=groupOfNames)");
+        properties.put(LDAPConstants.ROLE_NAME_FILTER, "(&(objectClass=groupOfNames)(cn=?))");
+        properties.put(LDAPConstants.GROUP_NAME_ATTRIBUTE, "cn");
+        properties.put(LDAPConstants.MEMBERSHIP_ATTRIBUTE, "member");
+        properties.put(LDAPConstants.SEARCH_PAGE_SIZE, searchPageSize);
+
+        RealmConfiguration realmConfig = new RealmConfiguration();
+        realmConfig.setUserStoreProperties(properties);
+        return new ReadOnlyLDAPUserStoreManager(realmConfig, null, null);
+    }
+
+    private static Set<String> expectedGroups() {
+
+        Set<String> groups = new HashSet<>();
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            groups.add("group" + i);
+        }
+        return groups;
+    }
+}
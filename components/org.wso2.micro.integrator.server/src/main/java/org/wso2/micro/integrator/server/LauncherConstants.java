@@ -25,6 +25,8 @@ public final class LauncherConstants {
 
     public static final String COMMAND_HELP = "HELP";
     public static final String COMMAND_CLEAN_REGISTRY = "CLEANREGISTRY";
+    public static final String COMMAND_GENERATE_STARTUP_ARCHIVE = "GENERATE-STARTUP-ARCHIVE";
+    public static final String GENERATE_STARTUP_ARCHIVE = "generateStartupArchive";
 
     public static final String ENABLE_OSGI_CONSOLE = "osgiConsole";
     public static final String ENABLE_OSGI_DEBUG = "osgiDebugOptions";
@@ -230,6 +230,9 @@ public class Main {
             } else if (arg.toUpperCase().endsWith(LauncherConstants.COMMAND_CLEAN_REGISTRY)) {
                 // sets the system property marking a registry cleanup
                 System.setProperty("carbon.registry.clean", "true");
+            } else if (arg.toUpperCase().endsWith(LauncherConstants.COMMAND_GENERATE_STARTUP_ARCHIVE)) {
+                // the server is stopped once started, so that the JVM writes the class data sharing archive
+                System.setProperty(LauncherConstants.GENERATE_STARTUP_ARCHIVE, "true");
             } else {
                 if (cmd == null) {
                     cmd = arg;
@@ -96,6 +96,8 @@ public class Utils {
         System.out.println("\t--cleanRegistry\t\t\tClean registry space. [CAUTION] All Registry data will be lost.");
         System.out.println("\t--debug <port> \tStart the server in remote debugging mode."
                                    + "\n\t\t\tport: The remote debugging port.");
+        System.out.println("\t--generate-startup-archive\tStart the server once and stop it after the startup, writing a "
+                                   + "class data sharing\n\t\t\t\t\tarchive which is used to speed up the later startups.");
         System.out.println("\t--help\t\t\tList all the available commands and system properties");
         System.out.println("\t--version\t\t\tWhat version of the product are you running?");
         System.out.println();
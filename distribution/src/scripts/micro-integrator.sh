@@ -171,6 +171,9 @@ do
     elif [ "$c" = "--car" ] || [ "$c" = "-car" ] || [ "$c" = "car" ]; then
           ARGUMENT="car"
           OPTARG="$2"
+    elif [ "$c" = "--generate-startup-archive" ] || [ "$c" = "-generate-startup-archive" ]; then
+          GENERATE_STARTUP_ARCHIVE="true"
+          args="$args $c"
     else
         args="$args $c"
     fi
@@ -289,7 +292,26 @@ cd "$CARBON_HOME"
 
 TMP_DIR="$CARBON_HOME"/tmp
 if [ -d "$TMP_DIR" ]; then
-rm -rf "$TMP_DIR"/*
+  case " $* $JAVA_OPTS " in
+    *"-Dcapp.extraction.cache.enabled=true"*)
+      # keep the extracted CApps, stale extractions are removed by the server after startup
+      find "$TMP_DIR" -mindepth 1 -maxdepth 1 ! -name carbonapps -exec rm -rf {} +
+      ;;
+    *)
+      rm -rf "$TMP_DIR"/*
+      ;;
+  esac
+fi
+
+# ----- Class data sharing archive of the startup classes ----------------------
+STARTUP_ARCHIVE="$CARBON_HOME/repository/resources/startup/micro-integrator.jsa"
+if [ "$GENERATE_STARTUP_ARCHIVE" = "true" ]; then
+  mkdir -p "$(dirname "$STARTUP_ARCHIVE")"
+  rm -f "$STARTUP_ARCHIVE"
+  JAVA_OPTS="$JAVA_OPTS -XX:ArchiveClassesAtExit=$STARTUP_ARCHIVE"
+  echo "Generating the startup archive at $STARTUP_ARCHIVE. The server will stop once it is started."
+elif [ -f "$STARTUP_ARCHIVE" ]; then
+  JAVA_OPTS="$JAVA_OPTS -XX:SharedArchiveFile=$STARTUP_ARCHIVE -Xshare:auto"
 fi
 
 START_EXIT_STATUS=121